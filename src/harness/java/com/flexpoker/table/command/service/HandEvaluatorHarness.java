@@ -0,0 +1,441 @@
+package com.flexpoker.table.command.service;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import com.flexpoker.model.HandRanking;
+import com.flexpoker.model.card.Card;
+
+/**
+ * Streams seven-card hands through a {@link HandEvaluatorService} and checks
+ * how many of each hand ranking come out, cross-checks every result against
+ * a second evaluator and reports how fast each one went.
+ *
+ * By default every one of the 133,784,560 seven-card hands is evaluated
+ * exactly once, and the hand ranking counts have to match the known totals
+ * exactly. With {@code --sample=N} a deterministic sample of about N hands
+ * (seeded with {@code --seed}) is used instead, and each count only has to be
+ * within {@value #SAMPLE_TOLERANCE} standard errors of its expected value.
+ *
+ * Run it with the evaluator-harness Maven profile:
+ *
+ * <pre>
+ * mvn -Pevaluator-harness compile exec:exec -Dharness.args="--sample=10000000"
+ * </pre>
+ *
+ * The evaluators are given as {@code default}, {@code lookup-table} or the
+ * name of a class with a no-arg constructor, with {@code --evaluator} and
+ * {@code --reference} ({@code none} to skip the cross-check).
+ */
+public class HandEvaluatorHarness {
+
+    private static final long NUMBER_OF_HANDS = 133_784_560;
+
+    /**
+     * Number of seven-card hands of each ranking, in {@link HandRanking} order.
+     */
+    private static final long[] EXPECTED_COUNTS = {
+            23_294_460, // high card
+            58_627_800, // one pair
+            31_433_400, // two pair
+            6_461_620, // three of a kind
+            6_180_020, // straight
+            4_047_644, // flush
+            3_473_184, // full house
+            224_848, // four of a kind
+            41_584 // straight flush
+    };
+
+    private static final int BOARDS_PER_SAMPLED_POCKET = 1024;
+
+    private static final double SAMPLE_TOLERANCE = 5.0;
+
+    private static final int NUMBER_OF_RANKINGS = HandRanking.values().length;
+
+    private static final int HAND_RANKING_SHIFT = 24;
+
+    /**
+     * Index of the count of strengths that aren't any hand ranking, kept
+     * after the count of each ranking.
+     */
+    private static final int INVALID_STRENGTHS = NUMBER_OF_RANKINGS;
+
+    private final HandSource handSource;
+
+    private HandEvaluatorHarness(HandSource handSource) {
+        this.handSource = handSource;
+    }
+
+    public static void main(String[] args) {
+        String evaluator = "lookup-table";
+        String reference = "default";
+        long sample = 0;
+        long seed = 1;
+        for (String arg : args) {
+            String[] nameAndValue = arg.split("=", 2);
+            if (nameAndValue.length != 2) {
+                throw new IllegalArgumentException("expected --name=value: " + arg);
+            }
+            switch (nameAndValue[0]) {
+            case "--evaluator":
+                evaluator = nameAndValue[1];
+                break;
+            case "--reference":
+                reference = nameAndValue[1];
+                break;
+            case "--sample":
+                sample = Long.parseLong(nameAndValue[1]);
+                break;
+            case "--seed":
+                seed = Long.parseLong(nameAndValue[1]);
+                break;
+            default:
+                throw new IllegalArgumentException("unknown option: " + arg);
+            }
+        }
+
+        HandSource handSource = sample > 0 ? new SampledHands(sample, seed) : new AllHands();
+        HandEvaluatorHarness harness = new HandEvaluatorHarness(handSource);
+        System.out.println(handSource.describe() + ", "
+                + Runtime.getRuntime().availableProcessors() + " cores");
+
+        Run evaluatorRun = harness.run(evaluator, createHandEvaluatorService(evaluator));
+        boolean passed = harness.checkCounts(evaluatorRun);
+        if (!"none".equals(reference)) {
+            Run referenceRun = harness.run(reference, createHandEvaluatorService(reference));
+            passed &= harness.checkCounts(referenceRun);
+            passed &= harness.crossCheck(evaluatorRun, referenceRun);
+        }
+
+        System.out.println(passed ? "PASSED" : "FAILED");
+        System.exit(passed ? 0 : 1);
+    }
+
+    private static HandEvaluatorService createHandEvaluatorService(String name) {
+        switch (name) {
+        case "default":
+            return new DefaultHandEvaluatorService();
+        case "lookup-table":
+            return new LookupTableHandEvaluatorService();
+        default:
+            try {
+                return (HandEvaluatorService) Class.forName(name).newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalArgumentException("unknown hand evaluator: " + name, e);
+            }
+        }
+    }
+
+    /**
+     * Evaluate every unit of hands, keeping the ranking counts and a checksum
+     * of the strengths of each unit so another run can be compared against it
+     * without holding on to every result.
+     */
+    private Run run(String name, HandEvaluatorService handEvaluatorService) {
+        Run run = new Run(name, handEvaluatorService, handSource.numberOfUnits());
+
+        long start = System.nanoTime();
+        IntStream.range(0, handSource.numberOfUnits()).parallel().forEach(unit -> {
+            int[] strengths = handSource.evaluate(handEvaluatorService, unit);
+            long checksum = 0;
+            for (int strength : strengths) {
+                checksum = checksum * 31 + strength;
+                if (strength != HandEvaluatorService.CONFLICTING_CARDS) {
+                    run.counts[unit][Math.min(strength >>> HAND_RANKING_SHIFT,
+                            INVALID_STRENGTHS)]++;
+                }
+            }
+            run.checksums[unit] = checksum;
+        });
+        long elapsedNanos = System.nanoTime() - start;
+
+        long evaluations = Arrays.stream(run.counts).flatMapToInt(Arrays::stream).asLongStream()
+                .sum();
+        double evaluationsPerSecond = evaluations * 1e9 / elapsedNanos;
+        System.out.printf("%s: %,d evaluations in %.1fs, %,.0f/s, %,.0f/s per core%n", name,
+                evaluations, elapsedNanos / 1e9, evaluationsPerSecond,
+                evaluationsPerSecond / Runtime.getRuntime().availableProcessors());
+        return run;
+    }
+
+    private boolean checkCounts(Run run) {
+        long[] counts = new long[NUMBER_OF_RANKINGS + 1];
+        for (int[] unitCounts : run.counts) {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += unitCounts[i];
+            }
+        }
+        long evaluations = Arrays.stream(counts).sum();
+
+        boolean passed = counts[INVALID_STRENGTHS] == 0;
+        if (!passed) {
+            System.out.printf("  %,d strengths aren't any hand ranking%n",
+                    counts[INVALID_STRENGTHS]);
+        }
+        for (HandRanking handRanking : HandRanking.values()) {
+            int i = handRanking.ordinal();
+            double expected = (double) EXPECTED_COUNTS[i] * evaluations / NUMBER_OF_HANDS;
+            double tolerance = handSource.isExhaustive() ? 0
+                    : SAMPLE_TOLERANCE * standardError(run.counts, i, evaluations) * evaluations;
+            boolean countPassed = Math.abs(counts[i] - expected) <= tolerance;
+            passed &= countPassed;
+            System.out.printf("  %-16s %,13d expected %,15.1f +/- %,.1f%s%n", handRanking,
+                    counts[i], expected, tolerance, countPassed ? "" : "  MISMATCH");
+        }
+        return passed;
+    }
+
+    /**
+     * Standard error of the fraction of sampled hands with a ranking. Hands
+     * sampled with the same pocket cards aren't independent, so this uses the
+     * spread of the fraction between units, but never less than it would be
+     * for independent hands.
+     */
+    private static double standardError(int[][] counts, int handRanking, long evaluations) {
+        double expectedFraction = (double) EXPECTED_COUNTS[handRanking] / NUMBER_OF_HANDS;
+        double independentVariance = expectedFraction * (1 - expectedFraction) / evaluations;
+
+        double sum = 0;
+        double sumOfSquares = 0;
+        for (int[] unitCounts : counts) {
+            double fraction = (double) unitCounts[handRanking] / BOARDS_PER_SAMPLED_POCKET;
+            sum += fraction;
+            sumOfSquares += fraction * fraction;
+        }
+        double mean = sum / counts.length;
+        double unitVariance = (sumOfSquares / counts.length - mean * mean)
+                / (counts.length - 1);
+        return Math.sqrt(Math.max(independentVariance, unitVariance));
+    }
+
+    private boolean crossCheck(Run run, Run referenceRun) {
+        for (int unit = 0; unit < handSource.numberOfUnits(); unit++) {
+            if (run.checksums[unit] == referenceRun.checksums[unit]) {
+                continue;
+            }
+            int[] strengths = handSource.evaluate(run.handEvaluatorService, unit);
+            int[] referenceStrengths = handSource.evaluate(referenceRun.handEvaluatorService,
+                    unit);
+            for (int i = 0; i < strengths.length; i++) {
+                if (strengths[i] != referenceStrengths[i]) {
+                    System.out.printf("%s and %s disagree on %s: %s against %s%n", run.name,
+                            referenceRun.name, handSource.describeHand(unit, i),
+                            describeStrength(strengths[i]),
+                            describeStrength(referenceStrengths[i]));
+                    return false;
+                }
+            }
+        }
+        System.out.println(run.name + " and " + referenceRun.name
+                + " agree on every hand");
+        return true;
+    }
+
+    private static String describeStrength(int strength) {
+        if (strength == HandEvaluatorService.CONFLICTING_CARDS) {
+            return "conflicting cards";
+        }
+        int handRanking = strength >>> HAND_RANKING_SHIFT;
+        return (handRanking < NUMBER_OF_RANKINGS ? HandRanking.values()[handRanking] : "invalid")
+                + " (" + Integer.toHexString(strength) + ")";
+    }
+
+    private static String describeCards(long cardMask) {
+        StringBuilder cards = new StringBuilder();
+        for (long mask = cardMask; mask != 0; mask &= mask - 1) {
+            if (cards.length() > 0) {
+                cards.append(", ");
+            }
+            Card card = Card.valueOf(Long.numberOfTrailingZeros(mask));
+            cards.append(card.getCardRank()).append(" of ").append(card.getCardSuit());
+        }
+        return cards.toString();
+    }
+
+    private static class Run {
+
+        private final String name;
+
+        private final HandEvaluatorService handEvaluatorService;
+
+        private final int[][] counts;
+
+        private final long[] checksums;
+
+        Run(String name, HandEvaluatorService handEvaluatorService, int numberOfUnits) {
+            this.name = name;
+            this.handEvaluatorService = handEvaluatorService;
+            this.counts = new int[numberOfUnits][NUMBER_OF_RANKINGS + 1];
+            this.checksums = new long[numberOfUnits];
+        }
+
+    }
+
+    /**
+     * The hands to evaluate, split into units of one set of pocket cards and
+     * many boards so each unit is a single batch, and so that the same unit
+     * always holds the same hands in the same order.
+     */
+    private abstract static class HandSource {
+
+        abstract int numberOfUnits();
+
+        abstract long pocketCards(int unit);
+
+        abstract long[] boards(int unit);
+
+        abstract boolean isExhaustive();
+
+        abstract String describe();
+
+        int[] evaluate(HandEvaluatorService handEvaluatorService, int unit) {
+            return handEvaluatorService.evaluateBatch(boards(unit),
+                    new long[] { pocketCards(unit) });
+        }
+
+        String describeHand(int unit, int hand) {
+            return describeCards(boards(unit)[hand]) + " with "
+                    + describeCards(pocketCards(unit));
+        }
+
+    }
+
+    /**
+     * Every seven-card hand once, using its two lowest cards as the pocket
+     * cards and every five cards above them as the boards.
+     */
+    private static class AllHands extends HandSource {
+
+        private final int[] firstPocketCards;
+
+        private final int[] secondPocketCards;
+
+        AllHands() {
+            int numberOfPocketCards = 0;
+            int[] first = new int[Card.NUMBER_OF_CARDS * Card.NUMBER_OF_CARDS];
+            int[] second = new int[Card.NUMBER_OF_CARDS * Card.NUMBER_OF_CARDS];
+            for (int p1 = 0; p1 < Card.NUMBER_OF_CARDS - 6; p1++) {
+                for (int p2 = p1 + 1; p2 < Card.NUMBER_OF_CARDS - 5; p2++) {
+                    first[numberOfPocketCards] = p1;
+                    second[numberOfPocketCards] = p2;
+                    numberOfPocketCards++;
+                }
+            }
+            firstPocketCards = Arrays.copyOf(first, numberOfPocketCards);
+            secondPocketCards = Arrays.copyOf(second, numberOfPocketCards);
+        }
+
+        @Override
+        int numberOfUnits() {
+            return firstPocketCards.length;
+        }
+
+        @Override
+        long pocketCards(int unit) {
+            return 1L << firstPocketCards[unit] | 1L << secondPocketCards[unit];
+        }
+
+        @Override
+        long[] boards(int unit) {
+            int lowestCard = secondPocketCards[unit] + 1;
+            int n = Card.NUMBER_OF_CARDS - lowestCard;
+            long[] boards = new long[(int) DefaultEquityCalculatorService.numberOfRunouts(n, 5)];
+            int i = 0;
+            for (int b1 = lowestCard; b1 < Card.NUMBER_OF_CARDS; b1++) {
+                for (int b2 = b1 + 1; b2 < Card.NUMBER_OF_CARDS; b2++) {
+                    for (int b3 = b2 + 1; b3 < Card.NUMBER_OF_CARDS; b3++) {
+                        for (int b4 = b3 + 1; b4 < Card.NUMBER_OF_CARDS; b4++) {
+                            for (int b5 = b4 + 1; b5 < Card.NUMBER_OF_CARDS; b5++) {
+                                boards[i++] = 1L << b1 | 1L << b2 | 1L << b3 | 1L << b4
+                                        | 1L << b5;
+                            }
+                        }
+                    }
+                }
+            }
+            return boards;
+        }
+
+        @Override
+        boolean isExhaustive() {
+            return true;
+        }
+
+        @Override
+        String describe() {
+            return String.format("all %,d seven-card hands", NUMBER_OF_HANDS);
+        }
+
+    }
+
+    /**
+     * Random pocket cards, each with {@value #BOARDS_PER_SAMPLED_POCKET}
+     * random boards from the other cards, which makes each hand a uniformly
+     * random seven-card hand. Each unit has its own generator seeded from the
+     * seed and the unit so the sample doesn't depend on the order the units
+     * are run in.
+     */
+    private static class SampledHands extends HandSource {
+
+        private final int numberOfUnits;
+
+        private final long seed;
+
+        SampledHands(long sampleSize, long seed) {
+            this.numberOfUnits = (int) Math.max(2,
+                    (sampleSize + BOARDS_PER_SAMPLED_POCKET - 1) / BOARDS_PER_SAMPLED_POCKET);
+            this.seed = seed;
+        }
+
+        @Override
+        int numberOfUnits() {
+            return numberOfUnits;
+        }
+
+        @Override
+        long pocketCards(int unit) {
+            return randomCards(random(unit), 0, 2);
+        }
+
+        @Override
+        long[] boards(int unit) {
+            SplittableRandom random = random(unit);
+            long pocketCards = randomCards(random, 0, 2);
+            long[] boards = new long[BOARDS_PER_SAMPLED_POCKET];
+            for (int i = 0; i < boards.length; i++) {
+                boards[i] = randomCards(random, pocketCards, 5);
+            }
+            return boards;
+        }
+
+        private SplittableRandom random(int unit) {
+            return new SplittableRandom(seed * NUMBER_OF_HANDS + unit);
+        }
+
+        private static long randomCards(SplittableRandom random, long usedCards,
+                int numberOfCards) {
+            long cards = 0;
+            while (Long.bitCount(cards) < numberOfCards) {
+                long card = 1L << random.nextInt(Card.NUMBER_OF_CARDS);
+                if ((card & usedCards) == 0) {
+                    cards |= card;
+                }
+            }
+            return cards;
+        }
+
+        @Override
+        boolean isExhaustive() {
+            return false;
+        }
+
+        @Override
+        String describe() {
+            return String.format("%,d sampled seven-card hands with seed %d",
+                    (long) numberOfUnits * BOARDS_PER_SAMPLED_POCKET, seed);
+        }
+
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.flexpoker.table.command.aggregate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.flexpoker.model.card.Card;
+import com.flexpoker.model.card.CardsUsedInHand;
+import com.flexpoker.table.command.service.CardService;
+import com.flexpoker.table.command.service.DefaultCardService;
+import com.flexpoker.table.command.service.DefaultHandEvaluatorService;
+import com.flexpoker.table.command.service.HandEvaluatorService;
+
+/**
+ * Sorting a table's worth of hand evaluations, the way winners are picked at
+ * showdown. Each operation copies the unsorted evaluations into a reused
+ * array, so the numbers are for the comparisons alone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandEvaluationSortBenchmark {
+
+    private static final int NUMBER_OF_DEALS = 1024;
+
+    @Param({ "2", "6", "10" })
+    private int numberOfPlayers;
+
+    private HandEvaluation[][] handEvaluations;
+
+    private HandEvaluation[] sortBuffer;
+
+    private int nextDeal;
+
+    @Setup
+    public void setUp() {
+        CardService cardService = new DefaultCardService();
+        HandEvaluatorService handEvaluatorService = new DefaultHandEvaluatorService();
+        List<Card> deck = cardService.createShuffledDeck();
+        Random random = new Random(numberOfPlayers);
+
+        handEvaluations = new HandEvaluation[NUMBER_OF_DEALS][];
+        for (int i = 0; i < NUMBER_OF_DEALS; i++) {
+            List<Card> shuffledDeck = new ArrayList<>(deck);
+            Collections.shuffle(shuffledDeck, random);
+            CardsUsedInHand deal = cardService.createCardsUsedInHand(shuffledDeck,
+                    numberOfPlayers);
+            handEvaluations[i] = handEvaluatorService.determineHandEvaluation(
+                    deal.getFlopCards(), deal.getTurnCard(), deal.getRiverCard(),
+                    deal.getPocketCards(), handEvaluatorService.determinePossibleHands(
+                            deal.getFlopCards(), deal.getTurnCard(), deal.getRiverCard()))
+                    .values().toArray(new HandEvaluation[0]);
+        }
+        sortBuffer = new HandEvaluation[numberOfPlayers];
+    }
+
+    @Benchmark
+    public HandEvaluation[] sort() {
+        nextDeal = (nextDeal + 1) & (NUMBER_OF_DEALS - 1);
+        System.arraycopy(handEvaluations[nextDeal], 0, sortBuffer, 0, numberOfPlayers);
+        Arrays.sort(sortBuffer);
+        return sortBuffer;
+    }
+
+}
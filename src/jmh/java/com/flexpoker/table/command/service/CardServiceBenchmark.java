@@ -0,0 +1,63 @@
+package com.flexpoker.table.command.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.flexpoker.model.card.Card;
+import com.flexpoker.model.card.CardsUsedInHand;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardServiceBenchmark {
+
+    @Param({ "2", "6", "10" })
+    private int numberOfPlayers;
+
+    private CardService cardService;
+
+    private List<Card> shuffledDeck;
+
+    @Setup
+    public void setUp() {
+        cardService = new DefaultCardService();
+        shuffledDeck = cardService.createShuffledDeck();
+    }
+
+    @Benchmark
+    public List<Card> createShuffledDeck() {
+        return cardService.createShuffledDeck();
+    }
+
+    @Benchmark
+    public CardsUsedInHand createCardsUsedInHand() {
+        return cardService.createCardsUsedInHand(shuffledDeck, numberOfPlayers);
+    }
+
+    @Benchmark
+    public List<Card> createShuffledDeckForHand() {
+        return cardService.createShuffledDeckForHand(numberOfPlayers);
+    }
+
+    @Benchmark
+    public CardsUsedInHand shuffleAndDeal() {
+        return cardService.createCardsUsedInHand(
+                cardService.createShuffledDeckForHand(numberOfPlayers), numberOfPlayers);
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.flexpoker.table.command.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.flexpoker.model.HandRanking;
+import com.flexpoker.model.card.Card;
+import com.flexpoker.model.card.CardsUsedInHand;
+import com.flexpoker.model.card.PocketCards;
+import com.flexpoker.table.command.aggregate.HandEvaluation;
+
+/**
+ * Throughput of the hand evaluators over a fixed, seeded set of deals, so
+ * that runs against different evaluators see exactly the same hands.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandEvaluatorBenchmark {
+
+    private static final int NUMBER_OF_DEALS = 1024;
+
+    @Param({ "2", "3", "4", "5", "6", "7", "8", "9", "10" })
+    private int numberOfPlayers;
+
+    @Param({ "default", "lookup-table" })
+    private String handEvaluator;
+
+    private HandEvaluatorService handEvaluatorService;
+
+    private CardsUsedInHand[] deals;
+
+    private List<HandRanking>[] possibleHandRankings;
+
+    private long[] boards;
+
+    private long[][] pocketCards;
+
+    private int nextDeal;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        handEvaluatorService = "default".equals(handEvaluator)
+                ? new DefaultHandEvaluatorService()
+                : new LookupTableHandEvaluatorService();
+
+        CardService cardService = new DefaultCardService();
+        List<Card> deck = cardService.createShuffledDeck();
+        Random random = new Random(numberOfPlayers);
+        deals = new CardsUsedInHand[NUMBER_OF_DEALS];
+        possibleHandRankings = new List[NUMBER_OF_DEALS];
+        boards = new long[NUMBER_OF_DEALS];
+        pocketCards = new long[NUMBER_OF_DEALS][];
+        for (int i = 0; i < NUMBER_OF_DEALS; i++) {
+            List<Card> shuffledDeck = new ArrayList<>(deck);
+            Collections.shuffle(shuffledDeck, random);
+            deals[i] = cardService.createCardsUsedInHand(shuffledDeck, numberOfPlayers);
+            possibleHandRankings[i] = handEvaluatorService.determinePossibleHands(
+                    deals[i].getFlopCards(), deals[i].getTurnCard(),
+                    deals[i].getRiverCard());
+            boards[i] = deals[i].toBoardMask();
+            pocketCards[i] = deals[i].getPocketCards().stream()
+                    .mapToLong(PocketCards::toMask).toArray();
+        }
+    }
+
+    @Benchmark
+    public List<HandRanking> determinePossibleHands() {
+        CardsUsedInHand deal = nextDeal();
+        return handEvaluatorService.determinePossibleHands(deal.getFlopCards(),
+                deal.getTurnCard(), deal.getRiverCard());
+    }
+
+    @Benchmark
+    public Map<?, HandEvaluation> determineHandEvaluation() {
+        int dealIndex = nextDealIndex();
+        CardsUsedInHand deal = deals[dealIndex];
+        return handEvaluatorService.determineHandEvaluation(deal.getFlopCards(),
+                deal.getTurnCard(), deal.getRiverCard(), deal.getPocketCards(),
+                possibleHandRankings[dealIndex]);
+    }
+
+    @Benchmark
+    public int[] evaluateBatch() {
+        int dealIndex = nextDealIndex();
+        return handEvaluatorService.evaluateBatch(new long[] { boards[dealIndex] },
+                pocketCards[dealIndex]);
+    }
+
+    private CardsUsedInHand nextDeal() {
+        return deals[nextDealIndex()];
+    }
+
+    private int nextDealIndex() {
+        nextDeal = (nextDeal + 1) & (NUMBER_OF_DEALS - 1);
+        return nextDeal;
+    }
+
+}
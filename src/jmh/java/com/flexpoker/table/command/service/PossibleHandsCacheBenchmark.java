@@ -0,0 +1,79 @@
+package com.flexpoker.table.command.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.flexpoker.model.HandRanking;
+import com.flexpoker.model.card.Card;
+import com.flexpoker.model.card.CardsUsedInHand;
+
+/**
+ * The default evaluator's determinePossibleHands with every board missing
+ * the cache (cold, the full filter passes) against every board already in
+ * it (warm, the canonical key plus a lookup).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PossibleHandsCacheBenchmark {
+
+    private static final int NUMBER_OF_BOARDS = 1024;
+
+    @Param({ "cold", "warm" })
+    private String cache;
+
+    private DefaultHandEvaluatorService handEvaluatorService;
+
+    private CardsUsedInHand[] boards;
+
+    private int nextBoard;
+
+    @Setup
+    public void setUp() {
+        handEvaluatorService = new DefaultHandEvaluatorService();
+
+        CardService cardService = new DefaultCardService();
+        List<Card> deck = cardService.createShuffledDeck();
+        Random random = new Random(NUMBER_OF_BOARDS);
+        boards = new CardsUsedInHand[NUMBER_OF_BOARDS];
+        for (int i = 0; i < NUMBER_OF_BOARDS; i++) {
+            List<Card> shuffledDeck = new ArrayList<>(deck);
+            Collections.shuffle(shuffledDeck, random);
+            boards[i] = cardService.createCardsUsedInHand(shuffledDeck, 2);
+            if ("warm".equals(cache)) {
+                handEvaluatorService.determinePossibleHands(boards[i].getFlopCards(),
+                        boards[i].getTurnCard(), boards[i].getRiverCard());
+            }
+        }
+    }
+
+    @Benchmark
+    public List<HandRanking> determinePossibleHands() {
+        nextBoard = (nextBoard + 1) & (NUMBER_OF_BOARDS - 1);
+        CardsUsedInHand board = boards[nextBoard];
+        return "warm".equals(cache)
+                ? handEvaluatorService.determinePossibleHands(board.getFlopCards(),
+                        board.getTurnCard(), board.getRiverCard())
+                : handEvaluatorService.determinePossibleHandsUncached(
+                        board.getFlopCards(), board.getTurnCard(), board.getRiverCard());
+    }
+
+}
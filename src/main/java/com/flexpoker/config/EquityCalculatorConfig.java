@@ -0,0 +1,55 @@
+package com.flexpoker.config;
+
+import javax.inject.Inject;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.flexpoker.table.command.service.DefaultEquityCalculatorService;
+import com.flexpoker.table.command.service.EquityCalculatorService;
+import com.flexpoker.table.query.service.EquityCalculator;
+
+/**
+ * The equity calculator can be tuned with these properties:
+ *
+ * <pre>
+ * flexpoker.equity.exhaustive-runout-limit=250000
+ * flexpoker.equity.time-budget-millis=200
+ * flexpoker.equity.max-samples=500000
+ * </pre>
+ *
+ * Boards with no more runouts than the limit are enumerated, anything else
+ * is sampled until the time budget or the number of samples runs out. An
+ * enumeration that runs past the time budget stops there too.
+ */
+@Configuration
+public class EquityCalculatorConfig {
+
+    private static final String PREFIX = "flexpoker.equity.";
+
+    private final Environment environment;
+
+    @Inject
+    public EquityCalculatorConfig(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Bean
+    public EquityCalculatorService equityCalculatorService() {
+        return new DefaultEquityCalculatorService(
+                environment.getProperty(PREFIX + "exhaustive-runout-limit", Long.class,
+                        250_000L),
+                environment.getProperty(PREFIX + "time-budget-millis", Long.class, 200L),
+                environment.getProperty(PREFIX + "max-samples", Long.class, 500_000L));
+    }
+
+    /**
+     * The query side's view of the same engine.
+     */
+    @Bean
+    public EquityCalculator equityCalculator() {
+        return equityCalculatorService()::calculateEquity;
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.flexpoker.config;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import javax.inject.Inject;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.env.Environment;
+
+import com.flexpoker.framework.concurrent.StageExecutor;
+import com.flexpoker.framework.concurrent.StageExecutor.RejectionPolicy;
+
+/**
+ * One bounded executor per stage, so that a backlog in one stage (say, push
+ * notifications to slow clients) can't take threads away from the others.
+ * Every stage can be tuned with these properties, from
+ * {@code flexpoker.properties} on the classpath or from system properties:
+ *
+ * <pre>
+ * flexpoker.executor.virtual-threads=false
+ * flexpoker.executor.&lt;stage&gt;.pool-size=&lt;number of processors&gt;
+ * flexpoker.executor.&lt;stage&gt;.queue-capacity=10000
+ * flexpoker.executor.&lt;stage&gt;.rejection-policy=caller-runs|abort
+ * </pre>
+ *
+ * where stage is one of commands, projections, process-managers, push, equity
+ * or default (anything @Async that doesn't name a stage). Every stage but
+ * equity runs a rejected task on the caller. Equity is handed off while a
+ * table is locked, so it aborts instead and the table goes without.
+ */
+@Configuration
+@PropertySource(value = "classpath:flexpoker.properties", ignoreResourceNotFound = true)
+public class ExecutorConfig {
+
+    private static final int DEFAULT_QUEUE_CAPACITY = 10000;
+
+    private final Environment environment;
+
+    @Inject
+    public ExecutorConfig(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Bean
+    public StageExecutor taskExecutor() {
+        return createStageExecutor("default");
+    }
+
+    @Bean
+    public StageExecutor commandExecutor() {
+        return createStageExecutor("commands");
+    }
+
+    @Bean
+    public StageExecutor projectionExecutor() {
+        return createStageExecutor("projections");
+    }
+
+    @Bean
+    public StageExecutor processManagerExecutor() {
+        return createStageExecutor("process-managers");
+    }
+
+    @Bean
+    public StageExecutor pushNotificationExecutor() {
+        return createStageExecutor("push");
+    }
+
+    @Bean
+    public StageExecutor equityExecutor() {
+        return createStageExecutor("equity", "abort");
+    }
+
+    /**
+     * Only times the windows for coalescing push notifications, the sends
+     * themselves go to the push stage. Spring shuts it down along with the
+     * context.
+     */
+    @Bean
+    public ScheduledExecutorService pushWindowScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "push-window");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private StageExecutor createStageExecutor(String stage) {
+        return createStageExecutor(stage, "caller-runs");
+    }
+
+    private StageExecutor createStageExecutor(String stage, String defaultRejectionPolicy) {
+        String prefix = "flexpoker.executor." + stage + ".";
+        int poolSize = environment.getProperty(prefix + "pool-size", Integer.class,
+                Runtime.getRuntime().availableProcessors());
+        int queueCapacity = environment.getProperty(prefix + "queue-capacity",
+                Integer.class, DEFAULT_QUEUE_CAPACITY);
+        RejectionPolicy rejectionPolicy = RejectionPolicy.valueOf(environment
+                .getProperty(prefix + "rejection-policy", defaultRejectionPolicy)
+                .toUpperCase().replace('-', '_'));
+
+        if (environment.getProperty("flexpoker.executor.virtual-threads", Boolean.class,
+                false)) {
+            return StageExecutor.withVirtualThreadsIfSupported(stage, poolSize,
+                    queueCapacity, rejectionPolicy);
+        }
+        return StageExecutor.withPlatformThreads(stage, poolSize, queueCapacity,
+                rejectionPolicy);
+    }
+
+}
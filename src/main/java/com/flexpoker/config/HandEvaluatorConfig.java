@@ -0,0 +1,43 @@
+package com.flexpoker.config;
+
+import javax.inject.Inject;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.flexpoker.table.command.service.DefaultHandEvaluatorService;
+import com.flexpoker.table.command.service.HandEvaluatorService;
+import com.flexpoker.table.command.service.LookupTableHandEvaluatorService;
+
+/**
+ * Picks the hand evaluator with the {@code flexpoker.hand-evaluator} property,
+ * either {@code default} or {@code lookup-table}.
+ */
+@Configuration
+public class HandEvaluatorConfig {
+
+    public static final String HAND_EVALUATOR_PROPERTY = "flexpoker.hand-evaluator";
+
+    private final Environment environment;
+
+    @Inject
+    public HandEvaluatorConfig(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Bean
+    public HandEvaluatorService handEvaluatorService() {
+        String handEvaluator = environment.getProperty(HAND_EVALUATOR_PROPERTY, "default");
+        switch (handEvaluator) {
+        case "default":
+            return new DefaultHandEvaluatorService();
+        case "lookup-table":
+            return new LookupTableHandEvaluatorService();
+        default:
+            throw new IllegalArgumentException("unknown " + HAND_EVALUATOR_PROPERTY
+                    + ": " + handEvaluator);
+        }
+    }
+
+}
@@ -8,9 +8,25 @@ import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
+import com.flexpoker.game.command.framework.GameEvent;
 import com.flexpoker.game.query.dto.GameInListDTO;
+import com.flexpoker.table.command.aggregate.TableSnapshot;
 import com.flexpoker.table.command.framework.TableEvent;
 
+/**
+ * Table and game events are stored as JSON unless the compact binary format
+ * is switched on, in {@code flexpoker.properties} on the classpath or from
+ * system properties:
+ *
+ * <pre>
+ * flexpoker.redis.table-event-format=json|binary
+ * flexpoker.redis.game-event-format=json|binary
+ * </pre>
+ *
+ * Either format can be read whatever the setting, and the
+ * migrateAllToWriteFormat JMX operation on redisTableEventRepository and
+ * redisGameEventRepository rewrites existing streams in the new format.
+ */
 @Configuration
 public class RedisConfig {
 
@@ -37,6 +53,13 @@ public class RedisConfig {
         return redisTemplate;
     }
 
+    @Bean
+    RedisTemplate<String, GameEvent> redisTemplateGameEvent() {
+        RedisTemplate<String, GameEvent> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(jedisConnectionFactory());
+        return redisTemplate;
+    }
+
     @Bean
     RedisTemplate<String, TableEvent> redisTemplateTableEvent() {
         RedisTemplate<String, TableEvent> redisTemplate = new RedisTemplate<>();
@@ -44,6 +67,13 @@ public class RedisConfig {
         return redisTemplate;
     }
 
+    @Bean
+    RedisTemplate<String, TableSnapshot> redisTemplateTableSnapshot() {
+        RedisTemplate<String, TableSnapshot> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(jedisConnectionFactory());
+        return redisTemplate;
+    }
+
     @Bean
     CacheManager cacheManager() {
         return new RedisCacheManager(redisTemplate());
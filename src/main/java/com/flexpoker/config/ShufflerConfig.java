@@ -0,0 +1,38 @@
+package com.flexpoker.config;
+
+import javax.inject.Inject;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.flexpoker.table.command.service.FisherYatesShuffler;
+import com.flexpoker.table.command.service.FisherYatesShuffler.RandomSource;
+import com.flexpoker.table.command.service.Shuffler;
+
+/**
+ * Picks the random number generator used to shuffle with the
+ * {@code flexpoker.shuffler.random-source} property, either
+ * {@code splittable-random} (the default) or {@code secure-random}.
+ */
+@Configuration
+public class ShufflerConfig {
+
+    public static final String RANDOM_SOURCE_PROPERTY = "flexpoker.shuffler.random-source";
+
+    private final Environment environment;
+
+    @Inject
+    public ShufflerConfig(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Bean
+    public Shuffler shuffler() {
+        RandomSource randomSource = RandomSource.valueOf(environment
+                .getProperty(RANDOM_SOURCE_PROPERTY, "splittable-random")
+                .toUpperCase().replace('-', '_'));
+        return FisherYatesShuffler.using(randomSource);
+    }
+
+}
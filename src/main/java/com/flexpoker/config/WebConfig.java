@@ -1,13 +1,12 @@
 package com.flexpoker.config;
 
-import java.util.concurrent.Executor;
-
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableMBeanExport;
 import org.springframework.context.support.ReloadableResourceBundleMessageSource;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.jmx.support.RegistrationPolicy;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.servlet.ViewResolver;
@@ -21,6 +20,7 @@ import org.springframework.web.servlet.view.InternalResourceViewResolver;
 @EnableWebMvc
 @EnableScheduling
 @EnableAsync
+@EnableMBeanExport(registration = RegistrationPolicy.IGNORE_EXISTING)
 @ComponentScan("com.flexpoker")
 public class WebConfig extends WebMvcConfigurerAdapter {
 
@@ -54,9 +54,4 @@ public class WebConfig extends WebMvcConfigurerAdapter {
         configurer.enable();
     }
 
-    @Bean
-    public Executor taskExecutor() {
-        return new SimpleAsyncTaskExecutor();
-    }
-
 }
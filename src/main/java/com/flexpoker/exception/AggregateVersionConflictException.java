@@ -0,0 +1,41 @@
+package com.flexpoker.exception;
+
+import java.util.UUID;
+
+/**
+ * Thrown when events are appended to an aggregate's stream with an expected
+ * version that no longer matches the stream, meaning someone else appended
+ * events since the aggregate was loaded.
+ */
+public class AggregateVersionConflictException extends FlexPokerException {
+
+    private static final long serialVersionUID = 4415931206214447128L;
+
+    private final UUID aggregateId;
+
+    private final int expectedVersion;
+
+    private final int actualVersion;
+
+    public AggregateVersionConflictException(UUID aggregateId, int expectedVersion,
+            int actualVersion) {
+        super("expected version " + expectedVersion + " of aggregate " + aggregateId
+                + " but found version " + actualVersion);
+        this.aggregateId = aggregateId;
+        this.expectedVersion = expectedVersion;
+        this.actualVersion = actualVersion;
+    }
+
+    public UUID getAggregateId() {
+        return aggregateId;
+    }
+
+    public int getExpectedVersion() {
+        return expectedVersion;
+    }
+
+    public int getActualVersion() {
+        return actualVersion;
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.flexpoker.framework.command;
+
+import com.flexpoker.exception.AggregateVersionConflictException;
+
+/**
+ * Handlers load the aggregate fresh on every call, so a command that lost an
+ * optimistic concurrency race can simply be handled again. Command receivers
+ * share this so they all retry the same way.
+ */
+public final class VersionConflictRetry {
+
+    public static final int MAX_ATTEMPTS_ON_CONFLICT = 5;
+
+    private VersionConflictRetry() {
+        // static only
+    }
+
+    /**
+     * Runs {@code handling} until it gets through without a version conflict,
+     * giving up with the last conflict after {@code maxAttempts}.
+     */
+    public static void retryOnVersionConflict(Runnable handling, int maxAttempts) {
+        for (int attempt = 1;; attempt++) {
+            try {
+                handling.run();
+                return;
+            } catch (AggregateVersionConflictException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+}
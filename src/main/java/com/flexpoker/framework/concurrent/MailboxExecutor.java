@@ -0,0 +1,222 @@
+package com.flexpoker.framework.concurrent;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Runs tasks one at a time per key, in the order they were submitted, on a
+ * shared pool of workers. Each key gets a mailbox that is only scheduled on
+ * the pool while it has work in it, so an idle key costs nothing and a busy
+ * key can never occupy more than one worker. A mailbox gives its worker back
+ * after a batch of tasks so that one busy key can't starve the others.
+ *
+ * A mailbox is never run inline by the pool. If the pool would run it on the
+ * thread handing it over, like a caller-runs pool does when it's full, the
+ * mailbox is drained in a loop on that thread instead, so a backlog can't
+ * turn into one stack frame per batch.
+ *
+ * If the pool rejects a mailbox outright, the task that was being submitted
+ * is rejected too, but any tasks that joined the mailbox meanwhile were
+ * already accepted, so they're drained on the rejected thread.
+ */
+public class MailboxExecutor<K> {
+
+    private static final Log LOG = LogFactory.getLog(MailboxExecutor.class);
+
+    private static final int DEFAULT_DRAIN_BATCH_SIZE = 16;
+
+    private final Executor workerPool;
+
+    private final int drainBatchSize;
+
+    private final ConcurrentMap<K, Mailbox> mailboxMap;
+
+    private final LongAdder submittedTasks = new LongAdder();
+
+    private final LongAdder completedTasks = new LongAdder();
+
+    private final LongAdder failedTasks = new LongAdder();
+
+    public MailboxExecutor(Executor workerPool) {
+        this(workerPool, DEFAULT_DRAIN_BATCH_SIZE);
+    }
+
+    public MailboxExecutor(Executor workerPool, int drainBatchSize) {
+        if (drainBatchSize < 1) {
+            throw new IllegalArgumentException("drainBatchSize must be positive: " + drainBatchSize);
+        }
+        this.workerPool = workerPool;
+        this.drainBatchSize = drainBatchSize;
+        this.mailboxMap = new ConcurrentHashMap<>();
+    }
+
+    public void execute(K key, Runnable task) {
+        submittedTasks.increment();
+        while (true) {
+            Mailbox mailbox = mailboxMap.computeIfAbsent(key, Mailbox::new);
+            if (mailbox.offer(task)) {
+                return;
+            }
+            // the mailbox drained and retired between the lookup and the
+            // offer, so make sure it's gone and try again with a fresh one
+            mailboxMap.remove(key, mailbox);
+        }
+    }
+
+    public int getActiveMailboxCount() {
+        return mailboxMap.size();
+    }
+
+    public long getSubmittedTaskCount() {
+        return submittedTasks.sum();
+    }
+
+    public long getCompletedTaskCount() {
+        return completedTasks.sum();
+    }
+
+    public long getFailedTaskCount() {
+        return failedTasks.sum();
+    }
+
+    public long getPendingTaskCount() {
+        return submittedTasks.sum() - completedTasks.sum() - failedTasks.sum();
+    }
+
+    private class Mailbox implements Runnable {
+
+        private final K key;
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        private boolean scheduled;
+
+        private boolean retired;
+
+        private volatile Thread schedulingThread;
+
+        /**
+         * Only read and written by the thread in {@link #schedule()}.
+         */
+        private boolean ranOnSchedulingThread;
+
+        Mailbox(K key) {
+            this.key = key;
+        }
+
+        boolean offer(Runnable task) {
+            synchronized (this) {
+                if (retired) {
+                    return false;
+                }
+                tasks.add(task);
+                if (scheduled) {
+                    return true;
+                }
+                scheduled = true;
+            }
+
+            boolean scheduledOnPool;
+            try {
+                scheduledOnPool = schedule();
+            } catch (RejectedExecutionException e) {
+                boolean othersWaiting;
+                synchronized (this) {
+                    tasks.remove(task);
+                    othersWaiting = !tasks.isEmpty();
+                    if (!othersWaiting) {
+                        scheduled = false;
+                        retired = true;
+                    }
+                }
+                submittedTasks.decrement();
+                if (othersWaiting) {
+                    // tasks offered while this one was being scheduled were
+                    // accepted, and nothing else is going to run them
+                    drain();
+                } else {
+                    mailboxMap.remove(key, this);
+                }
+                throw e;
+            }
+            if (!scheduledOnPool) {
+                // the pool is full and wants the caller to do the work
+                drain();
+            }
+            return true;
+        }
+
+        @Override
+        public void run() {
+            if (Thread.currentThread() == schedulingThread) {
+                ranOnSchedulingThread = true;
+                return;
+            }
+            drain();
+        }
+
+        /**
+         * Hands the mailbox to the pool. Returns false if the pool tried to
+         * run it on this thread, in which case it hasn't been run and is
+         * still this thread's to drain.
+         */
+        private boolean schedule() {
+            schedulingThread = Thread.currentThread();
+            ranOnSchedulingThread = false;
+            try {
+                workerPool.execute(this);
+            } finally {
+                schedulingThread = null;
+            }
+            return !ranOnSchedulingThread;
+        }
+
+        private void drain() {
+            while (true) {
+                for (int i = 0; i < drainBatchSize; i++) {
+                    Runnable task;
+                    synchronized (this) {
+                        task = tasks.poll();
+                        if (task == null) {
+                            scheduled = false;
+                            retired = true;
+                        }
+                    }
+                    if (task == null) {
+                        mailboxMap.remove(key, this);
+                        return;
+                    }
+                    runTask(task);
+                }
+
+                try {
+                    if (schedule()) {
+                        return;
+                    }
+                } catch (RejectedExecutionException e) {
+                    // pool is saturated, keep draining on this thread
+                }
+            }
+        }
+
+        private void runTask(Runnable task) {
+            try {
+                task.run();
+                completedTasks.increment();
+            } catch (RuntimeException e) {
+                failedTasks.increment();
+                LOG.error("task for " + key + " failed", e);
+            }
+        }
+
+    }
+
+}
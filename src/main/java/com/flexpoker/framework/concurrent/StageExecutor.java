@@ -0,0 +1,333 @@
+package com.flexpoker.framework.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.jmx.export.naming.SelfNaming;
+
+/**
+ * A named, bounded executor for one stage of the pipeline (commands,
+ * projections, process managers, push notifications). At most
+ * {@code poolSize} tasks run at once and at most {@code queueCapacity} more
+ * wait for a turn; anything past that is handled by the
+ * {@link RejectionPolicy}.
+ *
+ * Tasks run either on a fixed pool of platform threads or, on a JDK that has
+ * them, on one virtual thread per task. Both modes are bounded the same way,
+ * so switching between them doesn't change how much work can pile up.
+ */
+@ManagedResource
+public class StageExecutor implements Executor, SelfNaming {
+
+    private static final Log LOG = LogFactory.getLog(StageExecutor.class);
+
+    public enum RejectionPolicy {
+
+        /**
+         * Run the task on the submitting thread, which slows the submitter
+         * down to the rate the stage can keep up with.
+         */
+        CALLER_RUNS,
+
+        /**
+         * Throw a {@link RejectedExecutionException} back to the submitter.
+         */
+        ABORT
+
+    }
+
+    private final String name;
+
+    private final int poolSize;
+
+    private final int queueCapacity;
+
+    private final RejectionPolicy rejectionPolicy;
+
+    private final ThreadPoolExecutor threadPool;
+
+    private final ExecutorService virtualThreadExecutor;
+
+    private final Semaphore queuedOrRunningPermits;
+
+    private final Semaphore runningPermits;
+
+    private final AtomicInteger activeTasks = new AtomicInteger();
+
+    private final LongAdder submittedTasks = new LongAdder();
+
+    private final LongAdder completedTasks = new LongAdder();
+
+    private final LongAdder failedTasks = new LongAdder();
+
+    private final LongAdder rejectedTasks = new LongAdder();
+
+    private final LongAdder callerRunsTasks = new LongAdder();
+
+    private StageExecutor(String name, int poolSize, int queueCapacity,
+            RejectionPolicy rejectionPolicy, boolean useVirtualThreads) {
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("poolSize must be positive: " + poolSize);
+        }
+        if (queueCapacity < 0) {
+            throw new IllegalArgumentException("queueCapacity can't be negative: "
+                    + queueCapacity);
+        }
+
+        this.name = name;
+        this.poolSize = poolSize;
+        this.queueCapacity = queueCapacity;
+        this.rejectionPolicy = rejectionPolicy;
+
+        if (useVirtualThreads) {
+            this.threadPool = null;
+            this.virtualThreadExecutor = newVirtualThreadPerTaskExecutor();
+            this.queuedOrRunningPermits = new Semaphore(poolSize + queueCapacity);
+            this.runningPermits = new Semaphore(poolSize);
+        } else {
+            this.threadPool = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                    queueCapacity == 0 ? new SynchronousQueue<>()
+                            : new LinkedBlockingQueue<>(queueCapacity),
+                    new NamedThreadFactory(name), (task, executor) -> reject(task));
+            this.threadPool.allowCoreThreadTimeOut(true);
+            this.virtualThreadExecutor = null;
+            this.queuedOrRunningPermits = null;
+            this.runningPermits = null;
+        }
+    }
+
+    public static StageExecutor withPlatformThreads(String name, int poolSize,
+            int queueCapacity, RejectionPolicy rejectionPolicy) {
+        return new StageExecutor(name, poolSize, queueCapacity, rejectionPolicy, false);
+    }
+
+    /**
+     * Uses virtual threads when the running JDK supports them, and falls back
+     * to platform threads with the same limits when it doesn't.
+     */
+    public static StageExecutor withVirtualThreadsIfSupported(String name, int poolSize,
+            int queueCapacity, RejectionPolicy rejectionPolicy) {
+        if (!isVirtualThreadSupported()) {
+            LOG.warn("virtual threads aren't supported on this JDK, " + name
+                    + " will use platform threads");
+        }
+        return new StageExecutor(name, poolSize, queueCapacity, rejectionPolicy,
+                isVirtualThreadSupported());
+    }
+
+    public static boolean isVirtualThreadSupported() {
+        return findVirtualThreadFactoryMethod() != null;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        submittedTasks.increment();
+        if (threadPool != null) {
+            threadPool.execute(new CountingTask(task));
+        } else if (queuedOrRunningPermits.tryAcquire()) {
+            try {
+                virtualThreadExecutor.execute(new VirtualThreadTask(task));
+            } catch (RejectedExecutionException e) {
+                queuedOrRunningPermits.release();
+                reject(new CountingTask(task));
+            }
+        } else {
+            reject(new CountingTask(task));
+        }
+    }
+
+    public void shutdown() {
+        if (threadPool != null) {
+            threadPool.shutdown();
+        } else {
+            virtualThreadExecutor.shutdown();
+        }
+    }
+
+    @Override
+    public ObjectName getObjectName() throws MalformedObjectNameException {
+        return new ObjectName("flexpoker:type=executor,name=" + name);
+    }
+
+    @ManagedAttribute
+    public String getName() {
+        return name;
+    }
+
+    @ManagedAttribute
+    public boolean isVirtualThreads() {
+        return threadPool == null;
+    }
+
+    @ManagedAttribute
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    @ManagedAttribute
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    @ManagedAttribute
+    public String getRejectionPolicy() {
+        return rejectionPolicy.name();
+    }
+
+    @ManagedAttribute
+    public int getActiveCount() {
+        return activeTasks.get();
+    }
+
+    @ManagedAttribute
+    public int getQueuedCount() {
+        if (threadPool != null) {
+            return threadPool.getQueue().size();
+        }
+        return Math.max(0, poolSize + queueCapacity
+                - queuedOrRunningPermits.availablePermits() - activeTasks.get());
+    }
+
+    @ManagedAttribute
+    public long getSubmittedTaskCount() {
+        return submittedTasks.sum();
+    }
+
+    @ManagedAttribute
+    public long getCompletedTaskCount() {
+        return completedTasks.sum();
+    }
+
+    @ManagedAttribute
+    public long getFailedTaskCount() {
+        return failedTasks.sum();
+    }
+
+    @ManagedAttribute
+    public long getRejectedTaskCount() {
+        return rejectedTasks.sum();
+    }
+
+    @ManagedAttribute
+    public long getCallerRunsTaskCount() {
+        return callerRunsTasks.sum();
+    }
+
+    private void reject(Runnable task) {
+        rejectedTasks.increment();
+        if (rejectionPolicy == RejectionPolicy.CALLER_RUNS && !isShutdown()) {
+            callerRunsTasks.increment();
+            task.run();
+        } else {
+            throw new RejectedExecutionException(name + " is saturated");
+        }
+    }
+
+    private boolean isShutdown() {
+        return threadPool != null ? threadPool.isShutdown()
+                : virtualThreadExecutor.isShutdown();
+    }
+
+    private static Method findVirtualThreadFactoryMethod() {
+        try {
+            return Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) findVirtualThreadFactoryMethod().invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("could not create a virtual thread executor", e);
+        }
+    }
+
+    private class CountingTask implements Runnable {
+
+        private final Runnable task;
+
+        CountingTask(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            activeTasks.incrementAndGet();
+            try {
+                task.run();
+                completedTasks.increment();
+            } catch (RuntimeException e) {
+                failedTasks.increment();
+                LOG.error("task on " + name + " failed", e);
+            } finally {
+                activeTasks.decrementAndGet();
+            }
+        }
+
+    }
+
+    private class VirtualThreadTask implements Runnable {
+
+        private final Runnable task;
+
+        VirtualThreadTask(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            try {
+                runningPermits.acquireUninterruptibly();
+                try {
+                    new CountingTask(task).run();
+                } finally {
+                    runningPermits.release();
+                }
+            } finally {
+                queuedOrRunningPermits.release();
+            }
+        }
+
+    }
+
+    private static class NamedThreadFactory implements ThreadFactory {
+
+        private final String namePrefix;
+
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        NamedThreadFactory(String name) {
+            this.namePrefix = name + "-";
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, namePrefix + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.flexpoker.framework.domain;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, least-recently-used cache of hydrated aggregates. Aggregates are
+ * mutable, so instead of handing out shared references the cache works on a
+ * checkout/checkin basis: {@link #checkout(UUID)} removes the aggregate so
+ * that only one caller can work on it at a time, and {@link #checkin(UUID, Object)}
+ * puts it back once its new events have been saved. An aggregate whose
+ * command fails is simply never checked back in.
+ */
+public class AggregateCache<T> {
+
+    private final int maximumSize;
+
+    private final Map<UUID, T> aggregateMap;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    public AggregateCache(int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("maximumSize can't be negative: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.aggregateMap = new LinkedHashMap<UUID, T>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, T> eldest) {
+                if (size() > AggregateCache.this.maximumSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized T checkout(UUID aggregateId) {
+        T aggregate = aggregateMap.remove(aggregateId);
+        if (aggregate == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return aggregate;
+    }
+
+    public synchronized void checkin(UUID aggregateId, T aggregate) {
+        aggregateMap.put(aggregateId, aggregate);
+    }
+
+    public synchronized void invalidate(UUID aggregateId) {
+        aggregateMap.remove(aggregateId);
+    }
+
+    public synchronized int size() {
+        return aggregateMap.size();
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+}
@@ -27,6 +27,16 @@ public abstract class AggregateRoot<T extends Event> {
         return new ArrayList<>(appliedEvents);
     }
 
+    /**
+     * Called once the new events have been saved. The applied events are
+     * dropped as well so that an aggregate kept around between commands
+     * doesn't hold on to its whole history.
+     */
+    public void clearEvents() {
+        newEvents.clear();
+        appliedEvents.clear();
+    }
+
     public abstract void applyAllHistoricalEvents(List<T> events);
 
 }
@@ -0,0 +1,71 @@
+package com.flexpoker.framework.domain;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers ids for a while, for things like aggregates that are done with
+ * and whose stragglers should be ignored. An id is forgotten once it's been
+ * in the set for the time to live, or sooner if the set is full, oldest
+ * first, so the set can't grow without bound.
+ */
+public class ExpiringIdSet {
+
+    private final long timeToLiveNanos;
+
+    private final int maximumSize;
+
+    private final LongSupplier nanoClock;
+
+    private final LinkedHashMap<UUID, Long> addedAtMap;
+
+    public ExpiringIdSet(Duration timeToLive, int maximumSize) {
+        this(timeToLive, maximumSize, System::nanoTime);
+    }
+
+    ExpiringIdSet(Duration timeToLive, int maximumSize, LongSupplier nanoClock) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be at least 1, was "
+                    + maximumSize);
+        }
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.maximumSize = maximumSize;
+        this.nanoClock = nanoClock;
+        this.addedAtMap = new LinkedHashMap<>();
+    }
+
+    public synchronized void add(UUID id) {
+        long now = nanoClock.getAsLong();
+        // re-adding starts the id's time over, at the back of the line
+        addedAtMap.remove(id);
+        addedAtMap.put(id, now);
+        expire(now);
+    }
+
+    public synchronized boolean contains(UUID id) {
+        expire(nanoClock.getAsLong());
+        return addedAtMap.containsKey(id);
+    }
+
+    public synchronized int size() {
+        expire(nanoClock.getAsLong());
+        return addedAtMap.size();
+    }
+
+    private void expire(long now) {
+        Iterator<Map.Entry<UUID, Long>> iterator = addedAtMap.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, Long> eldest = iterator.next();
+            if (addedAtMap.size() <= maximumSize
+                    && now - eldest.getValue() < timeToLiveNanos) {
+                return;
+            }
+            iterator.remove();
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.flexpoker.framework.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.flexpoker.exception.AggregateVersionConflictException;
+
+/**
+ * Event streams kept in memory, one list per aggregate. Like the Redis
+ * repositories, an aggregate without any events just has an empty stream.
+ */
+public abstract class AbstractInMemoryEventRepository<T extends Event> {
+
+    private final Map<UUID, List<T>> eventMap;
+
+    protected AbstractInMemoryEventRepository() {
+        eventMap = new ConcurrentHashMap<>();
+    }
+
+    public List<T> fetchAll(UUID id) {
+        return copyFrom(id, 0);
+    }
+
+    public List<T> fetchFrom(UUID id, int fromVersion) {
+        return copyFrom(id, fromVersion);
+    }
+
+    public void save(T event) {
+        eventMap.compute(event.getAggregateId(),
+                (id, existingEvents) -> append(existingEvents,
+                        Collections.singletonList(event)));
+    }
+
+    public void appendAll(UUID aggregateId, int expectedVersion, List<T> events) {
+        eventMap.compute(aggregateId, (id, existingEvents) -> {
+            int actualVersion = existingEvents == null ? 0 : existingEvents.size();
+            if (actualVersion != expectedVersion) {
+                throw new AggregateVersionConflictException(aggregateId,
+                        expectedVersion, actualVersion);
+            }
+            return append(existingEvents, events);
+        });
+    }
+
+    /**
+     * Each stream is only ever touched inside {@code compute} for its
+     * aggregate, so it can be appended to in place and is only copied on the
+     * way out, which keeps a list handed out by {@link #fetchAll(UUID)} from
+     * changing underneath the caller.
+     */
+    private List<T> copyFrom(UUID id, int fromVersion) {
+        List<T> copiedEvents = new ArrayList<>();
+        eventMap.computeIfPresent(id, (key, events) -> {
+            if (fromVersion < events.size()) {
+                copiedEvents.addAll(events.subList(fromVersion, events.size()));
+            }
+            return events;
+        });
+        return Collections.unmodifiableList(copiedEvents);
+    }
+
+    private List<T> append(List<T> existingEvents, List<T> events) {
+        List<T> updatedEvents = existingEvents == null ? new ArrayList<>()
+                : existingEvents;
+        updatedEvents.addAll(events);
+        return updatedEvents;
+    }
+
+}
@@ -0,0 +1,248 @@
+package com.flexpoker.framework.event;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flexpoker.exception.AggregateVersionConflictException;
+import com.flexpoker.framework.event.codec.BinaryEventSerializer;
+import com.flexpoker.framework.event.codec.EventStorageFormat;
+import com.flexpoker.framework.event.codec.EventTypeRegistry;
+import com.flexpoker.framework.event.codec.MixedFormatEventSerializer;
+
+/**
+ * Event streams stored as one Redis list per aggregate, where the index in the
+ * list is the event's version - 1. Values are written in the configured
+ * {@link EventStorageFormat} but either format can be read, so streams can be
+ * moved between formats with {@link #migrateAllToWriteFormat()}.
+ */
+public abstract class AbstractRedisEventRepository<T extends Event> {
+
+    /**
+     * Values are pushed at most this many at a time, both by the append
+     * script (Lua's unpack runs out of C stack at around 8000 values) and
+     * when a stream is rewritten.
+     */
+    static final int PUSH_CHUNK_SIZE = 1000;
+
+    /**
+     * Checks the length of the stream and pushes all of the events in
+     * chunked RPUSHes, atomically and in one round trip. On a conflict,
+     * nothing is pushed and the current length is returned as
+     * -(length + 1).
+     */
+    private static final byte[] APPEND_AT_EXPECTED_VERSION_SCRIPT = (
+            "local length = redis.call('LLEN', KEYS[1]) "
+            + "if length ~= tonumber(ARGV[1]) then return -length - 1 end "
+            + "for i = 2, #ARGV, " + PUSH_CHUNK_SIZE + " do "
+            + "length = redis.call('RPUSH', KEYS[1], "
+            + "unpack(ARGV, i, math.min(i + " + (PUSH_CHUNK_SIZE - 1) + ", #ARGV))) "
+            + "end "
+            + "return length")
+            .getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Moves the re-encoded copy of a stream (KEYS[2]) over the stream
+     * (KEYS[1]), but only if nothing has been appended since it was read.
+     * Otherwise the copy is dropped.
+     */
+    private static final byte[] RENAME_IF_UNCHANGED_SCRIPT = (
+            "if redis.call('LLEN', KEYS[1]) ~= tonumber(ARGV[1]) then "
+            + "redis.call('DEL', KEYS[2]) "
+            + "return 0 "
+            + "end "
+            + "redis.call('RENAME', KEYS[2], KEYS[1]) "
+            + "redis.call('PERSIST', KEYS[1]) "
+            + "return 1")
+            .getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Re-encoded copies are written outside of the namespace, so a copy left
+     * behind by a failed migration is never scanned as a stream, and they
+     * expire on their own in case one is.
+     */
+    private static final String MIGRATION_NAMESPACE = "migrating:";
+
+    private static final long MIGRATION_COPY_TTL_SECONDS = 600;
+
+    private static final int MAX_ATTEMPTS_PER_MIGRATION = 5;
+
+    private final String namespace;
+
+    private final RedisTemplate<String, T> redisTemplate;
+
+    private final RedisSerializer<String> keySerializer;
+
+    private final MixedFormatEventSerializer<T> valueSerializer;
+
+    protected AbstractRedisEventRepository(String namespace,
+            RedisTemplate<String, T> redisTemplate, Class<T> eventType,
+            EventTypeRegistry<T> eventTypeRegistry, EventStorageFormat writeFormat) {
+        this.namespace = namespace;
+        this.redisTemplate = redisTemplate;
+        this.keySerializer = new StringRedisSerializer();
+        this.redisTemplate.setKeySerializer(keySerializer);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.findAndRegisterModules();
+
+        Jackson2JsonRedisSerializer<T> jsonSerializer = new Jackson2JsonRedisSerializer<>(
+                eventType);
+        jsonSerializer.setObjectMapper(objectMapper);
+
+        this.valueSerializer = new MixedFormatEventSerializer<>(writeFormat,
+                new BinaryEventSerializer<>(eventTypeRegistry), jsonSerializer);
+        this.redisTemplate.setValueSerializer(valueSerializer);
+    }
+
+    /**
+     * Reads the write format from {@code property}, either json (the
+     * default) or binary. Binary is opt-in, since anything else that reads
+     * the streams expects JSON. Once it's switched on, existing streams are
+     * still readable and can be rewritten with
+     * {@link #migrateAllToWriteFormat()}.
+     */
+    protected static EventStorageFormat writeFormat(Environment environment,
+            String property) {
+        return EventStorageFormat.valueOf(environment.getProperty(property, "json")
+                .toUpperCase());
+    }
+
+    @ManagedAttribute
+    public String getWriteFormat() {
+        return valueSerializer.getWriteFormat().name();
+    }
+
+    public List<T> fetchAll(UUID id) {
+        return redisTemplate.opsForList().range(namespace + id, 0,
+                Long.MAX_VALUE);
+    }
+
+    public List<T> fetchFrom(UUID id, int fromVersion) {
+        return redisTemplate.opsForList().range(namespace + id,
+                fromVersion, -1);
+    }
+
+    public void save(T event) {
+        redisTemplate.opsForList().rightPush(
+                namespace + event.getAggregateId(), event);
+    }
+
+    public void appendAll(UUID aggregateId, int expectedVersion, List<T> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        byte[][] keyAndArgs = new byte[events.size() + 2][];
+        keyAndArgs[0] = rawKey(aggregateId);
+        keyAndArgs[1] = String.valueOf(expectedVersion).getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(rawValues(events), 0, keyAndArgs, 2, events.size());
+
+        Long result = redisTemplate.execute((RedisCallback<Long>) connection -> connection
+                .eval(APPEND_AT_EXPECTED_VERSION_SCRIPT, ReturnType.INTEGER, 1, keyAndArgs));
+
+        if (result < 0) {
+            throw new AggregateVersionConflictException(aggregateId, expectedVersion,
+                    (int) (-result - 1));
+        }
+    }
+
+    /**
+     * Rewrites every event stream that still has events in the other
+     * format. Safe to run while the streams are in use, a stream that is
+     * appended to mid-rewrite is just read and tried again.
+     *
+     * @return the number of streams that were rewritten
+     */
+    @ManagedOperation
+    public int migrateAllToWriteFormat() {
+        List<byte[]> keys = redisTemplate.execute((RedisCallback<List<byte[]>>) connection -> {
+            List<byte[]> matchingKeys = new ArrayList<>();
+            ScanOptions options = ScanOptions.scanOptions()
+                    .match(namespace + "*").count(1000).build();
+            try (Cursor<byte[]> cursor = connection.scan(options)) {
+                cursor.forEachRemaining(matchingKeys::add);
+            } catch (IOException e) {
+                throw new RedisSystemException("could not close scan cursor", e);
+            }
+            return matchingKeys;
+        });
+
+        int rewrittenCount = 0;
+        for (byte[] key : keys) {
+            if (redisTemplate.execute((RedisCallback<Boolean>) connection ->
+                    migrateToWriteFormat(connection, key))) {
+                rewrittenCount++;
+            }
+        }
+        return rewrittenCount;
+    }
+
+    public boolean migrateToWriteFormat(UUID aggregateId) {
+        return redisTemplate.execute((RedisCallback<Boolean>) connection ->
+                migrateToWriteFormat(connection, rawKey(aggregateId)));
+    }
+
+    private boolean migrateToWriteFormat(RedisConnection connection, byte[] key) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS_PER_MIGRATION; attempt++) {
+            List<byte[]> rawEvents = connection.lRange(key, 0, -1);
+            if (rawEvents.stream().allMatch(valueSerializer::isInWriteFormat)) {
+                return false;
+            }
+
+            byte[] copyKey = keySerializer.serialize(MIGRATION_NAMESPACE
+                    + keySerializer.deserialize(key) + ":" + UUID.randomUUID());
+            for (int from = 0; from < rawEvents.size(); from += PUSH_CHUNK_SIZE) {
+                int to = Math.min(from + PUSH_CHUNK_SIZE, rawEvents.size());
+                byte[][] chunk = new byte[to - from][];
+                for (int i = from; i < to; i++) {
+                    chunk[i - from] = valueSerializer.serialize(
+                            valueSerializer.deserialize(rawEvents.get(i)));
+                }
+                connection.rPush(copyKey, chunk);
+                if (from == 0) {
+                    connection.expire(copyKey, MIGRATION_COPY_TTL_SECONDS);
+                }
+            }
+
+            Long result = connection.eval(RENAME_IF_UNCHANGED_SCRIPT, ReturnType.INTEGER, 2,
+                    key, copyKey,
+                    String.valueOf(rawEvents.size()).getBytes(StandardCharsets.UTF_8));
+            if (result == 1) {
+                return true;
+            }
+        }
+        throw new IllegalStateException("stream kept changing while being migrated: "
+                + keySerializer.deserialize(key));
+    }
+
+    private byte[] rawKey(UUID aggregateId) {
+        return keySerializer.serialize(namespace + aggregateId);
+    }
+
+    private byte[][] rawValues(List<T> events) {
+        byte[][] rawValues = new byte[events.size()][];
+        for (int i = 0; i < events.size(); i++) {
+            rawValues[i] = valueSerializer.serialize(events.get(i));
+        }
+        return rawValues;
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.flexpoker.framework.event.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Reads back what {@link BinaryEventOutput} wrote.
+ */
+public class BinaryEventInput {
+
+    private final byte[] buffer;
+
+    private int position;
+
+    public BinaryEventInput(byte[] buffer) {
+        this(buffer, 0);
+    }
+
+    public BinaryEventInput(byte[] buffer, int offset) {
+        this.buffer = buffer;
+        this.position = offset;
+    }
+
+    public int readByte() {
+        if (position >= buffer.length) {
+            throw new IllegalStateException("unexpected end of event data");
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    public int readInt() {
+        long raw = readUnsignedVarLong();
+        return (int) ((raw >>> 1) ^ -(raw & 1));
+    }
+
+    public long readLong() {
+        long raw = readUnsignedVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public long readFixedLong() {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | readByte();
+        }
+        return value;
+    }
+
+    public UUID readUuid() {
+        return new UUID(readFixedLong(), readFixedLong());
+    }
+
+    public UUID readNullableUuid() {
+        return readBoolean() ? readUuid() : null;
+    }
+
+    public String readString() {
+        int length = readInt();
+        if (position + length > buffer.length) {
+            throw new IllegalStateException("unexpected end of event data");
+        }
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public String readNullableString() {
+        return readBoolean() ? readString() : null;
+    }
+
+    public <E extends Enum<E>> E readEnum(Class<E> enumType) {
+        int value = readByte();
+        return value == 0 ? null : enumType.getEnumConstants()[value - 1];
+    }
+
+    public <E> List<E> readList(Function<BinaryEventInput, E> elementReader) {
+        int size = readInt();
+        List<E> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(elementReader.apply(this));
+        }
+        return values;
+    }
+
+    public <E> Set<E> readSet(Function<BinaryEventInput, E> elementReader) {
+        int size = readInt();
+        Set<E> values = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            values.add(elementReader.apply(this));
+        }
+        return values;
+    }
+
+    public <K, V> Map<K, V> readMap(Function<BinaryEventInput, K> keyReader,
+            Function<BinaryEventInput, V> valueReader) {
+        int size = readInt();
+        Map<K, V> values = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            K key = keyReader.apply(this);
+            values.put(key, valueReader.apply(this));
+        }
+        return values;
+    }
+
+    public Set<UUID> readUuidSet() {
+        return readSet(BinaryEventInput::readUuid);
+    }
+
+    public Map<UUID, Integer> readUuidToIntMap() {
+        return readMap(BinaryEventInput::readUuid, BinaryEventInput::readInt);
+    }
+
+    public boolean hasRemaining() {
+        return position < buffer.length;
+    }
+
+    private long readUnsignedVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("malformed varint in event data");
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.flexpoker.framework.event.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Growable byte buffer with the primitives the binary event format is built
+ * from. Integers are written as zig-zag varints so that the small numbers
+ * that make up most events (versions, positions, chip counts) take one or
+ * two bytes. Nullable values are prefixed with a presence byte.
+ */
+public class BinaryEventOutput {
+
+    private byte[] buffer;
+
+    private int position;
+
+    public BinaryEventOutput() {
+        this(128);
+    }
+
+    public BinaryEventOutput(int initialCapacity) {
+        buffer = new byte[initialCapacity];
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+
+    public void writeInt(int value) {
+        writeUnsignedVarLong(((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL);
+    }
+
+    public void writeLong(long value) {
+        writeUnsignedVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public void writeFixedLong(long value) {
+        ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+    }
+
+    public void writeUuid(UUID value) {
+        writeFixedLong(value.getMostSignificantBits());
+        writeFixedLong(value.getLeastSignificantBits());
+    }
+
+    public void writeNullableUuid(UUID value) {
+        writeBoolean(value != null);
+        if (value != null) {
+            writeUuid(value);
+        }
+    }
+
+    public void writeString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeInt(bytes.length);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    public void writeNullableString(String value) {
+        writeBoolean(value != null);
+        if (value != null) {
+            writeString(value);
+        }
+    }
+
+    /**
+     * Enums are written as their ordinal plus one so that zero can stand for
+     * null. Reordering the constants of a stored enum breaks the format.
+     */
+    public void writeEnum(Enum<?> value) {
+        writeByte(value == null ? 0 : value.ordinal() + 1);
+    }
+
+    public <E> void writeCollection(Collection<E> values, BiConsumer<BinaryEventOutput, E> elementWriter) {
+        writeInt(values.size());
+        values.forEach(x -> elementWriter.accept(this, x));
+    }
+
+    public <K, V> void writeMap(Map<K, V> values, BiConsumer<BinaryEventOutput, K> keyWriter,
+            BiConsumer<BinaryEventOutput, V> valueWriter) {
+        writeInt(values.size());
+        values.forEach((key, value) -> {
+            keyWriter.accept(this, key);
+            valueWriter.accept(this, value);
+        });
+    }
+
+    public void writeUuidCollection(Collection<UUID> values) {
+        writeCollection(values, BinaryEventOutput::writeUuid);
+    }
+
+    public void writeUuidToIntMap(Map<UUID, Integer> values) {
+        writeMap(values, BinaryEventOutput::writeUuid, BinaryEventOutput::writeInt);
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void writeUnsignedVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    private void ensureCapacity(int additionalBytes) {
+        if (position + additionalBytes > buffer.length) {
+            buffer = Arrays.copyOf(buffer,
+                    Math.max(buffer.length * 2, position + additionalBytes));
+        }
+    }
+
+}
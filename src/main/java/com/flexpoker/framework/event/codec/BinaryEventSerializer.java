@@ -0,0 +1,106 @@
+package com.flexpoker.framework.event.codec;
+
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.flexpoker.framework.event.BaseEvent;
+import com.flexpoker.framework.event.Event;
+
+/**
+ * Compact binary format for events. Every value starts with a marker byte, a
+ * format version and the registry tag of the event type, followed by the
+ * fields every event has and then the fields written by the type's codec.
+ *
+ * The marker byte can never start a JSON document, which is what lets
+ * {@link MixedFormatEventSerializer} tell the two formats apart when reading.
+ */
+public class BinaryEventSerializer<T extends Event> implements RedisSerializer<T> {
+
+    public static final int MARKER = 0xFE;
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final Field TIME_FIELD;
+
+    static {
+        try {
+            TIME_FIELD = BaseEvent.class.getDeclaredField("time");
+            TIME_FIELD.setAccessible(true);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private final EventTypeRegistry<T> eventTypeRegistry;
+
+    public BinaryEventSerializer(EventTypeRegistry<T> eventTypeRegistry) {
+        this.eventTypeRegistry = eventTypeRegistry;
+    }
+
+    public static boolean isBinary(byte[] bytes) {
+        return bytes != null && bytes.length > 0 && (bytes[0] & 0xFF) == MARKER;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public byte[] serialize(T event) throws SerializationException {
+        if (event == null) {
+            return new byte[0];
+        }
+
+        int tag;
+        try {
+            tag = eventTypeRegistry.tagFor(event.getClass());
+        } catch (IllegalArgumentException e) {
+            throw new SerializationException("could not write binary event", e);
+        }
+
+        BinaryEventOutput out = new BinaryEventOutput();
+        out.writeByte(MARKER);
+        out.writeByte(FORMAT_VERSION);
+        out.writeByte(tag);
+        out.writeUuid(event.getAggregateId());
+        out.writeInt(event.getVersion());
+        out.writeLong(event.getTime().getEpochSecond());
+        out.writeInt(event.getTime().getNano());
+        ((EventCodec<T>) eventTypeRegistry.codecFor(tag)).write(event, out);
+        return out.toByteArray();
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (!isBinary(bytes)) {
+            throw new SerializationException("not a binary event");
+        }
+
+        try {
+            BinaryEventInput in = new BinaryEventInput(bytes, 1);
+            int formatVersion = in.readByte();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new SerializationException("unsupported binary event format version "
+                        + formatVersion);
+            }
+
+            EventCodec<? extends T> codec = eventTypeRegistry.codecFor(in.readByte());
+            UUID aggregateId = in.readUuid();
+            int version = in.readInt();
+            Instant time = Instant.ofEpochSecond(in.readLong(), in.readInt());
+
+            T event = codec.read(aggregateId, version, in);
+            if (event instanceof BaseEvent) {
+                TIME_FIELD.set(event, time);
+            }
+            return event;
+        } catch (IllegalStateException | IllegalArgumentException | IllegalAccessException e) {
+            throw new SerializationException("could not read binary event", e);
+        }
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.flexpoker.framework.event.codec;
+
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Reads and writes the type-specific part of a single event type. The fields
+ * every event has (aggregate id, version and time) are handled by
+ * {@link BinaryEventSerializer}.
+ */
+public interface EventCodec<E> {
+
+    void write(E event, BinaryEventOutput out);
+
+    E read(UUID aggregateId, int version, BinaryEventInput in);
+
+    static <E> EventCodec<E> of(BiConsumer<E, BinaryEventOutput> writer, Reader<E> reader) {
+        return new EventCodec<E>() {
+            @Override
+            public void write(E event, BinaryEventOutput out) {
+                writer.accept(event, out);
+            }
+
+            @Override
+            public E read(UUID aggregateId, int version, BinaryEventInput in) {
+                return reader.read(aggregateId, version, in);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    interface Reader<E> {
+        E read(UUID aggregateId, int version, BinaryEventInput in);
+    }
+
+}
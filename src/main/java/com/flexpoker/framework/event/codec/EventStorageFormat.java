@@ -0,0 +1,7 @@
+package com.flexpoker.framework.event.codec;
+
+public enum EventStorageFormat {
+
+    JSON, BINARY;
+
+}
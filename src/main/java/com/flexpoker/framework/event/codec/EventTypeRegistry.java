@@ -0,0 +1,61 @@
+package com.flexpoker.framework.event.codec;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.flexpoker.framework.event.Event;
+
+/**
+ * Maps each event type to the one-byte tag that identifies it in the binary
+ * format, along with the codec for its fields. Tags are part of the stored
+ * format, so once assigned they must never be reused for a different type.
+ */
+public class EventTypeRegistry<T extends Event> {
+
+    private final Map<Class<?>, Integer> classToTagMap = new HashMap<>();
+
+    private final EventCodec<?>[] codecsByTag = new EventCodec<?>[256];
+
+    public <E extends T> EventTypeRegistry<T> register(int tag, Class<E> eventType,
+            EventCodec<E> codec) {
+        if (tag < 0 || tag > 255) {
+            throw new IllegalArgumentException("tag must fit in a byte: " + tag);
+        }
+        if (codecsByTag[tag] != null) {
+            throw new IllegalArgumentException("tag " + tag + " is already registered");
+        }
+        if (classToTagMap.containsKey(eventType)) {
+            throw new IllegalArgumentException(eventType + " is already registered");
+        }
+        classToTagMap.put(eventType, tag);
+        codecsByTag[tag] = codec;
+        return this;
+    }
+
+    public int tagFor(Class<?> eventType) {
+        Integer tag = classToTagMap.get(eventType);
+        if (tag == null) {
+            throw new IllegalArgumentException("event type not registered: " + eventType);
+        }
+        return tag;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <E extends T> EventCodec<E> codecFor(Class<E> eventType) {
+        return (EventCodec<E>) codecsByTag[tagFor(eventType)];
+    }
+
+    @SuppressWarnings("unchecked")
+    public EventCodec<? extends T> codecFor(int tag) {
+        EventCodec<? extends T> codec = (EventCodec<? extends T>) codecsByTag[tag & 0xFF];
+        if (codec == null) {
+            throw new IllegalArgumentException("no event type registered for tag " + tag);
+        }
+        return codec;
+    }
+
+    public boolean isRegistered(Class<?> eventType) {
+        return classToTagMap.containsKey(eventType);
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.flexpoker.framework.event.codec;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.flexpoker.framework.event.Event;
+
+/**
+ * Writes events in the configured format but reads either format, so a
+ * stream that was partly written before the format was switched (in either
+ * direction) can still be replayed, and can be rewritten in place later.
+ */
+public class MixedFormatEventSerializer<T extends Event> implements RedisSerializer<T> {
+
+    private final EventStorageFormat writeFormat;
+
+    private final BinaryEventSerializer<T> binarySerializer;
+
+    private final RedisSerializer<T> jsonSerializer;
+
+    public MixedFormatEventSerializer(EventStorageFormat writeFormat,
+            BinaryEventSerializer<T> binarySerializer, RedisSerializer<T> jsonSerializer) {
+        this.writeFormat = writeFormat;
+        this.binarySerializer = binarySerializer;
+        this.jsonSerializer = jsonSerializer;
+    }
+
+    public EventStorageFormat getWriteFormat() {
+        return writeFormat;
+    }
+
+    public boolean isInWriteFormat(byte[] bytes) {
+        return BinaryEventSerializer.isBinary(bytes) == (writeFormat == EventStorageFormat.BINARY);
+    }
+
+    @Override
+    public byte[] serialize(T event) throws SerializationException {
+        return writeFormat == EventStorageFormat.BINARY ? binarySerializer.serialize(event)
+                : jsonSerializer.serialize(event);
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        return BinaryEventSerializer.isBinary(bytes) ? binarySerializer.deserialize(bytes)
+                : jsonSerializer.deserialize(bytes);
+    }
+
+}
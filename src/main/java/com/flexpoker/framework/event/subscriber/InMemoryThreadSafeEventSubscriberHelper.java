@@ -1,80 +1,170 @@
 package com.flexpoker.framework.event.subscriber;
 
+import java.time.Duration;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.UUID;
-import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
+import com.flexpoker.framework.concurrent.MailboxExecutor;
+import com.flexpoker.framework.domain.ExpiringIdSet;
 import com.flexpoker.framework.event.Event;
 import com.flexpoker.framework.event.EventHandler;
 
+/**
+ * Hands events to their handlers in version order per aggregate, holding on
+ * to any event that arrives ahead of its predecessors until they show up.
+ * Each aggregate has its own reorder buffer and lock, so events for
+ * different aggregates are handled in parallel.
+ *
+ * By default events are handled on the thread that calls
+ * {@link #receive(Event)}. With {@link #setLaneExecutor(Executor)} each
+ * aggregate instead gets its own lane on the given pool, and receive returns
+ * as soon as the event is queued.
+ *
+ * A lane remembers which version comes next, so it's kept until the
+ * aggregate is done and {@link #retire(UUID)} is called for it. A retired
+ * aggregate is remembered by id alone for a while, and any event it emits in
+ * that time is dropped rather than starting a new lane that would wait
+ * forever for version 1.
+ */
 @Scope("prototype")
 @Component
 public class InMemoryThreadSafeEventSubscriberHelper<T extends Event> {
 
-    private final Map<UUID, PriorityBlockingQueue<T>> listOfEventsNeededToProcess;
+    private static final Duration RETIRED_AGGREGATE_TIME_TO_LIVE = Duration.ofMinutes(10);
 
-    private final Map<UUID, Integer> nextExpectedEventVersion;
+    private static final int MAX_RETIRED_AGGREGATES = 100_000;
+
+    private final Map<UUID, AggregateLane> aggregateLaneMap;
+
+    private final ExpiringIdSet retiredAggregateIds;
 
     private Map<Class<T>, EventHandler<T>> handlerMap;
-    
+
+    private MailboxExecutor<UUID> laneExecutor;
+
     public InMemoryThreadSafeEventSubscriberHelper() {
-        listOfEventsNeededToProcess = new HashMap<>();
-        nextExpectedEventVersion = new HashMap<>();
+        aggregateLaneMap = new ConcurrentHashMap<>();
+        retiredAggregateIds = new ExpiringIdSet(RETIRED_AGGREGATE_TIME_TO_LIVE,
+                MAX_RETIRED_AGGREGATES);
     }
 
     public void receive(T event) {
-        synchronized (this) {
-            listOfEventsNeededToProcess.putIfAbsent(event.getAggregateId(), new PriorityBlockingQueue<>(10, Comparator.comparingInt(Event::getVersion)));
-            nextExpectedEventVersion.putIfAbsent(event.getAggregateId(), Integer.valueOf(1));
-
-            if (isExpectedEvent(event)) {
-                handleEventAndRunAnyOthers(event);
-            } else {
-                listOfEventsNeededToProcess.get(event.getAggregateId()).add(event);
+        if (laneExecutor == null) {
+            handleInOrder(event);
+        } else {
+            laneExecutor.execute(event.getAggregateId(), () -> handleInOrder(event));
+        }
+    }
+
+    private void handleInOrder(T event) {
+        AggregateLane aggregateLane = aggregateLaneMap.computeIfAbsent(
+                event.getAggregateId(),
+                x -> retiredAggregateIds.contains(x) ? null : new AggregateLane());
+        if (aggregateLane == null) {
+            return;
+        }
+
+        boolean drainedAfterRetiring;
+        synchronized (aggregateLane) {
+            if (aggregateLane.retired) {
+                return;
+            }
+
+            if (event.getVersion() < aggregateLane.nextExpectedEventVersion) {
+                // already handled, a redelivery shouldn't block the buffer
+                return;
+            }
+
+            if (event.getVersion() > aggregateLane.nextExpectedEventVersion) {
+                aggregateLane.eventsNeededToProcess.add(event);
+                return;
+            }
+
+            handleEvent(event);
+            aggregateLane.nextExpectedEventVersion++;
+
+            T earliestUnhandledEvent = aggregateLane.eventsNeededToProcess.peek();
+            while (earliestUnhandledEvent != null && earliestUnhandledEvent
+                    .getVersion() <= aggregateLane.nextExpectedEventVersion) {
+                aggregateLane.eventsNeededToProcess.poll();
+                if (earliestUnhandledEvent.getVersion() == aggregateLane.nextExpectedEventVersion) {
+                    handleEvent(earliestUnhandledEvent);
+                    aggregateLane.nextExpectedEventVersion++;
+                }
+                earliestUnhandledEvent = aggregateLane.eventsNeededToProcess.peek();
             }
+
+            drainedAfterRetiring = aggregateLane.eventsNeededToProcess.isEmpty()
+                    && retiredAggregateIds.contains(event.getAggregateId());
+        }
+
+        // outside the lane's lock, since retiring takes the map's lock first
+        if (drainedAfterRetiring) {
+            // a lane kept at retirement for its early events is done with them
+            retireLane(event.getAggregateId());
+        }
+    }
+
+    /**
+     * Drop the lane of an aggregate that won't have any more events, once the
+     * events already received for it are handled. A lane still holding events
+     * that arrived early is kept until they're handled. Events received for
+     * the aggregate after this are dropped.
+     */
+    public void retire(UUID aggregateId) {
+        if (laneExecutor == null) {
+            retireLane(aggregateId);
+        } else {
+            // queued behind the aggregate's events so it can't race them
+            laneExecutor.execute(aggregateId, () -> retireLane(aggregateId));
         }
     }
 
-    private void handleEventAndRunAnyOthers(T event) {
-        handleEvent(event);
-        removeEventFromUnhandleList(event);
-        incrementNextEventVersion(event);
-        handleAnyPreviouslyUnhandledEvents(event);
+    int getNumberOfLanes() {
+        return aggregateLaneMap.size();
     }
 
-    private boolean isExpectedEvent(Event event) {
-        int expectedEventVersion = nextExpectedEventVersion.get(event.getAggregateId())
-                .intValue();
-        return expectedEventVersion == event.getVersion();
+    private void retireLane(UUID aggregateId) {
+        retiredAggregateIds.add(aggregateId);
+        aggregateLaneMap.computeIfPresent(aggregateId, (id, aggregateLane) -> {
+            synchronized (aggregateLane) {
+                if (!aggregateLane.eventsNeededToProcess.isEmpty()) {
+                    return aggregateLane;
+                }
+                aggregateLane.retired = true;
+                return null;
+            }
+        });
     }
 
     private void handleEvent(T event) {
         handlerMap.get(event.getClass()).handle(event);
     }
 
-    private void removeEventFromUnhandleList(Event event) {
-        listOfEventsNeededToProcess.get(event.getAggregateId()).remove(event);
+    public void setHandlerMap(Map<Class<T>, EventHandler<T>> handlerMap) {
+        this.handlerMap = handlerMap;
     }
 
-    private void incrementNextEventVersion(Event event) {
-        nextExpectedEventVersion.compute(event.getAggregateId(),
-                (eventId, eventVersion) -> eventVersion + 1);
+    public void setLaneExecutor(Executor executor) {
+        this.laneExecutor = new MailboxExecutor<>(executor);
     }
 
-    private void handleAnyPreviouslyUnhandledEvents(T event) {
-        T earliestUnrunTableEvent = listOfEventsNeededToProcess.get(event.getAggregateId()).peek();
-        if (earliestUnrunTableEvent != null && isExpectedEvent(earliestUnrunTableEvent)) {
-            handleEventAndRunAnyOthers(earliestUnrunTableEvent);
-        }
-    }
+    private class AggregateLane {
+
+        private final PriorityQueue<T> eventsNeededToProcess = new PriorityQueue<>(
+                Comparator.comparingInt(Event::getVersion));
+
+        private int nextExpectedEventVersion = 1;
+
+        private boolean retired;
 
-    public void setHandlerMap(Map<Class<T>, EventHandler<T>> handlerMap) {
-        this.handlerMap = handlerMap;
     }
 
 }
@@ -43,7 +43,7 @@ public class InMemoryAsyncPushNotificationPublisher implements PushNotificationP
         this.tickActionOnTimerPushNotificationHandler = tickActionOnTimerPushNotificationHandler;
     }
 
-    @Async
+    @Async("pushNotificationExecutor")
     @Override
     public void publish(PushNotification pushNotification) {
         switch (pushNotification.getType()) {
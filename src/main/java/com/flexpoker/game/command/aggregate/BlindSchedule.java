@@ -4,6 +4,10 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 public class BlindSchedule {
 
     private final int numberOfMinutesBetweenLevels;
@@ -15,6 +19,13 @@ public class BlindSchedule {
     private int currentLevel;
 
     public BlindSchedule(int numberOfMinutesBetweenLevels) {
+        this(numberOfMinutesBetweenLevels, 1);
+    }
+
+    @JsonCreator
+    public BlindSchedule(
+            @JsonProperty(value = "numberOfMinutesBetweenLevels") int numberOfMinutesBetweenLevels,
+            @JsonProperty(value = "currentLevel") int currentLevel) {
         this.numberOfMinutesBetweenLevels = numberOfMinutesBetweenLevels;
         levelToAmountsMap = new HashMap<>();
         levelToAmountsMap.put(1, new BlindAmounts(10, 20));
@@ -24,13 +35,14 @@ public class BlindSchedule {
         levelToAmountsMap.put(5, new BlindAmounts(160, 320));
         maxLevel = levelToAmountsMap.keySet().stream()
                 .max(Comparator.naturalOrder()).get();
-        currentLevel = 1;
+        this.currentLevel = currentLevel;
     }
 
     public int getNumberOfMinutesBetweenLevels() {
         return numberOfMinutesBetweenLevels;
     }
 
+    @JsonIgnore
     public BlindAmounts getCurrentBlindAmounts() {
         return levelToAmountsMap.get(currentLevel);
     }
@@ -45,6 +57,7 @@ public class BlindSchedule {
         }
     }
 
+    @JsonIgnore
     public boolean isMaxLevel() {
         return currentLevel == maxLevel;
     }
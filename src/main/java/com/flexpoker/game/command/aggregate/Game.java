@@ -165,6 +165,9 @@ public class Game extends AggregateRoot<GameEvent> {
 
         if (tableIdToPlayerIdsMap.values().stream().flatMap(Collection::stream).count() == 1) {
             // TODO: do something for the winner
+            GameFinishedEvent event = new GameFinishedEvent(aggregateId, ++aggregateVersion);
+            addNewEvent(event);
+            applyCommonEvent(event);
         } else {
             Optional<GameEvent> singleBalancingEvent;
             do {
@@ -188,6 +191,11 @@ public class Game extends AggregateRoot<GameEvent> {
     }
 
     public void increaseBlinds() {
+        // the blind timer keeps going after the game is over
+        if (gameStage == GameStage.FINISHED) {
+            return;
+        }
+
         if (gameStage != GameStage.INPROGRESS) {
             throw new FlexPokerException(
                     "cannot increase blinds if the game isn't in progress");
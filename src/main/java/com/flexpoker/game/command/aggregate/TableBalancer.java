@@ -47,21 +47,27 @@ public class TableBalancer {
                     emptyTable.get().getKey()));
         }
 
+        // the subject table may have been the empty one just removed, in
+        // which case it has nothing left to balance
+        boolean subjectTableExists = tableToPlayersMap.containsKey(subjectTableId);
+
         // check to see if the number of tables is greater than the number it
         // should have. if so, move all the players from this table to other
         // tables starting with the one with the lowest number
-        if (tableToPlayersMap
+        if (subjectTableExists && tableToPlayersMap
                 .size() > getRequiredNumberOfTables(totalNumberOfPlayers)) {
             return createEventToMoveUserFromSubjectTableToAnyMinTable(version,
                     subjectTableId, tableToPlayersMap, playerToChipsAtTableMap);
         }
 
-        if (isTableOutOfBalance(subjectTableId, tableToPlayersMap)) {
+        if (subjectTableExists
+                && isTableOutOfBalance(subjectTableId, tableToPlayersMap)) {
             int tableSize = tableToPlayersMap.get(subjectTableId).size();
 
             // in the min case, pause the table since it needs to get another
-            // player
-            if (tableSize == tableToPlayersMap.values().stream()
+            // player. one that's already paused is left for the check below
+            if (!pausedTablesForBalancing.contains(subjectTableId)
+                    && tableSize == tableToPlayersMap.values().stream()
                     .map(x -> x.size()).min(Integer::compare).get()) {
                 return Optional.of(new TablePausedForBalancingEvent(gameId,
                         version, subjectTableId));
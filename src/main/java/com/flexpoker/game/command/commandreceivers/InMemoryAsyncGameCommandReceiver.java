@@ -8,6 +8,7 @@ import org.springframework.stereotype.Component;
 import com.flexpoker.framework.command.Command;
 import com.flexpoker.framework.command.CommandHandler;
 import com.flexpoker.framework.command.CommandReceiver;
+import com.flexpoker.framework.command.VersionConflictRetry;
 import com.flexpoker.game.command.commands.AttemptToStartNewHandCommand;
 import com.flexpoker.game.command.commands.CreateGameCommand;
 import com.flexpoker.game.command.commands.IncrementBlindsCommand;
@@ -38,9 +39,14 @@ public class InMemoryAsyncGameCommandReceiver implements
         this.incrementBlindsCommandHandler = incrementBlindsCommandHandler;
     }
 
-    @Async
+    @Async("commandExecutor")
     @Override
     public void receive(Command<GameCommandType> command) {
+        VersionConflictRetry.retryOnVersionConflict(() -> handle(command),
+                VersionConflictRetry.MAX_ATTEMPTS_ON_CONFLICT);
+    }
+
+    private void handle(Command<GameCommandType> command) {
         switch (command.getType()) {
         case CreateGame:
             createGameCommandHandler.handle((CreateGameCommand) command);
@@ -2,6 +2,8 @@ package com.flexpoker.game.command.events;
 
 import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.flexpoker.framework.event.BaseEvent;
 import com.flexpoker.game.command.framework.GameEvent;
 
@@ -17,9 +19,14 @@ public class GameCreatedEvent extends BaseEvent implements GameEvent {
 
     private final int numberOfMinutesBetweenBlindLevels;
 
-    public GameCreatedEvent(UUID aggregateId, int version, String gameName,
-            int numberOfPlayers, int numberOfPlayersPerTable, UUID createdByPlayerId,
-            int numberOfMinutesBetweenBlindLevels) {
+    @JsonCreator
+    public GameCreatedEvent(@JsonProperty(value = "aggregateId") UUID aggregateId,
+            @JsonProperty(value = "version") int version,
+            @JsonProperty(value = "gameName") String gameName,
+            @JsonProperty(value = "numberOfPlayers") int numberOfPlayers,
+            @JsonProperty(value = "numberOfPlayersPerTable") int numberOfPlayersPerTable,
+            @JsonProperty(value = "createdByPlayerId") UUID createdByPlayerId,
+            @JsonProperty(value = "numberOfMinutesBetweenBlindLevels") int numberOfMinutesBetweenBlindLevels) {
         super(aggregateId, version);
         this.gameName = gameName;
         this.numberOfPlayers = numberOfPlayers;
@@ -2,12 +2,16 @@ package com.flexpoker.game.command.events;
 
 import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.flexpoker.framework.event.BaseEvent;
 import com.flexpoker.game.command.framework.GameEvent;
 
 public class GameFinishedEvent extends BaseEvent implements GameEvent {
 
-    public GameFinishedEvent(UUID aggregateId, int version) {
+    @JsonCreator
+    public GameFinishedEvent(@JsonProperty(value = "aggregateId") UUID aggregateId,
+            @JsonProperty(value = "version") int version) {
         super(aggregateId, version);
     }
 
@@ -2,6 +2,8 @@ package com.flexpoker.game.command.events;
 
 import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.flexpoker.framework.event.BaseEvent;
 import com.flexpoker.game.command.framework.GameEvent;
 
@@ -9,7 +11,10 @@ public class GameJoinedEvent extends BaseEvent implements GameEvent {
 
     private final UUID playerId;
 
-    public GameJoinedEvent(UUID aggregateId, int version, UUID playerId) {
+    @JsonCreator
+    public GameJoinedEvent(@JsonProperty(value = "aggregateId") UUID aggregateId,
+            @JsonProperty(value = "version") int version,
+            @JsonProperty(value = "playerId") UUID playerId) {
         super(aggregateId, version);
         this.playerId = playerId;
     }
@@ -2,13 +2,17 @@ package com.flexpoker.game.command.events;
 
 import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.flexpoker.framework.event.BaseEvent;
 import com.flexpoker.game.command.framework.GameEvent;
 
 public class GameMovedToStartingStageEvent extends BaseEvent implements
         GameEvent {
 
-    public GameMovedToStartingStageEvent(UUID aggregateId, int version) {
+    @JsonCreator
+    public GameMovedToStartingStageEvent(@JsonProperty(value = "aggregateId") UUID aggregateId,
+            @JsonProperty(value = "version") int version) {
         super(aggregateId, version);
     }
 
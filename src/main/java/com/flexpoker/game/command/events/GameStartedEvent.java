@@ -4,6 +4,8 @@ import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.flexpoker.framework.event.BaseEvent;
 import com.flexpoker.game.command.aggregate.BlindSchedule;
 import com.flexpoker.game.command.framework.GameEvent;
@@ -14,8 +16,11 @@ public class GameStartedEvent extends BaseEvent implements GameEvent {
 
     private final BlindSchedule blindSchedule;
 
-    public GameStartedEvent(UUID aggregateId, int version, Set<UUID> tableIds,
-            BlindSchedule blindSchedule) {
+    @JsonCreator
+    public GameStartedEvent(@JsonProperty(value = "aggregateId") UUID aggregateId,
+            @JsonProperty(value = "version") int version,
+            @JsonProperty(value = "tableIds") Set<UUID> tableIds,
+            @JsonProperty(value = "blindSchedule") BlindSchedule blindSchedule) {
         super(aggregateId, version);
         this.tableIds = new HashSet<>(tableIds);
         this.blindSchedule = blindSchedule;
@@ -5,6 +5,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.flexpoker.framework.event.BaseEvent;
 import com.flexpoker.game.command.framework.GameEvent;
 
@@ -15,8 +17,13 @@ public class GameTablesCreatedAndPlayersAssociatedEvent extends BaseEvent
 
     private final int numberOfPlayersPerTable;
 
-    public GameTablesCreatedAndPlayersAssociatedEvent(UUID aggregateId, int version,
-            Map<UUID, Set<UUID>> tableIdToPlayerIdsMap, int numberOfPlayersPerTable) {
+    @JsonCreator
+    public GameTablesCreatedAndPlayersAssociatedEvent(
+            @JsonProperty(value = "aggregateId") UUID aggregateId,
+            @JsonProperty(value = "version") int version,
+            @JsonProperty(value = "tableIdToPlayerIdsMap")
+                    Map<UUID, Set<UUID>> tableIdToPlayerIdsMap,
+            @JsonProperty(value = "numberOfPlayersPerTable") int numberOfPlayersPerTable) {
         super(aggregateId, version);
         this.tableIdToPlayerIdsMap = new HashMap<>(tableIdToPlayerIdsMap);
         this.numberOfPlayersPerTable = numberOfPlayersPerTable;
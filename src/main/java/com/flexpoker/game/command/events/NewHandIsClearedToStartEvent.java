@@ -2,6 +2,8 @@ package com.flexpoker.game.command.events;
 
 import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.flexpoker.framework.event.BaseEvent;
 import com.flexpoker.game.command.aggregate.BlindAmounts;
 import com.flexpoker.game.command.framework.GameEvent;
@@ -13,8 +15,11 @@ public class NewHandIsClearedToStartEvent extends BaseEvent implements
 
     private final BlindAmounts blinds;
 
-    public NewHandIsClearedToStartEvent(UUID aggregateId, int version, UUID tableId,
-            BlindAmounts blinds) {
+    @JsonCreator
+    public NewHandIsClearedToStartEvent(@JsonProperty(value = "aggregateId") UUID aggregateId,
+            @JsonProperty(value = "version") int version,
+            @JsonProperty(value = "tableId") UUID tableId,
+            @JsonProperty(value = "blinds") BlindAmounts blinds) {
         super(aggregateId, version);
         this.tableId = tableId;
         this.blinds = blinds;
@@ -2,6 +2,8 @@ package com.flexpoker.game.command.events;
 
 import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.flexpoker.framework.event.BaseEvent;
 import com.flexpoker.game.command.framework.GameEvent;
 
@@ -15,8 +17,13 @@ public class PlayerMovedToNewTableEvent extends BaseEvent implements GameEvent {
 
     private final int chips;
 
-    public PlayerMovedToNewTableEvent(UUID aggregateId, int version,
-            UUID fromTableId, UUID toTableId, UUID playerId, int chips) {
+    @JsonCreator
+    public PlayerMovedToNewTableEvent(@JsonProperty(value = "aggregateId") UUID aggregateId,
+            @JsonProperty(value = "version") int version,
+            @JsonProperty(value = "fromTableId") UUID fromTableId,
+            @JsonProperty(value = "toTableId") UUID toTableId,
+            @JsonProperty(value = "playerId") UUID playerId,
+            @JsonProperty(value = "chips") int chips) {
         super(aggregateId, version);
         this.fromTableId = fromTableId;
         this.toTableId = toTableId;
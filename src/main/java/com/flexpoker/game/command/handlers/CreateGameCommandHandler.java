@@ -1,8 +1,9 @@
 package com.flexpoker.game.command.handlers;
 
+import java.util.List;
+
 import javax.inject.Inject;
 
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import com.flexpoker.framework.command.CommandHandler;
@@ -31,11 +32,11 @@ public class CreateGameCommandHandler implements CommandHandler<CreateGameComman
         this.gameEventRepository = gameEventRepository;
     }
 
-    @Async
     @Override
     public void handle(CreateGameCommand command) {
         Game game = gameFactory.createNew(command);
-        game.fetchNewEvents().forEach(x -> gameEventRepository.save(x));
-        game.fetchNewEvents().forEach(x -> eventPublisher.publish(x));
+        List<GameEvent> newEvents = game.fetchNewEvents();
+        gameEventRepository.appendAll(newEvents.get(0).getAggregateId(), 0, newEvents);
+        newEvents.forEach(x -> eventPublisher.publish(x));
     }
 }
@@ -4,7 +4,6 @@ import java.util.List;
 
 import javax.inject.Inject;
 
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import com.flexpoker.framework.command.CommandHandler;
@@ -33,14 +32,15 @@ public class JoinGameCommandHandler implements CommandHandler<JoinGameCommand> {
         this.gameEventRepository = gameEventRepository;
     }
 
-    @Async
     @Override
     public void handle(JoinGameCommand command) {
         List<GameEvent> gameEvents = gameEventRepository.fetchAll(command
                 .getAggregateId());
         Game game = gameFactory.createFrom(gameEvents);
         game.joinGame(command.getPlayerId());
-        game.fetchNewEvents().forEach(x -> gameEventRepository.save(x));
-        game.fetchNewEvents().forEach(x -> eventPublisher.publish(x));
+        List<GameEvent> newEvents = game.fetchNewEvents();
+        gameEventRepository.appendAll(command.getAggregateId(), gameEvents.size(),
+                newEvents);
+        newEvents.forEach(x -> eventPublisher.publish(x));
     }
 }
@@ -0,0 +1,125 @@
+package com.flexpoker.game.command.repository;
+
+import com.flexpoker.framework.event.codec.BinaryEventInput;
+import com.flexpoker.framework.event.codec.BinaryEventOutput;
+import com.flexpoker.framework.event.codec.EventCodec;
+import com.flexpoker.framework.event.codec.EventTypeRegistry;
+import com.flexpoker.game.command.aggregate.BlindAmounts;
+import com.flexpoker.game.command.aggregate.BlindSchedule;
+import com.flexpoker.game.command.events.BlindsIncreasedEvent;
+import com.flexpoker.game.command.events.GameCreatedEvent;
+import com.flexpoker.game.command.events.GameFinishedEvent;
+import com.flexpoker.game.command.events.GameJoinedEvent;
+import com.flexpoker.game.command.events.GameMovedToStartingStageEvent;
+import com.flexpoker.game.command.events.GameStartedEvent;
+import com.flexpoker.game.command.events.GameTablesCreatedAndPlayersAssociatedEvent;
+import com.flexpoker.game.command.events.NewHandIsClearedToStartEvent;
+import com.flexpoker.game.command.events.PlayerBustedGameEvent;
+import com.flexpoker.game.command.events.PlayerMovedToNewTableEvent;
+import com.flexpoker.game.command.events.TablePausedForBalancingEvent;
+import com.flexpoker.game.command.events.TableRemovedEvent;
+import com.flexpoker.game.command.events.TableResumedAfterBalancingEvent;
+import com.flexpoker.game.command.framework.GameEvent;
+
+/**
+ * Binary codecs for every {@link GameEvent}. The tags below are part of the
+ * stored format: add new event types with new tags, never renumber.
+ */
+public class GameEventCodecs {
+
+    public static EventTypeRegistry<GameEvent> createRegistry() {
+        EventTypeRegistry<GameEvent> registry = new EventTypeRegistry<>();
+
+        registry.register(1, GameCreatedEvent.class, EventCodec.of(
+                (event, out) -> {
+                    out.writeString(event.getGameName());
+                    out.writeInt(event.getNumberOfPlayers());
+                    out.writeInt(event.getNumberOfPlayersPerTable());
+                    out.writeUuid(event.getCreatedByPlayerId());
+                    out.writeInt(event.getNumberOfMinutesBetweenBlindLevels());
+                },
+                (aggregateId, version, in) -> new GameCreatedEvent(aggregateId, version,
+                        in.readString(), in.readInt(), in.readInt(), in.readUuid(),
+                        in.readInt())));
+
+        registry.register(2, GameJoinedEvent.class, EventCodec.of(
+                (event, out) -> out.writeUuid(event.getPlayerId()),
+                (aggregateId, version, in) -> new GameJoinedEvent(aggregateId, version,
+                        in.readUuid())));
+
+        registry.register(3, GameMovedToStartingStageEvent.class, EventCodec.of(
+                (event, out) -> {},
+                (aggregateId, version, in) -> new GameMovedToStartingStageEvent(aggregateId,
+                        version)));
+
+        registry.register(4, GameTablesCreatedAndPlayersAssociatedEvent.class, EventCodec.of(
+                (event, out) -> {
+                    out.writeMap(event.getTableIdToPlayerIdsMap(), BinaryEventOutput::writeUuid,
+                            BinaryEventOutput::writeUuidCollection);
+                    out.writeInt(event.getNumberOfPlayersPerTable());
+                },
+                (aggregateId, version, in) -> new GameTablesCreatedAndPlayersAssociatedEvent(
+                        aggregateId, version,
+                        in.readMap(BinaryEventInput::readUuid, BinaryEventInput::readUuidSet),
+                        in.readInt())));
+
+        registry.register(5, GameStartedEvent.class, EventCodec.of(
+                (event, out) -> {
+                    out.writeUuidCollection(event.getTableIds());
+                    out.writeInt(event.getBlindSchedule().getNumberOfMinutesBetweenLevels());
+                    out.writeInt(event.getBlindSchedule().getCurrentLevel());
+                },
+                (aggregateId, version, in) -> new GameStartedEvent(aggregateId, version,
+                        in.readUuidSet(), new BlindSchedule(in.readInt(), in.readInt()))));
+
+        registry.register(6, NewHandIsClearedToStartEvent.class, EventCodec.of(
+                (event, out) -> {
+                    out.writeUuid(event.getTableId());
+                    out.writeInt(event.getBlinds().getSmallBlind());
+                    out.writeInt(event.getBlinds().getBigBlind());
+                },
+                (aggregateId, version, in) -> new NewHandIsClearedToStartEvent(aggregateId,
+                        version, in.readUuid(), new BlindAmounts(in.readInt(), in.readInt()))));
+
+        registry.register(7, BlindsIncreasedEvent.class, EventCodec.of(
+                (event, out) -> {},
+                (aggregateId, version, in) -> new BlindsIncreasedEvent(aggregateId, version)));
+
+        registry.register(8, TablePausedForBalancingEvent.class, EventCodec.of(
+                (event, out) -> out.writeUuid(event.getTableId()),
+                (aggregateId, version, in) -> new TablePausedForBalancingEvent(aggregateId,
+                        version, in.readUuid())));
+
+        registry.register(9, TableResumedAfterBalancingEvent.class, EventCodec.of(
+                (event, out) -> out.writeUuid(event.getTableId()),
+                (aggregateId, version, in) -> new TableResumedAfterBalancingEvent(aggregateId,
+                        version, in.readUuid())));
+
+        registry.register(10, TableRemovedEvent.class, EventCodec.of(
+                (event, out) -> out.writeUuid(event.getTableId()),
+                (aggregateId, version, in) -> new TableRemovedEvent(aggregateId, version,
+                        in.readUuid())));
+
+        registry.register(11, PlayerMovedToNewTableEvent.class, EventCodec.of(
+                (event, out) -> {
+                    out.writeUuid(event.getFromTableId());
+                    out.writeUuid(event.getToTableId());
+                    out.writeUuid(event.getPlayerId());
+                    out.writeInt(event.getChips());
+                },
+                (aggregateId, version, in) -> new PlayerMovedToNewTableEvent(aggregateId,
+                        version, in.readUuid(), in.readUuid(), in.readUuid(), in.readInt())));
+
+        registry.register(12, PlayerBustedGameEvent.class, EventCodec.of(
+                (event, out) -> out.writeUuid(event.getPlayerId()),
+                (aggregateId, version, in) -> new PlayerBustedGameEvent(aggregateId, version,
+                        in.readUuid())));
+
+        registry.register(13, GameFinishedEvent.class, EventCodec.of(
+                (event, out) -> {},
+                (aggregateId, version, in) -> new GameFinishedEvent(aggregateId, version)));
+
+        return registry;
+    }
+
+}
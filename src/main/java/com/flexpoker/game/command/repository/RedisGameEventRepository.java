@@ -0,0 +1,32 @@
+package com.flexpoker.game.command.repository;
+
+import javax.inject.Inject;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Repository;
+
+import com.flexpoker.framework.event.AbstractRedisEventRepository;
+import com.flexpoker.game.command.framework.GameEvent;
+
+@Profile("prod")
+@Repository
+@ManagedResource(objectName = "flexpoker:name=redisGameEventRepository")
+public class RedisGameEventRepository extends AbstractRedisEventRepository<GameEvent>
+        implements GameEventRepository {
+
+    private static final String GAME_EVENT_NAMESPACE = "game-event:";
+
+    public static final String STORAGE_FORMAT_PROPERTY = "flexpoker.redis.game-event-format";
+
+    @Inject
+    public RedisGameEventRepository(RedisTemplate<String, GameEvent> redisTemplate,
+            Environment environment) {
+        super(GAME_EVENT_NAMESPACE, redisTemplate, GameEvent.class,
+                GameEventCodecs.createRegistry(),
+                writeFormat(environment, STORAGE_FORMAT_PROPERTY));
+    }
+
+}
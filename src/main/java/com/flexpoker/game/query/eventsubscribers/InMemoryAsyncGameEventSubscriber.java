@@ -4,21 +4,30 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.Executor;
 
 import javax.inject.Inject;
 
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 import com.flexpoker.framework.event.Event;
 import com.flexpoker.framework.event.EventHandler;
 import com.flexpoker.framework.event.subscriber.EventSubscriber;
 import com.flexpoker.framework.event.subscriber.InMemoryThreadSafeEventSubscriberHelper;
+import com.flexpoker.game.command.events.BlindsIncreasedEvent;
 import com.flexpoker.game.command.events.GameCreatedEvent;
+import com.flexpoker.game.command.events.GameFinishedEvent;
 import com.flexpoker.game.command.events.GameJoinedEvent;
 import com.flexpoker.game.command.events.GameMovedToStartingStageEvent;
 import com.flexpoker.game.command.events.GameStartedEvent;
+import com.flexpoker.game.command.events.GameTablesCreatedAndPlayersAssociatedEvent;
+import com.flexpoker.game.command.events.NewHandIsClearedToStartEvent;
 import com.flexpoker.game.command.events.PlayerBustedGameEvent;
+import com.flexpoker.game.command.events.PlayerMovedToNewTableEvent;
+import com.flexpoker.game.command.events.TablePausedForBalancingEvent;
+import com.flexpoker.game.command.events.TableRemovedEvent;
+import com.flexpoker.game.command.events.TableResumedAfterBalancingEvent;
 import com.flexpoker.game.command.framework.GameEvent;
 
 @Component("gameEventSubscriber")
@@ -37,6 +46,10 @@ public class InMemoryAsyncGameEventSubscriber
 
     private final EventHandler<PlayerBustedGameEvent> playerBustedGameEventHandler;
 
+    private final EventHandler<TableRemovedEvent> tableRemovedEventHandler;
+
+    private final EventHandler<GameFinishedEvent> gameFinishedEventHandler;
+
     @Inject
     public InMemoryAsyncGameEventSubscriber(
             InMemoryThreadSafeEventSubscriberHelper inMemoryThreadSafeEventSubscriberHelper,
@@ -44,17 +57,22 @@ public class InMemoryAsyncGameEventSubscriber
             EventHandler<GameJoinedEvent> gameJoinedEventHandler,
             EventHandler<GameMovedToStartingStageEvent> gameMovedToStartingStageEventHandler,
             EventHandler<GameStartedEvent> gameStartedEventHandler,
-            EventHandler<PlayerBustedGameEvent> playerBustedGameEventHandler) {
+            EventHandler<PlayerBustedGameEvent> playerBustedGameEventHandler,
+            EventHandler<TableRemovedEvent> tableRemovedEventHandler,
+            EventHandler<GameFinishedEvent> gameFinishedEventHandler,
+            @Qualifier("projectionExecutor") Executor projectionExecutor) {
         this.inMemoryThreadSafeEventSubscriberHelper = inMemoryThreadSafeEventSubscriberHelper;
         this.gameCreatedEventHandler = gameCreatedEventHandler;
         this.gameJoinedEventHandler = gameJoinedEventHandler;
         this.gameMovedToStartingStageEventHandler = gameMovedToStartingStageEventHandler;
         this.gameStartedEventHandler = gameStartedEventHandler;
         this.playerBustedGameEventHandler = playerBustedGameEventHandler;
+        this.tableRemovedEventHandler = tableRemovedEventHandler;
+        this.gameFinishedEventHandler = gameFinishedEventHandler;
         this.inMemoryThreadSafeEventSubscriberHelper.setHandlerMap(createEventHandlerMap());
+        this.inMemoryThreadSafeEventSubscriberHelper.setLaneExecutor(projectionExecutor);
     }
 
-    @Async
     @Override
     public void receive(GameEvent event) {
         inMemoryThreadSafeEventSubscriberHelper.receive(event);
@@ -62,6 +80,9 @@ public class InMemoryAsyncGameEventSubscriber
 
     private Map<Class<? extends Event>, EventHandler<? extends Event>> createEventHandlerMap() {
         Map<Class<? extends Event>, EventHandler<? extends Event>> eventHandlerMap = new HashMap<>();
+        // every game event needs an entry, even if there's nothing to do for
+        // it, or the lane would stop at it and hold everything after it
+        eventHandlerMap.put(BlindsIncreasedEvent.class, x -> {});
         eventHandlerMap.put(GameCreatedEvent.class, gameCreatedEventHandler);
         eventHandlerMap.put(GameJoinedEvent.class, gameJoinedEventHandler);
         eventHandlerMap.put(GameMovedToStartingStageEvent.class, gameMovedToStartingStageEventHandler);
@@ -75,7 +96,17 @@ public class InMemoryAsyncGameEventSubscriber
             };
             timer.schedule(timerTask, 10000);
         });
+        eventHandlerMap.put(GameTablesCreatedAndPlayersAssociatedEvent.class, x -> {});
+        eventHandlerMap.put(NewHandIsClearedToStartEvent.class, x -> {});
         eventHandlerMap.put(PlayerBustedGameEvent.class, playerBustedGameEventHandler);
+        eventHandlerMap.put(PlayerMovedToNewTableEvent.class, x -> {});
+        eventHandlerMap.put(TablePausedForBalancingEvent.class, x -> {});
+        eventHandlerMap.put(TableRemovedEvent.class, tableRemovedEventHandler);
+        eventHandlerMap.put(TableResumedAfterBalancingEvent.class, x -> {});
+        eventHandlerMap.put(GameFinishedEvent.class, x -> {
+            gameFinishedEventHandler.handle((GameFinishedEvent) x);
+            inMemoryThreadSafeEventSubscriberHelper.retire(x.getAggregateId());
+        });
         return eventHandlerMap;
     }
 
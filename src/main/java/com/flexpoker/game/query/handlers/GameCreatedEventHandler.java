@@ -2,7 +2,6 @@ package com.flexpoker.game.query.handlers;
 
 import javax.inject.Inject;
 
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import com.flexpoker.framework.event.EventHandler;
@@ -32,7 +31,6 @@ public class GameCreatedEventHandler implements EventHandler<GameCreatedEvent> {
         this.pushNotificationPublisher = pushNotificationPublisher;
     }
 
-    @Async
     @Override
     public void handle(GameCreatedEvent event) {
         handleGameListRepository(event);
@@ -0,0 +1,27 @@
+package com.flexpoker.game.query.handlers;
+
+import javax.inject.Inject;
+
+import org.springframework.stereotype.Component;
+
+import com.flexpoker.framework.event.EventHandler;
+import com.flexpoker.game.command.events.GameFinishedEvent;
+import com.flexpoker.pushnotificationhandlers.TableUpdatedPushNotificationHandler;
+
+@Component
+public class GameFinishedEventHandler implements EventHandler<GameFinishedEvent> {
+
+    private final TableUpdatedPushNotificationHandler tableUpdatedPushNotificationHandler;
+
+    @Inject
+    public GameFinishedEventHandler(
+            TableUpdatedPushNotificationHandler tableUpdatedPushNotificationHandler) {
+        this.tableUpdatedPushNotificationHandler = tableUpdatedPushNotificationHandler;
+    }
+
+    @Override
+    public void handle(GameFinishedEvent event) {
+        tableUpdatedPushNotificationHandler.removeGame(event.getAggregateId());
+    }
+
+}
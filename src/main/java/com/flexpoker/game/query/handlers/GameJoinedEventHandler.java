@@ -2,7 +2,6 @@ package com.flexpoker.game.query.handlers;
 
 import javax.inject.Inject;
 
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import com.flexpoker.core.api.chat.SendGameChatMessageCommand;
@@ -47,7 +46,6 @@ public class GameJoinedEventHandler implements EventHandler<GameJoinedEvent> {
         this.loginRepository = loginRepository;
     }
 
-    @Async
     @Override
     public void handle(GameJoinedEvent event) {
         handleGamePlayerRepository(event);
@@ -5,7 +5,6 @@ import java.util.UUID;
 
 import javax.inject.Inject;
 
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import com.flexpoker.core.api.chat.SendGameChatMessageCommand;
@@ -47,7 +46,6 @@ public class GameMovedToStartingStageEventHandler implements
         this.sendGameChatMessageCommand = sendGameChatMessageCommand;
     }
 
-    @Async
     @Override
     public void handle(GameMovedToStartingStageEvent event) {
         Set<UUID> playerIdsForGame = handleOpenGameRepository(event);
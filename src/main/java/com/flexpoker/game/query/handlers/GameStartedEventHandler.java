@@ -5,7 +5,6 @@ import java.util.UUID;
 
 import javax.inject.Inject;
 
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import com.flexpoker.core.api.chat.SendGameChatMessageCommand;
@@ -46,7 +45,6 @@ public class GameStartedEventHandler implements EventHandler<GameStartedEvent> {
         this.sendGameChatMessageCommand = sendGameChatMessageCommand;
     }
 
-    @Async
     @Override
     public void handle(GameStartedEvent event) {
         Set<UUID> playerIdsForGame = handleOpenGameRepository(event);
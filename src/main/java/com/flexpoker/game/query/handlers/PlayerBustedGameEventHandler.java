@@ -2,7 +2,6 @@ package com.flexpoker.game.query.handlers;
 
 import javax.inject.Inject;
 
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import com.flexpoker.core.api.chat.SendGameChatMessageCommand;
@@ -25,7 +24,6 @@ public class PlayerBustedGameEventHandler implements EventHandler<PlayerBustedGa
         this.loginRepository = loginRepository;
     }
 
-    @Async
     @Override
     public void handle(PlayerBustedGameEvent event) {
         handleChat(event);
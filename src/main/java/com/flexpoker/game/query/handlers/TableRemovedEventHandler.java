@@ -0,0 +1,35 @@
+package com.flexpoker.game.query.handlers;
+
+import java.util.List;
+
+import javax.inject.Inject;
+
+import org.springframework.stereotype.Component;
+
+import com.flexpoker.framework.event.EventHandler;
+import com.flexpoker.game.command.events.TableRemovedEvent;
+import com.flexpoker.pushnotificationhandlers.TableUpdatedPushNotificationHandler;
+import com.flexpoker.table.query.eventsubscribers.TableRemovedListener;
+
+@Component
+public class TableRemovedEventHandler implements EventHandler<TableRemovedEvent> {
+
+    private final TableUpdatedPushNotificationHandler tableUpdatedPushNotificationHandler;
+
+    private final List<TableRemovedListener> tableRemovedListeners;
+
+    @Inject
+    public TableRemovedEventHandler(
+            TableUpdatedPushNotificationHandler tableUpdatedPushNotificationHandler,
+            List<TableRemovedListener> tableRemovedListeners) {
+        this.tableUpdatedPushNotificationHandler = tableUpdatedPushNotificationHandler;
+        this.tableRemovedListeners = tableRemovedListeners;
+    }
+
+    @Override
+    public void handle(TableRemovedEvent event) {
+        tableUpdatedPushNotificationHandler.removeTable(event.getTableId());
+        tableRemovedListeners.forEach(x -> x.tableRemoved(event.getTableId()));
+    }
+
+}
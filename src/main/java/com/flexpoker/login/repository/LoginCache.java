@@ -0,0 +1,166 @@
+package com.flexpoker.login.repository;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.inject.Inject;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Usernames and aggregate ids kept in process so that looking one up from
+ * the other doesn't have to go to Redis. Both directions are dropped
+ * together, and once it's full the least recently used pair goes first.
+ *
+ * The size is set with {@code flexpoker.login.cache-size}.
+ */
+@Profile("prod")
+@ManagedResource(objectName = "flexpoker:name=loginCache")
+@Component
+public class LoginCache {
+
+    public static final String CACHE_SIZE_PROPERTY = "flexpoker.login.cache-size";
+
+    private static final int DEFAULT_CACHE_SIZE = 10_000;
+
+    private final int maximumSize;
+
+    private final LinkedHashMap<UUID, String> aggregateIdUsernameMap;
+
+    private final Map<String, UUID> usernameAggregateIdMap;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    @Inject
+    public LoginCache(Environment environment) {
+        this(environment.getProperty(CACHE_SIZE_PROPERTY, Integer.class, DEFAULT_CACHE_SIZE));
+    }
+
+    public LoginCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be at least 1, was "
+                    + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.usernameAggregateIdMap = new HashMap<>();
+        this.aggregateIdUsernameMap = new LinkedHashMap<UUID, String>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, String> eldest) {
+                if (size() > LoginCache.this.maximumSize) {
+                    usernameAggregateIdMap.remove(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized void put(UUID aggregateId, String username) {
+        String previousUsername = aggregateIdUsernameMap.put(aggregateId, username);
+        if (previousUsername != null && !previousUsername.equals(username)) {
+            usernameAggregateIdMap.remove(previousUsername);
+        }
+        UUID previousAggregateId = usernameAggregateIdMap.put(username, aggregateId);
+        if (previousAggregateId != null && !previousAggregateId.equals(aggregateId)) {
+            aggregateIdUsernameMap.remove(previousAggregateId);
+        }
+    }
+
+    /**
+     * @return the cached username, or null if it isn't cached
+     */
+    public synchronized String getUsername(UUID aggregateId) {
+        return count(aggregateIdUsernameMap.get(aggregateId));
+    }
+
+    /**
+     * @return the cached aggregate id, or null if it isn't cached
+     */
+    public synchronized UUID getAggregateId(String username) {
+        UUID aggregateId = usernameAggregateIdMap.get(username);
+        if (aggregateId != null) {
+            // keeps the pair from looking unused when it's only looked up by
+            // username
+            aggregateIdUsernameMap.get(aggregateId);
+        }
+        return count(aggregateId);
+    }
+
+    /**
+     * Like {@link #getAggregateId(String)}, including keeping the pair from
+     * looking unused, but without counting a hit or a miss. For checking
+     * whether the cache needs warming, which isn't a lookup.
+     */
+    public synchronized boolean containsUsername(String username) {
+        UUID aggregateId = usernameAggregateIdMap.get(username);
+        if (aggregateId == null) {
+            return false;
+        }
+        aggregateIdUsernameMap.get(aggregateId);
+        return true;
+    }
+
+    public synchronized void invalidate(UUID aggregateId) {
+        String username = aggregateIdUsernameMap.remove(aggregateId);
+        if (username != null) {
+            usernameAggregateIdMap.remove(username);
+        }
+    }
+
+    @ManagedOperation
+    public synchronized void invalidateUsername(String username) {
+        UUID aggregateId = usernameAggregateIdMap.remove(username);
+        if (aggregateId != null) {
+            aggregateIdUsernameMap.remove(aggregateId);
+        }
+    }
+
+    @ManagedOperation
+    public synchronized void invalidateAll() {
+        aggregateIdUsernameMap.clear();
+        usernameAggregateIdMap.clear();
+    }
+
+    @ManagedAttribute
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    @ManagedAttribute
+    public synchronized int getSize() {
+        return aggregateIdUsernameMap.size();
+    }
+
+    @ManagedAttribute
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    @ManagedAttribute
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    private <T> T count(T cachedValue) {
+        if (cachedValue == null) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return cachedValue;
+    }
+
+}
@@ -27,9 +27,12 @@ public class RedisLoginRepository implements LoginRepository {
 
     private final StringRedisTemplate redisTemplate;
 
+    private final LoginCache loginCache;
+
     @Inject
-    public RedisLoginRepository(StringRedisTemplate redisTemplate) {
+    public RedisLoginRepository(StringRedisTemplate redisTemplate, LoginCache loginCache) {
         this.redisTemplate = redisTemplate;
+        this.loginCache = loginCache;
         addDefaultUsers();
     }
 
@@ -44,6 +47,11 @@ public class RedisLoginRepository implements LoginRepository {
             return null;
         }
 
+        // every action this player takes from here on looks up their id
+        if (!loginCache.containsUsername(username)) {
+            cacheAggregateIdFromRedis(username);
+        }
+
         // TODO: change these to not use default positive values, getting all of
         // the data from Redis instead
         UserDetails userDetails = new UserDetails() {
@@ -97,9 +105,15 @@ public class RedisLoginRepository implements LoginRepository {
 
     @Override
     public UUID fetchAggregateIdByUsername(String username) {
+        UUID aggregateId = loginCache.getAggregateId(username);
+        if (aggregateId != null) {
+            return aggregateId;
+        }
         String stringAggregateId = redisTemplate.opsForValue().get(
                 LOGIN_ID_NAMESPACE + username);
-        return UUID.fromString(stringAggregateId);
+        aggregateId = UUID.fromString(stringAggregateId);
+        loginCache.put(aggregateId, username);
+        return aggregateId;
     }
 
     @Override
@@ -108,12 +122,29 @@ public class RedisLoginRepository implements LoginRepository {
                 aggregateId.toString());
         redisTemplate.opsForValue().set(AGGREGATE_ID_USERNAME_NAMESPACE + aggregateId,
                 username);
+        loginCache.put(aggregateId, username);
     }
 
     @Override
     public String fetchUsernameByAggregateId(UUID aggregateId) {
-        return redisTemplate.opsForValue().get(
+        String username = loginCache.getUsername(aggregateId);
+        if (username != null) {
+            return username;
+        }
+        username = redisTemplate.opsForValue().get(
                 AGGREGATE_ID_USERNAME_NAMESPACE + aggregateId);
+        if (username != null) {
+            loginCache.put(aggregateId, username);
+        }
+        return username;
+    }
+
+    private void cacheAggregateIdFromRedis(String username) {
+        String stringAggregateId = redisTemplate.opsForValue().get(
+                LOGIN_ID_NAMESPACE + username);
+        if (stringAggregateId != null) {
+            loginCache.put(UUID.fromString(stringAggregateId), username);
+        }
     }
 
     private void addDefaultUsers() {
@@ -3,23 +3,83 @@ package com.flexpoker.model.card;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+/**
+ * A playing card. The 52 cards of a standard deck have canonical ids
+ * {@code suit.ordinal() * 13 + rank.ordinal()} and a shared instance each,
+ * available through {@link #valueOf(int)}. Hot paths can work with the
+ * primitive forms instead: the canonical id as a byte, and sets of cards as a
+ * long with bit {@code id} set for each card (see {@link #maskOf(Card)}).
+ */
 public class Card implements Comparable<Card> {
 
+    public static final int NUMBER_OF_CARDS = 52;
+
+    private static final CardRank[] CARD_RANKS = CardRank.values();
+
+    private static final CardSuit[] CARD_SUITS = CardSuit.values();
+
+    private static final Card[] CANONICAL_CARDS = new Card[NUMBER_OF_CARDS];
+
+    static {
+        for (int id = 0; id < NUMBER_OF_CARDS; id++) {
+            CANONICAL_CARDS[id] = new Card(id, rankOf(id), suitOf(id));
+        }
+    }
+
     private final int id;
 
     private final CardRank cardRank;
 
     private final CardSuit cardSuit;
 
-    @JsonCreator
-    public Card(@JsonProperty(value = "id") int id,
-            @JsonProperty(value = "cardRank") CardRank cardRank,
-            @JsonProperty(value = "cardSuit") CardSuit cardSuit) {
+    public Card(int id, CardRank cardRank, CardSuit cardSuit) {
         this.id = id;
         this.cardRank = cardRank;
         this.cardSuit = cardSuit;
     }
 
+    /**
+     * Returns the shared instance when the id is the canonical one for the
+     * rank and suit, and a new card otherwise.
+     */
+    @JsonCreator
+    public static Card valueOf(@JsonProperty(value = "id") int id,
+            @JsonProperty(value = "cardRank") CardRank cardRank,
+            @JsonProperty(value = "cardSuit") CardSuit cardSuit) {
+        if (id == idOf(cardRank, cardSuit)) {
+            return CANONICAL_CARDS[id];
+        }
+        return new Card(id, cardRank, cardSuit);
+    }
+
+    public static Card valueOf(int canonicalId) {
+        return CANONICAL_CARDS[canonicalId];
+    }
+
+    public static Card valueOf(CardRank cardRank, CardSuit cardSuit) {
+        return CANONICAL_CARDS[idOf(cardRank, cardSuit)];
+    }
+
+    public static int idOf(CardRank cardRank, CardSuit cardSuit) {
+        return cardSuit.ordinal() * CARD_RANKS.length + cardRank.ordinal();
+    }
+
+    public static CardRank rankOf(int canonicalId) {
+        return CARD_RANKS[canonicalId % CARD_RANKS.length];
+    }
+
+    public static CardSuit suitOf(int canonicalId) {
+        return CARD_SUITS[canonicalId / CARD_RANKS.length];
+    }
+
+    /**
+     * The card's bit in a card set mask. This goes by rank and suit rather
+     * than {@link #getId()}, so it's also right for non-canonical cards.
+     */
+    public static long maskOf(Card card) {
+        return 1L << idOf(card.cardRank, card.cardSuit);
+    }
+
     public int getId() {
         return id;
     }
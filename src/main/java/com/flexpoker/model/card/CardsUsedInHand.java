@@ -36,4 +36,9 @@ public class CardsUsedInHand {
         return pocketCards;
     }
 
+    public long toBoardMask() {
+        return flopCards.toMask() | Card.maskOf(turnCard.getCard())
+                | Card.maskOf(riverCard.getCard());
+    }
+
 }
@@ -32,4 +32,8 @@ public class FlopCards {
         return card3;
     }
 
+    public long toMask() {
+        return Card.maskOf(card1) | Card.maskOf(card2) | Card.maskOf(card3);
+    }
+
 }
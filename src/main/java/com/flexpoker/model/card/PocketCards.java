@@ -1,7 +1,8 @@
 package com.flexpoker.model.card;
 
+import java.util.Objects;
+
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -27,9 +28,13 @@ public class PocketCards {
         return card2;
     }
 
+    public long toMask() {
+        return Card.maskOf(card1) | Card.maskOf(card2);
+    }
+
     @Override
     public int hashCode() {
-        return new HashCodeBuilder().append(card1).append(card2).toHashCode();
+        return 31 * Objects.hashCode(card1) + Objects.hashCode(card2);
     }
 
     @Override
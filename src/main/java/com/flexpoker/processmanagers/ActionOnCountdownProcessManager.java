@@ -36,7 +36,7 @@ public class ActionOnCountdownProcessManager implements ProcessManager<ActionOnC
         scheduledThreadPoolExecutor.setRemoveOnCancelPolicy(true);
     }
 
-    @Async
+    @Async("processManagerExecutor")
     @Override
     public void handle(ActionOnChangedEvent event) {
         clearExistingTimer(event.getAggregateId());
@@ -23,7 +23,7 @@ public class AttemptToStartNewHandForExistingTableProcessManager
         this.gameCommandSender = gameCommandSender;
     }
 
-    @Async
+    @Async("processManagerExecutor")
     @Override
     public void handle(HandCompletedEvent event) {
         AttemptToStartNewHandCommand command = new AttemptToStartNewHandCommand(
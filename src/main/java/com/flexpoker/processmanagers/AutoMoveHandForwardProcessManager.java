@@ -29,7 +29,7 @@ public class AutoMoveHandForwardProcessManager implements
         this.scheduledThreadPoolExecutor = new ScheduledThreadPoolExecutor(16);
     }
 
-    @Async
+    @Async("processManagerExecutor")
     @Override
     public void handle(AutoMoveHandForwardEvent event) {
         scheduledThreadPoolExecutor.schedule(() -> {
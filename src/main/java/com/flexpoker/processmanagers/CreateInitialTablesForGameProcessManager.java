@@ -26,7 +26,7 @@ public class CreateInitialTablesForGameProcessManager implements
         this.tableCommandSender = tableCommandSender;
     }
 
-    @Async
+    @Async("processManagerExecutor")
     @Override
     public void handle(GameTablesCreatedAndPlayersAssociatedEvent event) {
         Consumer<UUID> tableIdConsumer = (UUID tableId) -> {
@@ -26,7 +26,7 @@ public class IncrementBlindsCountdownProcessManager
         this.gameCommandSender = gameCommandSender;
     }
 
-    @Async
+    @Async("processManagerExecutor")
     @Override
     public void handle(GameStartedEvent event) {
         addNewBlindIncrementTimer(event);
@@ -24,7 +24,7 @@ public class MovePlayerBetweenTablesProcessManager
         this.tableCommandSender = tableCommandSender;
     }
 
-    @Async
+    @Async("processManagerExecutor")
     @Override
     public void handle(PlayerMovedToNewTableEvent event) {
         AddPlayerCommand addPlayerTableCommand = new AddPlayerCommand(
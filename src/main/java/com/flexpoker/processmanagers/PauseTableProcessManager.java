@@ -23,7 +23,7 @@ public class PauseTableProcessManager implements
         this.tableCommandSender = tableCommandSender;
     }
 
-    @Async
+    @Async("processManagerExecutor")
     @Override
     public void handle(TablePausedForBalancingEvent event) {
         PauseCommand command = new PauseCommand(
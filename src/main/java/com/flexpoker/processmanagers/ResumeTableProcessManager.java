@@ -23,7 +23,7 @@ public class ResumeTableProcessManager
         this.tableCommandSender = tableCommandSender;
     }
 
-    @Async
+    @Async("processManagerExecutor")
     @Override
     public void handle(TableResumedAfterBalancingEvent event) {
         ResumeCommand command = new ResumeCommand(event.getTableId(),
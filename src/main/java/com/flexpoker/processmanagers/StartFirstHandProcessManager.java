@@ -26,7 +26,7 @@ public class StartFirstHandProcessManager implements ProcessManager<GameStartedE
         this.tableCommandSender = tableCommandSender;
     }
 
-    @Async
+    @Async("processManagerExecutor")
     @Override
     public void handle(GameStartedEvent event) {
         BlindAmounts blindAmounts = event.getBlindSchedule().getCurrentBlindAmounts();
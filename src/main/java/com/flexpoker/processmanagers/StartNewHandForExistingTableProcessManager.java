@@ -23,7 +23,7 @@ public class StartNewHandForExistingTableProcessManager implements
         this.tableCommandSender = tableCommandSender;
     }
 
-    @Async
+    @Async("processManagerExecutor")
     @Override
     public void handle(NewHandIsClearedToStartEvent event) {
         StartNewHandForExistingTableCommand command = new StartNewHandForExistingTableCommand(
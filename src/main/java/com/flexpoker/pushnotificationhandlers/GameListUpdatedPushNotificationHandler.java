@@ -29,7 +29,7 @@ public class GameListUpdatedPushNotificationHandler implements
         this.messagingTemplate = messagingTemplate;
     }
 
-    @Async
+    @Async("pushNotificationExecutor")
     @Override
     public void handle(GameListUpdatedPushNotification pushNotification) {
         List<GameInListDTO> allGames = gameListRepository.fetchAll();
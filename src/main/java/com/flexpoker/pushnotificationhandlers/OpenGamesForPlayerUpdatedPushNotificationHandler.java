@@ -35,7 +35,7 @@ public class OpenGamesForPlayerUpdatedPushNotificationHandler implements
         this.messagingTemplate = messagingTemplate;
     }
 
-    @Async
+    @Async("pushNotificationExecutor")
     @Override
     public void handle(OpenGamesForPlayerUpdatedPushNotification pushNotification) {
         String username = loginRepository.fetchUsernameByAggregateId(pushNotification
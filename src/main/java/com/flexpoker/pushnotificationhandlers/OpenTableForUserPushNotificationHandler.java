@@ -29,7 +29,7 @@ public class OpenTableForUserPushNotificationHandler implements
         this.messagingTemplate = messagingTemplate;
     }
 
-    @Async
+    @Async("pushNotificationExecutor")
     @Override
     public void handle(OpenTableForUserPushNotification pushNotification) {
         String username = loginRepository.fetchUsernameByAggregateId(pushNotification
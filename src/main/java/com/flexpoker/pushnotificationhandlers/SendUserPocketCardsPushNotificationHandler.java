@@ -27,7 +27,7 @@ public class SendUserPocketCardsPushNotificationHandler implements
         this.messagingTemplate = messagingTemplate;
     }
 
-    @Async
+    @Async("pushNotificationExecutor")
     @Override
     public void handle(SendUserPocketCardsPushNotification pushNotification) {
         String username = loginRepository.fetchUsernameByAggregateId(pushNotification
@@ -1,41 +1,246 @@
 package com.flexpoker.pushnotificationhandlers;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
 import javax.inject.Inject;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.env.Environment;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import com.flexpoker.framework.domain.ExpiringIdSet;
 import com.flexpoker.framework.pushnotifier.PushNotificationHandler;
 import com.flexpoker.pushnotifications.TableUpdatedPushNotification;
 import com.flexpoker.table.query.repository.TableRepository;
 import com.flexpoker.util.MessagingConstants;
 import com.flexpoker.web.dto.outgoing.TableDTO;
+import com.flexpoker.web.dto.outgoing.TablePatchDTO;
 
+/**
+ * Sends the table to everyone watching it, but not once per event. The first
+ * notification for a table starts a short window and any that come in during
+ * it are folded into the same send, which is of whatever the table looks like
+ * when the window closes. A table is never sent again unless it's changed
+ * since it last went out.
+ *
+ * Only what changed since the last version sent goes out, as a
+ * {@link TablePatchDTO}. The whole table is sent the first time, and
+ * otherwise a client gets it when subscribing, which is also how a client
+ * that's missed a version catches back up.
+ *
+ * The window is set with {@code flexpoker.push.table-updated-window-millis},
+ * and 0 sends every notification straight away.
+ *
+ * What's kept for a table is dropped once the table is removed from its
+ * game or the game finishes. Only the table's id is remembered after that,
+ * for a while, so that a notification or a send already under way for it
+ * doesn't start tracking it again.
+ */
+@ManagedResource(objectName = "flexpoker:name=tableUpdatedPushNotificationHandler")
 @Component
 public class TableUpdatedPushNotificationHandler implements
         PushNotificationHandler<TableUpdatedPushNotification> {
 
+    public static final String WINDOW_PROPERTY = "flexpoker.push.table-updated-window-millis";
+
+    private static final long DEFAULT_WINDOW_MILLIS = 25;
+
+    private static final Duration REMOVED_TABLE_TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    private static final int MAX_REMOVED_TABLES = 100_000;
+
     private final SimpMessageSendingOperations messagingTemplate;
 
     private final TableRepository tableRepository;
 
+    private final Executor pushNotificationExecutor;
+
+    private final long windowMillis;
+
+    private final ScheduledExecutorService pushWindowScheduler;
+
+    private final Map<UUID, UUID> pendingTableIdToGameIdMap;
+
+    private final Map<UUID, SentTable> sentTableMap;
+
+    private final ExpiringIdSet removedTableIds;
+
+    private final LongAdder receivedCount = new LongAdder();
+
+    private final LongAdder sentCount = new LongAdder();
+
+    private final LongAdder snapshotCount = new LongAdder();
+
     @Inject
     public TableUpdatedPushNotificationHandler(
             SimpMessageSendingOperations messagingTemplate,
-            TableRepository tableRepository) {
+            TableRepository tableRepository,
+            @Qualifier("pushNotificationExecutor") Executor pushNotificationExecutor,
+            @Qualifier("pushWindowScheduler") ScheduledExecutorService pushWindowScheduler,
+            Environment environment) {
         this.messagingTemplate = messagingTemplate;
         this.tableRepository = tableRepository;
+        this.pushNotificationExecutor = pushNotificationExecutor;
+        this.windowMillis = environment.getProperty(WINDOW_PROPERTY, Long.class,
+                DEFAULT_WINDOW_MILLIS);
+        this.pushWindowScheduler = pushWindowScheduler;
+        this.pendingTableIdToGameIdMap = new ConcurrentHashMap<>();
+        this.sentTableMap = new ConcurrentHashMap<>();
+        this.removedTableIds = new ExpiringIdSet(REMOVED_TABLE_TIME_TO_LIVE,
+                MAX_REMOVED_TABLES);
     }
 
-    @Async
     @Override
     public void handle(TableUpdatedPushNotification pushNotification) {
-        TableDTO tableDTO = tableRepository.fetchById(pushNotification.getTableId());
-        messagingTemplate.convertAndSend(
-                String.format(MessagingConstants.TABLE_STATUS,
-                        pushNotification.getGameId(), pushNotification.getTableId()),
-                tableDTO);
+        receivedCount.increment();
+        UUID tableId = pushNotification.getTableId();
+
+        if (windowMillis <= 0) {
+            send(pushNotification.getGameId(), tableId);
+            return;
+        }
+
+        if (pendingTableIdToGameIdMap.putIfAbsent(tableId,
+                pushNotification.getGameId()) == null) {
+            pushWindowScheduler.schedule(
+                    () -> pushNotificationExecutor.execute(() -> flush(tableId)),
+                    windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public void removeTable(UUID tableId) {
+        removedTableIds.add(tableId);
+        pendingTableIdToGameIdMap.remove(tableId);
+        SentTable sentTable = sentTableMap.remove(tableId);
+        if (sentTable != null) {
+            // waits out a send that's under way
+            synchronized (sentTable) {
+                sentTable.removed = true;
+            }
+        }
+    }
+
+    public void removeGame(UUID gameId) {
+        List<UUID> tableIds = new ArrayList<>();
+        pendingTableIdToGameIdMap.forEach((tableId, x) -> {
+            if (x.equals(gameId)) {
+                tableIds.add(tableId);
+            }
+        });
+        sentTableMap.forEach((tableId, x) -> {
+            if (x.gameId.equals(gameId)) {
+                tableIds.add(tableId);
+            }
+        });
+        tableIds.forEach(this::removeTable);
+    }
+
+    @ManagedAttribute
+    public long getWindowMillis() {
+        return windowMillis;
+    }
+
+    @ManagedAttribute
+    public long getReceivedCount() {
+        return receivedCount.sum();
+    }
+
+    @ManagedAttribute
+    public long getSentCount() {
+        return sentCount.sum();
+    }
+
+    @ManagedAttribute
+    public long getSnapshotCount() {
+        return snapshotCount.sum();
+    }
+
+    @ManagedAttribute
+    public long getCoalescedCount() {
+        return receivedCount.sum() - sentCount.sum() - pendingTableIdToGameIdMap.size();
+    }
+
+    @ManagedAttribute
+    public int getPendingCount() {
+        return pendingTableIdToGameIdMap.size();
+    }
+
+    @ManagedAttribute
+    public int getTrackedTableCount() {
+        return sentTableMap.size();
+    }
+
+    private void flush(UUID tableId) {
+        // removed before sending so a notification that comes in while this
+        // one is being sent starts a new window instead of being lost
+        UUID gameId = pendingTableIdToGameIdMap.remove(tableId);
+        if (gameId != null) {
+            send(gameId, tableId);
+        }
+    }
+
+    /**
+     * Fetching and sending under the table's own lock keeps two sends for the
+     * same table from crossing, so the versions a client sees only go up and
+     * each patch starts from the one before it, without holding up sends for
+     * any other table. A table removed after a flush picked it up is
+     * neither sent nor tracked again.
+     */
+    private void send(UUID gameId, UUID tableId) {
+        SentTable sentTable = sentTableMap.computeIfAbsent(tableId,
+                x -> removedTableIds.contains(x) ? null : new SentTable(gameId));
+        if (sentTable == null) {
+            return;
+        }
+        synchronized (sentTable) {
+            if (sentTable.removed) {
+                return;
+            }
+            TableDTO lastSentTable = sentTable.lastSentTable;
+            TableDTO tableDTO = tableRepository.fetchById(tableId);
+            // the table hands out the same snapshot until it changes, and
+            // equity is added to a table without moving it to a new version
+            if (lastSentTable != null && (tableDTO == lastSentTable
+                    || tableDTO.getVersion() < lastSentTable.getVersion())) {
+                return;
+            }
+            String destination = String.format(MessagingConstants.TABLE_STATUS, gameId, tableId);
+            if (lastSentTable == null) {
+                messagingTemplate.convertAndSend(destination, tableDTO);
+                snapshotCount.increment();
+            } else {
+                messagingTemplate.convertAndSend(destination,
+                        TablePatchDTO.createFromVersions(lastSentTable, tableDTO));
+            }
+            sentCount.increment();
+            sentTable.lastSentTable = tableDTO;
+        }
+    }
+
+    private static class SentTable {
+
+        private final UUID gameId;
+
+        private TableDTO lastSentTable;
+
+        private boolean removed;
+
+        SentTable(UUID gameId) {
+            this.gameId = gameId;
+        }
+
     }
 
 }
@@ -21,7 +21,7 @@ public class TickActionOnTimerPushNotificationHandler
         this.messagingTemplate = messagingTemplate;
     }
 
-    @Async
+    @Async("pushNotificationExecutor")
     @Override
     public void handle(TickActionOnTimerPushNotification pushNotification) {
         messagingTemplate.convertAndSend(
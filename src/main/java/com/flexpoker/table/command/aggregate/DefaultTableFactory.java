@@ -7,6 +7,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
+import javax.inject.Inject;
+
 import org.springframework.stereotype.Component;
 
 import com.flexpoker.exception.FlexPokerException;
@@ -14,10 +16,18 @@ import com.flexpoker.table.command.commands.CreateTableCommand;
 import com.flexpoker.table.command.events.TableCreatedEvent;
 import com.flexpoker.table.command.factory.TableFactory;
 import com.flexpoker.table.command.framework.TableEvent;
+import com.flexpoker.table.command.service.HandEvaluatorService;
 
 @Component
 public class DefaultTableFactory implements TableFactory {
 
+    private final HandEvaluatorService handEvaluatorService;
+
+    @Inject
+    public DefaultTableFactory(HandEvaluatorService handEvaluatorService) {
+        this.handEvaluatorService = handEvaluatorService;
+    }
+
     @Override
     public Table createNew(CreateTableCommand command) {
         int numberOfPlayersPerTable = command.getNumberOfPlayersPerTable();
@@ -62,10 +72,17 @@ public class DefaultTableFactory implements TableFactory {
         return table;
     }
 
+    @Override
+    public Table createFrom(TableSnapshot snapshot, List<TableEvent> eventsAfterSnapshot) {
+        Table table = new Table(snapshot, handEvaluatorService);
+        table.applyAllHistoricalEvents(eventsAfterSnapshot);
+        return table;
+    }
+
     private Table createWithGivenInfo(boolean creatingFromEvents,
             UUID aggregateId, UUID gameId, Map<Integer, UUID> seatMap,
             int startingNumberOfChips) {
         return new Table(creatingFromEvents, aggregateId, gameId, seatMap,
-                startingNumberOfChips);
+                startingNumberOfChips, handEvaluatorService);
     }
 }
@@ -2,15 +2,18 @@ package com.flexpoker.table.command.aggregate;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import com.flexpoker.exception.FlexPokerException;
 import com.flexpoker.model.PlayerAction;
+import com.flexpoker.model.card.Card;
 import com.flexpoker.model.card.FlopCards;
 import com.flexpoker.model.card.PocketCards;
 import com.flexpoker.model.card.RiverCard;
@@ -36,6 +39,7 @@ import com.flexpoker.table.command.events.RoundCompletedEvent;
 import com.flexpoker.table.command.events.TurnCardDealtEvent;
 import com.flexpoker.table.command.events.WinnersDeterminedEvent;
 import com.flexpoker.table.command.framework.TableEvent;
+import com.flexpoker.table.command.service.HandEvaluatorService;
 
 public class Hand {
 
@@ -71,7 +75,7 @@ public class Hand {
 
     private HandDealerState handDealerState;
 
-    private final List<HandEvaluation> handEvaluationList;
+    private final Map<UUID, HandEvaluation> handEvaluations;
 
     private final Set<UUID> playersStillInHand;
 
@@ -97,6 +101,8 @@ public class Hand {
 
     private final PotHandler potHandler;
 
+    private final HandEvaluatorService handEvaluatorService;
+
     public Hand(UUID gameId, UUID tableId, UUID entityId, Map<Integer, UUID> seatMap,
             FlopCards flopCards, TurnCard turnCard, RiverCard riverCard,
             int buttonOnPosition, int smallBlindPosition, int bigBlindPosition,
@@ -105,7 +111,8 @@ public class Hand {
             Set<UUID> playersStillInHand, List<HandEvaluation> handEvaluationList,
             HandDealerState handDealerState, Map<UUID, Integer> chipsInBack,
             Map<UUID, Integer> chipsInFrontMap, Map<UUID, Integer> callAmountsMap,
-            Map<UUID, Integer> raiseToAmountsMap, int smallBlind, int bigBlind) {
+            Map<UUID, Integer> raiseToAmountsMap, int smallBlind, int bigBlind,
+            HandEvaluatorService handEvaluatorService) {
         this.gameId = gameId;
         this.tableId = tableId;
         this.entityId = entityId;
@@ -118,7 +125,8 @@ public class Hand {
         this.bigBlindPosition = bigBlindPosition;
         this.lastToActPlayerId = lastToActPlayerId;
         this.playerToPocketCardsMap = playerToPocketCardsMap;
-        this.handEvaluationList = handEvaluationList;
+        this.handEvaluations = new HashMap<>();
+        handEvaluationList.forEach(x -> handEvaluations.put(x.getPlayerId(), x));
         this.possibleSeatActionsMap = possibleSeatActionsMap;
         this.playersStillInHand = playersStillInHand;
         this.handDealerState = handDealerState;
@@ -128,9 +136,10 @@ public class Hand {
         this.raiseToAmountsMap = raiseToAmountsMap;
         this.smallBlind = smallBlind;
         this.bigBlind = bigBlind;
+        this.handEvaluatorService = handEvaluatorService;
         this.playersToShowCards = new HashSet<>();
         this.potHandler = new PotHandler(gameId, tableId, entityId,
-                handEvaluationList);
+                playersStillInHand);
     }
 
     public List<TableEvent> dealHand(int aggregateVersion, int actionOnPosition) {
@@ -148,7 +157,8 @@ public class Hand {
                 gameId, entityId, flopCards, turnCard, riverCard, buttonOnPosition,
                 smallBlindPosition, bigBlindPosition, lastToActPlayerId, seatMap,
                 playerToPocketCardsMap, possibleSeatActionsMap, playersStillInHand,
-                handEvaluationList, handDealerState, chipsInBackMap, chipsInFrontMap,
+                new ArrayList<>(handEvaluations.values()), handDealerState,
+                chipsInBackMap, chipsInFrontMap,
                 callAmountsMap, raiseToAmountsMap, smallBlind, bigBlind);
         eventsCreated.add(handDealtEvent);
 
@@ -556,6 +566,7 @@ public class Hand {
 
     Optional<WinnersDeterminedEvent> determineWinnersIfAppropriate(int aggregateVersion) {
         if (handDealerState == HandDealerState.COMPLETE) {
+            potHandler.determineWinners(evaluateHandsStillInHand());
             Set<UUID> playersRequiredToShowCards = potHandler.fetchPlayersRequriedToShowCards(playersStillInHand);
             Map<UUID, Integer> playersToChipsWonMap = potHandler.fetchChipsWon(playersStillInHand);
             return Optional.of(new WinnersDeterminedEvent(tableId, aggregateVersion,
@@ -565,6 +576,34 @@ public class Hand {
         return Optional.empty();
     }
 
+    /**
+     * Hands are evaluated at showdown rather than when they're dealt, and only
+     * for the players that are still in, since most hands never get that far.
+     * Evaluations are kept on the hand, along with any that came in with the
+     * {@link HandDealtEvent}, so each player is evaluated at most once.
+     */
+    private Map<UUID, HandEvaluation> evaluateHandsStillInHand() {
+        if (playersStillInHand.size() > 1) {
+            List<UUID> playersToEvaluate = playersStillInHand.stream()
+                    .filter(x -> !handEvaluations.containsKey(x))
+                    .filter(x -> playerToPocketCardsMap.containsKey(x))
+                    .collect(Collectors.toList());
+            if (!playersToEvaluate.isEmpty()) {
+                long[] board = { flopCards.toMask() | Card.maskOf(turnCard.getCard())
+                        | Card.maskOf(riverCard.getCard()) };
+                long[] pocketCards = playersToEvaluate.stream()
+                        .mapToLong(x -> playerToPocketCardsMap.get(x).toMask()).toArray();
+                int[] strengths = handEvaluatorService.evaluateBatch(board, pocketCards);
+                for (int i = 0; i < strengths.length; i++) {
+                    HandEvaluation handEvaluation = HandEvaluation.fromStrength(strengths[i]);
+                    handEvaluation.setPlayerId(playersToEvaluate.get(i));
+                    handEvaluations.put(playersToEvaluate.get(i), handEvaluation);
+                }
+            }
+        }
+        return handEvaluations;
+    }
+
     private void addToChipsInBack(UUID playerId, int chipsToAdd) {
         int currentAmount = chipsInBackMap.get(playerId).intValue();
         chipsInBackMap.put(playerId, Integer.valueOf(currentAmount + chipsToAdd));
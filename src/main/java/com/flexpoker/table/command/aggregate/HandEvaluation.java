@@ -2,11 +2,49 @@ package com.flexpoker.table.command.aggregate;
 
 import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.flexpoker.model.HandRanking;
 import com.flexpoker.model.card.CardRank;
 
 public class HandEvaluation implements Comparable<HandEvaluation> {
 
+    private static final HandRanking[] HAND_RANKINGS = HandRanking.values();
+
+    private static final CardRank[] CARD_RANKS = CardRank.values();
+
+    private static final int HAND_RANKING_SHIFT = 24;
+
+    private static final int PRIMARY_SHIFT = 20;
+
+    private static final int SECONDARY_SHIFT = 16;
+
+    private static final int FIRST_KICKER_SHIFT = 12;
+
+    private static final int SECOND_KICKER_SHIFT = 8;
+
+    private static final int THIRD_KICKER_SHIFT = 4;
+
+    private static final int FOURTH_KICKER_SHIFT = 0;
+
+    /**
+     * The nibbles of the strength key that count for each hand ranking, in
+     * {@link HandRanking} order. Ranks that don't decide a hand of that
+     * ranking are left out so they can't break a tie.
+     */
+    private static final int[] RANKS_USED = {
+            0xF0FFFF, // high card: primary rank and four kickers
+            0xF0FFF0, // one pair: pair and three kickers
+            0xFFF000, // two pair: both pairs and a kicker
+            0xF0FF00, // three of a kind: trips and two kickers
+            0xF00000, // straight: high card
+            0xF0FFFF, // flush: all five ranks
+            0xFF0000, // full house: trips and pair
+            0xF0F000, // four of a kind: quads and a kicker
+            0xF00000 // straight flush: high card
+    };
+
+    private static final int NOT_CALCULATED = -1;
+
     private UUID playerId;
 
     private HandRanking handRanking;
@@ -23,6 +61,26 @@ public class HandEvaluation implements Comparable<HandEvaluation> {
 
     private CardRank fourthKicker;
 
+    private int strength = NOT_CALCULATED;
+
+    /**
+     * Create an evaluation from its strength key, which is also how the
+     * lookup-table evaluator packs its results.
+     */
+    public static HandEvaluation fromStrength(int strength) {
+        HandEvaluation handEvaluation = new HandEvaluation();
+        handEvaluation.handRanking = HAND_RANKINGS[strength >>> HAND_RANKING_SHIFT];
+        handEvaluation.primaryCardRank = cardRank(strength, PRIMARY_SHIFT);
+        handEvaluation.secondaryCardRank = cardRank(strength, SECONDARY_SHIFT);
+        handEvaluation.firstKicker = cardRank(strength, FIRST_KICKER_SHIFT);
+        handEvaluation.secondKicker = cardRank(strength, SECOND_KICKER_SHIFT);
+        handEvaluation.thirdKicker = cardRank(strength, THIRD_KICKER_SHIFT);
+        handEvaluation.fourthKicker = cardRank(strength, FOURTH_KICKER_SHIFT);
+        handEvaluation.strength = strength & RANKS_USED[handEvaluation.handRanking.ordinal()]
+                | handEvaluation.handRanking.ordinal() << HAND_RANKING_SHIFT;
+        return handEvaluation;
+    }
+
     public UUID getPlayerId() {
         return playerId;
     }
@@ -37,6 +95,7 @@ public class HandEvaluation implements Comparable<HandEvaluation> {
 
     public void setHandRanking(HandRanking handRanking) {
         this.handRanking = handRanking;
+        strength = NOT_CALCULATED;
     }
 
     public CardRank getPrimaryCardRank() {
@@ -45,6 +104,7 @@ public class HandEvaluation implements Comparable<HandEvaluation> {
 
     public void setPrimaryCardRank(CardRank primaryCardRank) {
         this.primaryCardRank = primaryCardRank;
+        strength = NOT_CALCULATED;
     }
 
     public CardRank getSecondaryCardRank() {
@@ -53,6 +113,7 @@ public class HandEvaluation implements Comparable<HandEvaluation> {
 
     public void setSecondaryCardRank(CardRank secondaryCardRank) {
         this.secondaryCardRank = secondaryCardRank;
+        strength = NOT_CALCULATED;
     }
 
     public CardRank getFirstKicker() {
@@ -61,6 +122,7 @@ public class HandEvaluation implements Comparable<HandEvaluation> {
 
     public void setFirstKicker(CardRank firstKicker) {
         this.firstKicker = firstKicker;
+        strength = NOT_CALCULATED;
     }
 
     public CardRank getSecondKicker() {
@@ -69,6 +131,7 @@ public class HandEvaluation implements Comparable<HandEvaluation> {
 
     public void setSecondKicker(CardRank secondKicker) {
         this.secondKicker = secondKicker;
+        strength = NOT_CALCULATED;
     }
 
     public CardRank getThirdKicker() {
@@ -77,6 +140,7 @@ public class HandEvaluation implements Comparable<HandEvaluation> {
 
     public void setThirdKicker(CardRank thirdKicker) {
         this.thirdKicker = thirdKicker;
+        strength = NOT_CALCULATED;
     }
 
     public CardRank getFourthKicker() {
@@ -85,124 +149,41 @@ public class HandEvaluation implements Comparable<HandEvaluation> {
 
     public void setFourthKicker(CardRank fourthKicker) {
         this.fourthKicker = fourthKicker;
+        strength = NOT_CALCULATED;
+    }
+
+    /**
+     * A key that orders evaluations the same way {@link #compareTo} does, one
+     * nibble each for the hand ranking and the ranks that decide between two
+     * hands of that ranking, with a rank stored as its ordinal plus one.
+     */
+    @JsonIgnore
+    public int getStrength() {
+        if (strength == NOT_CALCULATED) {
+            int ranks = nibble(primaryCardRank, PRIMARY_SHIFT)
+                    | nibble(secondaryCardRank, SECONDARY_SHIFT)
+                    | nibble(firstKicker, FIRST_KICKER_SHIFT)
+                    | nibble(secondKicker, SECOND_KICKER_SHIFT)
+                    | nibble(thirdKicker, THIRD_KICKER_SHIFT)
+                    | nibble(fourthKicker, FOURTH_KICKER_SHIFT);
+            strength = handRanking.ordinal() << HAND_RANKING_SHIFT
+                    | ranks & RANKS_USED[handRanking.ordinal()];
+        }
+        return strength;
     }
 
     @Override
     public int compareTo(HandEvaluation otherHandEvaluation) {
-        if (handRanking != otherHandEvaluation.handRanking) {
-            return handRanking.compareTo(otherHandEvaluation.handRanking);
-        }
-
-        switch (handRanking) {
-        case HIGH_CARD:
-            return highCardCompareTo(otherHandEvaluation);
-        case ONE_PAIR:
-            return onePairCompareTo(otherHandEvaluation);
-        case TWO_PAIR:
-            return twoPairCompareTo(otherHandEvaluation);
-        case THREE_OF_A_KIND:
-            return threeOfAKindCompareTo(otherHandEvaluation);
-        case STRAIGHT:
-            return straightCompareTo(otherHandEvaluation);
-        case FLUSH:
-            return flushCompareTo(otherHandEvaluation);
-        case FULL_HOUSE:
-            return fullHouseCompareTo(otherHandEvaluation);
-        case FOUR_OF_A_KIND:
-            return fourOfAKindCompareTo(otherHandEvaluation);
-        case STRAIGHT_FLUSH:
-            return straightFlushCompareTo(otherHandEvaluation);
-        default:
-            throw new IllegalArgumentException("The given HandEvaluation "
-                    + "could not be correctly compared.");
-        }
-    }
-
-    private int highCardCompareTo(HandEvaluation otherHandEvaluation) {
-        if (primaryCardRank.equals(otherHandEvaluation.primaryCardRank)) {
-            if (firstKicker.equals(otherHandEvaluation.firstKicker)) {
-                if (secondKicker.equals(otherHandEvaluation.secondKicker)) {
-                    if (thirdKicker.equals(otherHandEvaluation.thirdKicker)) {
-                        return fourthKicker.compareTo(otherHandEvaluation.fourthKicker);
-                    }
-                    return thirdKicker.compareTo(otherHandEvaluation.thirdKicker);
-                }
-                return secondKicker.compareTo(otherHandEvaluation.secondKicker);
-            }
-            return firstKicker.compareTo(otherHandEvaluation.firstKicker);
-        }
-        return primaryCardRank.compareTo(otherHandEvaluation.primaryCardRank);
-    }
-
-    private int onePairCompareTo(HandEvaluation otherHandEvaluation) {
-        if (primaryCardRank.equals(otherHandEvaluation.primaryCardRank)) {
-            if (firstKicker.equals(otherHandEvaluation.firstKicker)) {
-                if (secondKicker.equals(otherHandEvaluation.secondKicker)) {
-                    return thirdKicker.compareTo(otherHandEvaluation.thirdKicker);
-                }
-                return secondKicker.compareTo(otherHandEvaluation.secondKicker);
-            }
-            return firstKicker.compareTo(otherHandEvaluation.firstKicker);
-        }
-        return primaryCardRank.compareTo(otherHandEvaluation.primaryCardRank);
-    }
-
-    private int twoPairCompareTo(HandEvaluation otherHandEvaluation) {
-        if (primaryCardRank.equals(otherHandEvaluation.primaryCardRank)) {
-            if (secondaryCardRank.equals(otherHandEvaluation.secondaryCardRank)) {
-                return firstKicker.compareTo(otherHandEvaluation.firstKicker);
-            }
-            return secondaryCardRank.compareTo(otherHandEvaluation.secondaryCardRank);
-        }
-        return primaryCardRank.compareTo(otherHandEvaluation.primaryCardRank);
-    }
-
-    private int threeOfAKindCompareTo(HandEvaluation otherHandEvaluation) {
-        if (primaryCardRank.equals(otherHandEvaluation.primaryCardRank)) {
-            if (firstKicker.equals(otherHandEvaluation.firstKicker)) {
-                return secondKicker.compareTo(otherHandEvaluation.secondKicker);
-            }
-            return firstKicker.compareTo(otherHandEvaluation.firstKicker);
-        }
-        return primaryCardRank.compareTo(otherHandEvaluation.primaryCardRank);
+        return Integer.compare(getStrength(), otherHandEvaluation.getStrength());
     }
 
-    private int straightCompareTo(HandEvaluation otherHandEvaluation) {
-        return primaryCardRank.compareTo(otherHandEvaluation.primaryCardRank);
-    }
-
-    private int flushCompareTo(HandEvaluation otherHandEvaluation) {
-        if (primaryCardRank.equals(otherHandEvaluation.primaryCardRank)) {
-            if (firstKicker.equals(otherHandEvaluation.firstKicker)) {
-                if (secondKicker.equals(otherHandEvaluation.secondKicker)) {
-                    if (thirdKicker.equals(otherHandEvaluation.thirdKicker)) {
-                        return fourthKicker.compareTo(otherHandEvaluation.fourthKicker);
-                    }
-                    return thirdKicker.compareTo(otherHandEvaluation.thirdKicker);
-                }
-                return secondKicker.compareTo(otherHandEvaluation.secondKicker);
-            }
-            return firstKicker.compareTo(otherHandEvaluation.firstKicker);
-        }
-        return primaryCardRank.compareTo(otherHandEvaluation.primaryCardRank);
-    }
-
-    private int fullHouseCompareTo(HandEvaluation otherHandEvaluation) {
-        if (primaryCardRank.equals(otherHandEvaluation.primaryCardRank)) {
-            return secondaryCardRank.compareTo(otherHandEvaluation.secondaryCardRank);
-        }
-        return primaryCardRank.compareTo(otherHandEvaluation.primaryCardRank);
-    }
-
-    private int fourOfAKindCompareTo(HandEvaluation otherHandEvaluation) {
-        if (primaryCardRank.equals(otherHandEvaluation.primaryCardRank)) {
-            return firstKicker.compareTo(otherHandEvaluation.firstKicker);
-        }
-        return primaryCardRank.compareTo(otherHandEvaluation.primaryCardRank);
+    private static int nibble(CardRank cardRank, int shift) {
+        return cardRank == null ? 0 : (cardRank.ordinal() + 1) << shift;
     }
 
-    private int straightFlushCompareTo(HandEvaluation otherHandEvaluation) {
-        return primaryCardRank.compareTo(otherHandEvaluation.primaryCardRank);
+    private static CardRank cardRank(int strength, int shift) {
+        int nibble = (strength >>> shift) & 0xF;
+        return nibble == 0 ? null : CARD_RANKS[nibble - 1];
     }
 
 }
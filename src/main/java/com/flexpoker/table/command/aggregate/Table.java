@@ -45,6 +45,7 @@ import com.flexpoker.table.command.events.TableResumedEvent;
 import com.flexpoker.table.command.events.TurnCardDealtEvent;
 import com.flexpoker.table.command.events.WinnersDeterminedEvent;
 import com.flexpoker.table.command.framework.TableEvent;
+import com.flexpoker.table.command.service.HandEvaluatorService;
 
 public class Table extends AggregateRoot<TableEvent> {
 
@@ -70,9 +71,13 @@ public class Table extends AggregateRoot<TableEvent> {
 
     private boolean paused;
 
+    private final HandEvaluatorService handEvaluatorService;
+
     protected Table(boolean creatingFromEvents, UUID aggregateId, UUID gameId,
-            Map<Integer, UUID> seatMap, int startingNumberOfChips) {
+            Map<Integer, UUID> seatMap, int startingNumberOfChips,
+            HandEvaluatorService handEvaluatorService) {
         this.aggregateId = aggregateId;
+        this.handEvaluatorService = handEvaluatorService;
         this.gameId = gameId;
         this.seatMap = seatMap;
         this.chipsInBack = new HashMap<>();
@@ -92,6 +97,22 @@ public class Table extends AggregateRoot<TableEvent> {
         }
     }
 
+    protected Table(TableSnapshot snapshot, HandEvaluatorService handEvaluatorService) {
+        this.aggregateId = snapshot.getAggregateId();
+        this.handEvaluatorService = handEvaluatorService;
+        this.aggregateVersion = snapshot.getVersion();
+        this.gameId = snapshot.getGameId();
+        this.seatMap = snapshot.getSeatMap();
+        this.chipsInBack = snapshot.getChipsInBack();
+        this.buttonOnPosition = snapshot.getButtonOnPosition();
+        this.smallBlindPosition = snapshot.getSmallBlindPosition();
+        this.bigBlindPosition = snapshot.getBigBlindPosition();
+        this.paused = snapshot.isPaused();
+
+        methodTable = new HashMap<>();
+        populateMethodTable();
+    }
+
     @Override
     public void applyAllHistoricalEvents(List<TableEvent> events) {
         events.forEach(x -> {
@@ -161,6 +182,24 @@ public class Table extends AggregateRoot<TableEvent> {
         return aggregateId;
     }
 
+    public int getAggregateVersion() {
+        return aggregateVersion;
+    }
+
+    public boolean isHandInProgress() {
+        return currentHand != null;
+    }
+
+    public TableSnapshot createSnapshot() {
+        if (currentHand != null) {
+            throw new IllegalStateException("can't snapshot a table while a hand is in progress");
+        }
+
+        return new TableSnapshot(aggregateId, aggregateVersion, gameId, seatMap,
+                chipsInBack, buttonOnPosition, smallBlindPosition, bigBlindPosition,
+                paused);
+    }
+
     private void applyHandDealtEvent(HandDealtEvent event) {
         buttonOnPosition = event.getButtonOnPosition();
         smallBlindPosition = event.getSmallBlindPosition();
@@ -174,31 +213,29 @@ public class Table extends AggregateRoot<TableEvent> {
                 event.getHandEvaluations(), event.getHandDealerState(),
                 event.getChipsInBack(), event.getChipsInFrontMap(),
                 event.getCallAmountsMap(), event.getRaiseToAmountsMap(),
-                event.getSmallBlind(), event.getBigBlind());
+                event.getSmallBlind(), event.getBigBlind(), handEvaluatorService);
     }
 
     public void startNewHandForNewGame(int smallBlind, int bigBlind,
-            List<Card> shuffledDeckOfCards, CardsUsedInHand cardsUsedInHand,
-            Map<PocketCards, HandEvaluation> handEvaluations) {
+            List<Card> shuffledDeckOfCards, CardsUsedInHand cardsUsedInHand) {
         buttonOnPosition = assignButtonOnForNewGame();
         smallBlindPosition = assignSmallBlindForNewGame();
         bigBlindPosition = assignBigBlindForNewGame();
         int actionOnPosition = assignActionOnForNewHand();
 
         performNewHandCommonLogic(smallBlind, bigBlind, shuffledDeckOfCards,
-                cardsUsedInHand, handEvaluations, actionOnPosition);
+                cardsUsedInHand, actionOnPosition);
     }
 
     public void startNewHandForExistingTable(int smallBlind, int bigBlind,
-            List<Card> shuffledDeckOfCards, CardsUsedInHand cardsUsedInHand,
-            Map<PocketCards, HandEvaluation> handEvaluations) {
+            List<Card> shuffledDeckOfCards, CardsUsedInHand cardsUsedInHand) {
         buttonOnPosition = assignButtonOnForNewHand();
         smallBlindPosition = assignSmallBlindForNewHand();
         bigBlindPosition = assignBigBlindForNewHand();
         int actionOnPosition = assignActionOnForNewHand();
 
         performNewHandCommonLogic(smallBlind, bigBlind, shuffledDeckOfCards,
-                cardsUsedInHand, handEvaluations, actionOnPosition);
+                cardsUsedInHand, actionOnPosition);
     }
 
     private int assignButtonOnForNewGame() {
@@ -254,7 +291,6 @@ public class Table extends AggregateRoot<TableEvent> {
 
     private void performNewHandCommonLogic(int smallBlind, int bigBlind,
             List<Card> shuffledDeckOfCards, CardsUsedInHand cardsUsedInHand,
-            Map<PocketCards, HandEvaluation> handEvaluations,
             int actionOnPosition) {
         CardsShuffledEvent cardsShuffledEvent = new CardsShuffledEvent(aggregateId,
                 ++aggregateVersion, gameId, shuffledDeckOfCards);
@@ -269,7 +305,6 @@ public class Table extends AggregateRoot<TableEvent> {
                     .valueOf(nextToReceivePocketCards));
             playerToPocketCardsMap.put(playerIdAtPosition, pocketCards);
             nextToReceivePocketCards = findNextFilledSeat(nextToReceivePocketCards);
-            handEvaluations.get(pocketCards).setPlayerId(playerIdAtPosition);
         }
 
         Set<UUID> playersStillInHand = seatMap.values().stream().filter(x -> x != null)
@@ -282,9 +317,9 @@ public class Table extends AggregateRoot<TableEvent> {
                 cardsUsedInHand.getFlopCards(), cardsUsedInHand.getTurnCard(),
                 cardsUsedInHand.getRiverCard(), buttonOnPosition, smallBlindPosition,
                 bigBlindPosition, null, playerToPocketCardsMap, possibleSeatActionsMap,
-                playersStillInHand, new ArrayList<>(handEvaluations.values()),
+                playersStillInHand, new ArrayList<>(),
                 HandDealerState.NONE, chipsInBack, new HashMap<>(), new HashMap<>(),
-                new HashMap<>(), smallBlind, bigBlind);
+                new HashMap<>(), smallBlind, bigBlind, handEvaluatorService);
         List<TableEvent> eventsCreated = hand.dealHand(aggregateVersion + 1,
                 actionOnPosition);
         eventsCreated.forEach(x -> {
@@ -419,15 +454,16 @@ public class Table extends AggregateRoot<TableEvent> {
     }
 
     private void removeAnyBustedPlayers() {
-        chipsInBack.entrySet().stream()
+        List<UUID> bustedPlayerIds = chipsInBack.entrySet().stream()
             .filter(x -> x.getValue() == 0)
-            .forEach(x -> {
-                PlayerBustedTableEvent event = new PlayerBustedTableEvent(aggregateId,
-                        aggregateVersion, gameId, x.getKey());
-                addNewEvent(event);
-                applyCommonEvent(event);
-                aggregateVersion++;
-            });
+            .map(x -> x.getKey())
+            .collect(Collectors.toList());
+        bustedPlayerIds.forEach(x -> {
+            PlayerBustedTableEvent event = new PlayerBustedTableEvent(aggregateId,
+                    ++aggregateVersion, gameId, x);
+            addNewEvent(event);
+            applyCommonEvent(event);
+        });
     }
 
     private void finishHandIfAppropriate() {
@@ -0,0 +1,99 @@
+package com.flexpoker.table.command.aggregate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.flexpoker.util.StringUtils;
+
+/**
+ * Point-in-time copy of the table-level state of a {@link Table}. Snapshots
+ * are only taken between hands (right after a hand completes), so there is no
+ * hand state to capture. The version is the version of the last event that
+ * was applied before the snapshot was taken.
+ */
+public class TableSnapshot {
+
+    private final UUID aggregateId;
+
+    private final int version;
+
+    private final UUID gameId;
+
+    private final Map<Integer, UUID> seatMap;
+
+    private final Map<UUID, Integer> chipsInBack;
+
+    private final int buttonOnPosition;
+
+    private final int smallBlindPosition;
+
+    private final int bigBlindPosition;
+
+    private final boolean paused;
+
+    @JsonCreator
+    public TableSnapshot(@JsonProperty(value = "aggregateId") UUID aggregateId,
+            @JsonProperty(value = "version") int version,
+            @JsonProperty(value = "gameId") UUID gameId,
+            @JsonProperty(value = "seatMap") Map<Integer, UUID> seatMap,
+            @JsonProperty(value = "chipsInBack") Map<UUID, Integer> chipsInBack,
+            @JsonProperty(value = "buttonOnPosition") int buttonOnPosition,
+            @JsonProperty(value = "smallBlindPosition") int smallBlindPosition,
+            @JsonProperty(value = "bigBlindPosition") int bigBlindPosition,
+            @JsonProperty(value = "paused") boolean paused) {
+        this.aggregateId = aggregateId;
+        this.version = version;
+        this.gameId = gameId;
+        this.seatMap = new HashMap<>(seatMap);
+        this.chipsInBack = new HashMap<>(chipsInBack);
+        this.buttonOnPosition = buttonOnPosition;
+        this.smallBlindPosition = smallBlindPosition;
+        this.bigBlindPosition = bigBlindPosition;
+        this.paused = paused;
+    }
+
+    public UUID getAggregateId() {
+        return aggregateId;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public UUID getGameId() {
+        return gameId;
+    }
+
+    public Map<Integer, UUID> getSeatMap() {
+        return new HashMap<>(seatMap);
+    }
+
+    public Map<UUID, Integer> getChipsInBack() {
+        return new HashMap<>(chipsInBack);
+    }
+
+    public int getButtonOnPosition() {
+        return buttonOnPosition;
+    }
+
+    public int getSmallBlindPosition() {
+        return smallBlindPosition;
+    }
+
+    public int getBigBlindPosition() {
+        return bigBlindPosition;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.allFieldsToString(this);
+    }
+
+}
@@ -2,12 +2,12 @@ package com.flexpoker.table.command.aggregate.pot;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import com.flexpoker.exception.FlexPokerException;
 import com.flexpoker.table.command.aggregate.HandEvaluation;
@@ -16,8 +16,6 @@ public class Pot {
 
     private final UUID entityId;
 
-    private final Set<HandEvaluation> handEvaluations;
-
     private final Set<UUID> playersInvolved;
 
     private final Map<UUID, Integer> chipsForPlayerToWin;
@@ -26,11 +24,9 @@ public class Pot {
 
     private boolean open;
 
-    public Pot(UUID entityId, Set<HandEvaluation> handEvaluations) {
+    public Pot(UUID entityId, Set<UUID> playersInvolved) {
         this.entityId = entityId;
-        this.handEvaluations = handEvaluations;
-        this.playersInvolved = handEvaluations.stream().map(x -> x.getPlayerId())
-                .collect(Collectors.toSet());
+        this.playersInvolved = new HashSet<>(playersInvolved);
         chipsForPlayerToWin = new HashMap<>();
         open = true;
     }
@@ -53,7 +49,6 @@ public class Pot {
             throw new FlexPokerException("cannot add chips to a closed pot");
         }
         amount += chips;
-        recalculateWinners();
     }
 
     public void removePlayer(UUID playerId) {
@@ -61,8 +56,6 @@ public class Pot {
             throw new FlexPokerException("cannot remove player from a closed pot");
         }
         playersInvolved.remove(playerId);
-        handEvaluations.removeIf(x -> x.getPlayerId().equals(playerId));
-        recalculateWinners();
     }
 
     public boolean isOpen() {
@@ -73,28 +66,44 @@ public class Pot {
         open = false;
     }
 
-    private void recalculateWinners() {
-        List<HandEvaluation> relevantHandEvaluationsForPot = handEvaluations.stream()
-                .filter(x -> playersInvolved.contains(x.getPlayerId()))
-                .sorted((x, y) -> y.compareTo(x))
-                .collect(Collectors.toList());
-
-        HandEvaluation topAssignedHand = null;
+    /**
+     * Splits the pot between the best hands of the players still involved. A
+     * pot with a single player left goes to that player without looking at
+     * any hands, so only contested pots need an evaluation for each player.
+     */
+    public void determineWinners(Map<UUID, HandEvaluation> handEvaluations) {
         List<UUID> winners = new ArrayList<>();
 
-        for (HandEvaluation handEvaluation : relevantHandEvaluationsForPot) {
-            if (topAssignedHand == null || topAssignedHand.compareTo(handEvaluation) == 0) {
-                topAssignedHand = handEvaluation;
-                winners.add(topAssignedHand.getPlayerId());
+        if (playersInvolved.size() == 1) {
+            winners.addAll(playersInvolved);
+        } else {
+            int topStrength = Integer.MIN_VALUE;
+            for (UUID playerId : playersInvolved) {
+                HandEvaluation handEvaluation = handEvaluations.get(playerId);
+                if (handEvaluation == null) {
+                    continue;
+                }
+                int strength = handEvaluation.getStrength();
+                if (strength > topStrength) {
+                    topStrength = strength;
+                    winners.clear();
+                }
+                if (strength == topStrength) {
+                    winners.add(playerId);
+                }
             }
         }
 
+        chipsForPlayerToWin.clear();
+
+        if (winners.isEmpty()) {
+            return;
+        }
+
         int numberOfWinners = winners.size();
         int baseNumberOfChips = amount / numberOfWinners;
         int bonusChips = amount % numberOfWinners;
 
-        chipsForPlayerToWin.clear();
-
         winners.forEach(x -> chipsForPlayerToWin.put(x, baseNumberOfChips));
 
         if (bonusChips >= 1) {
@@ -27,14 +27,14 @@ public class PotHandler {
 
     private final UUID handId;
 
-    private final List<HandEvaluation> handEvaluationList;
+    private final Set<UUID> playersDealtIn;
 
     public PotHandler(UUID gameId, UUID tableId, UUID handId,
-            List<HandEvaluation> handEvaluationList) {
+            Set<UUID> playersDealtIn) {
         this.gameId = gameId;
         this.tableId = tableId;
         this.handId = handId;
-        this.handEvaluationList = handEvaluationList;
+        this.playersDealtIn = new HashSet<>(playersDealtIn);
         pots = new HashSet<>();
     }
 
@@ -57,14 +57,16 @@ public class PotHandler {
     }
 
     public void addNewPot(UUID potId, Set<UUID> playersInvolved) {
-        Set<HandEvaluation> handEvaluationsOfPlayersInPot = handEvaluationList
-                .stream().filter(x -> playersInvolved.contains(x.getPlayerId()))
-                .collect(Collectors.toSet());
-        if (handEvaluationsOfPlayersInPot.isEmpty()) {
+        if (playersInvolved.stream().noneMatch(playersDealtIn::contains)) {
             throw new IllegalArgumentException(
                     "trying to add a new pot with players that are not part of the hand");
         }
-        pots.add(new Pot(potId, handEvaluationsOfPlayersInPot));
+        pots.add(new Pot(potId, playersInvolved.stream()
+                .filter(playersDealtIn::contains).collect(Collectors.toSet())));
+    }
+
+    public void determineWinners(Map<UUID, HandEvaluation> handEvaluations) {
+        pots.forEach(x -> x.determineWinners(handEvaluations));
     }
 
     public Set<UUID> fetchPlayersRequriedToShowCards(Set<UUID> playersStillInHand) {
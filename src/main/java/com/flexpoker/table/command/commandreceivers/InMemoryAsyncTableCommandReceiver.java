@@ -1,13 +1,20 @@
 package com.flexpoker.table.command.commandreceivers;
 
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
 import javax.inject.Inject;
 
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
 import org.springframework.stereotype.Component;
 
 import com.flexpoker.framework.command.Command;
 import com.flexpoker.framework.command.CommandHandler;
 import com.flexpoker.framework.command.CommandReceiver;
+import com.flexpoker.framework.command.VersionConflictRetry;
+import com.flexpoker.framework.concurrent.MailboxExecutor;
 import com.flexpoker.table.command.commands.AddPlayerCommand;
 import com.flexpoker.table.command.commands.AutoMoveHandForwardCommand;
 import com.flexpoker.table.command.commands.CallCommand;
@@ -22,8 +29,15 @@ import com.flexpoker.table.command.commands.ResumeCommand;
 import com.flexpoker.table.command.commands.StartNewHandForExistingTableCommand;
 import com.flexpoker.table.command.commands.StartNewHandForNewGameCommand;
 import com.flexpoker.table.command.commands.TickActionOnTimerCommand;
+import com.flexpoker.table.command.framework.TableCommand;
 import com.flexpoker.table.command.framework.TableCommandType;
 
+/**
+ * Commands are queued in a mailbox per table and drained by a bounded pool of
+ * workers, so commands for the same table are handled one at a time and in
+ * the order they were received while different tables run in parallel.
+ */
+@ManagedResource(objectName = "flexpoker:name=tableCommandReceiver")
 @Component("tableCommandReceiver")
 public class InMemoryAsyncTableCommandReceiver
         implements CommandReceiver<TableCommandType> {
@@ -56,6 +70,8 @@ public class InMemoryAsyncTableCommandReceiver
 
     private final CommandHandler<AutoMoveHandForwardCommand> autoMoveHandForwardCommandHandler;
 
+    private final MailboxExecutor<UUID> tableMailboxExecutor;
+
     @Inject
     public InMemoryAsyncTableCommandReceiver(
             CommandHandler<CreateTableCommand> createTableCommandHandler,
@@ -71,7 +87,8 @@ public class InMemoryAsyncTableCommandReceiver
             CommandHandler<ResumeCommand> resumeCommandHandler,
             CommandHandler<AddPlayerCommand> addPlayerCommandHandler,
             CommandHandler<RemovePlayerCommand> removePlayerCommandHandler,
-            CommandHandler<AutoMoveHandForwardCommand> autoMoveHandForwardCommandHandler) {
+            CommandHandler<AutoMoveHandForwardCommand> autoMoveHandForwardCommandHandler,
+            @Qualifier("commandExecutor") Executor commandExecutor) {
         this.createTableCommandHandler = createTableCommandHandler;
         this.startNewHandForNewGameCommandHandler = startNewHandForNewGameCommandHandler;
         this.startNewHandForExistingTableCommandHandler = startNewHandForExistingTableCommandHandler;
@@ -86,11 +103,33 @@ public class InMemoryAsyncTableCommandReceiver
         this.addPlayerCommandHandler = addPlayerCommandHandler;
         this.removePlayerCommandHandler = removePlayerCommandHandler;
         this.autoMoveHandForwardCommandHandler = autoMoveHandForwardCommandHandler;
+        this.tableMailboxExecutor = new MailboxExecutor<>(commandExecutor);
     }
 
-    @Async
     @Override
     public void receive(Command<TableCommandType> command) {
+        UUID tableId = ((TableCommand) command).getTableId();
+        tableMailboxExecutor.execute(tableId,
+                () -> VersionConflictRetry.retryOnVersionConflict(() -> handle(command),
+                        VersionConflictRetry.MAX_ATTEMPTS_ON_CONFLICT));
+    }
+
+    @ManagedAttribute
+    public int getActiveMailboxCount() {
+        return tableMailboxExecutor.getActiveMailboxCount();
+    }
+
+    @ManagedAttribute
+    public long getPendingCommandCount() {
+        return tableMailboxExecutor.getPendingTaskCount();
+    }
+
+    @ManagedAttribute
+    public long getFailedCommandCount() {
+        return tableMailboxExecutor.getFailedTaskCount();
+    }
+
+    private void handle(Command<TableCommandType> command) {
         switch (command.getType()) {
         case CreateTable:
             createTableCommandHandler.handle((CreateTableCommand) command);
@@ -31,6 +31,10 @@ public class CardsShuffledEvent extends BaseEvent implements TableEvent {
         return gameId;
     }
 
+    /**
+     * The top of the deck in dealing order. Newer hands only shuffle as far
+     * into the deck as they deal, so this can be shorter than 52 cards.
+     */
     public List<Card> getShuffledDeck() {
         return new ArrayList<>(shuffledDeck);
     }
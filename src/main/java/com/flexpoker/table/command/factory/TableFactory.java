@@ -3,6 +3,7 @@ package com.flexpoker.table.command.factory;
 import java.util.List;
 
 import com.flexpoker.table.command.aggregate.Table;
+import com.flexpoker.table.command.aggregate.TableSnapshot;
 import com.flexpoker.table.command.commands.CreateTableCommand;
 import com.flexpoker.table.command.framework.TableEvent;
 
@@ -12,4 +13,6 @@ public interface TableFactory {
 
     Table createFrom(List<TableEvent> events);
 
+    Table createFrom(TableSnapshot snapshot, List<TableEvent> eventsAfterSnapshot);
+
 }
@@ -1,7 +1,11 @@
 package com.flexpoker.table.command.framework;
 
+import java.util.UUID;
+
 import com.flexpoker.framework.command.Command;
 
 public interface TableCommand extends Command<TableCommandType> {
 
+    UUID getTableId();
+
 }
@@ -4,45 +4,37 @@ import java.util.List;
 
 import javax.inject.Inject;
 
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import com.flexpoker.framework.command.CommandHandler;
 import com.flexpoker.framework.event.EventPublisher;
 import com.flexpoker.table.command.aggregate.Table;
 import com.flexpoker.table.command.commands.AutoMoveHandForwardCommand;
-import com.flexpoker.table.command.factory.TableFactory;
 import com.flexpoker.table.command.framework.TableEvent;
-import com.flexpoker.table.command.repository.TableEventRepository;
+import com.flexpoker.table.command.repository.TableAggregateRepository;
 
 @Component
 public class AutoMoveHandForwardCommandHandler implements CommandHandler<AutoMoveHandForwardCommand> {
 
-    private final TableFactory tableFactory;
-
     private final EventPublisher<TableEvent> eventPublisher;
 
-    private final TableEventRepository tableEventRepository;
+    private final TableAggregateRepository tableAggregateRepository;
 
     @Inject
-    public AutoMoveHandForwardCommandHandler(TableFactory tableFactory,
-            EventPublisher<TableEvent> eventPublisher,
-            TableEventRepository tableEventRepository) {
-        this.tableFactory = tableFactory;
+    public AutoMoveHandForwardCommandHandler(EventPublisher<TableEvent> eventPublisher,
+            TableAggregateRepository tableAggregateRepository) {
         this.eventPublisher = eventPublisher;
-        this.tableEventRepository = tableEventRepository;
+        this.tableAggregateRepository = tableAggregateRepository;
     }
 
-    @Async
     @Override
     public void handle(AutoMoveHandForwardCommand command) {
-        List<TableEvent> tableEvents = tableEventRepository
-                .fetchAll(command.getTableId());
-        Table table = tableFactory.createFrom(tableEvents);
+        Table table = tableAggregateRepository.fetch(command.getTableId());
 
         table.autoMoveHandForward();
-        table.fetchNewEvents().forEach(x -> tableEventRepository.save(x));
-        table.fetchNewEvents().forEach(x -> eventPublisher.publish(x));
+        List<TableEvent> newEvents = table.fetchNewEvents();
+        tableAggregateRepository.save(table);
+        newEvents.forEach(x -> eventPublisher.publish(x));
     }
 
 }
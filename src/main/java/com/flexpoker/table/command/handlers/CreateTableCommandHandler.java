@@ -1,8 +1,9 @@
 package com.flexpoker.table.command.handlers;
 
+import java.util.List;
+
 import javax.inject.Inject;
 
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import com.flexpoker.framework.command.CommandHandler;
@@ -11,7 +12,7 @@ import com.flexpoker.table.command.aggregate.Table;
 import com.flexpoker.table.command.commands.CreateTableCommand;
 import com.flexpoker.table.command.factory.TableFactory;
 import com.flexpoker.table.command.framework.TableEvent;
-import com.flexpoker.table.command.repository.TableEventRepository;
+import com.flexpoker.table.command.repository.TableAggregateRepository;
 
 @Component
 public class CreateTableCommandHandler implements CommandHandler<CreateTableCommand> {
@@ -20,23 +21,23 @@ public class CreateTableCommandHandler implements CommandHandler<CreateTableComm
 
     private final EventPublisher<TableEvent> eventPublisher;
 
-    private final TableEventRepository tableEventRepository;
+    private final TableAggregateRepository tableAggregateRepository;
 
     @Inject
     public CreateTableCommandHandler(TableFactory tableFactory,
             EventPublisher<TableEvent> eventPublisher,
-            TableEventRepository tableEventRepository) {
+            TableAggregateRepository tableAggregateRepository) {
         this.tableFactory = tableFactory;
         this.eventPublisher = eventPublisher;
-        this.tableEventRepository = tableEventRepository;
+        this.tableAggregateRepository = tableAggregateRepository;
     }
 
-    @Async
     @Override
     public void handle(CreateTableCommand command) {
         Table table = tableFactory.createNew(command);
-        table.fetchNewEvents().forEach(x -> tableEventRepository.save(x));
-        table.fetchNewEvents().forEach(x -> eventPublisher.publish(x));
+        List<TableEvent> newEvents = table.fetchNewEvents();
+        tableAggregateRepository.save(table);
+        newEvents.forEach(x -> eventPublisher.publish(x));
     }
 
 }
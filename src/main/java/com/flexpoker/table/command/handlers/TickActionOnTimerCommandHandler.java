@@ -2,7 +2,6 @@ package com.flexpoker.table.command.handlers;
 
 import javax.inject.Inject;
 
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import com.flexpoker.framework.command.CommandHandler;
@@ -21,7 +20,6 @@ public class TickActionOnTimerCommandHandler implements CommandHandler<TickActio
         this.pushNotificationPublisher = pushNotificationPublisher;
     }
 
-    @Async
     @Override
     public void handle(TickActionOnTimerCommand command) {
         PushNotification pushNotification = new TickActionOnTimerPushNotification(command.getGameId(),
@@ -0,0 +1,127 @@
+package com.flexpoker.table.command.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import javax.inject.Inject;
+
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Repository;
+
+import com.flexpoker.framework.domain.AggregateCache;
+import com.flexpoker.table.command.aggregate.Table;
+import com.flexpoker.table.command.aggregate.TableSnapshot;
+import com.flexpoker.table.command.events.HandCompletedEvent;
+import com.flexpoker.table.command.factory.TableFactory;
+import com.flexpoker.table.command.framework.TableEvent;
+
+/**
+ * Loads tables from the latest snapshot plus the events saved after it, and
+ * takes a new snapshot whenever a hand completes so that replaying a table
+ * never has to go back further than the start of the current hand.
+ *
+ * Hydrated tables are kept in a bounded cache between commands. A cached
+ * table is brought up to date by applying only the events saved after its
+ * current version before it's handed out again.
+ */
+@ManagedResource(objectName = "flexpoker:name=tableAggregateRepository")
+@Repository
+public class DefaultTableAggregateRepository implements TableAggregateRepository {
+
+    private static final int DEFAULT_CACHE_SIZE = 1000;
+
+    private final TableFactory tableFactory;
+
+    private final TableEventRepository tableEventRepository;
+
+    private final TableSnapshotRepository tableSnapshotRepository;
+
+    private final AggregateCache<Table> tableCache;
+
+    @Inject
+    public DefaultTableAggregateRepository(TableFactory tableFactory,
+            TableEventRepository tableEventRepository,
+            TableSnapshotRepository tableSnapshotRepository) {
+        this(tableFactory, tableEventRepository, tableSnapshotRepository,
+                DEFAULT_CACHE_SIZE);
+    }
+
+    public DefaultTableAggregateRepository(TableFactory tableFactory,
+            TableEventRepository tableEventRepository,
+            TableSnapshotRepository tableSnapshotRepository, int cacheSize) {
+        this.tableFactory = tableFactory;
+        this.tableEventRepository = tableEventRepository;
+        this.tableSnapshotRepository = tableSnapshotRepository;
+        this.tableCache = new AggregateCache<>(cacheSize);
+    }
+
+    @Override
+    public Table fetch(UUID tableId) {
+        Table cachedTable = tableCache.checkout(tableId);
+        if (cachedTable != null) {
+            List<TableEvent> tableEvents = tableEventRepository.fetchFrom(tableId,
+                    cachedTable.getAggregateVersion());
+            if (isContinuationOf(cachedTable.getAggregateVersion(), tableEvents)) {
+                cachedTable.applyAllHistoricalEvents(tableEvents);
+                return cachedTable;
+            }
+        }
+
+        TableSnapshot snapshot = tableSnapshotRepository.fetchLatest(tableId);
+
+        if (snapshot == null) {
+            return tableFactory.createFrom(tableEventRepository.fetchAll(tableId));
+        }
+
+        return tableFactory.createFrom(snapshot,
+                tableEventRepository.fetchFrom(tableId, snapshot.getVersion()));
+    }
+
+    /**
+     * The events are only appended if nobody else has written to the table
+     * since it was fetched. On a conflict the table is left out of the cache,
+     * so retrying the command starts again from a fresh load.
+     */
+    @Override
+    public void save(Table table) {
+        List<TableEvent> newEvents = table.fetchNewEvents();
+        if (!newEvents.isEmpty()) {
+            tableEventRepository.appendAll(table.getAggregateId(),
+                    table.getAggregateVersion() - newEvents.size(), newEvents);
+        }
+
+        if (!table.isHandInProgress()
+                && newEvents.stream().anyMatch(x -> x instanceof HandCompletedEvent)) {
+            tableSnapshotRepository.save(table.createSnapshot());
+        }
+
+        table.clearEvents();
+        tableCache.checkin(table.getAggregateId(), table);
+    }
+
+    private boolean isContinuationOf(int version, List<TableEvent> tableEvents) {
+        return tableEvents.isEmpty() || tableEvents.get(0).getVersion() == version + 1;
+    }
+
+    @ManagedAttribute
+    public int getCacheSize() {
+        return tableCache.size();
+    }
+
+    @ManagedAttribute
+    public long getCacheHitCount() {
+        return tableCache.getHitCount();
+    }
+
+    @ManagedAttribute
+    public long getCacheMissCount() {
+        return tableCache.getMissCount();
+    }
+
+    @ManagedAttribute
+    public long getCacheEvictionCount() {
+        return tableCache.getEvictionCount();
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.flexpoker.table.command.repository;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import com.flexpoker.table.command.aggregate.TableSnapshot;
+
+@Profile("default")
+@Repository
+public class InMemoryTableSnapshotRepository implements TableSnapshotRepository {
+
+    private final Map<UUID, TableSnapshot> tableSnapshotMap;
+
+    public InMemoryTableSnapshotRepository() {
+        tableSnapshotMap = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public TableSnapshot fetchLatest(UUID tableId) {
+        return tableSnapshotMap.get(tableId);
+    }
+
+    @Override
+    public void save(TableSnapshot snapshot) {
+        tableSnapshotMap.merge(snapshot.getAggregateId(), snapshot,
+                (existing, x) -> x.getVersion() > existing.getVersion() ? x : existing);
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.flexpoker.table.command.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import javax.inject.Inject;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flexpoker.table.command.aggregate.TableSnapshot;
+
+@Profile("prod")
+@Repository
+public class RedisTableSnapshotRepository implements TableSnapshotRepository {
+
+    private static final String TABLE_SNAPSHOT_NAMESPACE = "table-snapshot:";
+
+    /**
+     * Sets the snapshot unless the one already stored is at the same or a
+     * later version, so that saves racing each other can't put an older
+     * snapshot back over a newer one.
+     */
+    private static final byte[] SET_IF_NEWER_SCRIPT = (
+            "local current = redis.call('GET', KEYS[1]) "
+            + "if current and cjson.decode(current).version >= tonumber(ARGV[1]) then "
+            + "return 0 "
+            + "end "
+            + "redis.call('SET', KEYS[1], ARGV[2]) "
+            + "return 1")
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final RedisTemplate<String, TableSnapshot> redisTemplate;
+
+    private final RedisSerializer<String> keySerializer;
+
+    private final RedisSerializer<TableSnapshot> valueSerializer;
+
+    @Inject
+    public RedisTableSnapshotRepository(RedisTemplate<String, TableSnapshot> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.keySerializer = new StringRedisSerializer();
+        this.redisTemplate.setKeySerializer(keySerializer);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.findAndRegisterModules();
+
+        Jackson2JsonRedisSerializer<TableSnapshot> valueSerializer = new Jackson2JsonRedisSerializer<>(
+                TableSnapshot.class);
+        valueSerializer.setObjectMapper(objectMapper);
+
+        this.valueSerializer = valueSerializer;
+        this.redisTemplate.setValueSerializer(valueSerializer);
+    }
+
+    @Override
+    public TableSnapshot fetchLatest(UUID tableId) {
+        return redisTemplate.execute((RedisCallback<TableSnapshot>) connection ->
+                valueSerializer.deserialize(connection.get(rawKey(tableId))));
+    }
+
+    @Override
+    public void save(TableSnapshot snapshot) {
+        byte[] rawKey = rawKey(snapshot.getAggregateId());
+        byte[] rawVersion = String.valueOf(snapshot.getVersion())
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] rawSnapshot = valueSerializer.serialize(snapshot);
+        redisTemplate.execute((RedisCallback<Long>) connection -> connection.eval(
+                SET_IF_NEWER_SCRIPT, ReturnType.INTEGER, 1, rawKey, rawVersion, rawSnapshot));
+    }
+
+    private byte[] rawKey(UUID tableId) {
+        return keySerializer.serialize(TABLE_SNAPSHOT_NAMESPACE + tableId);
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.flexpoker.table.command.repository;
+
+import java.util.UUID;
+
+import com.flexpoker.table.command.aggregate.Table;
+
+public interface TableAggregateRepository {
+
+    Table fetch(UUID tableId);
+
+    void save(Table table);
+
+}
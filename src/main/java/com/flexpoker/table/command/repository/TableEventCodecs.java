@@ -0,0 +1,357 @@
+package com.flexpoker.table.command.repository;
+
+import java.util.UUID;
+
+import com.flexpoker.framework.event.codec.BinaryEventInput;
+import com.flexpoker.framework.event.codec.BinaryEventOutput;
+import com.flexpoker.framework.event.codec.EventCodec;
+import com.flexpoker.framework.event.codec.EventTypeRegistry;
+import com.flexpoker.model.HandRanking;
+import com.flexpoker.model.PlayerAction;
+import com.flexpoker.model.card.Card;
+import com.flexpoker.model.card.CardRank;
+import com.flexpoker.model.card.FlopCards;
+import com.flexpoker.model.card.PocketCards;
+import com.flexpoker.model.card.RiverCard;
+import com.flexpoker.model.card.TurnCard;
+import com.flexpoker.table.command.aggregate.HandDealerState;
+import com.flexpoker.table.command.aggregate.HandEvaluation;
+import com.flexpoker.table.command.events.ActionOnChangedEvent;
+import com.flexpoker.table.command.events.AutoMoveHandForwardEvent;
+import com.flexpoker.table.command.events.CardsShuffledEvent;
+import com.flexpoker.table.command.events.FlopCardsDealtEvent;
+import com.flexpoker.table.command.events.HandCompletedEvent;
+import com.flexpoker.table.command.events.HandDealtEvent;
+import com.flexpoker.table.command.events.LastToActChangedEvent;
+import com.flexpoker.table.command.events.PlayerAddedEvent;
+import com.flexpoker.table.command.events.PlayerBustedTableEvent;
+import com.flexpoker.table.command.events.PlayerCalledEvent;
+import com.flexpoker.table.command.events.PlayerCheckedEvent;
+import com.flexpoker.table.command.events.PlayerFoldedEvent;
+import com.flexpoker.table.command.events.PlayerForceCheckedEvent;
+import com.flexpoker.table.command.events.PlayerForceFoldedEvent;
+import com.flexpoker.table.command.events.PlayerRaisedEvent;
+import com.flexpoker.table.command.events.PlayerRemovedEvent;
+import com.flexpoker.table.command.events.PotAmountIncreasedEvent;
+import com.flexpoker.table.command.events.PotClosedEvent;
+import com.flexpoker.table.command.events.PotCreatedEvent;
+import com.flexpoker.table.command.events.RiverCardDealtEvent;
+import com.flexpoker.table.command.events.RoundCompletedEvent;
+import com.flexpoker.table.command.events.TableCreatedEvent;
+import com.flexpoker.table.command.events.TablePausedEvent;
+import com.flexpoker.table.command.events.TableResumedEvent;
+import com.flexpoker.table.command.events.TurnCardDealtEvent;
+import com.flexpoker.table.command.events.WinnersDeterminedEvent;
+import com.flexpoker.table.command.framework.TableEvent;
+
+/**
+ * Binary codecs for every {@link TableEvent}. The tags below are part of the
+ * stored format: add new event types with new tags, never renumber.
+ *
+ * Cards take a single byte, their position in a suit-major deck. A card whose
+ * id doesn't match that position is written with an escape byte followed by
+ * its id so that it still reads back equal.
+ */
+public class TableEventCodecs {
+
+    private static final int NON_CANONICAL_CARD = 0xFF;
+
+    public static EventTypeRegistry<TableEvent> createRegistry() {
+        EventTypeRegistry<TableEvent> registry = new EventTypeRegistry<>();
+
+        registry.register(1, TableCreatedEvent.class, EventCodec.of(
+                (event, out) -> {
+                    out.writeUuid(event.getGameId());
+                    out.writeInt(event.getNumberOfPlayersPerTable());
+                    out.writeMap(event.getSeatPositionToPlayerMap(),
+                            BinaryEventOutput::writeInt, BinaryEventOutput::writeNullableUuid);
+                    out.writeInt(event.getStartingNumberOfChips());
+                },
+                (aggregateId, version, in) -> new TableCreatedEvent(aggregateId, version,
+                        in.readUuid(), in.readInt(),
+                        in.readMap(BinaryEventInput::readInt, BinaryEventInput::readNullableUuid),
+                        in.readInt())));
+
+        registry.register(2, CardsShuffledEvent.class, EventCodec.of(
+                (event, out) -> {
+                    out.writeUuid(event.getGameId());
+                    out.writeCollection(event.getShuffledDeck(), TableEventCodecs::writeCard);
+                },
+                (aggregateId, version, in) -> new CardsShuffledEvent(aggregateId, version,
+                        in.readUuid(), in.readList(TableEventCodecs::readCard))));
+
+        registry.register(3, HandDealtEvent.class, EventCodec.of(
+                (event, out) -> {
+                    out.writeUuid(event.getGameId());
+                    out.writeUuid(event.getHandId());
+                    writeCard(out, event.getFlopCards().getCard1());
+                    writeCard(out, event.getFlopCards().getCard2());
+                    writeCard(out, event.getFlopCards().getCard3());
+                    writeCard(out, event.getTurnCard().getCard());
+                    writeCard(out, event.getRiverCard().getCard());
+                    out.writeInt(event.getButtonOnPosition());
+                    out.writeInt(event.getSmallBlindPosition());
+                    out.writeInt(event.getBigBlindPosition());
+                    out.writeNullableUuid(event.getLastToActPlayerId());
+                    out.writeMap(event.getSeatMap(), BinaryEventOutput::writeInt,
+                            BinaryEventOutput::writeNullableUuid);
+                    out.writeMap(event.getPlayerToPocketCardsMap(), BinaryEventOutput::writeUuid,
+                            TableEventCodecs::writePocketCards);
+                    out.writeMap(event.getPossibleSeatActionsMap(), BinaryEventOutput::writeUuid,
+                            (o, actions) -> o.writeCollection(actions, BinaryEventOutput::writeEnum));
+                    out.writeUuidCollection(event.getPlayersStillInHand());
+                    out.writeCollection(event.getHandEvaluations(),
+                            TableEventCodecs::writeHandEvaluation);
+                    out.writeEnum(event.getHandDealerState());
+                    out.writeUuidToIntMap(event.getChipsInBack());
+                    out.writeUuidToIntMap(event.getChipsInFrontMap());
+                    out.writeUuidToIntMap(event.getCallAmountsMap());
+                    out.writeUuidToIntMap(event.getRaiseToAmountsMap());
+                    out.writeInt(event.getSmallBlind());
+                    out.writeInt(event.getBigBlind());
+                },
+                (aggregateId, version, in) -> new HandDealtEvent(aggregateId, version,
+                        in.readUuid(), in.readUuid(),
+                        new FlopCards(readCard(in), readCard(in), readCard(in)),
+                        new TurnCard(readCard(in)), new RiverCard(readCard(in)),
+                        in.readInt(), in.readInt(), in.readInt(), in.readNullableUuid(),
+                        in.readMap(BinaryEventInput::readInt, BinaryEventInput::readNullableUuid),
+                        in.readMap(BinaryEventInput::readUuid, TableEventCodecs::readPocketCards),
+                        in.readMap(BinaryEventInput::readUuid,
+                                i -> i.readSet(x -> x.readEnum(PlayerAction.class))),
+                        in.readUuidSet(),
+                        in.readList(TableEventCodecs::readHandEvaluation),
+                        in.readEnum(HandDealerState.class),
+                        in.readUuidToIntMap(), in.readUuidToIntMap(),
+                        in.readUuidToIntMap(), in.readUuidToIntMap(),
+                        in.readInt(), in.readInt())));
+
+        registry.register(4, ActionOnChangedEvent.class, EventCodec.of(
+                (event, out) -> writeHandPlayerIds(out, event.getGameId(), event.getHandId(),
+                        event.getPlayerId()),
+                (aggregateId, version, in) -> new ActionOnChangedEvent(aggregateId, version,
+                        in.readUuid(), in.readUuid(), in.readUuid())));
+
+        registry.register(5, AutoMoveHandForwardEvent.class, EventCodec.of(
+                (event, out) -> writeHandIds(out, event.getGameId(), event.getHandId()),
+                (aggregateId, version, in) -> new AutoMoveHandForwardEvent(aggregateId,
+                        version, in.readUuid(), in.readUuid())));
+
+        registry.register(6, FlopCardsDealtEvent.class, EventCodec.of(
+                (event, out) -> writeHandIds(out, event.getGameId(), event.getHandId()),
+                (aggregateId, version, in) -> new FlopCardsDealtEvent(aggregateId, version,
+                        in.readUuid(), in.readUuid())));
+
+        registry.register(7, TurnCardDealtEvent.class, EventCodec.of(
+                (event, out) -> writeHandIds(out, event.getGameId(), event.getHandId()),
+                (aggregateId, version, in) -> new TurnCardDealtEvent(aggregateId, version,
+                        in.readUuid(), in.readUuid())));
+
+        registry.register(8, RiverCardDealtEvent.class, EventCodec.of(
+                (event, out) -> writeHandIds(out, event.getGameId(), event.getHandId()),
+                (aggregateId, version, in) -> new RiverCardDealtEvent(aggregateId, version,
+                        in.readUuid(), in.readUuid())));
+
+        registry.register(9, HandCompletedEvent.class, EventCodec.of(
+                (event, out) -> {
+                    writeHandIds(out, event.getGameId(), event.getHandId());
+                    out.writeUuidToIntMap(event.getPlayerToChipsAtTableMap());
+                },
+                (aggregateId, version, in) -> new HandCompletedEvent(aggregateId, version,
+                        in.readUuid(), in.readUuid(), in.readUuidToIntMap())));
+
+        registry.register(10, LastToActChangedEvent.class, EventCodec.of(
+                (event, out) -> writeHandPlayerIds(out, event.getGameId(), event.getHandId(),
+                        event.getPlayerId()),
+                (aggregateId, version, in) -> new LastToActChangedEvent(aggregateId, version,
+                        in.readUuid(), in.readUuid(), in.readUuid())));
+
+        registry.register(11, PlayerCalledEvent.class, EventCodec.of(
+                (event, out) -> writeHandPlayerIds(out, event.getGameId(), event.getHandId(),
+                        event.getPlayerId()),
+                (aggregateId, version, in) -> new PlayerCalledEvent(aggregateId, version,
+                        in.readUuid(), in.readUuid(), in.readUuid())));
+
+        registry.register(12, PlayerCheckedEvent.class, EventCodec.of(
+                (event, out) -> writeHandPlayerIds(out, event.getGameId(), event.getHandId(),
+                        event.getPlayerId()),
+                (aggregateId, version, in) -> new PlayerCheckedEvent(aggregateId, version,
+                        in.readUuid(), in.readUuid(), in.readUuid())));
+
+        registry.register(13, PlayerFoldedEvent.class, EventCodec.of(
+                (event, out) -> writeHandPlayerIds(out, event.getGameId(), event.getHandId(),
+                        event.getPlayerId()),
+                (aggregateId, version, in) -> new PlayerFoldedEvent(aggregateId, version,
+                        in.readUuid(), in.readUuid(), in.readUuid())));
+
+        registry.register(14, PlayerForceCheckedEvent.class, EventCodec.of(
+                (event, out) -> writeHandPlayerIds(out, event.getGameId(), event.getHandId(),
+                        event.getPlayerId()),
+                (aggregateId, version, in) -> new PlayerForceCheckedEvent(aggregateId, version,
+                        in.readUuid(), in.readUuid(), in.readUuid())));
+
+        registry.register(15, PlayerForceFoldedEvent.class, EventCodec.of(
+                (event, out) -> writeHandPlayerIds(out, event.getGameId(), event.getHandId(),
+                        event.getPlayerId()),
+                (aggregateId, version, in) -> new PlayerForceFoldedEvent(aggregateId, version,
+                        in.readUuid(), in.readUuid(), in.readUuid())));
+
+        registry.register(16, PlayerRaisedEvent.class, EventCodec.of(
+                (event, out) -> {
+                    writeHandPlayerIds(out, event.getGameId(), event.getHandId(),
+                            event.getPlayerId());
+                    out.writeInt(event.getRaiseToAmount());
+                },
+                (aggregateId, version, in) -> new PlayerRaisedEvent(aggregateId, version,
+                        in.readUuid(), in.readUuid(), in.readUuid(), in.readInt())));
+
+        registry.register(17, PotCreatedEvent.class, EventCodec.of(
+                (event, out) -> {
+                    writeHandIds(out, event.getGameId(), event.getHandId());
+                    out.writeUuid(event.getPotId());
+                    out.writeUuidCollection(event.getPlayersInvolved());
+                },
+                (aggregateId, version, in) -> new PotCreatedEvent(aggregateId, version,
+                        in.readUuid(), in.readUuid(), in.readUuid(), in.readUuidSet())));
+
+        registry.register(18, PotAmountIncreasedEvent.class, EventCodec.of(
+                (event, out) -> {
+                    writeHandIds(out, event.getGameId(), event.getHandId());
+                    out.writeUuid(event.getPotId());
+                    out.writeInt(event.getAmountIncreased());
+                },
+                (aggregateId, version, in) -> new PotAmountIncreasedEvent(aggregateId, version,
+                        in.readUuid(), in.readUuid(), in.readUuid(), in.readInt())));
+
+        registry.register(19, PotClosedEvent.class, EventCodec.of(
+                (event, out) -> {
+                    writeHandIds(out, event.getGameId(), event.getHandId());
+                    out.writeUuid(event.getPotId());
+                },
+                (aggregateId, version, in) -> new PotClosedEvent(aggregateId, version,
+                        in.readUuid(), in.readUuid(), in.readUuid())));
+
+        registry.register(20, RoundCompletedEvent.class, EventCodec.of(
+                (event, out) -> {
+                    writeHandIds(out, event.getGameId(), event.getHandId());
+                    out.writeEnum(event.getNextHandDealerState());
+                },
+                (aggregateId, version, in) -> new RoundCompletedEvent(aggregateId, version,
+                        in.readUuid(), in.readUuid(), in.readEnum(HandDealerState.class))));
+
+        registry.register(21, WinnersDeterminedEvent.class, EventCodec.of(
+                (event, out) -> {
+                    writeHandIds(out, event.getGameId(), event.getHandId());
+                    out.writeUuidCollection(event.getPlayersToShowCards());
+                    out.writeUuidToIntMap(event.getPlayersToChipsWonMap());
+                },
+                (aggregateId, version, in) -> new WinnersDeterminedEvent(aggregateId, version,
+                        in.readUuid(), in.readUuid(), in.readUuidSet(), in.readUuidToIntMap())));
+
+        registry.register(22, PlayerBustedTableEvent.class, EventCodec.of(
+                (event, out) -> {
+                    out.writeUuid(event.getGameId());
+                    out.writeUuid(event.getPlayerId());
+                },
+                (aggregateId, version, in) -> new PlayerBustedTableEvent(aggregateId, version,
+                        in.readUuid(), in.readUuid())));
+
+        registry.register(23, PlayerAddedEvent.class, EventCodec.of(
+                (event, out) -> {
+                    out.writeUuid(event.getGameId());
+                    out.writeUuid(event.getPlayerId());
+                    out.writeInt(event.getChipsInBack());
+                    out.writeInt(event.getPosition());
+                },
+                (aggregateId, version, in) -> new PlayerAddedEvent(aggregateId, version,
+                        in.readUuid(), in.readUuid(), in.readInt(), in.readInt())));
+
+        registry.register(24, PlayerRemovedEvent.class, EventCodec.of(
+                (event, out) -> {
+                    out.writeUuid(event.getGameId());
+                    out.writeUuid(event.getPlayerId());
+                },
+                (aggregateId, version, in) -> new PlayerRemovedEvent(aggregateId, version,
+                        in.readUuid(), in.readUuid())));
+
+        registry.register(25, TablePausedEvent.class, EventCodec.of(
+                (event, out) -> out.writeUuid(event.getGameId()),
+                (aggregateId, version, in) -> new TablePausedEvent(aggregateId, version,
+                        in.readUuid())));
+
+        registry.register(26, TableResumedEvent.class, EventCodec.of(
+                (event, out) -> out.writeUuid(event.getGameId()),
+                (aggregateId, version, in) -> new TableResumedEvent(aggregateId, version,
+                        in.readUuid())));
+
+        return registry;
+    }
+
+    public static void writeCard(BinaryEventOutput out, Card card) {
+        int canonicalId = Card.idOf(card.getCardRank(), card.getCardSuit());
+        if (card.getId() == canonicalId) {
+            out.writeByte(canonicalId);
+        } else {
+            out.writeByte(NON_CANONICAL_CARD);
+            out.writeInt(card.getId());
+            out.writeByte(canonicalId);
+        }
+    }
+
+    public static Card readCard(BinaryEventInput in) {
+        int value = in.readByte();
+        if (value == NON_CANONICAL_CARD) {
+            int id = in.readInt();
+            int canonicalId = in.readByte();
+            return Card.valueOf(id, Card.rankOf(canonicalId), Card.suitOf(canonicalId));
+        }
+        return Card.valueOf(value);
+    }
+
+    private static void writePocketCards(BinaryEventOutput out, PocketCards pocketCards) {
+        writeCard(out, pocketCards.getCard1());
+        writeCard(out, pocketCards.getCard2());
+    }
+
+    private static PocketCards readPocketCards(BinaryEventInput in) {
+        return new PocketCards(readCard(in), readCard(in));
+    }
+
+    private static void writeHandEvaluation(BinaryEventOutput out,
+            HandEvaluation handEvaluation) {
+        out.writeNullableUuid(handEvaluation.getPlayerId());
+        out.writeEnum(handEvaluation.getHandRanking());
+        out.writeEnum(handEvaluation.getPrimaryCardRank());
+        out.writeEnum(handEvaluation.getSecondaryCardRank());
+        out.writeEnum(handEvaluation.getFirstKicker());
+        out.writeEnum(handEvaluation.getSecondKicker());
+        out.writeEnum(handEvaluation.getThirdKicker());
+        out.writeEnum(handEvaluation.getFourthKicker());
+    }
+
+    private static HandEvaluation readHandEvaluation(BinaryEventInput in) {
+        HandEvaluation handEvaluation = new HandEvaluation();
+        handEvaluation.setPlayerId(in.readNullableUuid());
+        handEvaluation.setHandRanking(in.readEnum(HandRanking.class));
+        handEvaluation.setPrimaryCardRank(in.readEnum(CardRank.class));
+        handEvaluation.setSecondaryCardRank(in.readEnum(CardRank.class));
+        handEvaluation.setFirstKicker(in.readEnum(CardRank.class));
+        handEvaluation.setSecondKicker(in.readEnum(CardRank.class));
+        handEvaluation.setThirdKicker(in.readEnum(CardRank.class));
+        handEvaluation.setFourthKicker(in.readEnum(CardRank.class));
+        return handEvaluation;
+    }
+
+    private static void writeHandIds(BinaryEventOutput out, UUID gameId,
+            UUID handId) {
+        out.writeUuid(gameId);
+        out.writeUuid(handId);
+    }
+
+    private static void writeHandPlayerIds(BinaryEventOutput out, UUID gameId,
+            UUID handId, UUID playerId) {
+        writeHandIds(out, gameId, handId);
+        out.writeUuid(playerId);
+    }
+
+}
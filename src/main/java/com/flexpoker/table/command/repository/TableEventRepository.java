@@ -9,6 +9,20 @@ public interface TableEventRepository {
 
     List<TableEvent> fetchAll(UUID id);
 
+    /**
+     * Fetch only the events after {@code fromVersion}, i.e. starting with
+     * version {@code fromVersion + 1}.
+     */
+    List<TableEvent> fetchFrom(UUID id, int fromVersion);
+
     void save(TableEvent event);
 
+    /**
+     * Append the events to the end of the aggregate's stream, but only if the
+     * stream is still at {@code expectedVersion}. Otherwise nothing is written
+     * and an {@link com.flexpoker.exception.AggregateVersionConflictException}
+     * is thrown.
+     */
+    void appendAll(UUID aggregateId, int expectedVersion, List<TableEvent> events);
+
 }
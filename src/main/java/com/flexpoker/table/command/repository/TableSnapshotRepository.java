@@ -0,0 +1,13 @@
+package com.flexpoker.table.command.repository;
+
+import java.util.UUID;
+
+import com.flexpoker.table.command.aggregate.TableSnapshot;
+
+public interface TableSnapshotRepository {
+
+    TableSnapshot fetchLatest(UUID tableId);
+
+    void save(TableSnapshot snapshot);
+
+}
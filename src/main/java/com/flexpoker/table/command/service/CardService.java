@@ -9,6 +9,13 @@ public interface CardService {
 
     List<Card> createShuffledDeck();
 
+    /**
+     * Shuffle only the top of the deck that a hand with this many players
+     * deals from: the pocket cards, then burn, flop, burn, turn, burn and
+     * river.
+     */
+    List<Card> createShuffledDeckForHand(int numberOfPlayers);
+
     CardsUsedInHand createCardsUsedInHand(List<Card> fullDeckOfCards, int numberOfPlayers);
 
 }
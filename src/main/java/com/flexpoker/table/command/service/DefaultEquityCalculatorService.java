@@ -0,0 +1,229 @@
+package com.flexpoker.table.command.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import com.flexpoker.model.card.Card;
+import com.flexpoker.model.card.PocketCards;
+
+/**
+ * Works out equity with {@link LookupTableHandEvaluatorService#evaluate(long)},
+ * which doesn't allocate, a block of boards at a time, with the blocks spread
+ * over the common fork/join pool. It always uses the lookup tables, whichever
+ * evaluator the game itself is set up with.
+ *
+ * When there are at most {@code exhaustiveRunoutLimit} ways to finish the
+ * board, every one of them is evaluated; that limit should be small enough
+ * for enumeration to fit in the time budget. Each block is every so-many-th
+ * runout rather than a run of neighbouring ones, so if the time budget runs
+ * out anyway, the blocks that did get evaluated are still spread over the
+ * whole deck. Past the limit, each worker deals random runouts until
+ * {@code maxSamples} have been dealt between them or the time budget runs
+ * out, whichever comes first.
+ */
+public class DefaultEquityCalculatorService implements EquityCalculatorService {
+
+    private static final int BOARD_SIZE = 5;
+
+    private static final int BOARDS_PER_BLOCK = 1 << 11;
+
+    private final long exhaustiveRunoutLimit;
+
+    private final long timeBudgetMillis;
+
+    private final long maxSamples;
+
+    public DefaultEquityCalculatorService(long exhaustiveRunoutLimit,
+            long timeBudgetMillis, long maxSamples) {
+        this.exhaustiveRunoutLimit = exhaustiveRunoutLimit;
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.maxSamples = maxSamples;
+    }
+
+    @Override
+    public Map<PocketCards, Double> calculateEquity(List<PocketCards> pocketCards,
+            List<Card> visibleCommonCards) {
+        long visibleCommonCardsMask = 0;
+        for (Card card : visibleCommonCards) {
+            visibleCommonCardsMask |= Card.maskOf(card);
+        }
+        if (visibleCommonCards.size() > BOARD_SIZE
+                || Long.bitCount(visibleCommonCardsMask) != visibleCommonCards.size()) {
+            throw new IllegalArgumentException("invalid common cards: "
+                    + visibleCommonCards.size());
+        }
+
+        long[] pocketCardsMasks = new long[pocketCards.size()];
+        long cardsInUse = visibleCommonCardsMask;
+        for (int i = 0; i < pocketCardsMasks.length; i++) {
+            pocketCardsMasks[i] = pocketCards.get(i).toMask();
+            if ((cardsInUse & pocketCardsMasks[i]) != 0) {
+                throw new IllegalArgumentException("the same card can't be dealt twice");
+            }
+            cardsInUse |= pocketCardsMasks[i];
+        }
+
+        Map<PocketCards, Double> equity = new HashMap<>();
+        if (pocketCards.isEmpty()) {
+            return equity;
+        }
+
+        byte[] unseenCards = new byte[Card.NUMBER_OF_CARDS - Long.bitCount(cardsInUse)];
+        for (int id = 0, i = 0; id < Card.NUMBER_OF_CARDS; id++) {
+            if ((cardsInUse & (1L << id)) == 0) {
+                unseenCards[i++] = (byte) id;
+            }
+        }
+
+        int cardsToCome = BOARD_SIZE - visibleCommonCards.size();
+        EquityTally tally = numberOfRunouts(unseenCards.length, cardsToCome) <= exhaustiveRunoutLimit
+                ? enumerate(visibleCommonCardsMask, unseenCards, cardsToCome, pocketCardsMasks)
+                : sample(visibleCommonCardsMask, unseenCards, cardsToCome, pocketCardsMasks);
+
+        for (int i = 0; i < pocketCardsMasks.length; i++) {
+            equity.put(pocketCards.get(i), tally.shares[i] / tally.runouts);
+        }
+        return equity;
+    }
+
+    static long numberOfRunouts(int numberOfUnseenCards, int cardsToCome) {
+        long runouts = 1;
+        for (int i = 0; i < cardsToCome; i++) {
+            runouts = runouts * (numberOfUnseenCards - i) / (i + 1);
+        }
+        return runouts;
+    }
+
+    private EquityTally enumerate(long visibleCommonCardsMask, byte[] unseenCards,
+            int cardsToCome, long[] pocketCardsMasks) {
+        long[] boards = new long[(int) numberOfRunouts(unseenCards.length, cardsToCome)];
+
+        int[] indexes = new int[cardsToCome];
+        for (int i = 0; i < cardsToCome; i++) {
+            indexes[i] = i;
+        }
+        for (int board = 0; board < boards.length; board++) {
+            long boardMask = visibleCommonCardsMask;
+            for (int index : indexes) {
+                boardMask |= 1L << unseenCards[index];
+            }
+            boards[board] = boardMask;
+
+            // move on to the next combination in lexicographic order
+            int i = cardsToCome - 1;
+            while (i >= 0 && indexes[i] == unseenCards.length - cardsToCome + i) {
+                i--;
+            }
+            if (i >= 0) {
+                indexes[i]++;
+                for (int j = i + 1; j < cardsToCome; j++) {
+                    indexes[j] = indexes[j - 1] + 1;
+                }
+            }
+        }
+
+        long deadline = System.nanoTime() + timeBudgetMillis * 1_000_000L;
+        int numberOfBlocks = (boards.length + BOARDS_PER_BLOCK - 1) / BOARDS_PER_BLOCK;
+        return IntStream.range(0, numberOfBlocks).parallel()
+                .mapToObj(block -> {
+                    EquityTally blockTally = new EquityTally(pocketCardsMasks.length);
+                    // the first block always goes ahead so there's something
+                    // to go on however short the budget
+                    if (block > 0 && System.nanoTime() - deadline > 0) {
+                        return blockTally;
+                    }
+                    for (int board = block; board < boards.length; board += numberOfBlocks) {
+                        blockTally.add(boards[board], pocketCardsMasks);
+                    }
+                    return blockTally;
+                })
+                .reduce(EquityTally::merge).get();
+    }
+
+    private EquityTally sample(long visibleCommonCardsMask, byte[] unseenCards,
+            int cardsToCome, long[] pocketCardsMasks) {
+        long deadline = System.nanoTime() + timeBudgetMillis * 1_000_000L;
+        int numberOfWorkers = ForkJoinPool.getCommonPoolParallelism();
+        long samplesPerWorker = Math.max(1, maxSamples / numberOfWorkers);
+
+        return IntStream.range(0, numberOfWorkers).parallel()
+                .mapToObj(worker -> {
+                    SplittableRandom random = new SplittableRandom();
+                    byte[] deck = unseenCards.clone();
+                    EquityTally workerTally = new EquityTally(pocketCardsMasks.length);
+
+                    while (workerTally.runouts < samplesPerWorker) {
+                        long boardMask = visibleCommonCardsMask;
+                        // a partial Fisher-Yates shuffle, leaving the deck as
+                        // some permutation of the unseen cards
+                        for (int i = 0; i < cardsToCome; i++) {
+                            int j = i + random.nextInt(deck.length - i);
+                            byte card = deck[j];
+                            deck[j] = deck[i];
+                            deck[i] = card;
+                            boardMask |= 1L << card;
+                        }
+                        workerTally.add(boardMask, pocketCardsMasks);
+
+                        if (workerTally.runouts % BOARDS_PER_BLOCK == 0
+                                && System.nanoTime() - deadline > 0) {
+                            break;
+                        }
+                    }
+                    return workerTally;
+                })
+                .reduce(EquityTally::merge).get();
+    }
+
+    private static class EquityTally {
+
+        private final double[] shares;
+
+        private long runouts;
+
+        EquityTally(int numberOfPlayers) {
+            shares = new double[numberOfPlayers];
+        }
+
+        void add(long boardMask, long[] pocketCardsMasks) {
+            int numberOfPlayers = shares.length;
+            int topStrength = Integer.MIN_VALUE;
+            int numberOfWinners = 0;
+            int winners = 0;
+            for (int player = 0; player < numberOfPlayers; player++) {
+                int strength = LookupTableHandEvaluatorService.evaluate(boardMask
+                        | pocketCardsMasks[player]);
+                if (strength > topStrength) {
+                    topStrength = strength;
+                    numberOfWinners = 1;
+                    winners = 1 << player;
+                } else if (strength == topStrength) {
+                    numberOfWinners++;
+                    winners |= 1 << player;
+                }
+            }
+
+            double share = 1.0 / numberOfWinners;
+            for (int player = 0; player < numberOfPlayers; player++) {
+                if ((winners & 1 << player) != 0) {
+                    shares[player] += share;
+                }
+            }
+            runouts++;
+        }
+
+        EquityTally merge(EquityTally other) {
+            for (int i = 0; i < shares.length; i++) {
+                shares[i] += other.shares[i];
+            }
+            runouts += other.runouts;
+            return this;
+        }
+
+    }
+
+}
@@ -9,8 +9,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
-import org.springframework.stereotype.Service;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
 
 import com.flexpoker.model.HandRanking;
 import com.flexpoker.model.card.Card;
@@ -23,12 +25,55 @@ import com.flexpoker.model.card.TurnCard;
 import com.flexpoker.table.command.aggregate.CommonCards;
 import com.flexpoker.table.command.aggregate.HandEvaluation;
 
-@Service
+/**
+ * Which hands are possible on a board is worked out once per board texture
+ * and kept in a {@link PossibleHandsCache}. Every board given to
+ * {@link #evaluateBatch} goes through it, which covers showdowns at the
+ * tables as well as the equity calculator's runouts.
+ */
+@ManagedResource(objectName = "flexpoker:name=handEvaluator")
 public class DefaultHandEvaluatorService implements HandEvaluatorService {
 
+    private static final HandRanking[] HAND_RANKINGS = HandRanking.values();
+
+    private final PossibleHandsCache possibleHandsCache;
+
+    public DefaultHandEvaluatorService() {
+        this(new PossibleHandsCache());
+    }
+
+    public DefaultHandEvaluatorService(PossibleHandsCache possibleHandsCache) {
+        this.possibleHandsCache = possibleHandsCache;
+    }
+
     @Override
     public List<HandRanking> determinePossibleHands(FlopCards flopCards,
             TurnCard turnCard, RiverCard riverCard) {
+        long key = PossibleHandsCache.canonicalKey(flopCards.getCard1(),
+                flopCards.getCard2(), flopCards.getCard3(), turnCard.getCard(),
+                riverCard.getCard());
+        int handRankings = possibleHandsCache.get(key);
+        if (handRankings == -1) {
+            handRankings = 0;
+            for (HandRanking handRanking : determinePossibleHandsUncached(flopCards,
+                    turnCard, riverCard)) {
+                handRankings |= 1 << handRanking.ordinal();
+            }
+            possibleHandsCache.put(key, handRankings);
+        }
+
+        // callers sort the list they're given, so each gets a new one
+        List<HandRanking> possibleHandRankings = new ArrayList<>();
+        for (HandRanking handRanking : HAND_RANKINGS) {
+            if ((handRankings & (1 << handRanking.ordinal())) != 0) {
+                possibleHandRankings.add(handRanking);
+            }
+        }
+        return possibleHandRankings;
+    }
+
+    List<HandRanking> determinePossibleHandsUncached(FlopCards flopCards,
+            TurnCard turnCard, RiverCard riverCard) {
 
         CommonCards commonCards = new CommonCards(flopCards, turnCard, riverCard);
 
@@ -70,6 +115,75 @@ public class DefaultHandEvaluatorService implements HandEvaluatorService {
         return handEvaluations;
     }
 
+    /**
+     * Boards have to be complete, five-card boards here. Boards are
+     * evaluated in parallel since every evaluation works on its own lists.
+     */
+    @Override
+    public int[] evaluateBatch(long[] boards, long[] pocketCards) {
+        int[] strengths = new int[boards.length * pocketCards.length];
+
+        IntStream.range(0, boards.length).parallel().forEach(boardIndex -> {
+            long board = boards[boardIndex];
+            if (Long.bitCount(board) != 5) {
+                throw new IllegalArgumentException("board must have five cards");
+            }
+            Card[] boardCards = toCards(board);
+            FlopCards flopCards = new FlopCards(boardCards[0], boardCards[1], boardCards[2]);
+            TurnCard turnCard = new TurnCard(boardCards[3]);
+            RiverCard riverCard = new RiverCard(boardCards[4]);
+            List<HandRanking> possibleHandRankings = determinePossibleHands(flopCards,
+                    turnCard, riverCard);
+
+            for (int i = 0; i < pocketCards.length; i++) {
+                int resultIndex = boardIndex * pocketCards.length + i;
+                if ((board & pocketCards[i]) != 0) {
+                    strengths[resultIndex] = CONFLICTING_CARDS;
+                    continue;
+                }
+                Card[] pocket = toCards(pocketCards[i]);
+                PocketCards evaluatedPocketCards = new PocketCards(pocket[0], pocket[1]);
+                strengths[resultIndex] = determineHandEvaluation(flopCards, turnCard,
+                        riverCard, Arrays.asList(evaluatedPocketCards), possibleHandRankings)
+                        .get(evaluatedPocketCards).getStrength();
+            }
+        });
+
+        return strengths;
+    }
+
+    @ManagedAttribute
+    public int getPossibleHandsCacheSize() {
+        return possibleHandsCache.size();
+    }
+
+    @ManagedAttribute
+    public long getPossibleHandsCacheHitCount() {
+        return possibleHandsCache.getHitCount();
+    }
+
+    @ManagedAttribute
+    public long getPossibleHandsCacheMissCount() {
+        return possibleHandsCache.getMissCount();
+    }
+
+    @ManagedAttribute
+    public double getPossibleHandsCacheHitRate() {
+        long hits = possibleHandsCache.getHitCount();
+        long lookups = hits + possibleHandsCache.getMissCount();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    private Card[] toCards(long cardMask) {
+        Card[] cards = new Card[Long.bitCount(cardMask)];
+        long remaining = cardMask;
+        for (int i = 0; i < cards.length; i++) {
+            cards[i] = Card.valueOf(Long.numberOfTrailingZeros(remaining));
+            remaining &= remaining - 1;
+        }
+        return cards;
+    }
+
     /**
      * Enum meant to be used as a return value for the hand ranking methods. The
      * returned value is then used to decide what hand rankings are available.
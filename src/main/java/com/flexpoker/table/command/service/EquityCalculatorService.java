@@ -0,0 +1,19 @@
+package com.flexpoker.table.command.service;
+
+import java.util.List;
+import java.util.Map;
+
+import com.flexpoker.model.card.Card;
+import com.flexpoker.model.card.PocketCards;
+
+public interface EquityCalculatorService {
+
+    /**
+     * Each player's share of the pot, from 0 to 1, over the ways the rest of
+     * the board can come out given the visible common cards. Ties are split
+     * evenly between the tied players.
+     */
+    Map<PocketCards, Double> calculateEquity(List<PocketCards> pocketCards,
+            List<Card> visibleCommonCards);
+
+}
@@ -0,0 +1,63 @@
+package com.flexpoker.table.command.service;
+
+import java.security.SecureRandom;
+import java.util.SplittableRandom;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Fisher-Yates shuffle that stops after the positions that are needed. Each
+ * thread gets its own random number generator, so shuffles on different
+ * threads don't contend on a shared seed, and shuffling allocates nothing.
+ */
+public class FisherYatesShuffler implements Shuffler {
+
+    public enum RandomSource {
+
+        SPLITTABLE_RANDOM,
+
+        /**
+         * Slower, but for when the shuffles have to stand up to a fairness
+         * audit.
+         */
+        SECURE_RANDOM
+
+    }
+
+    private final ThreadLocal<IntUnaryOperator> nextIntBelow;
+
+    private FisherYatesShuffler(Supplier<IntUnaryOperator> randomSupplier) {
+        this.nextIntBelow = ThreadLocal.withInitial(randomSupplier);
+    }
+
+    public static FisherYatesShuffler using(RandomSource randomSource) {
+        switch (randomSource) {
+        case SPLITTABLE_RANDOM:
+            return new FisherYatesShuffler(() -> new SplittableRandom()::nextInt);
+        case SECURE_RANDOM:
+            return new FisherYatesShuffler(() -> new SecureRandom()::nextInt);
+        default:
+            throw new IllegalArgumentException("unknown random source: " + randomSource);
+        }
+    }
+
+    /**
+     * Every thread starts from the same seed, so this is only meant for
+     * repeatable tests.
+     */
+    public static FisherYatesShuffler withSeed(long seed) {
+        return new FisherYatesShuffler(() -> new SplittableRandom(seed)::nextInt);
+    }
+
+    @Override
+    public void shuffle(byte[] deck, int count) {
+        IntUnaryOperator random = nextIntBelow.get();
+        for (int i = 0; i < count; i++) {
+            int j = i + random.applyAsInt(deck.length - i);
+            byte card = deck[j];
+            deck[j] = deck[i];
+            deck[i] = card;
+        }
+    }
+
+}
@@ -12,6 +12,12 @@ import com.flexpoker.table.command.aggregate.HandEvaluation;
 
 public interface HandEvaluatorService {
 
+    /**
+     * Result of {@link #evaluateBatch} for a board and pocket cards that share
+     * a card.
+     */
+    int CONFLICTING_CARDS = -1;
+
     List<HandRanking> determinePossibleHands(FlopCards flopCards, TurnCard turnCard,
             RiverCard riverCard);
 
@@ -19,4 +25,14 @@ public interface HandEvaluatorService {
             TurnCard turnCard, RiverCard riverCard, List<PocketCards> pocketCards,
             List<HandRanking> possibleHandRankings);
 
+    /**
+     * Evaluate every pair of board and pocket cards, given as card masks (see
+     * {@link com.flexpoker.model.card.Card#maskOf}). The result holds the
+     * {@link HandEvaluation#getStrength() strength} of each pair in
+     * board-major order, so the pocket cards at index {@code p} on the board
+     * at index {@code b} are at {@code b * pocketCards.length + p}, however
+     * the work is split up.
+     */
+    int[] evaluateBatch(long[] boards, long[] pocketCards);
+
 }
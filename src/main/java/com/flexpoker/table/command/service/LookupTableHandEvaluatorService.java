@@ -0,0 +1,355 @@
+package com.flexpoker.table.command.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import com.flexpoker.model.HandRanking;
+import com.flexpoker.model.card.Card;
+import com.flexpoker.model.card.CardRank;
+import com.flexpoker.model.card.FlopCards;
+import com.flexpoker.model.card.PocketCards;
+import com.flexpoker.model.card.RiverCard;
+import com.flexpoker.model.card.TurnCard;
+import com.flexpoker.table.command.aggregate.HandEvaluation;
+
+/**
+ * Evaluates hands from a 52-bit card mask (see {@link Card#maskOf(Card)}) using
+ * two tables indexed by a 13-bit rank mask: the top rank of the best straight
+ * in the mask, and the five highest ranks in the mask. Evaluating a hand
+ * doesn't allocate anything besides the {@link HandEvaluation} it returns.
+ *
+ * Evaluations are packed into an int exactly like
+ * {@link HandEvaluation#getStrength()}, so packed evaluations can be compared
+ * directly and turn into a {@link HandEvaluation} without being recalculated.
+ */
+public class LookupTableHandEvaluatorService implements HandEvaluatorService {
+
+    /**
+     * Below this many evaluations a batch isn't worth splitting across
+     * threads.
+     */
+    private static final int PARALLEL_BATCH_THRESHOLD = 1 << 12;
+
+    private static final int RANK_MASK_SIZE = 1 << 13;
+
+    private static final int ALL_RANKS = RANK_MASK_SIZE - 1;
+
+    private static final int WHEEL = 0b1000000001111;
+
+    private static final int HAND_RANKING_SHIFT = 24;
+
+    private static final int PRIMARY_SHIFT = 20;
+
+    private static final int SECONDARY_SHIFT = 16;
+
+    private static final HandRanking[] HAND_RANKINGS = HandRanking.values();
+
+    /**
+     * Rank ordinal of the highest card of the best straight in the rank mask,
+     * or -1 if there isn't one.
+     */
+    private static final byte[] STRAIGHT_HIGH_RANK = new byte[RANK_MASK_SIZE];
+
+    /**
+     * The five highest ranks in the rank mask, one nibble each, highest first
+     * and right-aligned, so that {@code TOP_FIVE_RANKS[mask] >>> 4 * (5 - n)}
+     * is the n highest.
+     */
+    private static final int[] TOP_FIVE_RANKS = new int[RANK_MASK_SIZE];
+
+    static {
+        for (int rankMask = 0; rankMask < RANK_MASK_SIZE; rankMask++) {
+            STRAIGHT_HIGH_RANK[rankMask] = (byte) findStraightHighRank(rankMask);
+
+            int topFive = 0;
+            int remaining = rankMask;
+            for (int i = 0; i < 5; i++) {
+                int rank = remaining == 0 ? -1 : highestRank(remaining);
+                topFive = (topFive << 4) | (rank + 1);
+                if (rank >= 0) {
+                    remaining &= ~(1 << rank);
+                }
+            }
+            TOP_FIVE_RANKS[rankMask] = topFive;
+        }
+    }
+
+    @Override
+    public List<HandRanking> determinePossibleHands(FlopCards flopCards,
+            TurnCard turnCard, RiverCard riverCard) {
+        long board = flopCards.toMask() | Card.maskOf(turnCard.getCard())
+                | Card.maskOf(riverCard.getCard());
+
+        int rankMask = 0;
+        int suitedRankMask = 0;
+        for (int suit = 0; suit < 4; suit++) {
+            int suitRanks = suitRanks(board, suit);
+            rankMask |= suitRanks;
+            if (Integer.bitCount(suitRanks) > Integer.bitCount(suitedRankMask)) {
+                suitedRankMask = suitRanks;
+            }
+        }
+        int pairedRanks = ranksWithAtLeastTwo(board);
+        int tripledRanks = ranksWithAtLeastThree(board);
+        int quadRanks = ranksWithFour(board);
+        int boardRankCount = Integer.bitCount(rankMask);
+        int largestSuitCount = Integer.bitCount(suitedRankMask);
+        boolean boardStraight = STRAIGHT_HIGH_RANK[rankMask] >= 0;
+
+        List<HandRanking> possibleHandRankings = new ArrayList<>(
+                Arrays.asList(HAND_RANKINGS));
+
+        if (largestSuitCount == 5 && boardStraight) {
+            possibleHandRankings.retainAll(Arrays.asList(HandRanking.STRAIGHT_FLUSH));
+        } else if (largestSuitCount < 3 || !isStraightPossible(suitedRankMask)) {
+            possibleHandRankings.remove(HandRanking.STRAIGHT_FLUSH);
+        }
+
+        if (possibleHandRankings.contains(HandRanking.FOUR_OF_A_KIND)) {
+            if (quadRanks != 0) {
+                possibleHandRankings.retainAll(Arrays.asList(HandRanking.FOUR_OF_A_KIND));
+            } else if (pairedRanks == 0) {
+                possibleHandRankings.remove(HandRanking.FOUR_OF_A_KIND);
+                possibleHandRankings.remove(HandRanking.FULL_HOUSE);
+            }
+        }
+
+        if (possibleHandRankings.contains(HandRanking.FULL_HOUSE)
+                && tripledRanks != 0 && boardRankCount == 2) {
+            removeBelow(possibleHandRankings, HandRanking.FULL_HOUSE);
+        }
+
+        if (possibleHandRankings.contains(HandRanking.FLUSH)) {
+            if (largestSuitCount == 5) {
+                removeBelow(possibleHandRankings, HandRanking.FLUSH);
+            } else if (largestSuitCount < 3) {
+                possibleHandRankings.remove(HandRanking.FLUSH);
+            }
+        }
+
+        if (possibleHandRankings.contains(HandRanking.STRAIGHT)) {
+            if (boardStraight) {
+                removeBelow(possibleHandRankings, HandRanking.STRAIGHT);
+            } else if (!isStraightPossible(rankMask)) {
+                possibleHandRankings.remove(HandRanking.STRAIGHT);
+            }
+        }
+
+        if (possibleHandRankings.contains(HandRanking.THREE_OF_A_KIND)
+                && tripledRanks != 0) {
+            removeBelow(possibleHandRankings, HandRanking.THREE_OF_A_KIND);
+        }
+
+        if (possibleHandRankings.contains(HandRanking.TWO_PAIR)
+                && (Integer.bitCount(pairedRanks) >= 2 || quadRanks != 0)) {
+            possibleHandRankings.remove(HandRanking.THREE_OF_A_KIND);
+            removeBelow(possibleHandRankings, HandRanking.TWO_PAIR);
+        }
+
+        if (possibleHandRankings.contains(HandRanking.ONE_PAIR) && pairedRanks != 0) {
+            possibleHandRankings.remove(HandRanking.HIGH_CARD);
+        }
+
+        return possibleHandRankings;
+    }
+
+    /**
+     * The best hand can always be read straight off the seven cards, so
+     * {@code possibleHandRankings} isn't needed here.
+     */
+    @Override
+    public Map<PocketCards, HandEvaluation> determineHandEvaluation(FlopCards flopCards,
+            TurnCard turnCard, RiverCard riverCard, List<PocketCards> pocketCardsList,
+            List<HandRanking> possibleHandRankings) {
+        long board = flopCards.toMask() | Card.maskOf(turnCard.getCard())
+                | Card.maskOf(riverCard.getCard());
+
+        Map<PocketCards, HandEvaluation> handEvaluations = new HashMap<>();
+        for (PocketCards pocketCards : pocketCardsList) {
+            long hand = board | pocketCards.toMask();
+            handEvaluations.put(pocketCards, toHandEvaluation(evaluate(hand)));
+        }
+        return handEvaluations;
+    }
+
+    @Override
+    public int[] evaluateBatch(long[] boards, long[] pocketCards) {
+        int[] strengths = new int[boards.length * pocketCards.length];
+        if (strengths.length < PARALLEL_BATCH_THRESHOLD) {
+            for (int i = 0; i < strengths.length; i++) {
+                strengths[i] = evaluate(boards, pocketCards, i);
+            }
+        } else {
+            IntStream.range(0, strengths.length).parallel()
+                    .forEach(i -> strengths[i] = evaluate(boards, pocketCards, i));
+        }
+        return strengths;
+    }
+
+    /**
+     * Evaluate the best five-card hand among the five to seven cards in the
+     * mask, returning the packed evaluation.
+     */
+    public static int evaluate(long cardMask) {
+        int rankMask = 0;
+        for (int suit = 0; suit < 4; suit++) {
+            int suitRanks = suitRanks(cardMask, suit);
+            if (Integer.bitCount(suitRanks) >= 5) {
+                int straightFlushRank = STRAIGHT_HIGH_RANK[suitRanks];
+                if (straightFlushRank >= 0) {
+                    return pack(HandRanking.STRAIGHT_FLUSH, straightFlushRank);
+                }
+                // with seven cards a flush rules out quads and full houses
+                return flush(HandRanking.FLUSH, suitRanks);
+            }
+            rankMask |= suitRanks;
+        }
+
+        int quadRanks = ranksWithFour(cardMask);
+        if (quadRanks != 0) {
+            int quadRank = highestRank(quadRanks);
+            return pack(HandRanking.FOUR_OF_A_KIND, quadRank)
+                    | kickers(rankMask & ~(1 << quadRank), 1);
+        }
+
+        int pairedRanks = ranksWithAtLeastTwo(cardMask);
+        int tripledRanks = ranksWithAtLeastThree(cardMask);
+        if (tripledRanks != 0) {
+            int tripRank = highestRank(tripledRanks);
+            int otherPairedRanks = pairedRanks & ~(1 << tripRank);
+            if (otherPairedRanks != 0) {
+                return pack(HandRanking.FULL_HOUSE, tripRank)
+                        | (highestRank(otherPairedRanks) + 1) << SECONDARY_SHIFT;
+            }
+        }
+
+        int straightRank = STRAIGHT_HIGH_RANK[rankMask];
+        if (straightRank >= 0) {
+            return pack(HandRanking.STRAIGHT, straightRank);
+        }
+
+        if (tripledRanks != 0) {
+            int tripRank = highestRank(tripledRanks);
+            return pack(HandRanking.THREE_OF_A_KIND, tripRank)
+                    | kickers(rankMask & ~(1 << tripRank), 2);
+        }
+
+        if (pairedRanks != 0) {
+            int pairRank = highestRank(pairedRanks);
+            int otherPairedRanks = pairedRanks & ~(1 << pairRank);
+            if (otherPairedRanks != 0) {
+                int secondPairRank = highestRank(otherPairedRanks);
+                return pack(HandRanking.TWO_PAIR, pairRank)
+                        | (secondPairRank + 1) << SECONDARY_SHIFT
+                        | kickers(rankMask & ~(1 << pairRank) & ~(1 << secondPairRank), 1);
+            }
+            return pack(HandRanking.ONE_PAIR, pairRank)
+                    | kickers(rankMask & ~(1 << pairRank), 3);
+        }
+
+        return flush(HandRanking.HIGH_CARD, rankMask);
+    }
+
+    private static int evaluate(long[] boards, long[] pocketCards, int index) {
+        long board = boards[index / pocketCards.length];
+        long pocket = pocketCards[index % pocketCards.length];
+        return (board & pocket) == 0 ? evaluate(board | pocket) : CONFLICTING_CARDS;
+    }
+
+    public static HandRanking handRanking(int evaluation) {
+        return HAND_RANKINGS[evaluation >>> HAND_RANKING_SHIFT];
+    }
+
+    public static HandEvaluation toHandEvaluation(int evaluation) {
+        return HandEvaluation.fromStrength(evaluation);
+    }
+
+    private static int pack(HandRanking handRanking, int primaryRank) {
+        return handRanking.ordinal() << HAND_RANKING_SHIFT
+                | (primaryRank + 1) << PRIMARY_SHIFT;
+    }
+
+    /**
+     * The highest {@code count} ranks in the mask, placed in the kicker
+     * nibbles starting at the first kicker.
+     */
+    private static int kickers(int rankMask, int count) {
+        return (TOP_FIVE_RANKS[rankMask] >>> 4 * (5 - count)) << 4 * (4 - count);
+    }
+
+    /**
+     * Five highest ranks as primary rank plus four kickers, used for both
+     * flushes and high card.
+     */
+    private static int flush(HandRanking handRanking, int rankMask) {
+        int topFive = TOP_FIVE_RANKS[rankMask];
+        return handRanking.ordinal() << HAND_RANKING_SHIFT
+                | (topFive >>> 16) << PRIMARY_SHIFT
+                | (topFive & 0xFFFF);
+    }
+
+    private static int suitRanks(long cardMask, int suit) {
+        return (int) (cardMask >>> suit * 13) & ALL_RANKS;
+    }
+
+    private static int ranksWithAtLeastTwo(long cardMask) {
+        int s0 = suitRanks(cardMask, 0);
+        int s1 = suitRanks(cardMask, 1);
+        int s2 = suitRanks(cardMask, 2);
+        int s3 = suitRanks(cardMask, 3);
+        return (s0 & s1) | (s0 & s2) | (s0 & s3) | (s1 & s2) | (s1 & s3) | (s2 & s3);
+    }
+
+    private static int ranksWithAtLeastThree(long cardMask) {
+        int s0 = suitRanks(cardMask, 0);
+        int s1 = suitRanks(cardMask, 1);
+        int s2 = suitRanks(cardMask, 2);
+        int s3 = suitRanks(cardMask, 3);
+        return (s0 & s1 & s2) | (s0 & s1 & s3) | (s0 & s2 & s3) | (s1 & s2 & s3);
+    }
+
+    private static int ranksWithFour(long cardMask) {
+        return suitRanks(cardMask, 0) & suitRanks(cardMask, 1)
+                & suitRanks(cardMask, 2) & suitRanks(cardMask, 3);
+    }
+
+    private static int highestRank(int rankMask) {
+        return 31 - Integer.numberOfLeadingZeros(rankMask);
+    }
+
+    private static int findStraightHighRank(int rankMask) {
+        for (int highRank = CardRank.ACE.ordinal(); highRank >= CardRank.SIX.ordinal(); highRank--) {
+            int straight = 0b11111 << (highRank - 4);
+            if ((rankMask & straight) == straight) {
+                return highRank;
+            }
+        }
+        return (rankMask & WHEEL) == WHEEL ? CardRank.FIVE.ordinal() : -1;
+    }
+
+    /**
+     * Whether some five-rank straight window, the wheel included, already
+     * holds at least three of the ranks.
+     */
+    private static boolean isStraightPossible(int rankMask) {
+        if (Integer.bitCount(rankMask & WHEEL) >= 3) {
+            return true;
+        }
+        for (int lowRank = 0; lowRank <= CardRank.TEN.ordinal(); lowRank++) {
+            if (Integer.bitCount(rankMask & (0b11111 << lowRank)) >= 3) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void removeBelow(List<HandRanking> possibleHandRankings,
+            HandRanking handRanking) {
+        possibleHandRankings.removeIf(x -> x.compareTo(handRanking) < 0);
+    }
+
+}
@@ -0,0 +1,123 @@
+package com.flexpoker.table.command.service;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.flexpoker.model.card.Card;
+
+/**
+ * Remembers the possible hand rankings of a board, as a bitmask of
+ * {@link com.flexpoker.model.HandRanking} ordinals, by the board's texture.
+ * Which hands are possible doesn't depend on which suit is which, so boards
+ * that only differ by a relabelling of suits share an entry: the key is the
+ * rank mask of each suit, sorted. That leaves 134,459 different five-card
+ * boards, so the cache never needs to evict anything.
+ *
+ * Entries live in a lock-free open-addressed table of longs, with the key
+ * and the rankings packed into the same slot so a reader can never see one
+ * without the other.
+ */
+public class PossibleHandsCache {
+
+    private static final int RANKS_PER_SUIT = 13;
+
+    private static final int RANKINGS_BITS = 9;
+
+    private static final long RANKINGS_MASK = (1L << RANKINGS_BITS) - 1;
+
+    private static final int SLOT_BITS = 18;
+
+    private static final int NUMBER_OF_SLOTS = 1 << SLOT_BITS;
+
+    private static final int MAXIMUM_PROBES = 64;
+
+    private final AtomicLongArray slots = new AtomicLongArray(NUMBER_OF_SLOTS);
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * The suit-isomorphic form of a board: each suit's rank mask, with the
+     * suits sorted so that equivalent boards get equal keys.
+     */
+    public static long canonicalKey(Card... boardCards) {
+        int[] suitMasks = new int[4];
+        for (Card card : boardCards) {
+            suitMasks[card.getCardSuit().ordinal()] |= 1 << card.getCardRank().ordinal();
+        }
+        Arrays.sort(suitMasks);
+        long key = 0;
+        for (int suitMask : suitMasks) {
+            key = (key << RANKS_PER_SUIT) | suitMask;
+        }
+        return key;
+    }
+
+    /**
+     * Returns the cached rankings bitmask for the key, or -1 when the board
+     * hasn't been seen yet.
+     */
+    public int get(long key) {
+        int slot = slotFor(key);
+        for (int probe = 0; probe < MAXIMUM_PROBES; probe++) {
+            long entry = slots.get(slot);
+            if (entry == 0) {
+                break;
+            }
+            if (entry >>> RANKINGS_BITS == key) {
+                hits.increment();
+                return (int) (entry & RANKINGS_MASK);
+            }
+            slot = (slot + 1) & (NUMBER_OF_SLOTS - 1);
+        }
+        misses.increment();
+        return -1;
+    }
+
+    public void put(long key, int handRankings) {
+        long newEntry = (key << RANKINGS_BITS) | (handRankings & RANKINGS_MASK);
+        int slot = slotFor(key);
+        for (int probe = 0; probe < MAXIMUM_PROBES; probe++) {
+            if (slots.compareAndSet(slot, 0, newEntry)) {
+                size.incrementAndGet();
+                return;
+            }
+            if (slots.get(slot) >>> RANKINGS_BITS == key) {
+                return;
+            }
+            slot = (slot + 1) & (NUMBER_OF_SLOTS - 1);
+        }
+        // the table is sized so this can't happen with real boards, and
+        // leaving the board out only costs a recalculation next time
+    }
+
+    public void clear() {
+        for (int i = 0; i < NUMBER_OF_SLOTS; i++) {
+            slots.set(i, 0);
+        }
+        size.set(0);
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    private static int slotFor(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> (Long.SIZE - SLOT_BITS));
+    }
+
+}
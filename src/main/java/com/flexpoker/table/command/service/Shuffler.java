@@ -0,0 +1,13 @@
+package com.flexpoker.table.command.service;
+
+public interface Shuffler {
+
+    /**
+     * Shuffle the first {@code count} positions of the deck, which afterwards
+     * hold a uniformly random draw from the whole deck in random order. The
+     * rest of the deck is left in no particular order, so a deck can be
+     * reused from one hand to the next without being reset.
+     */
+    void shuffle(byte[] deck, int count);
+
+}
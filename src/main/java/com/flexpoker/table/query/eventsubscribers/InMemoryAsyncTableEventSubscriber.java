@@ -2,10 +2,12 @@ package com.flexpoker.table.query.eventsubscribers;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
 
 import javax.inject.Inject;
 
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 import com.flexpoker.framework.event.Event;
@@ -41,7 +43,8 @@ import com.flexpoker.table.command.events.WinnersDeterminedEvent;
 import com.flexpoker.table.command.framework.TableEvent;
 
 @Component("tableEventSubscriber")
-public class InMemoryAsyncTableEventSubscriber implements EventSubscriber<TableEvent> {
+public class InMemoryAsyncTableEventSubscriber
+        implements EventSubscriber<TableEvent>, TableRemovedListener {
 
     private final InMemoryThreadSafeEventSubscriberHelper inMemoryThreadSafeEventSubscriberHelper;
 
@@ -101,7 +104,8 @@ public class InMemoryAsyncTableEventSubscriber implements EventSubscriber<TableE
             EventHandler<PotAmountIncreasedEvent> potAmountIncreasedEventHandler,
             EventHandler<PotClosedEvent> potClosedEventHandler,
             EventHandler<PotCreatedEvent> potCreatedEventHandler,
-            EventHandler<WinnersDeterminedEvent> winnersDeterminedEventHandler) {
+            EventHandler<WinnersDeterminedEvent> winnersDeterminedEventHandler,
+            @Qualifier("projectionExecutor") Executor projectionExecutor) {
         this.inMemoryThreadSafeEventSubscriberHelper = inMemoryThreadSafeEventSubscriberHelper;
         this.tableCreatedEventHandler = tableCreatedEventHandler;
         this.handDealtEventHandler = handDealtEventHandler;
@@ -122,14 +126,19 @@ public class InMemoryAsyncTableEventSubscriber implements EventSubscriber<TableE
         this.potCreatedEventHandler = potCreatedEventHandler;
         this.winnersDeterminedEventHandler = winnersDeterminedEventHandler;
         this.inMemoryThreadSafeEventSubscriberHelper.setHandlerMap(createEventHandlerMap());
+        this.inMemoryThreadSafeEventSubscriberHelper.setLaneExecutor(projectionExecutor);
     }
 
-    @Async
     @Override
     public void receive(TableEvent event) {
         inMemoryThreadSafeEventSubscriberHelper.receive(event);
     }
 
+    @Override
+    public void tableRemoved(UUID tableId) {
+        inMemoryThreadSafeEventSubscriberHelper.retire(tableId);
+    }
+
     private Map<Class<? extends Event>, EventHandler<? extends Event>> createEventHandlerMap() {
         Map<Class<? extends Event>, EventHandler<? extends Event>> eventHandlerMap = new HashMap<>();
         eventHandlerMap.put(ActionOnChangedEvent.class, actionOnChangedEventHandler);
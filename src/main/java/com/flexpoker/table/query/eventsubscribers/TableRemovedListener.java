@@ -0,0 +1,14 @@
+package com.flexpoker.table.query.eventsubscribers;
+
+import java.util.UUID;
+
+/**
+ * Told when the game is done with a table. Tables don't have an event of
+ * their own for being done with, so anything on the table side that keeps
+ * per-table state can let it go here.
+ */
+public interface TableRemovedListener {
+
+    void tableRemoved(UUID tableId);
+
+}
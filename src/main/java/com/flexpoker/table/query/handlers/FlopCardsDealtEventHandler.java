@@ -1,8 +1,5 @@
 package com.flexpoker.table.query.handlers;
 
-import java.util.Arrays;
-import java.util.List;
-
 import javax.inject.Inject;
 
 import org.springframework.stereotype.Component;
@@ -15,8 +12,7 @@ import com.flexpoker.pushnotifications.TableUpdatedPushNotification;
 import com.flexpoker.table.command.events.FlopCardsDealtEvent;
 import com.flexpoker.table.query.repository.CardsUsedInHandRepository;
 import com.flexpoker.table.query.repository.TableRepository;
-import com.flexpoker.web.dto.outgoing.CardDTO;
-import com.flexpoker.web.dto.outgoing.TableDTO;
+import com.flexpoker.table.query.service.AllInEquityService;
 
 @Component
 public class FlopCardsDealtEventHandler implements EventHandler<FlopCardsDealtEvent> {
@@ -27,13 +23,17 @@ public class FlopCardsDealtEventHandler implements EventHandler<FlopCardsDealtEv
 
     private final PushNotificationPublisher pushNotificationPublisher;
 
+    private final AllInEquityService allInEquityService;
+
     @Inject
     public FlopCardsDealtEventHandler(TableRepository tableRepository,
             CardsUsedInHandRepository cardsUsedInHandRepository,
-            PushNotificationPublisher pushNotificationPublisher) {
+            PushNotificationPublisher pushNotificationPublisher,
+            AllInEquityService allInEquityService) {
         this.tableRepository = tableRepository;
         this.cardsUsedInHandRepository = cardsUsedInHandRepository;
         this.pushNotificationPublisher = pushNotificationPublisher;
+        this.allInEquityService = allInEquityService;
     }
 
     @Override
@@ -43,19 +43,14 @@ public class FlopCardsDealtEventHandler implements EventHandler<FlopCardsDealtEv
     }
 
     private void handleUpdatingTable(FlopCardsDealtEvent event) {
-        TableDTO currentTable = tableRepository.fetchById(event.getAggregateId());
-
         FlopCards flopCards = cardsUsedInHandRepository.fetchFlopCards(event.getHandId());
-        List<CardDTO> visibleCommonCards = Arrays.asList(
-                new CardDTO(flopCards.getCard1().getId()),
-                new CardDTO(flopCards.getCard2().getId()),
-                new CardDTO(flopCards.getCard3().getId()));
-
-        TableDTO updatedTable = new TableDTO(currentTable.getId(),
-                event.getVersion(), currentTable.getSeats(),
-                currentTable.getTotalPot(), currentTable.getPots(),
-                visibleCommonCards, currentTable.getCurrentHandMinRaiseToAmount());
-        tableRepository.save(updatedTable);
+        tableRepository.update(event.getAggregateId(), event.getVersion(), table -> {
+            table.addVisibleCommonCard(flopCards.getCard1());
+            table.addVisibleCommonCard(flopCards.getCard2());
+            table.addVisibleCommonCard(flopCards.getCard3());
+            allInEquityService.addEquityIfAllIn(event.getGameId(), event.getHandId(),
+                    event.getVersion(), table);
+        });
     }
 
     private void handlePushNotifications(FlopCardsDealtEvent event) {
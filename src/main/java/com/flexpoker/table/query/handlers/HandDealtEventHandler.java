@@ -1,7 +1,6 @@
 package com.flexpoker.table.query.handlers;
 
-import java.util.Collections;
-import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -20,8 +19,6 @@ import com.flexpoker.pushnotifications.TableUpdatedPushNotification;
 import com.flexpoker.table.command.events.HandDealtEvent;
 import com.flexpoker.table.query.repository.CardsUsedInHandRepository;
 import com.flexpoker.table.query.repository.TableRepository;
-import com.flexpoker.web.dto.outgoing.SeatDTO;
-import com.flexpoker.web.dto.outgoing.TableDTO;
 
 @Component
 public class HandDealtEventHandler implements EventHandler<HandDealtEvent> {
@@ -61,35 +58,30 @@ public class HandDealtEventHandler implements EventHandler<HandDealtEvent> {
     }
 
     private void handleUpdatingTable(HandDealtEvent event) {
-        TableDTO currentTable = tableRepository.fetchById(event.getAggregateId());
-
         int totalPot = event.getChipsInFrontMap().values().stream()
                 .mapToInt(x -> x.intValue()).sum();
 
-        Function<UUID, SeatDTO> seatMapper = (UUID playerId) -> {
-            int position = event.getSeatMap().entrySet().stream()
-                    .filter(x -> x.getValue().equals(playerId)).findAny().get().getKey()
-                    .intValue();
-            String name = loginRepository.fetchUsernameByAggregateId(playerId);
-            int chipsInBack = event.getChipsInBack().get(playerId);
-            int chipsInFront = event.getChipsInFrontMap().get(playerId);
-            int raiseTo = event.getRaiseToAmountsMap().get(playerId);
-            int callAmount = event.getCallAmountsMap().get(playerId);
-            boolean button = event.getButtonOnPosition() == position;
-            boolean smallBlind = event.getSmallBlindPosition() == position;
-            boolean bigBlind = event.getBigBlindPosition() == position;
-
-            return new SeatDTO(position, name, chipsInBack, chipsInFront, true,
-                    raiseTo, callAmount, button, smallBlind, bigBlind, false);
-        };
-
-        List<SeatDTO> seats = event.getPlayersStillInHand().stream()
-                .map(seatMapper).collect(Collectors.toList());
-
-        TableDTO updatedTable = new TableDTO(currentTable.getId(),
-                event.getVersion(), seats, totalPot, Collections.emptySet(),
-                Collections.emptyList(), event.getBigBlind());
-        tableRepository.save(updatedTable);
+        // names are looked up before the table is locked
+        Map<UUID, String> names = event.getPlayersStillInHand().stream()
+                .collect(Collectors.toMap(Function.identity(),
+                        loginRepository::fetchUsernameByAggregateId));
+
+        tableRepository.update(event.getAggregateId(), event.getVersion(), table -> {
+            table.startNewHand(totalPot, event.getBigBlind());
+            event.getSeatMap().forEach((position, playerId) -> {
+                if (playerId != null && event.getPlayersStillInHand().contains(playerId)) {
+                    table.dealIn(position.intValue(), playerId,
+                            names.get(playerId),
+                            event.getChipsInBack().get(playerId),
+                            event.getChipsInFrontMap().get(playerId),
+                            event.getRaiseToAmountsMap().get(playerId),
+                            event.getCallAmountsMap().get(playerId),
+                            event.getButtonOnPosition() == position.intValue(),
+                            event.getSmallBlindPosition() == position.intValue(),
+                            event.getBigBlindPosition() == position.intValue());
+                }
+            });
+        });
     }
 
     private void handlePushNotifications(HandDealtEvent event) {
@@ -2,7 +2,6 @@ package com.flexpoker.table.query.handlers;
 
 import javax.inject.Inject;
 
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import com.flexpoker.core.api.chat.SendGameChatMessageCommand;
@@ -25,7 +24,6 @@ public class PlayerBustedTableEventHandler implements EventHandler<PlayerBustedT
         this.loginRepository = loginRepository;
     }
 
-    @Async
     @Override
     public void handle(PlayerBustedTableEvent event) {
         handleChat(event);
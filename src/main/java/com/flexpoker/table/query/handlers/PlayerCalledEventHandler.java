@@ -1,8 +1,5 @@
 package com.flexpoker.table.query.handlers;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 import javax.inject.Inject;
 
 import org.springframework.stereotype.Component;
@@ -16,8 +13,6 @@ import com.flexpoker.model.chat.outgoing.TableChatMessage;
 import com.flexpoker.pushnotifications.TableUpdatedPushNotification;
 import com.flexpoker.table.command.events.PlayerCalledEvent;
 import com.flexpoker.table.query.repository.TableRepository;
-import com.flexpoker.web.dto.outgoing.SeatDTO;
-import com.flexpoker.web.dto.outgoing.TableDTO;
 
 @Component
 public class PlayerCalledEventHandler implements EventHandler<PlayerCalledEvent> {
@@ -49,33 +44,8 @@ public class PlayerCalledEventHandler implements EventHandler<PlayerCalledEvent>
     }
 
     private void handleUpdatingTable(PlayerCalledEvent event) {
-        TableDTO currentTable = tableRepository.fetchById(event.getAggregateId());
-        String username = loginRepository.fetchUsernameByAggregateId(event.getPlayerId());
-
-        List<SeatDTO> updatedSeats = currentTable.getSeats().stream()
-                .map(seatDTO -> {
-                    if (seatDTO.getName().equals(username)) {
-                        int callingAmount = seatDTO.getCallAmount();
-                        int updatedChipsInFront = seatDTO.getChipsInFront() + callingAmount;
-                        int updatedChipsInBack = seatDTO.getChipsInBack() - callingAmount;
-                        return new SeatDTO(seatDTO.getPosition(),
-                                seatDTO.getName(), updatedChipsInBack, updatedChipsInFront,
-                                seatDTO.isStillInHand(), 0, 0, seatDTO.isButton(),
-                                seatDTO.isSmallBlind(), seatDTO.isBigBlind(), false);
-                    }
-                    return seatDTO;
-                }).collect(Collectors.toList());
-
-        int callAmount = currentTable.getSeats().stream()
-                .filter(x -> x.getName().equals(username))
-                .findAny().get()
-                .getCallAmount();
-
-        TableDTO updatedTable = new TableDTO(currentTable.getId(),
-                event.getVersion(), updatedSeats, currentTable.getTotalPot() + callAmount,
-                currentTable.getPots(), currentTable.getVisibleCommonCards(),
-                currentTable.getCurrentHandMinRaiseToAmount());
-        tableRepository.save(updatedTable);
+        tableRepository.update(event.getAggregateId(), event.getVersion(),
+                table -> table.call(event.getPlayerId()));
     }
 
     private void handlePushNotifications(PlayerCalledEvent event) {
@@ -1,8 +1,5 @@
 package com.flexpoker.table.query.handlers;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 import javax.inject.Inject;
 
 import org.springframework.stereotype.Component;
@@ -16,8 +13,6 @@ import com.flexpoker.model.chat.outgoing.TableChatMessage;
 import com.flexpoker.pushnotifications.TableUpdatedPushNotification;
 import com.flexpoker.table.command.events.PlayerForceCheckedEvent;
 import com.flexpoker.table.query.repository.TableRepository;
-import com.flexpoker.web.dto.outgoing.SeatDTO;
-import com.flexpoker.web.dto.outgoing.TableDTO;
 
 @Component
 public class PlayerForceCheckedEventHandler implements EventHandler<PlayerForceCheckedEvent> {
@@ -49,26 +44,8 @@ public class PlayerForceCheckedEventHandler implements EventHandler<PlayerForceC
     }
 
     private void handleUpdatingTable(PlayerForceCheckedEvent event) {
-        TableDTO currentTable = tableRepository.fetchById(event.getAggregateId());
-        String username = loginRepository.fetchUsernameByAggregateId(event.getPlayerId());
-
-        List<SeatDTO> updatedSeats = currentTable.getSeats().stream()
-                .map(seatDTO -> {
-                    if (seatDTO.getName().equals(username)) {
-                        return new SeatDTO(seatDTO.getPosition(),
-                                seatDTO.getName(), seatDTO.getChipsInBack(),
-                                seatDTO.getChipsInFront(), seatDTO.isStillInHand(),
-                                0, 0, seatDTO.isButton(), seatDTO.isSmallBlind(),
-                                seatDTO.isBigBlind(), false);
-                    }
-                    return seatDTO;
-                }).collect(Collectors.toList());
-
-        TableDTO updatedTable = new TableDTO(currentTable.getId(),
-                event.getVersion(), updatedSeats, currentTable.getTotalPot(),
-                currentTable.getPots(), currentTable.getVisibleCommonCards(),
-                currentTable.getCurrentHandMinRaiseToAmount());
-        tableRepository.save(updatedTable);
+        tableRepository.update(event.getAggregateId(), event.getVersion(),
+                table -> table.check(event.getPlayerId()));
     }
 
     private void handlePushNotifications(PlayerForceCheckedEvent event) {
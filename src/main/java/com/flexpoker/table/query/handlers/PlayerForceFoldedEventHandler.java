@@ -1,9 +1,5 @@
 package com.flexpoker.table.query.handlers;
 
-import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
-
 import javax.inject.Inject;
 
 import org.springframework.stereotype.Component;
@@ -17,9 +13,6 @@ import com.flexpoker.model.chat.outgoing.TableChatMessage;
 import com.flexpoker.pushnotifications.TableUpdatedPushNotification;
 import com.flexpoker.table.command.events.PlayerForceFoldedEvent;
 import com.flexpoker.table.query.repository.TableRepository;
-import com.flexpoker.web.dto.outgoing.PotDTO;
-import com.flexpoker.web.dto.outgoing.SeatDTO;
-import com.flexpoker.web.dto.outgoing.TableDTO;
 
 @Component
 public class PlayerForceFoldedEventHandler implements EventHandler<PlayerForceFoldedEvent> {
@@ -51,45 +44,8 @@ public class PlayerForceFoldedEventHandler implements EventHandler<PlayerForceFo
     }
 
     private void handleUpdatingTable(PlayerForceFoldedEvent event) {
-        TableDTO currentTable = tableRepository.fetchById(event.getAggregateId());
-        String username = loginRepository.fetchUsernameByAggregateId(event.getPlayerId());
-
-        List<SeatDTO> updatedSeats = currentTable.getSeats().stream()
-                .map(seatDTO -> {
-                    if (seatDTO.getName().equals(username)) {
-                        return new SeatDTO(
-                                seatDTO.getPosition(),
-                                seatDTO.getName(),
-                                seatDTO.getChipsInBack(),
-                                seatDTO.getChipsInFront(),
-                                false,
-                                0,
-                                0,
-                                seatDTO.isButton(),
-                                seatDTO.isSmallBlind(),
-                                seatDTO.isBigBlind(),
-                                false);
-                    }
-                    return seatDTO;
-                }).collect(Collectors.toList());
-
-        Set<PotDTO> updatePots = currentTable.getPots().stream()
-                .map(potDTO -> {
-                    Set<String> updatedPotSeats = potDTO.getSeats().stream()
-                            .filter(x -> !x.equals(username))
-                            .collect(Collectors.toSet());
-                    return new PotDTO(
-                            updatedPotSeats,
-                            potDTO.getAmount(),
-                            potDTO.isOpen(),
-                            potDTO.getWinners());
-        }).collect(Collectors.toSet());
-
-        TableDTO updatedTable = new TableDTO(currentTable.getId(),
-                event.getVersion(), updatedSeats, currentTable.getTotalPot(),
-                updatePots, currentTable.getVisibleCommonCards(),
-                currentTable.getCurrentHandMinRaiseToAmount());
-        tableRepository.save(updatedTable);
+        tableRepository.update(event.getAggregateId(), event.getVersion(),
+                table -> table.fold(event.getPlayerId()));
     }
 
     private void handlePushNotifications(PlayerForceFoldedEvent event) {
@@ -1,8 +1,5 @@
 package com.flexpoker.table.query.handlers;
 
-import java.util.Set;
-import java.util.stream.Collectors;
-
 import javax.inject.Inject;
 
 import org.springframework.stereotype.Component;
@@ -13,8 +10,6 @@ import com.flexpoker.framework.pushnotifier.PushNotificationPublisher;
 import com.flexpoker.pushnotifications.TableUpdatedPushNotification;
 import com.flexpoker.table.command.events.PotClosedEvent;
 import com.flexpoker.table.query.repository.TableRepository;
-import com.flexpoker.web.dto.outgoing.PotDTO;
-import com.flexpoker.web.dto.outgoing.TableDTO;
 
 @Component
 public class PotClosedEventHandler implements EventHandler<PotClosedEvent> {
@@ -37,20 +32,8 @@ public class PotClosedEventHandler implements EventHandler<PotClosedEvent> {
     }
 
     private void handleUpdatingTable(PotClosedEvent event) {
-        TableDTO currentTable = tableRepository.fetchById(event.getAggregateId());
-
-        Set<PotDTO> pots = currentTable.getPots().stream()
-                .map(x -> x.isOpen()
-                        ? new PotDTO(x.getSeats(), x.getAmount(), false, x.getWinners())
-                        : new PotDTO(x.getSeats(), x.getAmount(), x.isOpen(), x.getWinners()))
-                .collect(Collectors.toSet());
-
-        TableDTO updatedTable = new TableDTO(currentTable.getId(),
-                event.getVersion(), currentTable.getSeats(),
-                currentTable.getTotalPot(), pots,
-                currentTable.getVisibleCommonCards(),
-                currentTable.getCurrentHandMinRaiseToAmount());
-        tableRepository.save(updatedTable);
+        tableRepository.update(event.getAggregateId(), event.getVersion(),
+                table -> table.closeOpenPots());
     }
 
     private void handlePushNotifications(PotClosedEvent event) {
@@ -1,8 +1,5 @@
 package com.flexpoker.table.query.handlers;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import javax.inject.Inject;
 
 import org.springframework.stereotype.Component;
@@ -15,8 +12,7 @@ import com.flexpoker.pushnotifications.TableUpdatedPushNotification;
 import com.flexpoker.table.command.events.RiverCardDealtEvent;
 import com.flexpoker.table.query.repository.CardsUsedInHandRepository;
 import com.flexpoker.table.query.repository.TableRepository;
-import com.flexpoker.web.dto.outgoing.CardDTO;
-import com.flexpoker.web.dto.outgoing.TableDTO;
+import com.flexpoker.table.query.service.AllInEquityService;
 
 @Component
 public class RiverCardDealtEventHandler implements EventHandler<RiverCardDealtEvent> {
@@ -27,13 +23,17 @@ public class RiverCardDealtEventHandler implements EventHandler<RiverCardDealtEv
 
     private final PushNotificationPublisher pushNotificationPublisher;
 
+    private final AllInEquityService allInEquityService;
+
     @Inject
     public RiverCardDealtEventHandler(TableRepository tableRepository,
             CardsUsedInHandRepository cardsUsedInHandRepository,
-            PushNotificationPublisher pushNotificationPublisher) {
+            PushNotificationPublisher pushNotificationPublisher,
+            AllInEquityService allInEquityService) {
         this.tableRepository = tableRepository;
         this.cardsUsedInHandRepository = cardsUsedInHandRepository;
         this.pushNotificationPublisher = pushNotificationPublisher;
+        this.allInEquityService = allInEquityService;
     }
 
     @Override
@@ -43,17 +43,12 @@ public class RiverCardDealtEventHandler implements EventHandler<RiverCardDealtEv
     }
 
     private void handleUpdatingTable(RiverCardDealtEvent event) {
-        TableDTO currentTable = tableRepository.fetchById(event.getAggregateId());
-
         RiverCard riverCard = cardsUsedInHandRepository.fetchRiverCard(event.getHandId());
-        List<CardDTO> visibleCommonCards = new ArrayList<>(currentTable.getVisibleCommonCards());
-        visibleCommonCards.add(new CardDTO(riverCard.getCard().getId()));
-
-        TableDTO updatedTable = new TableDTO(currentTable.getId(),
-                event.getVersion(), currentTable.getSeats(),
-                currentTable.getTotalPot(), currentTable.getPots(),
-                visibleCommonCards, currentTable.getCurrentHandMinRaiseToAmount());
-        tableRepository.save(updatedTable);
+        tableRepository.update(event.getAggregateId(), event.getVersion(), table -> {
+            table.addVisibleCommonCard(riverCard.getCard());
+            allInEquityService.addEquityIfAllIn(event.getGameId(), event.getHandId(),
+                    event.getVersion(), table);
+        });
     }
 
     private void handlePushNotifications(RiverCardDealtEvent event) {
@@ -1,8 +1,5 @@
 package com.flexpoker.table.query.handlers;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 import javax.inject.Inject;
 
 import org.springframework.stereotype.Component;
@@ -13,8 +10,7 @@ import com.flexpoker.framework.pushnotifier.PushNotificationPublisher;
 import com.flexpoker.pushnotifications.TableUpdatedPushNotification;
 import com.flexpoker.table.command.events.RoundCompletedEvent;
 import com.flexpoker.table.query.repository.TableRepository;
-import com.flexpoker.web.dto.outgoing.SeatDTO;
-import com.flexpoker.web.dto.outgoing.TableDTO;
+import com.flexpoker.table.query.service.AllInEquityService;
 
 @Component
 public class RoundCompletedEventHandler implements EventHandler<RoundCompletedEvent> {
@@ -23,11 +19,15 @@ public class RoundCompletedEventHandler implements EventHandler<RoundCompletedEv
 
     private final PushNotificationPublisher pushNotificationPublisher;
 
+    private final AllInEquityService allInEquityService;
+
     @Inject
     public RoundCompletedEventHandler(TableRepository tableRepository,
-            PushNotificationPublisher pushNotificationPublisher) {
+            PushNotificationPublisher pushNotificationPublisher,
+            AllInEquityService allInEquityService) {
         this.tableRepository = tableRepository;
         this.pushNotificationPublisher = pushNotificationPublisher;
+        this.allInEquityService = allInEquityService;
     }
 
     @Override
@@ -37,30 +37,11 @@ public class RoundCompletedEventHandler implements EventHandler<RoundCompletedEv
     }
 
     private void handleUpdatingTable(RoundCompletedEvent event) {
-        TableDTO currentTable = tableRepository.fetchById(event.getAggregateId());
-
-        List<SeatDTO> updatedSeats = currentTable.getSeats().stream()
-                .map(seatDTO -> {
-                    return new SeatDTO(
-                            seatDTO.getPosition(),
-                            seatDTO.getName(),
-                            seatDTO.getChipsInBack(),
-                            0,
-                            seatDTO.isStillInHand(),
-                            Math.min(seatDTO.getChipsInBack(), currentTable.getCurrentHandMinRaiseToAmount()),
-                            seatDTO.getCallAmount(),
-                            seatDTO.isButton(),
-                            seatDTO.isSmallBlind(),
-                            seatDTO.isBigBlind(),
-                            seatDTO.isActionOn());
-                    })
-                .collect(Collectors.toList());
-
-        TableDTO updatedTable = new TableDTO(currentTable.getId(),
-                event.getVersion(), updatedSeats, currentTable.getTotalPot(),
-                currentTable.getPots(), currentTable.getVisibleCommonCards(),
-                currentTable.getCurrentHandMinRaiseToAmount());
-        tableRepository.save(updatedTable);
+        tableRepository.update(event.getAggregateId(), event.getVersion(), table -> {
+            table.completeRound();
+            allInEquityService.addEquityIfAllIn(event.getGameId(), event.getHandId(),
+                    event.getVersion(), table);
+        });
     }
 
     private void handlePushNotifications(RoundCompletedEvent event) {
@@ -1,10 +1,7 @@
 package com.flexpoker.table.query.handlers;
 
-import java.util.Collections;
-import java.util.List;
 import java.util.UUID;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -18,9 +15,8 @@ import com.flexpoker.login.repository.LoginRepository;
 import com.flexpoker.pushnotifications.OpenGamesForPlayerUpdatedPushNotification;
 import com.flexpoker.pushnotifications.OpenTableForUserPushNotification;
 import com.flexpoker.table.command.events.TableCreatedEvent;
+import com.flexpoker.table.query.repository.TableProjection;
 import com.flexpoker.table.query.repository.TableRepository;
-import com.flexpoker.web.dto.outgoing.SeatDTO;
-import com.flexpoker.web.dto.outgoing.TableDTO;
 
 @Component
 public class TableCreatedEventHandler implements EventHandler<TableCreatedEvent> {
@@ -52,20 +48,13 @@ public class TableCreatedEventHandler implements EventHandler<TableCreatedEvent>
     }
 
     private void handleNewTableInsert(TableCreatedEvent event) {
-        List<SeatDTO> seats = event.getSeatPositionToPlayerMap().keySet().stream()
-                .map(position -> {
-                    String displayName = loginRepository.fetchUsernameByAggregateId(event
-                            .getSeatPositionToPlayerMap().get(Integer.valueOf(position)));
-                    return SeatDTO.createForNewTable(
-                            position,
-                            displayName,
-                            event.getStartingNumberOfChips());
-                }).collect(Collectors.toList());
-
-        TableDTO tableDTO = new TableDTO(event.getAggregateId(),
-                event.getVersion(), seats, 0, Collections.emptySet(),
-                Collections.emptyList(), 0);
-        tableRepository.save(tableDTO);
+        TableProjection table = new TableProjection(event.getAggregateId(),
+                event.getVersion(), event.getNumberOfPlayersPerTable());
+        event.getSeatPositionToPlayerMap().forEach((position, playerId) -> table.addSeat(
+                position.intValue(), playerId,
+                loginRepository.fetchUsernameByAggregateId(playerId),
+                event.getStartingNumberOfChips()));
+        tableRepository.save(table);
     }
 
     private void handleOpenGameUpdate(TableCreatedEvent event) {
@@ -10,7 +10,6 @@ import com.flexpoker.framework.pushnotifier.PushNotificationPublisher;
 import com.flexpoker.pushnotifications.TableUpdatedPushNotification;
 import com.flexpoker.table.command.events.WinnersDeterminedEvent;
 import com.flexpoker.table.query.repository.TableRepository;
-import com.flexpoker.web.dto.outgoing.TableDTO;
 
 @Component
 public class WinnersDeterminedEventHandler implements
@@ -34,14 +33,7 @@ public class WinnersDeterminedEventHandler implements
     }
 
     private void handleUpdatingTable(WinnersDeterminedEvent event) {
-        TableDTO currentTable = tableRepository.fetchById(event.getAggregateId());
-
-        TableDTO updatedTable = new TableDTO(currentTable.getId(),
-                event.getVersion(), currentTable.getSeats(),
-                currentTable.getTotalPot(), currentTable.getPots(),
-                currentTable.getVisibleCommonCards(),
-                currentTable.getCurrentHandMinRaiseToAmount());
-        tableRepository.save(updatedTable);
+        tableRepository.update(event.getAggregateId(), event.getVersion(), table -> {});
     }
 
     private void handlePushNotifications(WinnersDeterminedEvent event) {
@@ -0,0 +1,400 @@
+package com.flexpoker.table.query.repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import com.flexpoker.model.card.Card;
+import com.flexpoker.web.dto.outgoing.CardDTO;
+import com.flexpoker.web.dto.outgoing.PotDTO;
+import com.flexpoker.web.dto.outgoing.SeatDTO;
+import com.flexpoker.web.dto.outgoing.TableDTO;
+
+/**
+ * The query side's state of a table, kept in arrays indexed by seat position
+ * and updated in place as events come in, with the seat of each player found
+ * by player id. Nothing here is thread-safe, so it's only touched through a
+ * {@link TableRepository}, which hands out immutable {@link TableDTO}
+ * snapshots to everyone else.
+ */
+public class TableProjection {
+
+    private static final int MAXIMUM_VISIBLE_COMMON_CARDS = 5;
+
+    private final UUID tableId;
+
+    private int version;
+
+    private final UUID[] playerIds;
+
+    private final String[] names;
+
+    private final boolean[] seated;
+
+    private final int[] chipsInBack;
+
+    private final int[] chipsInFront;
+
+    private final boolean[] stillInHand;
+
+    private final int[] raiseTo;
+
+    private final int[] callAmount;
+
+    private final boolean[] button;
+
+    private final boolean[] smallBlind;
+
+    private final boolean[] bigBlind;
+
+    private final boolean[] actionOn;
+
+    /**
+     * Each seat's equity, or NaN when it hasn't been calculated.
+     */
+    private final double[] equity;
+
+    private final Map<UUID, Integer> seatIndexByPlayerId;
+
+    private int totalPot;
+
+    private final List<Pot> pots;
+
+    private final int[] visibleCommonCards;
+
+    private int numberOfVisibleCommonCards;
+
+    private int currentHandMinRaiseToAmount;
+
+    private TableDTO snapshot;
+
+    public TableProjection(UUID tableId, int version, int numberOfSeats) {
+        this.tableId = tableId;
+        this.version = version;
+        this.playerIds = new UUID[numberOfSeats];
+        this.names = new String[numberOfSeats];
+        this.seated = new boolean[numberOfSeats];
+        this.chipsInBack = new int[numberOfSeats];
+        this.chipsInFront = new int[numberOfSeats];
+        this.stillInHand = new boolean[numberOfSeats];
+        this.raiseTo = new int[numberOfSeats];
+        this.callAmount = new int[numberOfSeats];
+        this.button = new boolean[numberOfSeats];
+        this.smallBlind = new boolean[numberOfSeats];
+        this.bigBlind = new boolean[numberOfSeats];
+        this.actionOn = new boolean[numberOfSeats];
+        this.equity = new double[numberOfSeats];
+        Arrays.fill(equity, Double.NaN);
+        this.seatIndexByPlayerId = new HashMap<>();
+        this.pots = new ArrayList<>();
+        this.visibleCommonCards = new int[MAXIMUM_VISIBLE_COMMON_CARDS];
+    }
+
+    public UUID getId() {
+        return tableId;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public void setVersion(int version) {
+        this.version = version;
+        changed();
+    }
+
+    /**
+     * Seat a player for a new table, before any hand has been dealt.
+     */
+    public void addSeat(int position, UUID playerId, String name, int startingNumberOfChips) {
+        seated[position] = true;
+        seatPlayer(position, playerId);
+        names[position] = name;
+        chipsInBack[position] = startingNumberOfChips;
+        changed();
+    }
+
+    /**
+     * Clear out the last hand. Only the seats that are then dealt in with
+     * {@link #dealIn} are shown.
+     */
+    public void startNewHand(int totalPot, int currentHandMinRaiseToAmount) {
+        Arrays.fill(seated, false);
+        Arrays.fill(playerIds, null);
+        Arrays.fill(actionOn, false);
+        Arrays.fill(equity, Double.NaN);
+        seatIndexByPlayerId.clear();
+        pots.clear();
+        numberOfVisibleCommonCards = 0;
+        this.totalPot = totalPot;
+        this.currentHandMinRaiseToAmount = currentHandMinRaiseToAmount;
+        changed();
+    }
+
+    public void dealIn(int position, UUID playerId, String name, int chipsInBack,
+            int chipsInFront, int raiseTo, int callAmount, boolean button,
+            boolean smallBlind, boolean bigBlind) {
+        this.seated[position] = true;
+        seatPlayer(position, playerId);
+        this.names[position] = name;
+        this.chipsInBack[position] = chipsInBack;
+        this.chipsInFront[position] = chipsInFront;
+        this.stillInHand[position] = true;
+        this.raiseTo[position] = raiseTo;
+        this.callAmount[position] = callAmount;
+        this.button[position] = button;
+        this.smallBlind[position] = smallBlind;
+        this.bigBlind[position] = bigBlind;
+        changed();
+    }
+
+    public void call(UUID playerId) {
+        int seat = seatOf(playerId);
+        int callingAmount = callAmount[seat];
+        chipsInFront[seat] += callingAmount;
+        chipsInBack[seat] -= callingAmount;
+        totalPot += callingAmount;
+        finishAction(seat);
+    }
+
+    public void check(UUID playerId) {
+        finishAction(seatOf(playerId));
+    }
+
+    public void fold(UUID playerId) {
+        int seat = seatOf(playerId);
+        stillInHand[seat] = false;
+        for (Pot pot : pots) {
+            pot.playerIds.remove(playerId);
+        }
+        finishAction(seat);
+    }
+
+    /**
+     * The raiser puts in chips up to the raise amount, and everyone else now
+     * has to call up to it and can raise to twice it, as far as their chips go.
+     */
+    public void raise(UUID playerId, int raiseToAmount) {
+        int raisingSeat = seatOf(playerId);
+        for (int seat = 0; seat < seated.length; seat++) {
+            if (seated[seat] && seat != raisingSeat) {
+                raiseTo[seat] = Math.min(raiseToAmount * 2, chipsInFront[seat] + chipsInBack[seat]);
+                callAmount[seat] = raiseToAmount - chipsInFront[seat];
+            }
+        }
+        int amountOverChipsInFront = raiseToAmount - chipsInFront[raisingSeat];
+        chipsInBack[raisingSeat] -= amountOverChipsInFront;
+        chipsInFront[raisingSeat] = raiseToAmount;
+        totalPot += amountOverChipsInFront;
+        finishAction(raisingSeat);
+    }
+
+    public void changeActionOn(UUID playerId) {
+        for (int seat = 0; seat < seated.length; seat++) {
+            actionOn[seat] = seated[seat] && playerId.equals(playerIds[seat]);
+        }
+        clearEquity();
+        changed();
+    }
+
+    /**
+     * Chips in front have been moved into the pots, and the next round opens
+     * with the minimum raise.
+     */
+    public void completeRound() {
+        for (int seat = 0; seat < seated.length; seat++) {
+            chipsInFront[seat] = 0;
+            raiseTo[seat] = Math.min(chipsInBack[seat], currentHandMinRaiseToAmount);
+        }
+        clearEquity();
+        changed();
+    }
+
+    public void addVisibleCommonCard(Card card) {
+        visibleCommonCards[numberOfVisibleCommonCards++] = card.getId();
+        changed();
+    }
+
+    public List<Card> getVisibleCommonCards() {
+        List<Card> cards = new ArrayList<>(numberOfVisibleCommonCards);
+        for (int i = 0; i < numberOfVisibleCommonCards; i++) {
+            cards.add(Card.valueOf(visibleCommonCards[i]));
+        }
+        return cards;
+    }
+
+    public void createPot(Set<UUID> playerIds) {
+        pots.add(new Pot(new HashSet<>(playerIds)));
+        changed();
+    }
+
+    public void increaseOpenPots(int amount) {
+        for (Pot pot : pots) {
+            if (pot.open) {
+                pot.amount += amount;
+            }
+        }
+        changed();
+    }
+
+    public void closeOpenPots() {
+        for (Pot pot : pots) {
+            pot.open = false;
+        }
+        changed();
+    }
+
+    /**
+     * Whether there's no betting left in the hand: at least two players are
+     * still in it, at most one of them has chips behind, and that one isn't
+     * facing a bet.
+     */
+    public boolean isAllIn() {
+        int playersStillInHand = 0;
+        int playersWithChipsBehind = 0;
+        for (int seat = 0; seat < seated.length; seat++) {
+            if (seated[seat] && stillInHand[seat]) {
+                playersStillInHand++;
+                if (chipsInBack[seat] > 0) {
+                    playersWithChipsBehind++;
+                    if (callAmount[seat] != 0) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return playersStillInHand >= 2 && playersWithChipsBehind <= 1;
+    }
+
+    public List<UUID> getPlayersStillInHand() {
+        List<UUID> playersStillInHand = new ArrayList<>();
+        for (int seat = 0; seat < seated.length; seat++) {
+            if (seated[seat] && stillInHand[seat]) {
+                playersStillInHand.add(playerIds[seat]);
+            }
+        }
+        return playersStillInHand;
+    }
+
+    public void setEquity(UUID playerId, double equity) {
+        this.equity[seatOf(playerId)] = equity;
+        changed();
+    }
+
+    /**
+     * An immutable copy of the table, which is only built again once the
+     * table has changed. Building it writes the cached copy, so like any
+     * other change it's only done while nobody else can see the table.
+     */
+    public TableDTO toTableDTO() {
+        TableDTO tableDTO = snapshot;
+        if (tableDTO == null) {
+            tableDTO = new TableDTO(tableId, version, createSeatDTOs(), totalPot,
+                    createPotDTOs(), createCardDTOs(), currentHandMinRaiseToAmount);
+            snapshot = tableDTO;
+        }
+        return tableDTO;
+    }
+
+    private List<SeatDTO> createSeatDTOs() {
+        List<SeatDTO> seatDTOs = new ArrayList<>(seated.length);
+        for (int seat = 0; seat < seated.length; seat++) {
+            if (seated[seat]) {
+                seatDTOs.add(new SeatDTO(seat, names[seat], chipsInBack[seat],
+                        chipsInFront[seat], stillInHand[seat], raiseTo[seat],
+                        callAmount[seat], button[seat], smallBlind[seat], bigBlind[seat],
+                        actionOn[seat], Double.isNaN(equity[seat]) ? null : equity[seat]));
+            }
+        }
+        return seatDTOs;
+    }
+
+    private Set<PotDTO> createPotDTOs() {
+        Set<PotDTO> potDTOs = new HashSet<>();
+        for (Pot pot : pots) {
+            Set<String> seatNames = new HashSet<>();
+            for (UUID playerId : pot.playerIds) {
+                Integer seat = seatIndexByPlayerId.get(playerId);
+                if (seat != null) {
+                    seatNames.add(names[seat]);
+                }
+            }
+            potDTOs.add(new PotDTO(seatNames, pot.amount, pot.open, Collections.emptySet()));
+        }
+        return potDTOs;
+    }
+
+    private List<CardDTO> createCardDTOs() {
+        List<CardDTO> cardDTOs = new ArrayList<>(numberOfVisibleCommonCards);
+        for (int i = 0; i < numberOfVisibleCommonCards; i++) {
+            cardDTOs.add(new CardDTO(visibleCommonCards[i]));
+        }
+        return cardDTOs;
+    }
+
+    /**
+     * Points the index at the player's new seat, and drops whoever had the
+     * seat before, along with any other seat the player was in.
+     */
+    private void seatPlayer(int position, UUID playerId) {
+        UUID previousPlayerId = playerIds[position];
+        if (previousPlayerId != null && !previousPlayerId.equals(playerId)) {
+            seatIndexByPlayerId.remove(previousPlayerId);
+        }
+        if (playerId != null) {
+            Integer previousPosition = seatIndexByPlayerId.put(playerId, position);
+            if (previousPosition != null && previousPosition.intValue() != position) {
+                seated[previousPosition] = false;
+                playerIds[previousPosition] = null;
+            }
+        }
+        playerIds[position] = playerId;
+    }
+
+    private int seatOf(UUID playerId) {
+        Integer seat = seatIndexByPlayerId.get(playerId);
+        if (seat == null) {
+            throw new IllegalArgumentException("player " + playerId
+                    + " isn't seated at table " + tableId);
+        }
+        return seat.intValue();
+    }
+
+    private void finishAction(int seat) {
+        raiseTo[seat] = 0;
+        callAmount[seat] = 0;
+        actionOn[seat] = false;
+        clearEquity();
+        changed();
+    }
+
+    private void clearEquity() {
+        Arrays.fill(equity, Double.NaN);
+    }
+
+    private void changed() {
+        snapshot = null;
+    }
+
+    private static class Pot {
+
+        private final Set<UUID> playerIds;
+
+        private int amount;
+
+        private boolean open;
+
+        Pot(Set<UUID> playerIds) {
+            this.playerIds = playerIds;
+            this.open = true;
+        }
+
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.flexpoker.table.query.repository;
 
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import com.flexpoker.web.dto.outgoing.TableDTO;
 
@@ -8,6 +9,22 @@ public interface TableRepository {
 
     TableDTO fetchById(UUID tableId);
 
-    void save(TableDTO tableDTO);
+    void save(TableProjection tableProjection);
+
+    /**
+     * Change a table in place, as of the given version. Nobody can read the
+     * table while it's being changed, and changes for a version that isn't
+     * newer than the table's are ignored.
+     */
+    void update(UUID tableId, int version, Consumer<TableProjection> update);
+
+    /**
+     * Change a table in place without moving it to a new version, for
+     * something worked out from the table as of the given version. The change
+     * is dropped if the table has moved on since.
+     *
+     * @return whether the change was made
+     */
+    boolean updateAtVersion(UUID tableId, int version, Consumer<TableProjection> update);
 
 }
@@ -5,20 +5,29 @@ import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 
 import org.springframework.stereotype.Repository;
 
+import com.flexpoker.table.query.repository.TableProjection;
 import com.flexpoker.table.query.repository.TableRepository;
 import com.flexpoker.web.dto.outgoing.TableDTO;
 
 @Repository
 public class InMemoryTableRepository implements TableRepository {
 
+    private final Map<UUID, TableProjection> idToTableProjectionMap;
+
+    /**
+     * The latest snapshot of each table, built while the table's write lock
+     * is held so that reading a table never touches its projection.
+     */
     private final Map<UUID, TableDTO> idToTableDTOMap;
 
     private final Map<UUID, ReadWriteLock> idToLockMap;
 
     public InMemoryTableRepository() {
+        idToTableProjectionMap = new ConcurrentHashMap<>();
         idToTableDTOMap = new ConcurrentHashMap<>();
         idToLockMap = new ConcurrentHashMap<>();
     }
@@ -34,22 +43,58 @@ public class InMemoryTableRepository implements TableRepository {
     }
 
     @Override
-    public void save(TableDTO tableDTO) {
+    public void save(TableProjection tableProjection) {
         try {
-            idToLockMap.putIfAbsent(tableDTO.getId(),
+            idToLockMap.putIfAbsent(tableProjection.getId(),
                     new ReentrantReadWriteLock());
-            idToLockMap.get(tableDTO.getId()).writeLock().lock();
+            idToLockMap.get(tableProjection.getId()).writeLock().lock();
+
+            TableProjection existingTableProjection = idToTableProjectionMap
+                    .get(tableProjection.getId());
 
-            TableDTO existingTableDTO = idToTableDTOMap.get(tableDTO.getId());
+            // only save if it's a new table or if the version is greater than
+            // the current
+            if (existingTableProjection == null
+                    || tableProjection.getVersion() > existingTableProjection.getVersion()) {
+                idToTableProjectionMap.put(tableProjection.getId(), tableProjection);
+                idToTableDTOMap.put(tableProjection.getId(), tableProjection.toTableDTO());
+            }
+        } finally {
+            idToLockMap.get(tableProjection.getId()).writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void update(UUID tableId, int version, Consumer<TableProjection> update) {
+        try {
+            idToLockMap.get(tableId).writeLock().lock();
+
+            TableProjection tableProjection = idToTableProjectionMap.get(tableId);
+            if (version > tableProjection.getVersion()) {
+                update.accept(tableProjection);
+                tableProjection.setVersion(version);
+                idToTableDTOMap.put(tableId, tableProjection.toTableDTO());
+            }
+        } finally {
+            idToLockMap.get(tableId).writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean updateAtVersion(UUID tableId, int version,
+            Consumer<TableProjection> update) {
+        try {
+            idToLockMap.get(tableId).writeLock().lock();
 
-            // only save if it's a new DTO or if the version is greater than the
-            // current
-            if (existingTableDTO == null
-                    || tableDTO.getVersion() > existingTableDTO.getVersion()) {
-                idToTableDTOMap.put(tableDTO.getId(), tableDTO);
+            TableProjection tableProjection = idToTableProjectionMap.get(tableId);
+            if (version != tableProjection.getVersion()) {
+                return false;
             }
+            update.accept(tableProjection);
+            idToTableDTOMap.put(tableId, tableProjection.toTableDTO());
+            return true;
         } finally {
-            idToLockMap.get(tableDTO.getId()).writeLock().unlock();
+            idToLockMap.get(tableId).writeLock().unlock();
         }
     }
 
@@ -0,0 +1,101 @@
+package com.flexpoker.table.query.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import com.flexpoker.framework.pushnotifier.PushNotificationPublisher;
+import com.flexpoker.model.card.Card;
+import com.flexpoker.model.card.PocketCards;
+import com.flexpoker.pushnotifications.TableUpdatedPushNotification;
+import com.flexpoker.table.query.repository.CardsUsedInHandRepository;
+import com.flexpoker.table.query.repository.TableProjection;
+import com.flexpoker.table.query.repository.TableRepository;
+
+/**
+ * Fills in each seat's equity once there's no betting left in the hand, that
+ * is once at most one player still in the hand has chips behind and that
+ * player isn't facing a bet.
+ *
+ * Working out equity can take a while, so it's done on the equity stage
+ * rather than while the table is locked for an update. The result goes on the
+ * table only if it's still at the version the equity was worked out for, and
+ * if the stage is too busy the table just goes without equity for that
+ * street.
+ */
+@Service
+public class AllInEquityService {
+
+    private final EquityCalculator equityCalculator;
+
+    private final CardsUsedInHandRepository cardsUsedInHandRepository;
+
+    private final TableRepository tableRepository;
+
+    private final PushNotificationPublisher pushNotificationPublisher;
+
+    private final Executor equityExecutor;
+
+    @Inject
+    public AllInEquityService(EquityCalculator equityCalculator,
+            CardsUsedInHandRepository cardsUsedInHandRepository,
+            TableRepository tableRepository,
+            PushNotificationPublisher pushNotificationPublisher,
+            @Qualifier("equityExecutor") Executor equityExecutor) {
+        this.equityCalculator = equityCalculator;
+        this.cardsUsedInHandRepository = cardsUsedInHandRepository;
+        this.tableRepository = tableRepository;
+        this.pushNotificationPublisher = pushNotificationPublisher;
+        this.equityExecutor = equityExecutor;
+    }
+
+    /**
+     * Called while the table is being updated to the given version, and only
+     * takes what's needed from it before handing off.
+     */
+    public void addEquityIfAllIn(UUID gameId, UUID handId, int version,
+            TableProjection table) {
+        if (!table.isAllIn()) {
+            return;
+        }
+
+        UUID tableId = table.getId();
+        List<UUID> playersStillInHand = table.getPlayersStillInHand();
+        List<Card> visibleCommonCards = table.getVisibleCommonCards();
+
+        try {
+            equityExecutor.execute(() -> addEquity(gameId, tableId, handId, version,
+                    playersStillInHand, visibleCommonCards));
+        } catch (RejectedExecutionException e) {
+            // equity is only a nicety, so it's skipped rather than held up
+        }
+    }
+
+    private void addEquity(UUID gameId, UUID tableId, UUID handId, int version,
+            List<UUID> playersStillInHand, List<Card> visibleCommonCards) {
+        Map<UUID, PocketCards> pocketCardsByPlayerId = playersStillInHand.stream()
+                .collect(Collectors.toMap(Function.identity(),
+                        x -> cardsUsedInHandRepository.fetchPocketCards(handId, x)));
+        Map<PocketCards, Double> equity = equityCalculator.calculateEquity(
+                new ArrayList<>(pocketCardsByPlayerId.values()), visibleCommonCards);
+
+        boolean added = tableRepository.updateAtVersion(tableId, version,
+                table -> pocketCardsByPlayerId.forEach((playerId, pocketCards) ->
+                        table.setEquity(playerId, equity.get(pocketCards))));
+        if (added) {
+            pushNotificationPublisher.publish(new TableUpdatedPushNotification(gameId,
+                    tableId));
+        }
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.flexpoker.table.query.service;
+
+import java.util.List;
+import java.util.Map;
+
+import com.flexpoker.model.card.Card;
+import com.flexpoker.model.card.PocketCards;
+
+/**
+ * What the query side needs to work out equity, so that it doesn't reach
+ * into the command side's services. The engine behind it is wired up in
+ * {@code EquityCalculatorConfig}.
+ */
+@FunctionalInterface
+public interface EquityCalculator {
+
+    /**
+     * Each player's share of the pot, from 0 to 1, given the visible common
+     * cards.
+     */
+    Map<PocketCards, Double> calculateEquity(List<PocketCards> pocketCards,
+            List<Card> visibleCommonCards);
+
+}
@@ -41,7 +41,14 @@ public class TableController {
         this.tableRepository = tableRepository;
     }
 
-    @SubscribeMapping("/topic/game/{gameId}/table/{tableId}")
+    /**
+     * The whole table, sent back to a client when it subscribes to the table's
+     * topic, after which it only gets patches. The /app destination lets a
+     * client that's missed a patch get the table again without subscribing
+     * to the topic a second time.
+     */
+    @SubscribeMapping({ "/topic/game/{gameId}/table/{tableId}",
+            "/app/game/{gameId}/table/{tableId}" })
     public TableDTO fetchTable(@DestinationVariable UUID gameId,
             @DestinationVariable UUID tableId) {
         return tableRepository.fetchById(tableId);
@@ -1,5 +1,7 @@
 package com.flexpoker.web.dto.outgoing;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 public class SeatDTO {
@@ -26,9 +28,18 @@ public class SeatDTO {
 
     private final boolean actionOn;
 
+    private final Double equity;
+
     public SeatDTO(int position, String name, int chipsInBack, int chipsInFront,
             boolean stillInHand, int raiseTo, int callAmount, boolean button,
             boolean smallBlind, boolean bigBlind, boolean actionOn) {
+        this(position, name, chipsInBack, chipsInFront, stillInHand, raiseTo,
+                callAmount, button, smallBlind, bigBlind, actionOn, null);
+    }
+
+    public SeatDTO(int position, String name, int chipsInBack, int chipsInFront,
+            boolean stillInHand, int raiseTo, int callAmount, boolean button,
+            boolean smallBlind, boolean bigBlind, boolean actionOn, Double equity) {
         this.position = position;
         this.name = name;
         this.chipsInBack = chipsInBack;
@@ -40,6 +51,7 @@ public class SeatDTO {
         this.smallBlind = smallBlind;
         this.bigBlind = bigBlind;
         this.actionOn = actionOn;
+        this.equity = equity;
     }
 
     @JsonProperty
@@ -97,6 +109,16 @@ public class SeatDTO {
         return actionOn;
     }
 
+    /**
+     * The seat's share of the pot, from 0 to 1, which is only filled in once
+     * everyone left in the hand is all-in.
+     */
+    @JsonProperty
+    @JsonInclude(Include.NON_NULL)
+    public Double getEquity() {
+        return equity;
+    }
+
     public static SeatDTO createForNewTable(int position, String displayName, int startingNumberOfChips) {
         return new SeatDTO(position, displayName, startingNumberOfChips, 0, false, 0, 0, false, false, false, false);
     }
@@ -0,0 +1,214 @@
+package com.flexpoker.web.dto.outgoing;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * What changed on a table between two versions. It only applies to a client
+ * that has the table at exactly fromVersion, and anything left out is the
+ * same as it was then.
+ */
+public class TablePatchDTO {
+
+    private final UUID tableId;
+
+    private final int fromVersion;
+
+    private final int version;
+
+    private final List<SeatDTO> seats;
+
+    private final List<Integer> removedSeats;
+
+    private final Integer totalPot;
+
+    private final Set<PotDTO> pots;
+
+    private final List<CardDTO> newVisibleCommonCards;
+
+    private final List<CardDTO> visibleCommonCards;
+
+    private final Integer currentHandMinRaiseToAmount;
+
+    public TablePatchDTO(UUID tableId, int fromVersion, int version,
+            List<SeatDTO> seats, List<Integer> removedSeats, Integer totalPot,
+            Set<PotDTO> pots, List<CardDTO> newVisibleCommonCards,
+            List<CardDTO> visibleCommonCards, Integer currentHandMinRaiseToAmount) {
+        this.tableId = tableId;
+        this.fromVersion = fromVersion;
+        this.version = version;
+        this.seats = seats;
+        this.removedSeats = removedSeats;
+        this.totalPot = totalPot;
+        this.pots = pots;
+        this.newVisibleCommonCards = newVisibleCommonCards;
+        this.visibleCommonCards = visibleCommonCards;
+        this.currentHandMinRaiseToAmount = currentHandMinRaiseToAmount;
+    }
+
+    @JsonProperty
+    public UUID getId() {
+        return tableId;
+    }
+
+    @JsonProperty
+    public int getFromVersion() {
+        return fromVersion;
+    }
+
+    @JsonProperty
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Every seat that's new or has changed, in full.
+     */
+    @JsonProperty
+    @JsonInclude(Include.NON_EMPTY)
+    public List<SeatDTO> getSeats() {
+        return seats;
+    }
+
+    /**
+     * Positions of the seats that are no longer shown.
+     */
+    @JsonProperty
+    @JsonInclude(Include.NON_EMPTY)
+    public List<Integer> getRemovedSeats() {
+        return removedSeats;
+    }
+
+    @JsonProperty
+    @JsonInclude(Include.NON_NULL)
+    public Integer getTotalPot() {
+        return totalPot;
+    }
+
+    /**
+     * All of the pots, if any of them changed.
+     */
+    @JsonProperty
+    @JsonInclude(Include.NON_NULL)
+    public Set<PotDTO> getPots() {
+        return pots;
+    }
+
+    /**
+     * Cards to add to the end of the ones already showing.
+     */
+    @JsonProperty
+    @JsonInclude(Include.NON_EMPTY)
+    public List<CardDTO> getNewVisibleCommonCards() {
+        return newVisibleCommonCards;
+    }
+
+    /**
+     * All of the common cards, only when they've changed other than by
+     * turning over more of them, like when a new hand is dealt.
+     */
+    @JsonProperty
+    @JsonInclude(Include.NON_NULL)
+    public List<CardDTO> getVisibleCommonCards() {
+        return visibleCommonCards;
+    }
+
+    @JsonProperty
+    @JsonInclude(Include.NON_NULL)
+    public Integer getCurrentHandMinRaiseToAmount() {
+        return currentHandMinRaiseToAmount;
+    }
+
+    public static TablePatchDTO createFromVersions(TableDTO previous, TableDTO current) {
+        if (!previous.getId().equals(current.getId())) {
+            throw new IllegalArgumentException("can't patch table " + previous.getId()
+                    + " into table " + current.getId());
+        }
+
+        Map<Integer, SeatDTO> previousSeatMap = new HashMap<>();
+        previous.getSeats().forEach(seat -> previousSeatMap.put(seat.getPosition(), seat));
+
+        List<SeatDTO> changedSeats = new ArrayList<>();
+        for (SeatDTO seat : current.getSeats()) {
+            SeatDTO previousSeat = previousSeatMap.remove(seat.getPosition());
+            if (previousSeat == null || !sameSeat(previousSeat, seat)) {
+                changedSeats.add(seat);
+            }
+        }
+        List<Integer> removedSeats = new ArrayList<>(previousSeatMap.keySet());
+
+        List<CardDTO> previousCards = previous.getVisibleCommonCards();
+        List<CardDTO> currentCards = current.getVisibleCommonCards();
+        List<CardDTO> newVisibleCommonCards = null;
+        List<CardDTO> visibleCommonCards = null;
+        if (startsWith(currentCards, previousCards)) {
+            newVisibleCommonCards = new ArrayList<>(
+                    currentCards.subList(previousCards.size(), currentCards.size()));
+        } else {
+            visibleCommonCards = currentCards;
+        }
+
+        return new TablePatchDTO(current.getId(), previous.getVersion(),
+                current.getVersion(), changedSeats, removedSeats,
+                previous.getTotalPot() == current.getTotalPot() ? null : current.getTotalPot(),
+                samePots(previous.getPots(), current.getPots()) ? null : current.getPots(),
+                newVisibleCommonCards, visibleCommonCards,
+                previous.getCurrentHandMinRaiseToAmount() == current.getCurrentHandMinRaiseToAmount()
+                        ? null : current.getCurrentHandMinRaiseToAmount());
+    }
+
+    private static boolean sameSeat(SeatDTO a, SeatDTO b) {
+        return a.getChipsInBack() == b.getChipsInBack()
+                && a.getChipsInFront() == b.getChipsInFront()
+                && a.isStillInHand() == b.isStillInHand()
+                && a.getRaiseTo() == b.getRaiseTo()
+                && a.getCallAmount() == b.getCallAmount()
+                && a.isButton() == b.isButton()
+                && a.isSmallBlind() == b.isSmallBlind()
+                && a.isBigBlind() == b.isBigBlind()
+                && a.isActionOn() == b.isActionOn()
+                && Objects.equals(a.getName(), b.getName())
+                && Objects.equals(a.getEquity(), b.getEquity());
+    }
+
+    private static boolean samePots(Set<PotDTO> a, Set<PotDTO> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        Set<List<Object>> potKeys = new HashSet<>();
+        a.forEach(pot -> potKeys.add(potKey(pot)));
+        return b.stream().allMatch(pot -> potKeys.contains(potKey(pot)));
+    }
+
+    private static List<Object> potKey(PotDTO pot) {
+        List<Object> potKey = new ArrayList<>(4);
+        potKey.add(pot.getSeats());
+        potKey.add(pot.getAmount());
+        potKey.add(pot.isOpen());
+        potKey.add(pot.getWinners());
+        return potKey;
+    }
+
+    private static boolean startsWith(List<CardDTO> cards, List<CardDTO> prefix) {
+        if (prefix.size() > cards.size()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.size(); i++) {
+            if (cards.get(i).getId() != prefix.get(i).getId()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
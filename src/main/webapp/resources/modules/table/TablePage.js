@@ -105,15 +105,61 @@ function sendChat(gameId, tableId, message) {
 }
 
 function receiveTableUpdate(message) {
-  let table = JSON.parse(message.body);
-
-  if (table.version > this.state.tableVersion) {
-    this.setState({
-      totalPot: table.totalPot,
-      visibleCommonCards: table.visibleCommonCards,
-      seats: table.seats,
-      tableVersion: table.version,
-      pots: table.pots
-    });
+  const table = JSON.parse(message.body);
+
+  // equity is added to a table without a new version, so a table or patch
+  // at the version already shown can still have something new in it
+  if (_.isUndefined(table.fromVersion)) {
+    if (table.version >= this.state.tableVersion) {
+      receiveTable.call(this, table);
+    }
+  } else if (table.fromVersion === this.state.tableVersion) {
+    receivePatch.call(this, table);
+  } else if (table.version > this.state.tableVersion) {
+    fetchTable.call(this);
+  }
+}
+
+function receiveTable(table) {
+  this.setState({
+    totalPot: table.totalPot,
+    visibleCommonCards: table.visibleCommonCards,
+    seats: table.seats,
+    tableVersion: table.version,
+    pots: table.pots
+  });
+}
+
+function receivePatch(patch) {
+  const changedSeats = patch.seats || [];
+  const removedSeats = patch.removedSeats || [];
+  const seats = this.state.seats
+    .filter(seat => !_.includes(removedSeats, seat.position)
+      && !changedSeats.some(changedSeat => changedSeat.position === seat.position))
+    .concat(changedSeats)
+    .sort((seat1, seat2) => seat1.position - seat2.position);
+
+  this.setState({
+    totalPot: _.isNil(patch.totalPot) ? this.state.totalPot : patch.totalPot,
+    visibleCommonCards: patch.visibleCommonCards
+      || this.state.visibleCommonCards.concat(patch.newVisibleCommonCards || []),
+    seats: seats,
+    tableVersion: patch.version,
+    pots: patch.pots || this.state.pots
+  });
+}
+
+function fetchTable() {
+  if (this.fetchingTable) {
+    return;
   }
+  this.fetchingTable = true;
+
+  const gameId = this.props.params.gameId;
+  const tableId = this.props.params.tableId;
+  const subscription = WebSocketService.registerSubscription(`/app/game/${gameId}/table/${tableId}`, message => {
+    this.fetchingTable = false;
+    subscription.then(x => x.unsubscribe());
+    receiveTableUpdate.call(this, message);
+  });
 }
@@ -0,0 +1,46 @@
+package com.flexpoker.framework.command;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.flexpoker.exception.AggregateVersionConflictException;
+
+public class VersionConflictRetryTest {
+
+    @Test
+    public void testConflictIsRetriedUntilItGetsThrough() {
+        AtomicInteger attempts = new AtomicInteger();
+        VersionConflictRetry.retryOnVersionConflict(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new AggregateVersionConflictException(UUID.randomUUID(), 1, 2);
+            }
+        }, 5);
+        assertEquals(3, attempts.get());
+    }
+
+    @Test(expected = AggregateVersionConflictException.class)
+    public void testConflictOnEveryAttemptIsRethrown() {
+        VersionConflictRetry.retryOnVersionConflict(() -> {
+            throw new AggregateVersionConflictException(UUID.randomUUID(), 1, 2);
+        }, 5);
+    }
+
+    @Test
+    public void testOtherFailuresAreNotRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+        try {
+            VersionConflictRetry.retryOnVersionConflict(() -> {
+                attempts.incrementAndGet();
+                throw new IllegalStateException("expected");
+            }, 5);
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        assertEquals(1, attempts.get());
+    }
+
+}
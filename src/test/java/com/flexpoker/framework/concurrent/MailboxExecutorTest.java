@@ -0,0 +1,243 @@
+package com.flexpoker.framework.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MailboxExecutorTest {
+
+    private ExecutorService workerPool;
+
+    private MailboxExecutor<UUID> sut;
+
+    @Before
+    public void setup() {
+        workerPool = Executors.newFixedThreadPool(4);
+        sut = new MailboxExecutor<>(workerPool, 3);
+    }
+
+    @After
+    public void tearDown() {
+        workerPool.shutdownNow();
+    }
+
+    @Test
+    public void testTasksForSameKeyRunInOrderAndNeverOverlap() throws InterruptedException {
+        int numberOfKeys = 8;
+        int tasksPerKey = 500;
+        Map<UUID, List<Integer>> resultMap = new ConcurrentHashMap<>();
+        AtomicBoolean overlapDetected = new AtomicBoolean();
+        CountDownLatch latch = new CountDownLatch(numberOfKeys * tasksPerKey);
+
+        List<UUID> keys = new ArrayList<>();
+        for (int i = 0; i < numberOfKeys; i++) {
+            UUID key = UUID.randomUUID();
+            keys.add(key);
+            resultMap.put(key, Collections.synchronizedList(new ArrayList<>()));
+        }
+
+        Map<UUID, AtomicBoolean> runningMap = new ConcurrentHashMap<>();
+        keys.forEach(x -> runningMap.put(x, new AtomicBoolean()));
+
+        for (int i = 0; i < tasksPerKey; i++) {
+            int taskNumber = i;
+            for (UUID key : keys) {
+                sut.execute(key, () -> {
+                    if (!runningMap.get(key).compareAndSet(false, true)) {
+                        overlapDetected.set(true);
+                    }
+                    resultMap.get(key).add(taskNumber);
+                    runningMap.get(key).set(false);
+                    latch.countDown();
+                });
+            }
+        }
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertFalse(overlapDetected.get());
+        for (UUID key : keys) {
+            List<Integer> results = resultMap.get(key);
+            assertEquals(tasksPerKey, results.size());
+            for (int i = 0; i < tasksPerKey; i++) {
+                assertEquals(Integer.valueOf(i), results.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testFailedTaskDoesNotBlockMailbox() throws InterruptedException {
+        UUID key = UUID.randomUUID();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        sut.execute(key, () -> {
+            throw new IllegalStateException("expected");
+        });
+        sut.execute(key, latch::countDown);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(1, sut.getFailedTaskCount());
+    }
+
+    @Test
+    public void testIdleMailboxesAreRetired() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(10);
+        for (int i = 0; i < 10; i++) {
+            sut.execute(UUID.randomUUID(), latch::countDown);
+        }
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        workerPool.shutdown();
+        assertTrue(workerPool.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(0, sut.getActiveMailboxCount());
+        assertEquals(10, sut.getCompletedTaskCount());
+    }
+
+    @Test
+    public void testBacklogOnSaturatedCallerRunsStageDrainsOnTheCaller()
+            throws InterruptedException {
+        StageExecutor stageExecutor = StageExecutor.withPlatformThreads("saturated", 1, 0,
+                StageExecutor.RejectionPolicy.CALLER_RUNS);
+        MailboxExecutor<UUID> mailboxExecutor = new MailboxExecutor<>(stageExecutor);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            stageExecutor.execute(() -> awaitQuietly(release));
+
+            UUID key = UUID.randomUUID();
+            int backlog = 500_000;
+            List<Integer> ran = new ArrayList<>();
+            mailboxExecutor.execute(key, () -> {
+                for (int i = 0; i < backlog; i++) {
+                    int taskNumber = i;
+                    mailboxExecutor.execute(key, () -> ran.add(taskNumber));
+                }
+            });
+
+            // everything ran on this thread, without the stack growing per batch
+            assertEquals(backlog, ran.size());
+            assertEquals(backlog + 1, mailboxExecutor.getCompletedTaskCount());
+            assertEquals(0, mailboxExecutor.getActiveMailboxCount());
+            assertTrue(stageExecutor.getCallerRunsTaskCount() > 0);
+        } finally {
+            release.countDown();
+            stageExecutor.shutdown();
+        }
+    }
+
+    @Test
+    public void testBacklogOnSaturatedCallerRunsStageDrainsOnTheWorker()
+            throws InterruptedException {
+        StageExecutor stageExecutor = StageExecutor.withPlatformThreads("saturated", 1, 0,
+                StageExecutor.RejectionPolicy.CALLER_RUNS);
+        MailboxExecutor<UUID> mailboxExecutor = new MailboxExecutor<>(stageExecutor);
+        try {
+            UUID key = UUID.randomUUID();
+            int backlog = 500_000;
+            CountDownLatch latch = new CountDownLatch(backlog);
+            mailboxExecutor.execute(key, () -> {
+                for (int i = 0; i < backlog; i++) {
+                    mailboxExecutor.execute(key, latch::countDown);
+                }
+            });
+
+            assertTrue(latch.await(30, TimeUnit.SECONDS));
+            assertEquals(0, mailboxExecutor.getFailedTaskCount());
+            assertTrue(stageExecutor.getCallerRunsTaskCount() > 0);
+        } finally {
+            stageExecutor.shutdown();
+        }
+    }
+
+    @Test
+    public void testTasksOfferedWhileScheduleIsRejectedStillRun() throws InterruptedException {
+        CountDownLatch scheduling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        MailboxExecutor<UUID> mailboxExecutor = new MailboxExecutor<>(runnable -> {
+            scheduling.countDown();
+            awaitQuietly(release);
+            throw new RejectedExecutionException("full");
+        });
+
+        UUID key = UUID.randomUUID();
+        AtomicBoolean rejected = new AtomicBoolean();
+        AtomicBoolean rejectedTaskRan = new AtomicBoolean();
+        Thread rejectedThread = new Thread(() -> {
+            try {
+                mailboxExecutor.execute(key, () -> rejectedTaskRan.set(true));
+            } catch (RejectedExecutionException e) {
+                rejected.set(true);
+            }
+        });
+        rejectedThread.start();
+        assertTrue(scheduling.await(5, TimeUnit.SECONDS));
+
+        int numberOfThreads = 4;
+        int tasksPerThread = 5;
+        List<Integer> ran = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService offeringThreads = Executors.newFixedThreadPool(numberOfThreads);
+        try {
+            for (int i = 0; i < numberOfThreads; i++) {
+                offeringThreads.execute(() -> {
+                    for (int j = 0; j < tasksPerThread; j++) {
+                        mailboxExecutor.execute(key, () -> ran.add(1));
+                    }
+                });
+            }
+            offeringThreads.shutdown();
+            assertTrue(offeringThreads.awaitTermination(5, TimeUnit.SECONDS));
+        } finally {
+            offeringThreads.shutdownNow();
+        }
+
+        release.countDown();
+        rejectedThread.join(5000);
+
+        assertTrue(rejected.get());
+        assertFalse(rejectedTaskRan.get());
+        assertEquals(numberOfThreads * tasksPerThread, ran.size());
+        assertEquals(numberOfThreads * tasksPerThread, mailboxExecutor.getCompletedTaskCount());
+        assertEquals(0, mailboxExecutor.getPendingTaskCount());
+        assertEquals(0, mailboxExecutor.getActiveMailboxCount());
+    }
+
+    @Test
+    public void testRejectedMailboxWithNothingElseIsRetired() {
+        MailboxExecutor<UUID> mailboxExecutor = new MailboxExecutor<>(runnable -> {
+            throw new RejectedExecutionException("full");
+        });
+
+        try {
+            mailboxExecutor.execute(UUID.randomUUID(), () -> { });
+        } catch (RejectedExecutionException e) {
+            // expected
+        }
+
+        assertEquals(0, mailboxExecutor.getActiveMailboxCount());
+        assertEquals(0, mailboxExecutor.getSubmittedTaskCount());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
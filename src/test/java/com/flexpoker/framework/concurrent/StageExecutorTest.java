@@ -0,0 +1,159 @@
+package com.flexpoker.framework.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Test;
+
+import com.flexpoker.framework.concurrent.StageExecutor.RejectionPolicy;
+
+public class StageExecutorTest {
+
+    private StageExecutor sut;
+
+    @After
+    public void tearDown() {
+        if (sut != null) {
+            sut.shutdown();
+        }
+    }
+
+    @Test
+    public void testRunsTasksOnNamedThreads() throws InterruptedException {
+        sut = StageExecutor.withPlatformThreads("test-stage", 2, 10, RejectionPolicy.ABORT);
+
+        AtomicReference<String> threadName = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        sut.execute(() -> {
+            threadName.set(Thread.currentThread().getName());
+            done.countDown();
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(threadName.get().startsWith("test-stage-"));
+    }
+
+    @Test
+    public void testAbortPolicyRejectsPastQueueCapacity() throws InterruptedException {
+        sut = StageExecutor.withPlatformThreads("test-stage", 1, 1, RejectionPolicy.ABORT);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+
+        sut.execute(() -> {
+            running.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        sut.execute(() -> {});
+
+        try {
+            sut.execute(() -> {});
+            fail("expected the third task to be rejected");
+        } catch (RejectedExecutionException e) {
+            assertEquals(1, sut.getRejectedTaskCount());
+            assertEquals(1, sut.getActiveCount());
+            assertEquals(1, sut.getQueuedCount());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void testCallerRunsPolicyRunsOnSubmitter() throws InterruptedException {
+        sut = StageExecutor.withPlatformThreads("test-stage", 1, 1,
+                RejectionPolicy.CALLER_RUNS);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+
+        sut.execute(() -> {
+            running.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        sut.execute(() -> {});
+
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        sut.execute(() -> ranOn.set(Thread.currentThread()));
+        release.countDown();
+
+        assertEquals(Thread.currentThread(), ranOn.get());
+        assertEquals(1, sut.getCallerRunsTaskCount());
+    }
+
+    @Test
+    public void testCountsCompletedAndFailedTasks() throws InterruptedException {
+        sut = StageExecutor.withPlatformThreads("test-stage", 2, 10, RejectionPolicy.ABORT);
+        CountDownLatch done = new CountDownLatch(3);
+
+        sut.execute(done::countDown);
+        sut.execute(done::countDown);
+        sut.execute(() -> {
+            done.countDown();
+            throw new IllegalStateException("expected by the test");
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        waitUntil(() -> sut.getCompletedTaskCount() + sut.getFailedTaskCount() == 3);
+        assertEquals(3, sut.getSubmittedTaskCount());
+        assertEquals(2, sut.getCompletedTaskCount());
+        assertEquals(1, sut.getFailedTaskCount());
+    }
+
+    @Test
+    public void testVirtualThreadsRespectPoolSize() throws InterruptedException {
+        Assume.assumeTrue(StageExecutor.isVirtualThreadSupported());
+        sut = StageExecutor.withVirtualThreadsIfSupported("test-stage", 2, 100,
+                RejectionPolicy.ABORT);
+        assertTrue(sut.isVirtualThreads());
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(20);
+        for (int i = 0; i < 20; i++) {
+            sut.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleepQuietly(5);
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertTrue(maxRunning.get() <= 2);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+}
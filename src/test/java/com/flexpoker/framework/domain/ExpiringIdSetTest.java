@@ -0,0 +1,58 @@
+package com.flexpoker.framework.domain;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class ExpiringIdSetTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    public void testIdIsForgottenAfterTimeToLive() {
+        ExpiringIdSet sut = new ExpiringIdSet(Duration.ofNanos(100), 10, now::get);
+        UUID id = UUID.randomUUID();
+        sut.add(id);
+
+        now.set(99);
+        assertTrue(sut.contains(id));
+        now.set(100);
+        assertFalse(sut.contains(id));
+        assertEquals(0, sut.size());
+    }
+
+    @Test
+    public void testOldestIdIsForgottenWhenFull() {
+        ExpiringIdSet sut = new ExpiringIdSet(Duration.ofMinutes(1), 2, now::get);
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+        UUID id3 = UUID.randomUUID();
+        sut.add(id1);
+        sut.add(id2);
+        sut.add(id3);
+
+        assertEquals(2, sut.size());
+        assertFalse(sut.contains(id1));
+        assertTrue(sut.contains(id2));
+        assertTrue(sut.contains(id3));
+    }
+
+    @Test
+    public void testAddingAgainStartsTheTimeOver() {
+        ExpiringIdSet sut = new ExpiringIdSet(Duration.ofNanos(100), 10, now::get);
+        UUID id = UUID.randomUUID();
+        sut.add(id);
+        now.set(50);
+        sut.add(id);
+
+        now.set(120);
+        assertTrue(sut.contains(id));
+    }
+
+}
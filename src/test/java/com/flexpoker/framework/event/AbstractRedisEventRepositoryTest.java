@@ -0,0 +1,98 @@
+package com.flexpoker.framework.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flexpoker.framework.event.codec.BinaryEventSerializer;
+import com.flexpoker.table.command.events.TablePausedEvent;
+import com.flexpoker.table.command.framework.TableEvent;
+import com.flexpoker.table.command.repository.RedisTableEventRepository;
+import com.flexpoker.table.command.repository.TableEventCodecs;
+import com.flexpoker.test.util.InMemoryRedisConnection;
+
+public class AbstractRedisEventRepositoryTest {
+
+    private InMemoryRedisConnection connection;
+
+    private Jackson2JsonRedisSerializer<TableEvent> jsonSerializer;
+
+    private BinaryEventSerializer<TableEvent> binarySerializer;
+
+    @Before
+    public void setup() {
+        connection = new InMemoryRedisConnection().onEval("RENAME",
+                (redis, keys, args) -> {
+                    int expectedLength = Integer.parseInt(
+                            new String(args[0], StandardCharsets.UTF_8));
+                    if (redis.getList(keys[0]).size() != expectedLength) {
+                        redis.delete(keys[1]);
+                        return 0L;
+                    }
+                    redis.rename(keys[1], keys[0]);
+                    return 1L;
+                });
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.findAndRegisterModules();
+        jsonSerializer = new Jackson2JsonRedisSerializer<>(TableEvent.class);
+        jsonSerializer.setObjectMapper(objectMapper);
+        binarySerializer = new BinaryEventSerializer<>(TableEventCodecs.createRegistry());
+    }
+
+    @Test
+    public void testMigrateStreamLongerThanOneChunk() {
+        UUID tableId = UUID.randomUUID();
+        UUID gameId = UUID.randomUUID();
+        int numberOfEvents = AbstractRedisEventRepository.PUSH_CHUNK_SIZE * 2 + 500;
+        List<byte[]> jsonEvents = new ArrayList<>();
+        for (int version = 1; version <= numberOfEvents; version++) {
+            jsonEvents.add(jsonSerializer.serialize(
+                    new TablePausedEvent(tableId, version, gameId)));
+        }
+        connection.rightPushAll("table-event:" + tableId, jsonEvents);
+
+        assertTrue(createRepository("binary").migrateToWriteFormat(tableId));
+
+        List<byte[]> migratedEvents = connection.getList("table-event:" + tableId);
+        assertEquals(numberOfEvents, migratedEvents.size());
+        for (int i = 0; i < numberOfEvents; i++) {
+            assertTrue(BinaryEventSerializer.isBinary(migratedEvents.get(i)));
+            assertEquals(i + 1, binarySerializer.deserialize(migratedEvents.get(i)).getVersion());
+        }
+        assertEquals(1, connection.getLists().size());
+        assertEquals(3, connection.getPushSizes().size());
+        assertTrue(connection.getPushSizes().stream()
+                .allMatch(x -> x <= AbstractRedisEventRepository.PUSH_CHUNK_SIZE));
+    }
+
+    @Test
+    public void testMigrateStreamAlreadyInWriteFormat() {
+        UUID tableId = UUID.randomUUID();
+        List<byte[]> binaryEvents = new ArrayList<>();
+        binaryEvents.add(binarySerializer.serialize(
+                new TablePausedEvent(tableId, 1, UUID.randomUUID())));
+        connection.rightPushAll("table-event:" + tableId, binaryEvents);
+
+        assertFalse(createRepository("binary").migrateToWriteFormat(tableId));
+        assertTrue(connection.getPushSizes().isEmpty());
+    }
+
+    private RedisTableEventRepository createRepository(String writeFormat) {
+        MockEnvironment environment = new MockEnvironment().withProperty(
+                RedisTableEventRepository.STORAGE_FORMAT_PROPERTY, writeFormat);
+        return new RedisTableEventRepository(connection.createTemplate(), environment);
+    }
+
+}
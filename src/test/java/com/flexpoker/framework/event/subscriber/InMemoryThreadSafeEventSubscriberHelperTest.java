@@ -1,12 +1,18 @@
 package com.flexpoker.framework.event.subscriber;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 
@@ -70,4 +76,203 @@ public class InMemoryThreadSafeEventSubscriberHelperTest {
         assertEquals(event3, eventRunList.get(2));
     }
 
+    @Test
+    public void testRedeliveredEventDoesNotBlockLaterEvents() {
+        UUID tableId = UUID.randomUUID();
+        BlindsIncreasedEvent event1 = new BlindsIncreasedEvent(tableId, 1);
+        GameFinishedEvent event2 = new GameFinishedEvent(tableId, 2);
+        GameJoinedEvent event3 = new GameJoinedEvent(tableId, 3, UUID.randomUUID());
+
+        Map<Class<? extends Event>, EventHandler<? extends Event>> handlerMap = new HashMap<>();
+
+        final List<Event> eventRunList = new ArrayList<>();
+        handlerMap.put(event1.getClass(), x -> { eventRunList.add(event1); });
+        handlerMap.put(event2.getClass(), x -> { eventRunList.add(event2); });
+        handlerMap.put(event3.getClass(), x -> { eventRunList.add(event3); });
+
+        InMemoryThreadSafeEventSubscriberHelper sut = new InMemoryThreadSafeEventSubscriberHelper<>();
+        sut.setHandlerMap(handlerMap);
+
+        sut.receive(event1);
+        sut.receive(event3);
+        sut.receive(event1);
+        sut.receive(event2);
+
+        assertEquals(3, eventRunList.size());
+        assertEquals(event1, eventRunList.get(0));
+        assertEquals(event2, eventRunList.get(1));
+        assertEquals(event3, eventRunList.get(2));
+    }
+
+    @Test
+    public void testDifferentAggregatesAreHandledInParallel() throws InterruptedException {
+        UUID tableId1 = UUID.randomUUID();
+        UUID tableId2 = UUID.randomUUID();
+        BlindsIncreasedEvent event1 = new BlindsIncreasedEvent(tableId1, 1);
+        GameFinishedEvent event2 = new GameFinishedEvent(tableId2, 1);
+
+        CountDownLatch secondAggregateHandled = new CountDownLatch(1);
+        CountDownLatch bothHandled = new CountDownLatch(2);
+
+        Map<Class<? extends Event>, EventHandler<? extends Event>> handlerMap = new HashMap<>();
+        handlerMap.put(event1.getClass(), x -> {
+            // only finishes if the other aggregate isn't stuck behind this one
+            try {
+                if (secondAggregateHandled.await(5, TimeUnit.SECONDS)) {
+                    bothHandled.countDown();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        handlerMap.put(event2.getClass(), x -> {
+            secondAggregateHandled.countDown();
+            bothHandled.countDown();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            InMemoryThreadSafeEventSubscriberHelper sut = new InMemoryThreadSafeEventSubscriberHelper<>();
+            sut.setHandlerMap(handlerMap);
+            sut.setLaneExecutor(executor);
+
+            sut.receive(event1);
+            sut.receive(event2);
+
+            assertTrue(bothHandled.await(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testLaneExecutorKeepsOrderPerAggregate() throws InterruptedException {
+        int numberOfAggregates = 20;
+        int eventsPerAggregate = 50;
+
+        Map<UUID, List<Integer>> handledVersions = new HashMap<>();
+        List<BlindsIncreasedEvent> events = new ArrayList<>();
+        for (int i = 0; i < numberOfAggregates; i++) {
+            UUID gameId = UUID.randomUUID();
+            handledVersions.put(gameId, Collections.synchronizedList(new ArrayList<>()));
+            for (int version = 1; version <= eventsPerAggregate; version++) {
+                events.add(new BlindsIncreasedEvent(gameId, version));
+            }
+        }
+        Collections.shuffle(events);
+
+        CountDownLatch allHandled = new CountDownLatch(events.size());
+        Map<Class<? extends Event>, EventHandler<? extends Event>> handlerMap = new HashMap<>();
+        handlerMap.put(BlindsIncreasedEvent.class, x -> {
+            handledVersions.get(x.getAggregateId()).add(x.getVersion());
+            allHandled.countDown();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            InMemoryThreadSafeEventSubscriberHelper sut = new InMemoryThreadSafeEventSubscriberHelper<>();
+            sut.setHandlerMap(handlerMap);
+            sut.setLaneExecutor(executor);
+
+            events.forEach(sut::receive);
+
+            assertTrue(allHandled.await(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (List<Integer> versions : handledVersions.values()) {
+            for (int i = 0; i < eventsPerAggregate; i++) {
+                assertEquals(Integer.valueOf(i + 1), versions.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testRetiredAggregateDropsItsLane() {
+        UUID gameId = UUID.randomUUID();
+        Map<Class<? extends Event>, EventHandler<? extends Event>> handlerMap = new HashMap<>();
+        handlerMap.put(BlindsIncreasedEvent.class, x -> { });
+        handlerMap.put(GameFinishedEvent.class, x -> { });
+
+        InMemoryThreadSafeEventSubscriberHelper sut = new InMemoryThreadSafeEventSubscriberHelper<>();
+        sut.setHandlerMap(handlerMap);
+
+        sut.receive(new BlindsIncreasedEvent(gameId, 1));
+        sut.receive(new GameFinishedEvent(gameId, 2));
+        assertEquals(1, sut.getNumberOfLanes());
+
+        sut.retire(gameId);
+        assertEquals(0, sut.getNumberOfLanes());
+    }
+
+    @Test
+    public void testLaneWithEventsStillWaitingIsKept() {
+        UUID gameId = UUID.randomUUID();
+        List<Event> eventRunList = new ArrayList<>();
+        Map<Class<? extends Event>, EventHandler<? extends Event>> handlerMap = new HashMap<>();
+        handlerMap.put(BlindsIncreasedEvent.class, eventRunList::add);
+
+        InMemoryThreadSafeEventSubscriberHelper sut = new InMemoryThreadSafeEventSubscriberHelper<>();
+        sut.setHandlerMap(handlerMap);
+
+        sut.receive(new BlindsIncreasedEvent(gameId, 2));
+        sut.retire(gameId);
+        assertEquals(1, sut.getNumberOfLanes());
+
+        sut.receive(new BlindsIncreasedEvent(gameId, 1));
+        assertEquals(2, eventRunList.size());
+        assertEquals(0, sut.getNumberOfLanes());
+    }
+
+    @Test
+    public void testEventAfterRetireIsDroppedWithoutANewLane() {
+        UUID tableId = UUID.randomUUID();
+        List<Event> eventRunList = new ArrayList<>();
+        Map<Class<? extends Event>, EventHandler<? extends Event>> handlerMap = new HashMap<>();
+        handlerMap.put(BlindsIncreasedEvent.class, eventRunList::add);
+
+        InMemoryThreadSafeEventSubscriberHelper sut = new InMemoryThreadSafeEventSubscriberHelper<>();
+        sut.setHandlerMap(handlerMap);
+
+        sut.receive(new BlindsIncreasedEvent(tableId, 1));
+        sut.retire(tableId);
+        sut.receive(new BlindsIncreasedEvent(tableId, 2));
+
+        assertEquals(1, eventRunList.size());
+        assertEquals(0, sut.getNumberOfLanes());
+    }
+
+    @Test
+    public void testRetireWaitsForQueuedEvents() throws InterruptedException {
+        UUID gameId = UUID.randomUUID();
+        CountDownLatch release = new CountDownLatch(1);
+        Map<Class<? extends Event>, EventHandler<? extends Event>> handlerMap = new HashMap<>();
+        handlerMap.put(BlindsIncreasedEvent.class, x -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            InMemoryThreadSafeEventSubscriberHelper sut = new InMemoryThreadSafeEventSubscriberHelper<>();
+            sut.setHandlerMap(handlerMap);
+            sut.setLaneExecutor(executor);
+
+            sut.receive(new BlindsIncreasedEvent(gameId, 1));
+            sut.receive(new BlindsIncreasedEvent(gameId, 2));
+            sut.retire(gameId);
+            release.countDown();
+
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+            assertEquals(0, sut.getNumberOfLanes());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
 }
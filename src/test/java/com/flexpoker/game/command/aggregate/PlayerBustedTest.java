@@ -13,6 +13,7 @@ import org.junit.Test;
 
 import com.flexpoker.exception.FlexPokerException;
 import com.flexpoker.game.command.commands.CreateGameCommand;
+import com.flexpoker.game.command.events.GameFinishedEvent;
 import com.flexpoker.game.command.events.GameTablesCreatedAndPlayersAssociatedEvent;
 import com.flexpoker.game.command.events.PlayerBustedGameEvent;
 
@@ -97,9 +98,9 @@ public class PlayerBustedTest {
         playerToChipsMap.put(player3Id, 100);
         game.attemptToStartNewHand(tableId, playerToChipsMap);
 
-        assertEquals(9, game.fetchAppliedEvents().size());
-        assertEquals(9, game.fetchNewEvents().size());
-        assertEquals(9, game.fetchNewEvents().get(8).getVersion());
+        assertEquals(10, game.fetchAppliedEvents().size());
+        assertEquals(10, game.fetchNewEvents().size());
+        assertEquals(10, game.fetchNewEvents().get(9).getVersion());
         assertEquals(PlayerBustedGameEvent.class, game.fetchAppliedEvents().get(7).getClass());
         assertEquals(PlayerBustedGameEvent.class, game.fetchAppliedEvents().get(8).getClass());
 
@@ -109,6 +110,9 @@ public class PlayerBustedTest {
 
         assertTrue(bustedPlayers.contains(player1Id));
         assertTrue(bustedPlayers.contains(player2Id));
+
+        // player3 is the only one left
+        assertEquals(GameFinishedEvent.class, game.fetchAppliedEvents().get(9).getClass());
     }
 
     @Test(expected = FlexPokerException.class)
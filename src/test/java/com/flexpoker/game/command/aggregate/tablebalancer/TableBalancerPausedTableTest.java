@@ -3,6 +3,7 @@ package com.flexpoker.game.command.aggregate.tablebalancer;
 import static com.flexpoker.game.command.aggregate.tablebalancer.TableBalancerTestUtils.createDefaultChipMapForSubjectTable;
 import static com.flexpoker.game.command.aggregate.tablebalancer.TableBalancerTestUtils.createTableToPlayersMap;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 import java.util.Collections;
 import java.util.Map;
@@ -126,4 +127,18 @@ public class TableBalancerPausedTableTest {
                 ((PlayerMovedToNewTableEvent) event.get()).getToTableId());
     }
 
+    @Test
+    public void testAlreadyPausedTableIsNotPausedAgain() {
+        UUID subjectTableId = UUID.randomUUID();
+        Map<UUID, Set<UUID>> tableToPlayersMap = createTableToPlayersMap(
+                subjectTableId, 1, 2);
+
+        TableBalancer tableBalancer = new TableBalancer(UUID.randomUUID(), 2);
+        Optional<GameEvent> event = tableBalancer.createSingleBalancingEvent(1,
+                subjectTableId, Collections.singleton(subjectTableId),
+                tableToPlayersMap, createDefaultChipMapForSubjectTable(
+                        subjectTableId, tableToPlayersMap));
+        assertFalse(event.isPresent());
+    }
+
 }
@@ -88,4 +88,18 @@ public class TableBalancerRemoveTableTest {
         assertFalse(event.isPresent());
     }
 
+    @Test
+    public void testSubjectTableAlreadyRemoved() {
+        UUID subjectTableId = UUID.randomUUID();
+        Map<UUID, Set<UUID>> tableToPlayersMap = createTableToPlayersMap(
+                subjectTableId, 0, 2, 2);
+        tableToPlayersMap.remove(subjectTableId);
+
+        TableBalancer tableBalancer = new TableBalancer(UUID.randomUUID(), 2);
+        Optional<GameEvent> event = tableBalancer.createSingleBalancingEvent(1,
+                subjectTableId, Collections.emptySet(), tableToPlayersMap,
+                Collections.emptyMap());
+        assertFalse(event.isPresent());
+    }
+
 }
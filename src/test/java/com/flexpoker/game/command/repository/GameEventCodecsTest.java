@@ -0,0 +1,148 @@
+package com.flexpoker.game.command.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.flexpoker.framework.event.codec.BinaryEventSerializer;
+import com.flexpoker.framework.event.codec.EventTypeRegistry;
+import com.flexpoker.game.command.aggregate.BlindAmounts;
+import com.flexpoker.game.command.aggregate.BlindSchedule;
+import com.flexpoker.game.command.events.BlindsIncreasedEvent;
+import com.flexpoker.game.command.events.GameCreatedEvent;
+import com.flexpoker.game.command.events.GameFinishedEvent;
+import com.flexpoker.game.command.events.GameJoinedEvent;
+import com.flexpoker.game.command.events.GameMovedToStartingStageEvent;
+import com.flexpoker.game.command.events.GameStartedEvent;
+import com.flexpoker.game.command.events.GameTablesCreatedAndPlayersAssociatedEvent;
+import com.flexpoker.game.command.events.NewHandIsClearedToStartEvent;
+import com.flexpoker.game.command.events.PlayerBustedGameEvent;
+import com.flexpoker.game.command.events.PlayerMovedToNewTableEvent;
+import com.flexpoker.game.command.events.TablePausedForBalancingEvent;
+import com.flexpoker.game.command.events.TableRemovedEvent;
+import com.flexpoker.game.command.events.TableResumedAfterBalancingEvent;
+import com.flexpoker.game.command.framework.GameEvent;
+
+public class GameEventCodecsTest {
+
+    private ObjectMapper objectMapper;
+
+    private BinaryEventSerializer<GameEvent> binarySerializer;
+
+    private Jackson2JsonRedisSerializer<GameEvent> jsonSerializer;
+
+    @Before
+    public void setup() {
+        objectMapper = new ObjectMapper();
+        objectMapper.findAndRegisterModules();
+        binarySerializer = new BinaryEventSerializer<>(GameEventCodecs.createRegistry());
+        jsonSerializer = new Jackson2JsonRedisSerializer<>(GameEvent.class);
+        jsonSerializer.setObjectMapper(objectMapper);
+    }
+
+    @Test
+    public void testEveryJsonSubTypeIsRegisteredAndCovered() {
+        EventTypeRegistry<GameEvent> registry = GameEventCodecs.createRegistry();
+        JsonSubTypes subTypes = GameEvent.class.getAnnotation(JsonSubTypes.class);
+        for (JsonSubTypes.Type type : subTypes.value()) {
+            assertTrue(type.value().getSimpleName(), registry.isRegistered(type.value()));
+        }
+
+        Set<Class<?>> coveredTypes = new HashSet<>();
+        createOneOfEachEvent().forEach(x -> coveredTypes.add(x.getClass()));
+        assertEquals(subTypes.value().length, coveredTypes.size());
+    }
+
+    @Test
+    public void testBinaryRoundTrip() {
+        for (GameEvent event : createOneOfEachEvent()) {
+            GameEvent readBack = binarySerializer.deserialize(binarySerializer.serialize(event));
+            assertEquals(event.getClass(), readBack.getClass());
+            assertEquals(event.getTime(), readBack.getTime());
+            assertEquals(toJsonTree(event), toJsonTree(readBack));
+        }
+    }
+
+    @Test
+    public void testJsonRoundTrip() {
+        for (GameEvent event : createOneOfEachEvent()) {
+            GameEvent readBack = jsonSerializer.deserialize(jsonSerializer.serialize(event));
+            assertEquals(event.getClass(), readBack.getClass());
+            assertEquals(withoutTime(toJsonTree(event)), withoutTime(toJsonTree(readBack)));
+        }
+    }
+
+    @Test
+    public void testBlindScheduleLevelSurvivesRoundTrip() {
+        BlindSchedule blindSchedule = new BlindSchedule(10);
+        blindSchedule.incrementLevel();
+        blindSchedule.incrementLevel();
+        GameStartedEvent event = new GameStartedEvent(UUID.randomUUID(), 5,
+                new HashSet<>(Arrays.asList(UUID.randomUUID())), blindSchedule);
+
+        GameStartedEvent fromBinary = (GameStartedEvent) binarySerializer
+                .deserialize(binarySerializer.serialize(event));
+        GameStartedEvent fromJson = (GameStartedEvent) jsonSerializer
+                .deserialize(jsonSerializer.serialize(event));
+
+        assertEquals(3, fromBinary.getBlindSchedule().getCurrentLevel());
+        assertEquals(40, fromBinary.getBlindSchedule().getCurrentBlindAmounts().getSmallBlind());
+        assertEquals(3, fromJson.getBlindSchedule().getCurrentLevel());
+        assertEquals(40, fromJson.getBlindSchedule().getCurrentBlindAmounts().getSmallBlind());
+    }
+
+    private List<GameEvent> createOneOfEachEvent() {
+        UUID gameId = UUID.randomUUID();
+        UUID player1 = UUID.randomUUID();
+        UUID player2 = UUID.randomUUID();
+        UUID table1 = UUID.randomUUID();
+        UUID table2 = UUID.randomUUID();
+
+        Map<UUID, Set<UUID>> tableIdToPlayerIdsMap = new HashMap<>();
+        tableIdToPlayerIdsMap.put(table1, new HashSet<>(Arrays.asList(player1)));
+        tableIdToPlayerIdsMap.put(table2, new HashSet<>(Arrays.asList(player2)));
+
+        return Arrays.asList(
+                new GameCreatedEvent(gameId, 1, "game", 2, 6, player1, 10),
+                new GameJoinedEvent(gameId, 2, player1),
+                new GameJoinedEvent(gameId, 3, player2),
+                new GameMovedToStartingStageEvent(gameId, 4),
+                new GameTablesCreatedAndPlayersAssociatedEvent(gameId, 5,
+                        tableIdToPlayerIdsMap, 6),
+                new GameStartedEvent(gameId, 6, tableIdToPlayerIdsMap.keySet(),
+                        new BlindSchedule(10)),
+                new NewHandIsClearedToStartEvent(gameId, 7, table1, new BlindAmounts(10, 20)),
+                new BlindsIncreasedEvent(gameId, 8),
+                new TablePausedForBalancingEvent(gameId, 9, table2),
+                new PlayerMovedToNewTableEvent(gameId, 10, table2, table1, player2, 1500),
+                new TableRemovedEvent(gameId, 11, table2),
+                new TableResumedAfterBalancingEvent(gameId, 12, table1),
+                new PlayerBustedGameEvent(gameId, 13, player2),
+                new GameFinishedEvent(gameId, 14));
+    }
+
+    private JsonNode toJsonTree(GameEvent event) {
+        return objectMapper.valueToTree(event);
+    }
+
+    private JsonNode withoutTime(JsonNode jsonNode) {
+        ((ObjectNode) jsonNode).remove("time");
+        return jsonNode;
+    }
+
+}
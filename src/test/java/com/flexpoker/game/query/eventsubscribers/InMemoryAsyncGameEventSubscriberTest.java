@@ -0,0 +1,130 @@
+package com.flexpoker.game.query.eventsubscribers;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.flexpoker.framework.event.subscriber.InMemoryThreadSafeEventSubscriberHelper;
+import com.flexpoker.game.command.aggregate.DefaultGameFactory;
+import com.flexpoker.game.command.aggregate.Game;
+import com.flexpoker.game.command.commands.CreateGameCommand;
+import com.flexpoker.game.command.events.GameFinishedEvent;
+import com.flexpoker.game.command.events.GameTablesCreatedAndPlayersAssociatedEvent;
+import com.flexpoker.game.command.events.TableRemovedEvent;
+import com.flexpoker.game.command.framework.GameEvent;
+import com.flexpoker.game.query.handlers.GameFinishedEventHandler;
+import com.flexpoker.game.query.handlers.TableRemovedEventHandler;
+import com.flexpoker.pushnotificationhandlers.TableUpdatedPushNotificationHandler;
+import com.flexpoker.pushnotifications.TableUpdatedPushNotification;
+import com.flexpoker.table.query.repository.TableProjection;
+import com.flexpoker.table.query.repository.impl.InMemoryTableRepository;
+
+public class InMemoryAsyncGameEventSubscriberTest {
+
+    private ScheduledExecutorService pushWindowScheduler;
+
+    @Before
+    public void setup() {
+        pushWindowScheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        pushWindowScheduler.shutdownNow();
+    }
+
+    @Test
+    public void testFinishedGameCleansUpItsTables() {
+        Game game = new DefaultGameFactory().createNew(new CreateGameCommand(
+                "test", 4, 2, UUID.randomUUID(), 10));
+        for (int i = 0; i < 4; i++) {
+            game.joinGame(UUID.randomUUID());
+        }
+        UUID gameId = game.fetchNewEvents().get(0).getAggregateId();
+
+        Map<UUID, Set<UUID>> tableIdToPlayerIdsMap = game.fetchNewEvents().stream()
+                .filter(x -> x.getClass() == GameTablesCreatedAndPlayersAssociatedEvent.class)
+                .map(x -> ((GameTablesCreatedAndPlayersAssociatedEvent) x).getTableIdToPlayerIdsMap())
+                .findFirst().get();
+        Iterator<UUID> tableIds = tableIdToPlayerIdsMap.keySet().iterator();
+        UUID tableA = tableIds.next();
+        UUID tableB = tableIds.next();
+        Iterator<UUID> tableAPlayerIds = new ArrayList<>(tableIdToPlayerIdsMap.get(tableA)).iterator();
+        UUID playerA1 = tableAPlayerIds.next();
+        UUID playerA2 = tableAPlayerIds.next();
+        Iterator<UUID> tableBPlayerIds = new ArrayList<>(tableIdToPlayerIdsMap.get(tableB)).iterator();
+        UUID playerB1 = tableBPlayerIds.next();
+        UUID playerB2 = tableBPlayerIds.next();
+
+        // A is left short a player and pauses, B's bust sends its last player
+        // to A and empties it, and then one of the two at A goes out
+        game.attemptToStartNewHand(tableA, chips(playerA1, 0, playerA2, 1500));
+        game.attemptToStartNewHand(tableB, chips(playerB1, 0, playerB2, 1500));
+        game.attemptToStartNewHand(tableA, chips(playerA2, 3000, playerB2, 0));
+
+        InMemoryTableRepository tableRepository = new InMemoryTableRepository();
+        tableRepository.save(new TableProjection(tableA, 1, 2));
+        tableRepository.save(new TableProjection(tableB, 1, 2));
+        TableUpdatedPushNotificationHandler pushHandler = createPushHandler(tableRepository);
+        pushHandler.handle(new TableUpdatedPushNotification(gameId, tableA));
+        pushHandler.handle(new TableUpdatedPushNotification(gameId, tableB));
+        assertEquals(2, pushHandler.getTrackedTableCount());
+
+        List<UUID> removedTableIds = new ArrayList<>();
+        InMemoryAsyncGameEventSubscriber sut = new InMemoryAsyncGameEventSubscriber(
+                new InMemoryThreadSafeEventSubscriberHelper<>(),
+                x -> {}, x -> {}, x -> {}, x -> {}, x -> {},
+                new TableRemovedEventHandler(pushHandler,
+                        Collections.singletonList(removedTableIds::add)),
+                new GameFinishedEventHandler(pushHandler),
+                Runnable::run);
+
+        List<GameEvent> events = new ArrayList<>(game.fetchNewEvents());
+        assertEquals(1, events.stream()
+                .filter(x -> x.getClass() == TableRemovedEvent.class).count());
+        assertEquals(GameFinishedEvent.class, events.get(events.size() - 1).getClass());
+
+        // arriving out of order makes the lane hold events until the gaps
+        // fill in, so one it can't handle would hold everything after it
+        Collections.shuffle(events);
+        events.forEach(sut::receive);
+
+        assertEquals(Collections.singletonList(tableB), removedTableIds);
+        assertEquals(0, pushHandler.getTrackedTableCount());
+    }
+
+    private Map<UUID, Integer> chips(UUID playerId1, int chips1, UUID playerId2,
+            int chips2) {
+        Map<UUID, Integer> playerToChipsAtTableMap = new HashMap<>();
+        playerToChipsAtTableMap.put(playerId1, chips1);
+        playerToChipsAtTableMap.put(playerId2, chips2);
+        return playerToChipsAtTableMap;
+    }
+
+    private TableUpdatedPushNotificationHandler createPushHandler(
+            InMemoryTableRepository tableRepository) {
+        ExecutorSubscribableChannel channel = new ExecutorSubscribableChannel();
+        channel.subscribe(x -> {});
+        MockEnvironment environment = new MockEnvironment().withProperty(
+                TableUpdatedPushNotificationHandler.WINDOW_PROPERTY, "0");
+        return new TableUpdatedPushNotificationHandler(new SimpMessagingTemplate(channel),
+                tableRepository, Runnable::run, pushWindowScheduler, environment);
+    }
+
+}
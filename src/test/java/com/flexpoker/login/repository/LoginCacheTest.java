@@ -0,0 +1,102 @@
+package com.flexpoker.login.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.UUID;
+
+import org.junit.Test;
+
+public class LoginCacheTest {
+
+    @Test
+    public void testLookupBothWays() {
+        LoginCache loginCache = new LoginCache(10);
+        UUID aggregateId = UUID.randomUUID();
+        loginCache.put(aggregateId, "player1");
+
+        assertEquals("player1", loginCache.getUsername(aggregateId));
+        assertEquals(aggregateId, loginCache.getAggregateId("player1"));
+        assertNull(loginCache.getAggregateId("player2"));
+        assertEquals(2, loginCache.getHitCount());
+        assertEquals(1, loginCache.getMissCount());
+    }
+
+    @Test
+    public void testContainsUsernameIsNotCounted() {
+        LoginCache loginCache = new LoginCache(10);
+        loginCache.put(UUID.randomUUID(), "player1");
+
+        assertTrue(loginCache.containsUsername("player1"));
+        assertFalse(loginCache.containsUsername("player2"));
+        assertEquals(0, loginCache.getHitCount());
+        assertEquals(0, loginCache.getMissCount());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvictedBothWays() {
+        LoginCache loginCache = new LoginCache(2);
+        UUID aggregateId1 = UUID.randomUUID();
+        UUID aggregateId2 = UUID.randomUUID();
+        UUID aggregateId3 = UUID.randomUUID();
+        loginCache.put(aggregateId1, "player1");
+        loginCache.put(aggregateId2, "player2");
+        loginCache.getAggregateId("player1");
+        loginCache.put(aggregateId3, "player3");
+
+        assertEquals(2, loginCache.getSize());
+        assertEquals(aggregateId1, loginCache.getAggregateId("player1"));
+        assertNull(loginCache.getAggregateId("player2"));
+        assertNull(loginCache.getUsername(aggregateId2));
+        assertEquals("player3", loginCache.getUsername(aggregateId3));
+    }
+
+    @Test
+    public void testInvalidate() {
+        LoginCache loginCache = new LoginCache(10);
+        UUID aggregateId1 = UUID.randomUUID();
+        UUID aggregateId2 = UUID.randomUUID();
+        loginCache.put(aggregateId1, "player1");
+        loginCache.put(aggregateId2, "player2");
+
+        loginCache.invalidate(aggregateId1);
+        loginCache.invalidateUsername("player2");
+
+        assertNull(loginCache.getAggregateId("player1"));
+        assertNull(loginCache.getUsername(aggregateId2));
+        assertEquals(0, loginCache.getSize());
+    }
+
+    @Test
+    public void testInvalidateAll() {
+        LoginCache loginCache = new LoginCache(10);
+        UUID aggregateId = UUID.randomUUID();
+        loginCache.put(aggregateId, "player1");
+
+        loginCache.invalidateAll();
+
+        assertNull(loginCache.getAggregateId("player1"));
+        assertNull(loginCache.getUsername(aggregateId));
+    }
+
+    @Test
+    public void testRemappedUsernameDropsTheOldPair() {
+        LoginCache loginCache = new LoginCache(10);
+        UUID oldAggregateId = UUID.randomUUID();
+        UUID newAggregateId = UUID.randomUUID();
+        loginCache.put(oldAggregateId, "player1");
+        loginCache.put(newAggregateId, "player1");
+
+        assertEquals(newAggregateId, loginCache.getAggregateId("player1"));
+        assertNull(loginCache.getUsername(oldAggregateId));
+        assertEquals(1, loginCache.getSize());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotBounded() {
+        new LoginCache(0);
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.flexpoker.model.card;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class CardTest {
+
+    @Test
+    public void testCanonicalCardsMatchTheirIds() {
+        long allCards = 0;
+        for (int id = 0; id < Card.NUMBER_OF_CARDS; id++) {
+            Card card = Card.valueOf(id);
+            assertEquals(id, card.getId());
+            assertSame(card, Card.valueOf(card.getCardRank(), card.getCardSuit()));
+            assertEquals(1L << id, Card.maskOf(card));
+            allCards |= Card.maskOf(card);
+        }
+        assertEquals(Long.bitCount(allCards), Card.NUMBER_OF_CARDS);
+    }
+
+    @Test
+    public void testValueOfOnlySharesCanonicalCards() {
+        assertSame(Card.valueOf(CardRank.ACE, CardSuit.CLUBS),
+                Card.valueOf(51, CardRank.ACE, CardSuit.CLUBS));
+
+        Card nonCanonical = Card.valueOf(1, CardRank.ACE, CardSuit.CLUBS);
+        assertNotSame(Card.valueOf(1), nonCanonical);
+        assertEquals(1, nonCanonical.getId());
+        assertEquals(Card.maskOf(Card.valueOf(51)), Card.maskOf(nonCanonical));
+    }
+
+    @Test
+    public void testJsonReadsCanonicalCardsAsSharedInstances() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Card card = Card.valueOf(CardRank.TEN, CardSuit.DIAMONDS);
+
+        assertSame(card, objectMapper.readValue(objectMapper.writeValueAsString(card),
+                Card.class));
+    }
+
+    @Test
+    public void testPocketCardsMask() {
+        PocketCards pocketCards = new PocketCards(Card.valueOf(CardRank.ACE, CardSuit.HEARTS),
+                Card.valueOf(CardRank.KING, CardSuit.SPADES));
+
+        assertEquals(1L << 12 | 1L << 24, pocketCards.toMask());
+    }
+
+}
@@ -0,0 +1,211 @@
+package com.flexpoker.pushnotificationhandlers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.flexpoker.pushnotifications.TableUpdatedPushNotification;
+import com.flexpoker.table.query.repository.TableProjection;
+import com.flexpoker.table.query.repository.impl.InMemoryTableRepository;
+import com.flexpoker.util.MessagingConstants;
+import com.flexpoker.web.dto.outgoing.TableDTO;
+import com.flexpoker.web.dto.outgoing.TablePatchDTO;
+
+public class TableUpdatedPushNotificationHandlerTest {
+
+    private final UUID gameId = UUID.randomUUID();
+
+    private final UUID tableId = UUID.randomUUID();
+
+    private final String destination = String.format(MessagingConstants.TABLE_STATUS,
+            gameId, tableId);
+
+    private BlockingQueue<Message<?>> sentMessages;
+
+    private SimpMessagingTemplate messagingTemplate;
+
+    private InMemoryTableRepository tableRepository;
+
+    private CountDownLatch flushed;
+
+    private ScheduledExecutorService pushWindowScheduler;
+
+    @Before
+    public void setup() {
+        sentMessages = new LinkedBlockingQueue<>();
+        ExecutorSubscribableChannel channel = new ExecutorSubscribableChannel();
+        channel.subscribe(sentMessages::add);
+        messagingTemplate = new SimpMessagingTemplate(channel);
+        tableRepository = new InMemoryTableRepository();
+        tableRepository.save(new TableProjection(tableId, 1, 6));
+        flushed = new CountDownLatch(1);
+        pushWindowScheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        pushWindowScheduler.shutdownNow();
+    }
+
+    @Test
+    public void testBurstIsSentOnceAtTheLatestVersion() throws InterruptedException {
+        TableUpdatedPushNotificationHandler handler = createHandler(200);
+
+        for (int version = 2; version <= 11; version++) {
+            tableRepository.update(tableId, version, table -> { });
+            handler.handle(new TableUpdatedPushNotification(gameId, tableId));
+        }
+
+        assertTrue(flushed.await(2, TimeUnit.SECONDS));
+        assertEquals(11, ((TableDTO) nextSentPayload()).getVersion());
+        assertEquals(0, sentMessages.size());
+        assertEquals(10, handler.getReceivedCount());
+        assertEquals(1, handler.getSentCount());
+        assertEquals(9, handler.getCoalescedCount());
+        assertEquals(0, handler.getPendingCount());
+    }
+
+    @Test
+    public void testNoWindowSendsEachNewVersion() {
+        TableUpdatedPushNotificationHandler handler = createHandler(0);
+
+        handler.handle(new TableUpdatedPushNotification(gameId, tableId));
+        tableRepository.update(tableId, 2, table -> { });
+        handler.handle(new TableUpdatedPushNotification(gameId, tableId));
+
+        assertEquals(1, ((TableDTO) nextSentPayload()).getVersion());
+        TablePatchDTO patch = (TablePatchDTO) nextSentPayload();
+        assertEquals(1, patch.getFromVersion());
+        assertEquals(2, patch.getVersion());
+        assertEquals(2, handler.getSentCount());
+        assertEquals(1, handler.getSnapshotCount());
+    }
+
+    @Test
+    public void testVersionAlreadySentIsNotSentAgain() {
+        TableUpdatedPushNotificationHandler handler = createHandler(0);
+
+        handler.handle(new TableUpdatedPushNotification(gameId, tableId));
+        handler.handle(new TableUpdatedPushNotification(gameId, tableId));
+
+        assertEquals(1, sentMessages.size());
+        assertEquals(2, handler.getReceivedCount());
+        assertEquals(1, handler.getSentCount());
+        assertEquals(1, handler.getCoalescedCount());
+    }
+
+    @Test
+    public void testChangeWithoutANewVersionIsSent() {
+        TableUpdatedPushNotificationHandler handler = createHandler(0);
+        UUID playerId = UUID.randomUUID();
+        tableRepository.update(tableId, 2, table -> {
+            table.startNewHand(0, 20);
+            table.dealIn(1, playerId, "player1", 0, 0, 0, 0, true, true, false);
+        });
+
+        handler.handle(new TableUpdatedPushNotification(gameId, tableId));
+        tableRepository.updateAtVersion(tableId, 2, table -> table.setEquity(playerId, 1.0));
+        handler.handle(new TableUpdatedPushNotification(gameId, tableId));
+
+        assertEquals(2, ((TableDTO) nextSentPayload()).getVersion());
+        TablePatchDTO patch = (TablePatchDTO) nextSentPayload();
+        assertEquals(2, patch.getFromVersion());
+        assertEquals(2, patch.getVersion());
+        assertEquals(Double.valueOf(1.0), patch.getSeats().get(0).getEquity());
+    }
+
+    @Test
+    public void testRemovedTableIsNotSentAgain() {
+        TableUpdatedPushNotificationHandler handler = createHandler(0);
+
+        handler.handle(new TableUpdatedPushNotification(gameId, tableId));
+        assertEquals(1, handler.getTrackedTableCount());
+        handler.removeTable(tableId);
+        assertEquals(0, handler.getTrackedTableCount());
+        tableRepository.update(tableId, 2, table -> { });
+        handler.handle(new TableUpdatedPushNotification(gameId, tableId));
+
+        assertEquals(1, ((TableDTO) nextSentPayload()).getVersion());
+        assertEquals(0, sentMessages.size());
+        assertEquals(0, handler.getTrackedTableCount());
+    }
+
+    @Test
+    public void testTableRemovedWhileAFlushIsPendingIsNotSent() throws InterruptedException {
+        TableUpdatedPushNotificationHandler handler = createHandler(200);
+        UUID otherTableId = UUID.randomUUID();
+        tableRepository.save(new TableProjection(otherTableId, 1, 6));
+
+        handler.handle(new TableUpdatedPushNotification(gameId, tableId));
+        handler.handle(new TableUpdatedPushNotification(gameId, otherTableId));
+        handler.removeTable(tableId);
+        handler.removeTable(otherTableId);
+
+        assertTrue(flushed.await(2, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        assertEquals(0, sentMessages.size());
+        assertEquals(0, handler.getTrackedTableCount());
+        assertEquals(0, handler.getPendingCount());
+    }
+
+    @Test
+    public void testTableRemovedAfterItsFlushIsPickedUpIsNotTracked() {
+        // with no window, handle goes straight to the send that a flush makes
+        // after it's taken the table's game id, so this is a flush that lost
+        // the race with the table being removed
+        TableUpdatedPushNotificationHandler handler = createHandler(0);
+
+        handler.removeTable(tableId);
+        handler.handle(new TableUpdatedPushNotification(gameId, tableId));
+
+        assertEquals(0, sentMessages.size());
+        assertEquals(0, handler.getTrackedTableCount());
+    }
+
+    @Test
+    public void testFinishedGameDropsItsTables() {
+        TableUpdatedPushNotificationHandler handler = createHandler(0);
+        UUID otherTableId = UUID.randomUUID();
+        tableRepository.save(new TableProjection(otherTableId, 1, 6));
+
+        handler.handle(new TableUpdatedPushNotification(gameId, tableId));
+        handler.handle(new TableUpdatedPushNotification(UUID.randomUUID(), otherTableId));
+        handler.removeGame(gameId);
+
+        assertEquals(1, handler.getTrackedTableCount());
+    }
+
+    private Object nextSentPayload() {
+        Message<?> message = sentMessages.remove();
+        assertEquals(destination, SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+        return message.getPayload();
+    }
+
+    private TableUpdatedPushNotificationHandler createHandler(long windowMillis) {
+        MockEnvironment environment = new MockEnvironment().withProperty(
+                TableUpdatedPushNotificationHandler.WINDOW_PROPERTY,
+                String.valueOf(windowMillis));
+        return new TableUpdatedPushNotificationHandler(messagingTemplate,
+                tableRepository, runnable -> {
+                    runnable.run();
+                    flushed.countDown();
+                }, pushWindowScheduler, environment);
+    }
+
+}
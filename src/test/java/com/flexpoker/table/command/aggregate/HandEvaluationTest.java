@@ -0,0 +1,110 @@
+package com.flexpoker.table.command.aggregate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.flexpoker.model.HandRanking;
+import com.flexpoker.model.card.Card;
+import com.flexpoker.model.card.CardRank;
+import com.flexpoker.table.command.service.LookupTableHandEvaluatorService;
+
+public class HandEvaluationTest {
+
+    @Test
+    public void testStrengthOrdersLikeComparingFieldByField() {
+        Random random = new Random(15L);
+        for (int i = 0; i < 50000; i++) {
+            HandEvaluation first = randomHandEvaluation(random);
+            HandEvaluation second = randomHandEvaluation(random);
+            assertEquals(Integer.signum(compareFieldByField(first, second)),
+                    Integer.signum(first.compareTo(second)));
+        }
+    }
+
+    @Test
+    public void testRanksThatDontDecideTheHandDontBreakTies() {
+        HandEvaluation straight = new HandEvaluation();
+        straight.setHandRanking(HandRanking.STRAIGHT);
+        straight.setPrimaryCardRank(CardRank.KING);
+        HandEvaluation straightWithKicker = new HandEvaluation();
+        straightWithKicker.setHandRanking(HandRanking.STRAIGHT);
+        straightWithKicker.setPrimaryCardRank(CardRank.KING);
+        straightWithKicker.setFirstKicker(CardRank.ACE);
+
+        assertEquals(straight.getStrength(), straightWithKicker.getStrength());
+        assertEquals(0, straight.compareTo(straightWithKicker));
+    }
+
+    @Test
+    public void testSettersRecalculateStrength() {
+        HandEvaluation handEvaluation = new HandEvaluation();
+        handEvaluation.setHandRanking(HandRanking.ONE_PAIR);
+        handEvaluation.setPrimaryCardRank(CardRank.TEN);
+        int pairOfTens = handEvaluation.getStrength();
+
+        handEvaluation.setPrimaryCardRank(CardRank.JACK);
+        assertTrue(handEvaluation.getStrength() > pairOfTens);
+    }
+
+    @Test
+    public void testFromStrengthRestoresTheFields() {
+        HandEvaluation handEvaluation = new HandEvaluation();
+        handEvaluation.setHandRanking(HandRanking.TWO_PAIR);
+        handEvaluation.setPrimaryCardRank(CardRank.QUEEN);
+        handEvaluation.setSecondaryCardRank(CardRank.FIVE);
+        handEvaluation.setFirstKicker(CardRank.ACE);
+
+        HandEvaluation copy = HandEvaluation.fromStrength(handEvaluation.getStrength());
+        assertEquals(HandRanking.TWO_PAIR, copy.getHandRanking());
+        assertEquals(CardRank.QUEEN, copy.getPrimaryCardRank());
+        assertEquals(CardRank.FIVE, copy.getSecondaryCardRank());
+        assertEquals(CardRank.ACE, copy.getFirstKicker());
+        assertEquals(null, copy.getSecondKicker());
+        assertEquals(handEvaluation.getStrength(), copy.getStrength());
+    }
+
+    private static HandEvaluation randomHandEvaluation(Random random) {
+        long hand = 0;
+        while (Long.bitCount(hand) < 7) {
+            hand |= Card.maskOf(Card.valueOf(random.nextInt(Card.NUMBER_OF_CARDS)));
+        }
+        HandEvaluation packed = LookupTableHandEvaluatorService.toHandEvaluation(
+                LookupTableHandEvaluatorService.evaluate(hand));
+
+        // copy through the setters so the strength is calculated from the fields
+        HandEvaluation handEvaluation = new HandEvaluation();
+        handEvaluation.setHandRanking(packed.getHandRanking());
+        handEvaluation.setPrimaryCardRank(packed.getPrimaryCardRank());
+        handEvaluation.setSecondaryCardRank(packed.getSecondaryCardRank());
+        handEvaluation.setFirstKicker(packed.getFirstKicker());
+        handEvaluation.setSecondKicker(packed.getSecondKicker());
+        handEvaluation.setThirdKicker(packed.getThirdKicker());
+        handEvaluation.setFourthKicker(packed.getFourthKicker());
+        return handEvaluation;
+    }
+
+    private static int compareFieldByField(HandEvaluation first, HandEvaluation second) {
+        if (first.getHandRanking() != second.getHandRanking()) {
+            return first.getHandRanking().compareTo(second.getHandRanking());
+        }
+        List<CardRank> firstRanks = Arrays.asList(first.getPrimaryCardRank(),
+                first.getSecondaryCardRank(), first.getFirstKicker(),
+                first.getSecondKicker(), first.getThirdKicker(), first.getFourthKicker());
+        List<CardRank> secondRanks = Arrays.asList(second.getPrimaryCardRank(),
+                second.getSecondaryCardRank(), second.getFirstKicker(),
+                second.getSecondKicker(), second.getThirdKicker(), second.getFourthKicker());
+        for (int i = 0; i < firstRanks.size(); i++) {
+            if (firstRanks.get(i) != null && firstRanks.get(i) != secondRanks.get(i)) {
+                return firstRanks.get(i).compareTo(secondRanks.get(i));
+            }
+        }
+        return 0;
+    }
+
+}
@@ -13,6 +13,7 @@ import com.flexpoker.table.command.aggregate.DefaultTableFactory;
 import com.flexpoker.table.command.aggregate.Table;
 import com.flexpoker.table.command.commands.CreateTableCommand;
 import com.flexpoker.table.command.events.TableCreatedEvent;
+import com.flexpoker.table.command.service.DefaultHandEvaluatorService;
 
 public class CreateNewTableTest {
 
@@ -24,7 +25,7 @@ public class CreateNewTableTest {
         playerIds.add(UUID.randomUUID());
 
         CreateTableCommand command = new CreateTableCommand(tableId, UUID.randomUUID(), playerIds, 6);
-        Table table = new DefaultTableFactory().createNew(command);
+        Table table = new DefaultTableFactory(new DefaultHandEvaluatorService()).createNew(command);
 
         verifyAppliedAndNewEventsForAggregate(table, TableCreatedEvent.class);
     }
@@ -38,7 +39,7 @@ public class CreateNewTableTest {
         playerIds.add(UUID.randomUUID());
 
         CreateTableCommand command = new CreateTableCommand(tableId, UUID.randomUUID(), playerIds, 2);
-        new DefaultTableFactory().createNew(command);
+        new DefaultTableFactory(new DefaultHandEvaluatorService()).createNew(command);
     }
 
     @Test(expected = FlexPokerException.class)
@@ -48,7 +49,7 @@ public class CreateNewTableTest {
         playerIds.add(UUID.randomUUID());
 
         CreateTableCommand command = new CreateTableCommand(tableId, UUID.randomUUID(), playerIds, 2);
-        new DefaultTableFactory().createNew(command);
+        new DefaultTableFactory(new DefaultHandEvaluatorService()).createNew(command);
     }
 
 }
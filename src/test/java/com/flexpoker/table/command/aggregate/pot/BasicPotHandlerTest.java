@@ -1,5 +1,6 @@
 package com.flexpoker.table.command.aggregate.pot;
 
+import static com.flexpoker.table.command.aggregate.pot.PotTestUtils.createBasicHandEvaluations;
 import static com.flexpoker.table.command.aggregate.pot.PotTestUtils.createBasicPotHandler;
 import static com.flexpoker.table.command.aggregate.pot.PotTestUtils.createSetOfPlayers;
 import static org.junit.Assert.assertEquals;
@@ -30,6 +31,7 @@ public class BasicPotHandlerTest {
         potHandler.addNewPot(potId2, playersInvolved);
         potHandler.addToPot(potId1, 20);
         potHandler.addToPot(potId2, 10);
+        potHandler.determineWinners(createBasicHandEvaluations(player1, player2));
 
         Set<UUID> playersRequriedToShowCards = potHandler
                 .fetchPlayersRequriedToShowCards(playersInvolved);
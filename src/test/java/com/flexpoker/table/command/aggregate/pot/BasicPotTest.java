@@ -3,16 +3,11 @@ package com.flexpoker.table.command.aggregate.pot;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
-import java.util.Arrays;
-import java.util.HashSet;
 import java.util.UUID;
 
 import org.junit.Test;
 
 import com.flexpoker.exception.FlexPokerException;
-import com.flexpoker.model.HandRanking;
-import com.flexpoker.model.card.CardRank;
-import com.flexpoker.table.command.aggregate.HandEvaluation;
 
 public class BasicPotTest {
 
@@ -47,18 +42,8 @@ public class BasicPotTest {
         UUID player1 = UUID.randomUUID();
         UUID player2 = UUID.randomUUID();
 
-        HandEvaluation handEvaluation1 = new HandEvaluation();
-        handEvaluation1.setPlayerId(player1);
-        handEvaluation1.setHandRanking(HandRanking.STRAIGHT);
-        handEvaluation1.setPrimaryCardRank(CardRank.EIGHT);
-        HandEvaluation handEvaluation2 = new HandEvaluation();
-        handEvaluation2.setPlayerId(player2);
-        handEvaluation2.setHandRanking(HandRanking.STRAIGHT);
-        handEvaluation2.setPrimaryCardRank(CardRank.KING);
-
-        Pot pot = new Pot(UUID.randomUUID(), new HashSet<>(Arrays.asList(handEvaluation1,
-                handEvaluation2)));
-        return pot;
+        return new Pot(UUID.randomUUID(), PotTestUtils.createSetOfPlayers(player1,
+                player2));
     }
 
 }
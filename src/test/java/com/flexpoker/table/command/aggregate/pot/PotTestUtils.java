@@ -1,9 +1,9 @@
 package com.flexpoker.table.command.aggregate.pot;
 
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -14,6 +14,12 @@ import com.flexpoker.table.command.aggregate.HandEvaluation;
 public class PotTestUtils {
 
     static PotHandler createBasicPotHandler(UUID player1, UUID player2) {
+        return new PotHandler(UUID.randomUUID(), UUID.randomUUID(),
+                UUID.randomUUID(), createSetOfPlayers(player1, player2));
+    }
+
+    static Map<UUID, HandEvaluation> createBasicHandEvaluations(UUID player1,
+            UUID player2) {
         HandEvaluation handEvaluation1 = new HandEvaluation();
         handEvaluation1.setPlayerId(player1);
         handEvaluation1.setHandRanking(HandRanking.FLUSH);
@@ -27,12 +33,16 @@ public class PotTestUtils {
         handEvaluation2.setHandRanking(HandRanking.STRAIGHT);
         handEvaluation2.setPrimaryCardRank(CardRank.KING);
 
-        List<HandEvaluation> winningHands = new ArrayList<>();
-        winningHands.add(handEvaluation1);
-        winningHands.add(handEvaluation2);
+        return createHandEvaluationMap(handEvaluation1, handEvaluation2);
+    }
 
-        return new PotHandler(UUID.randomUUID(), UUID.randomUUID(),
-                UUID.randomUUID(), winningHands);
+    static Map<UUID, HandEvaluation> createHandEvaluationMap(
+            HandEvaluation... handEvaluations) {
+        Map<UUID, HandEvaluation> handEvaluationMap = new HashMap<>();
+        for (HandEvaluation handEvaluation : handEvaluations) {
+            handEvaluationMap.put(handEvaluation.getPlayerId(), handEvaluation);
+        }
+        return handEvaluationMap;
     }
 
     static Set<UUID> createSetOfPlayers(UUID... players) {
@@ -1,13 +1,11 @@
 package com.flexpoker.table.command.aggregate.pot;
 
+import static com.flexpoker.table.command.aggregate.pot.PotTestUtils.createHandEvaluationMap;
+import static com.flexpoker.table.command.aggregate.pot.PotTestUtils.createSetOfPlayers;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.List;
 import java.util.UUID;
 
 import org.junit.Test;
@@ -36,13 +34,9 @@ public class WinningPotTest {
         handEvaluation2.setHandRanking(HandRanking.STRAIGHT);
         handEvaluation2.setPrimaryCardRank(CardRank.KING);
 
-        List<HandEvaluation> winningHands = new ArrayList<>();
-        winningHands.add(handEvaluation1);
-        winningHands.add(handEvaluation2);
-
-        Pot pot = new Pot(UUID.randomUUID(), new HashSet<>(Arrays.asList(handEvaluation1,
-                handEvaluation2)));
+        Pot pot = new Pot(UUID.randomUUID(), createSetOfPlayers(player1, player2));
         pot.addChips(60);
+        pot.determineWinners(createHandEvaluationMap(handEvaluation1, handEvaluation2));
 
         assertTrue(pot.forcePlayerToShowCards(player1));
         assertFalse(pot.forcePlayerToShowCards(player2));
@@ -69,9 +63,11 @@ public class WinningPotTest {
         handEvaluation3.setHandRanking(HandRanking.STRAIGHT);
         handEvaluation3.setPrimaryCardRank(CardRank.KING);
 
-        Pot pot = new Pot(UUID.randomUUID(), new HashSet<>(Arrays.asList(handEvaluation1,
-                handEvaluation2, handEvaluation3)));
+        Pot pot = new Pot(UUID.randomUUID(), createSetOfPlayers(player1, player2,
+                player3));
         pot.addChips(60);
+        pot.determineWinners(createHandEvaluationMap(handEvaluation1, handEvaluation2,
+                handEvaluation3));
 
         assertFalse(pot.forcePlayerToShowCards(player1));
         assertTrue(pot.forcePlayerToShowCards(player2));
@@ -100,9 +96,11 @@ public class WinningPotTest {
         handEvaluation3.setHandRanking(HandRanking.STRAIGHT);
         handEvaluation3.setPrimaryCardRank(CardRank.KING);
 
-        Pot pot = new Pot(UUID.randomUUID(), new HashSet<>(Arrays.asList(handEvaluation1,
-                handEvaluation2, handEvaluation3)));
+        Pot pot = new Pot(UUID.randomUUID(), createSetOfPlayers(player1, player2,
+                player3));
         pot.addChips(61);
+        pot.determineWinners(createHandEvaluationMap(handEvaluation1, handEvaluation2,
+                handEvaluation3));
 
         assertFalse(pot.forcePlayerToShowCards(player1));
         assertTrue(pot.forcePlayerToShowCards(player2));
@@ -140,10 +138,12 @@ public class WinningPotTest {
         handEvaluation3.setHandRanking(HandRanking.STRAIGHT);
         handEvaluation3.setPrimaryCardRank(CardRank.KING);
 
-        Pot pot = new Pot(UUID.randomUUID(), new HashSet<>(Arrays.asList(handEvaluation1,
-                handEvaluation2, handEvaluation3)));
+        Pot pot = new Pot(UUID.randomUUID(), createSetOfPlayers(player1, player2,
+                player3));
         pot.addChips(60);
         pot.removePlayer(player3);
+        pot.determineWinners(createHandEvaluationMap(handEvaluation1, handEvaluation2,
+                handEvaluation3));
 
         assertFalse(pot.forcePlayerToShowCards(player1));
         assertTrue(pot.forcePlayerToShowCards(player2));
@@ -153,4 +153,19 @@ public class WinningPotTest {
         assertEquals(0, pot.getChipsWon(player3));
     }
 
+    @Test
+    public void testUncontestedPotNeedsNoHandEvaluations() {
+        UUID player1 = UUID.randomUUID();
+        UUID player2 = UUID.randomUUID();
+
+        Pot pot = new Pot(UUID.randomUUID(), createSetOfPlayers(player1, player2));
+        pot.addChips(60);
+        pot.removePlayer(player2);
+        pot.determineWinners(createHandEvaluationMap());
+
+        assertFalse(pot.forcePlayerToShowCards(player1));
+        assertEquals(60, pot.getChipsWon(player1));
+        assertEquals(0, pot.getChipsWon(player2));
+    }
+
 }
@@ -1,6 +1,7 @@
 package com.flexpoker.table.command.aggregate.singlehand.twoplayer;
 
 import static com.flexpoker.test.util.CommonAssertions.verifyAppliedAndNewEventsForAggregate;
+import static org.junit.Assert.assertEquals;
 
 import java.util.UUID;
 
@@ -8,6 +9,7 @@ import org.junit.Test;
 
 import com.flexpoker.table.command.aggregate.Table;
 import com.flexpoker.table.command.aggregate.testhelpers.TableTestUtils;
+import com.flexpoker.table.command.aggregate.testhelpers.TableTestUtils.CountingHandEvaluatorService;
 import com.flexpoker.table.command.events.ActionOnChangedEvent;
 import com.flexpoker.table.command.events.CardsShuffledEvent;
 import com.flexpoker.table.command.events.HandCompletedEvent;
@@ -27,8 +29,9 @@ public class TwoPlayerRaiseBySmallBlindAndBigBlindFoldsTest {
     public void test() {
         UUID tableId = UUID.randomUUID();
 
-        Table table = TableTestUtils.createBasicTableAndStartHand(tableId, UUID.randomUUID(),
-                UUID.randomUUID());
+        CountingHandEvaluatorService handEvaluatorService = new CountingHandEvaluatorService();
+        Table table = TableTestUtils.createBasicTableAndStartHand(handEvaluatorService,
+                tableId, UUID.randomUUID(), UUID.randomUUID());
 
         // use the info in action on event to determine who the small
         // blind/button is on
@@ -48,6 +51,9 @@ public class TwoPlayerRaiseBySmallBlindAndBigBlindFoldsTest {
                 PlayerFoldedEvent.class, PotAmountIncreasedEvent.class,
                 PotAmountIncreasedEvent.class, RoundCompletedEvent.class,
                 WinnersDeterminedEvent.class, HandCompletedEvent.class);
+
+        // nobody is left to compare hands with, so none are evaluated
+        assertEquals(0, handEvaluatorService.getNumberOfEvaluations());
     }
 
 }
@@ -1,13 +1,17 @@
 package com.flexpoker.table.command.aggregate.singlehand.twoplayer;
 
 import static com.flexpoker.test.util.CommonAssertions.verifyAppliedAndNewEventsForAggregate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
+import java.util.Collections;
 import java.util.UUID;
 
 import org.junit.Test;
 
 import com.flexpoker.table.command.aggregate.Table;
 import com.flexpoker.table.command.aggregate.testhelpers.TableTestUtils;
+import com.flexpoker.table.command.aggregate.testhelpers.TableTestUtils.CountingHandEvaluatorService;
 import com.flexpoker.table.command.events.ActionOnChangedEvent;
 import com.flexpoker.table.command.events.CardsShuffledEvent;
 import com.flexpoker.table.command.events.FlopCardsDealtEvent;
@@ -23,6 +27,9 @@ import com.flexpoker.table.command.events.RoundCompletedEvent;
 import com.flexpoker.table.command.events.TableCreatedEvent;
 import com.flexpoker.table.command.events.TurnCardDealtEvent;
 import com.flexpoker.table.command.events.WinnersDeterminedEvent;
+import com.flexpoker.table.command.service.DefaultHandEvaluatorService;
+import com.flexpoker.table.command.service.PossibleHandsCache;
+import com.flexpoker.test.util.datageneration.CardGenerator;
 
 public class TwoPlayerSmallBlindCallAndChecksUntilTheEndTest {
 
@@ -32,28 +39,7 @@ public class TwoPlayerSmallBlindCallAndChecksUntilTheEndTest {
 
         Table table = TableTestUtils.createBasicTableAndStartHand(tableId, UUID.randomUUID(),
                 UUID.randomUUID());
-
-        // use the info in action on event to get the player id of the small
-        // blind
-        UUID smallBlindAndButtonPlayerId = ((ActionOnChangedEvent) table.fetchNewEvents()
-                .get(4)).getPlayerId();
-        table.call(smallBlindAndButtonPlayerId);
-
-        UUID bigBlindPlayerId = ((ActionOnChangedEvent) table.fetchNewEvents().get(6))
-                .getPlayerId();
-        table.check(bigBlindPlayerId);
-
-        // post-flop
-        table.check(bigBlindPlayerId);
-        table.check(smallBlindAndButtonPlayerId);
-
-        // post-turn
-        table.check(bigBlindPlayerId);
-        table.check(smallBlindAndButtonPlayerId);
-
-        // post-river
-        table.check(bigBlindPlayerId);
-        table.check(smallBlindAndButtonPlayerId);
+        playToShowdown(table);
 
         verifyAppliedAndNewEventsForAggregate(table,
                 TableCreatedEvent.class,
@@ -81,6 +67,81 @@ public class TwoPlayerSmallBlindCallAndChecksUntilTheEndTest {
                 PlayerCheckedEvent.class, ActionOnChangedEvent.class,
                 PlayerCheckedEvent.class, RoundCompletedEvent.class,
                 WinnersDeterminedEvent.class, HandCompletedEvent.class);
+
+        // hands are only evaluated at showdown, so none are sent with the deal
+        HandDealtEvent handDealtEvent = (HandDealtEvent) table.fetchNewEvents().get(2);
+        assertTrue(handDealtEvent.getHandEvaluations().isEmpty());
+
+        UUID winningPlayerId = handDealtEvent.getPlayerToPocketCardsMap().entrySet()
+                .stream()
+                .filter(x -> x.getValue().equals(CardGenerator.createPocketCards1()))
+                .findAny().get().getKey();
+        WinnersDeterminedEvent winnersDeterminedEvent = (WinnersDeterminedEvent) table
+                .fetchNewEvents().get(table.fetchNewEvents().size() - 2);
+        assertEquals(Collections.singleton(winningPlayerId),
+                winnersDeterminedEvent.getPlayersToShowCards());
+        assertEquals(40, winnersDeterminedEvent.getPlayersToChipsWonMap()
+                .get(winningPlayerId).intValue());
+    }
+
+    @Test
+    public void testHandsAreEvaluatedAtShowdownWithTheTablesEvaluator() {
+        CountingHandEvaluatorService handEvaluatorService = new CountingHandEvaluatorService();
+
+        Table table = TableTestUtils.createBasicTableAndStartHand(handEvaluatorService,
+                UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        playToShowdown(table);
+
+        assertEquals(Collections.singletonList(2),
+                handEvaluatorService.getNumberOfPocketCardsPerBatch());
+        HandDealtEvent handDealtEvent = (HandDealtEvent) table.fetchNewEvents().get(2);
+        UUID winningPlayerId = handDealtEvent.getPlayerToPocketCardsMap().entrySet()
+                .stream()
+                .filter(x -> x.getValue().equals(CardGenerator.createPocketCards1()))
+                .findAny().get().getKey();
+        WinnersDeterminedEvent winnersDeterminedEvent = (WinnersDeterminedEvent) table
+                .fetchNewEvents().get(table.fetchNewEvents().size() - 2);
+        assertEquals(Collections.singleton(winningPlayerId),
+                winnersDeterminedEvent.getPlayersToShowCards());
+        assertEquals(40, winnersDeterminedEvent.getPlayersToChipsWonMap()
+                .get(winningPlayerId).intValue());
+    }
+
+    @Test
+    public void testShowdownBoardGoesThroughThePossibleHandsCache() {
+        PossibleHandsCache possibleHandsCache = new PossibleHandsCache();
+
+        Table table = TableTestUtils.createBasicTableAndStartHand(
+                new DefaultHandEvaluatorService(possibleHandsCache), UUID.randomUUID(),
+                UUID.randomUUID(), UUID.randomUUID());
+        playToShowdown(table);
+
+        assertEquals(1, possibleHandsCache.size());
+        assertEquals(1, possibleHandsCache.getMissCount());
+    }
+
+    private void playToShowdown(Table table) {
+        // use the info in action on event to get the player id of the small
+        // blind
+        UUID smallBlindAndButtonPlayerId = ((ActionOnChangedEvent) table.fetchNewEvents()
+                .get(4)).getPlayerId();
+        table.call(smallBlindAndButtonPlayerId);
+
+        UUID bigBlindPlayerId = ((ActionOnChangedEvent) table.fetchNewEvents().get(6))
+                .getPlayerId();
+        table.check(bigBlindPlayerId);
+
+        // post-flop
+        table.check(bigBlindPlayerId);
+        table.check(smallBlindAndButtonPlayerId);
+
+        // post-turn
+        table.check(bigBlindPlayerId);
+        table.check(smallBlindAndButtonPlayerId);
+
+        // post-river
+        table.check(bigBlindPlayerId);
+        table.check(smallBlindAndButtonPlayerId);
     }
 
 }
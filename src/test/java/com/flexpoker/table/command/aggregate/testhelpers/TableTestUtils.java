@@ -2,37 +2,63 @@ package com.flexpoker.table.command.aggregate.testhelpers;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
-import com.flexpoker.model.HandRanking;
 import com.flexpoker.model.card.Card;
-import com.flexpoker.model.card.CardRank;
 import com.flexpoker.model.card.CardsUsedInHand;
-import com.flexpoker.model.card.PocketCards;
 import com.flexpoker.table.command.aggregate.DefaultTableFactory;
-import com.flexpoker.table.command.aggregate.HandEvaluation;
 import com.flexpoker.table.command.aggregate.Table;
 import com.flexpoker.table.command.commands.CreateTableCommand;
 import com.flexpoker.table.command.events.HandDealtEvent;
 import com.flexpoker.table.command.events.TableCreatedEvent;
-import com.flexpoker.test.util.datageneration.CardGenerator;
+import com.flexpoker.table.command.service.DefaultHandEvaluatorService;
+import com.flexpoker.table.command.service.HandEvaluatorService;
 import com.flexpoker.test.util.datageneration.DeckGenerator;
 
 public class TableTestUtils {
 
+    /**
+     * The default evaluator, but keeping track of how many pocket cards each
+     * call to {@link #evaluateBatch(long[], long[])} was asked to evaluate.
+     */
+    public static class CountingHandEvaluatorService extends DefaultHandEvaluatorService {
+
+        private final List<Integer> numberOfPocketCardsPerBatch = new ArrayList<>();
+
+        @Override
+        public int[] evaluateBatch(long[] boards, long[] pocketCards) {
+            numberOfPocketCardsPerBatch.add(pocketCards.length);
+            return super.evaluateBatch(boards, pocketCards);
+        }
+
+        public List<Integer> getNumberOfPocketCardsPerBatch() {
+            return numberOfPocketCardsPerBatch;
+        }
+
+        public int getNumberOfEvaluations() {
+            return numberOfPocketCardsPerBatch.stream().mapToInt(Integer::intValue).sum();
+        }
+
+    }
+
     public static Table createBasicTable(UUID tableId, UUID... playerIdsArray) {
         Set<UUID> playerIds = new HashSet<>(Arrays.asList(playerIdsArray));
         CreateTableCommand command = new CreateTableCommand(tableId,
                 UUID.randomUUID(), playerIds, 6);
-        return new DefaultTableFactory().createNew(command);
+        return new DefaultTableFactory(new DefaultHandEvaluatorService()).createNew(command);
     }
 
     public static Table createBasicTableAndStartHand(UUID tableId, UUID... playerIdsArray) {
+        return createBasicTableAndStartHand(new DefaultHandEvaluatorService(), tableId,
+                playerIdsArray);
+    }
+
+    public static Table createBasicTableAndStartHand(HandEvaluatorService handEvaluatorService,
+            UUID tableId, UUID... playerIdsArray) {
         Set<UUID> playerIds = new HashSet<>(Arrays.asList(playerIdsArray));
 
         int smallBlind = 10;
@@ -40,24 +66,9 @@ public class TableTestUtils {
         List<Card> shuffledDeckOfCards = new ArrayList<>();
         CardsUsedInHand cardsUsedInHand = DeckGenerator.createDeck();
 
-        HandEvaluation handEvaluation1 = new HandEvaluation();
-        handEvaluation1.setPlayerId(playerIdsArray[0]);
-        handEvaluation1.setHandRanking(HandRanking.FLUSH);
-        handEvaluation1.setPrimaryCardRank(CardRank.KING);
-
-        HandEvaluation handEvaluation2 = new HandEvaluation();
-        handEvaluation2.setPlayerId(playerIdsArray[1]);
-        handEvaluation2.setHandRanking(HandRanking.STRAIGHT);
-        handEvaluation2.setPrimaryCardRank(CardRank.KING);
-
-        Map<PocketCards, HandEvaluation> handEvaluations = new HashMap<>();
-        handEvaluations.put(CardGenerator.createPocketCards1(), handEvaluation1);
-        handEvaluations.put(CardGenerator.createPocketCards2(), handEvaluation2);
-
         CreateTableCommand command = new CreateTableCommand(tableId, UUID.randomUUID(), playerIds, 6);
-        Table table = new DefaultTableFactory().createNew(command);
-        table.startNewHandForNewGame(smallBlind, bigBlind, shuffledDeckOfCards, cardsUsedInHand,
-                handEvaluations);
+        Table table = new DefaultTableFactory(handEvaluatorService).createNew(command);
+        table.startNewHandForNewGame(smallBlind, bigBlind, shuffledDeckOfCards, cardsUsedInHand);
         return table;
     }
 
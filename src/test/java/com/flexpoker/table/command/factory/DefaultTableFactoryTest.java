@@ -1,5 +1,6 @@
 package com.flexpoker.table.command.factory;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -17,9 +18,13 @@ import org.junit.Test;
 import com.flexpoker.exception.FlexPokerException;
 import com.flexpoker.table.command.aggregate.DefaultTableFactory;
 import com.flexpoker.table.command.aggregate.Table;
+import com.flexpoker.table.command.aggregate.TableSnapshot;
+import com.flexpoker.table.command.aggregate.testhelpers.TableTestUtils;
 import com.flexpoker.table.command.commands.CreateTableCommand;
+import com.flexpoker.table.command.events.ActionOnChangedEvent;
 import com.flexpoker.table.command.events.TableCreatedEvent;
 import com.flexpoker.table.command.framework.TableEvent;
+import com.flexpoker.table.command.service.DefaultHandEvaluatorService;
 
 public class DefaultTableFactoryTest {
 
@@ -27,7 +32,7 @@ public class DefaultTableFactoryTest {
 
     @Before
     public void setup() {
-        sut = new DefaultTableFactory();
+        sut = new DefaultTableFactory(new DefaultHandEvaluatorService());
     }
 
     @Test
@@ -81,4 +86,39 @@ public class DefaultTableFactoryTest {
         assertTrue(table.fetchNewEvents().isEmpty());
     }
 
+    @Test
+    public void testCreateFromSnapshotMatchesFullReplay() {
+        Table table = TableTestUtils.createBasicTableAndStartHand(UUID.randomUUID(),
+                UUID.randomUUID(), UUID.randomUUID());
+        UUID buttonPlayerId = ((ActionOnChangedEvent) table.fetchNewEvents().get(4))
+                .getPlayerId();
+        table.raise(buttonPlayerId, 40);
+        UUID bigBlindPlayerId = ((ActionOnChangedEvent) table.fetchNewEvents().get(6))
+                .getPlayerId();
+        table.fold(bigBlindPlayerId);
+
+        TableSnapshot snapshot = table.createSnapshot();
+        Table fromSnapshot = sut.createFrom(snapshot, new ArrayList<>());
+        Table fromEvents = sut.createFrom(table.fetchNewEvents());
+
+        assertEquals(table.fetchNewEvents().size(), snapshot.getVersion());
+        assertEquals(fromEvents.getAggregateVersion(), fromSnapshot.getAggregateVersion());
+        assertFalse(fromSnapshot.isHandInProgress());
+        assertTrue(fromSnapshot.fetchAppliedEvents().isEmpty());
+
+        TableSnapshot replayedSnapshot = fromEvents.createSnapshot();
+        assertEquals(replayedSnapshot.getSeatMap(), fromSnapshot.createSnapshot().getSeatMap());
+        assertEquals(replayedSnapshot.getChipsInBack(), fromSnapshot.createSnapshot().getChipsInBack());
+        assertEquals(replayedSnapshot.getButtonOnPosition(), snapshot.getButtonOnPosition());
+        assertEquals(replayedSnapshot.getSmallBlindPosition(), snapshot.getSmallBlindPosition());
+        assertEquals(replayedSnapshot.getBigBlindPosition(), snapshot.getBigBlindPosition());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testSnapshotNotAllowedDuringHand() {
+        Table table = TableTestUtils.createBasicTableAndStartHand(UUID.randomUUID(),
+                UUID.randomUUID(), UUID.randomUUID());
+        table.createSnapshot();
+    }
+
 }
@@ -0,0 +1,166 @@
+package com.flexpoker.table.command.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.flexpoker.exception.AggregateVersionConflictException;
+import com.flexpoker.table.command.aggregate.DefaultTableFactory;
+import com.flexpoker.table.command.aggregate.Table;
+import com.flexpoker.table.command.aggregate.testhelpers.TableTestUtils;
+import com.flexpoker.table.command.events.ActionOnChangedEvent;
+import com.flexpoker.table.command.service.DefaultHandEvaluatorService;
+
+public class DefaultTableAggregateRepositoryTest {
+
+    private InMemoryTableEventRepository tableEventRepository;
+
+    private InMemoryTableSnapshotRepository tableSnapshotRepository;
+
+    private DefaultTableAggregateRepository sut;
+
+    @Before
+    public void setup() {
+        tableEventRepository = new InMemoryTableEventRepository();
+        tableSnapshotRepository = new InMemoryTableSnapshotRepository();
+        sut = new DefaultTableAggregateRepository(new DefaultTableFactory(new DefaultHandEvaluatorService()),
+                tableEventRepository, tableSnapshotRepository);
+    }
+
+    @Test
+    public void testNoSnapshotWhileHandInProgress() {
+        UUID tableId = UUID.randomUUID();
+        Table table = TableTestUtils.createBasicTableAndStartHand(tableId,
+                UUID.randomUUID(), UUID.randomUUID());
+        sut.save(table);
+
+        assertNull(tableSnapshotRepository.fetchLatest(tableId));
+        assertEquals(table.getAggregateVersion(), sut.fetch(tableId).getAggregateVersion());
+    }
+
+    @Test
+    public void testSnapshotTakenWhenHandCompletes() {
+        UUID tableId = UUID.randomUUID();
+        Table table = TableTestUtils.createBasicTableAndStartHand(tableId,
+                UUID.randomUUID(), UUID.randomUUID());
+        UUID buttonPlayerId = ((ActionOnChangedEvent) table.fetchNewEvents().get(4))
+                .getPlayerId();
+        table.raise(buttonPlayerId, 40);
+        UUID bigBlindPlayerId = ((ActionOnChangedEvent) table.fetchNewEvents().get(6))
+                .getPlayerId();
+        table.fold(bigBlindPlayerId);
+        sut.save(table);
+
+        assertNotNull(tableSnapshotRepository.fetchLatest(tableId));
+        assertEquals(table.getAggregateVersion(),
+                tableSnapshotRepository.fetchLatest(tableId).getVersion());
+
+        Table fetchedTable = uncachedRepository().fetch(tableId);
+        assertEquals(table.getAggregateVersion(), fetchedTable.getAggregateVersion());
+        assertEquals(0, fetchedTable.fetchAppliedEvents().size());
+
+        fetchedTable.pause();
+        uncachedRepository().save(fetchedTable);
+        Table fetchedAgain = uncachedRepository().fetch(tableId);
+        assertEquals(table.getAggregateVersion() + 1, fetchedAgain.getAggregateVersion());
+        assertEquals(1, fetchedAgain.fetchAppliedEvents().size());
+    }
+
+    @Test
+    public void testCachedTableIsReturnedOnNextFetch() {
+        UUID tableId = UUID.randomUUID();
+        Table table = TableTestUtils.createBasicTable(tableId, UUID.randomUUID(),
+                UUID.randomUUID());
+        sut.save(table);
+
+        Table fetchedTable = sut.fetch(tableId);
+        assertSame(table, fetchedTable);
+        assertTrue(fetchedTable.fetchNewEvents().isEmpty());
+        assertEquals(1, sut.getCacheHitCount());
+        assertEquals(0, sut.getCacheMissCount());
+    }
+
+    @Test
+    public void testCheckedOutTableIsNotSharedWithOtherCallers() {
+        UUID tableId = UUID.randomUUID();
+        Table table = TableTestUtils.createBasicTable(tableId, UUID.randomUUID(),
+                UUID.randomUUID());
+        sut.save(table);
+
+        Table firstFetch = sut.fetch(tableId);
+        Table secondFetch = sut.fetch(tableId);
+        assertNotSame(firstFetch, secondFetch);
+        assertEquals(firstFetch.getAggregateVersion(), secondFetch.getAggregateVersion());
+        assertEquals(1, sut.getCacheMissCount());
+    }
+
+    @Test
+    public void testCachedTableCatchesUpOnEventsSavedElsewhere() {
+        UUID tableId = UUID.randomUUID();
+        Table table = TableTestUtils.createBasicTable(tableId, UUID.randomUUID(),
+                UUID.randomUUID());
+        sut.save(table);
+
+        Table otherCopy = uncachedRepository().fetch(tableId);
+        otherCopy.pause();
+        uncachedRepository().save(otherCopy);
+
+        Table fetchedTable = sut.fetch(tableId);
+        assertSame(table, fetchedTable);
+        assertEquals(otherCopy.getAggregateVersion(), fetchedTable.getAggregateVersion());
+        assertEquals(1, fetchedTable.fetchAppliedEvents().size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedTableIsEvicted() {
+        sut = new DefaultTableAggregateRepository(new DefaultTableFactory(new DefaultHandEvaluatorService()),
+                tableEventRepository, tableSnapshotRepository, 1);
+        UUID tableId1 = UUID.randomUUID();
+        UUID tableId2 = UUID.randomUUID();
+        sut.save(TableTestUtils.createBasicTable(tableId1, UUID.randomUUID(), UUID.randomUUID()));
+        sut.save(TableTestUtils.createBasicTable(tableId2, UUID.randomUUID(), UUID.randomUUID()));
+
+        assertEquals(1, sut.getCacheEvictionCount());
+        assertEquals(1, sut.getCacheSize());
+        sut.fetch(tableId1);
+        assertEquals(1, sut.getCacheMissCount());
+    }
+
+    @Test
+    public void testConcurrentSaveConflictsAndIsNotCached() {
+        UUID tableId = UUID.randomUUID();
+        sut.save(TableTestUtils.createBasicTable(tableId, UUID.randomUUID(), UUID.randomUUID()));
+
+        Table firstCopy = sut.fetch(tableId);
+        Table secondCopy = sut.fetch(tableId);
+        firstCopy.pause();
+        secondCopy.pause();
+        sut.save(firstCopy);
+
+        try {
+            sut.save(secondCopy);
+            fail("expected a version conflict");
+        } catch (AggregateVersionConflictException e) {
+            assertEquals(1, e.getExpectedVersion());
+            assertEquals(2, e.getActualVersion());
+        }
+
+        assertSame(firstCopy, sut.fetch(tableId));
+        assertEquals(2, tableEventRepository.fetchAll(tableId).size());
+    }
+
+    private DefaultTableAggregateRepository uncachedRepository() {
+        return new DefaultTableAggregateRepository(new DefaultTableFactory(new DefaultHandEvaluatorService()),
+                tableEventRepository, tableSnapshotRepository, 0);
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.flexpoker.table.command.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.flexpoker.exception.AggregateVersionConflictException;
+import com.flexpoker.table.command.events.TablePausedEvent;
+import com.flexpoker.table.command.events.TableResumedEvent;
+import com.flexpoker.table.command.framework.TableEvent;
+
+public class InMemoryTableEventRepositoryTest {
+
+    private InMemoryTableEventRepository sut;
+
+    @Before
+    public void setup() {
+        sut = new InMemoryTableEventRepository();
+    }
+
+    @Test
+    public void testAppendAllAtExpectedVersion() {
+        UUID tableId = UUID.randomUUID();
+        UUID gameId = UUID.randomUUID();
+        sut.appendAll(tableId, 0, Arrays.asList(new TablePausedEvent(tableId, 1, gameId),
+                new TableResumedEvent(tableId, 2, gameId)));
+        sut.appendAll(tableId, 2, Arrays.asList(new TablePausedEvent(tableId, 3, gameId)));
+        assertEquals(3, sut.fetchAll(tableId).size());
+    }
+
+    @Test
+    public void testAppendAllConflictWritesNothing() {
+        UUID tableId = UUID.randomUUID();
+        UUID gameId = UUID.randomUUID();
+        sut.appendAll(tableId, 0, Arrays.asList(new TablePausedEvent(tableId, 1, gameId)));
+
+        try {
+            sut.appendAll(tableId, 0, Arrays.asList(new TableResumedEvent(tableId, 1, gameId),
+                    new TablePausedEvent(tableId, 2, gameId)));
+            fail("expected a version conflict");
+        } catch (AggregateVersionConflictException e) {
+            assertEquals(0, e.getExpectedVersion());
+            assertEquals(1, e.getActualVersion());
+        }
+
+        assertEquals(1, sut.fetchAll(tableId).size());
+    }
+
+    @Test
+    public void testFetchFromReturnsOnlyTheTail() {
+        UUID tableId = UUID.randomUUID();
+        UUID gameId = UUID.randomUUID();
+        sut.appendAll(tableId, 0, Arrays.asList(new TablePausedEvent(tableId, 1, gameId),
+                new TableResumedEvent(tableId, 2, gameId),
+                new TablePausedEvent(tableId, 3, gameId)));
+
+        List<TableEvent> tail = sut.fetchFrom(tableId, 1);
+        assertEquals(2, tail.size());
+        assertEquals(2, tail.get(0).getVersion());
+        assertEquals(3, tail.get(1).getVersion());
+        assertTrue(sut.fetchFrom(tableId, 3).isEmpty());
+        assertTrue(sut.fetchFrom(UUID.randomUUID(), 0).isEmpty());
+    }
+
+    @Test
+    public void testFetchedListDoesNotChangeAfterAppend() {
+        UUID tableId = UUID.randomUUID();
+        UUID gameId = UUID.randomUUID();
+        sut.appendAll(tableId, 0, Arrays.asList(new TablePausedEvent(tableId, 1, gameId)));
+        List<TableEvent> fetchedEvents = sut.fetchAll(tableId);
+        sut.appendAll(tableId, 1, Arrays.asList(new TableResumedEvent(tableId, 2, gameId)));
+        assertEquals(1, fetchedEvents.size());
+    }
+
+    @Test
+    public void testFetchedTailDoesNotChangeAfterAppend() {
+        UUID tableId = UUID.randomUUID();
+        UUID gameId = UUID.randomUUID();
+        sut.appendAll(tableId, 0, Arrays.asList(new TablePausedEvent(tableId, 1, gameId)));
+        List<TableEvent> tail = sut.fetchFrom(tableId, 0);
+        sut.save(new TableResumedEvent(tableId, 2, gameId));
+        assertEquals(1, tail.size());
+        assertEquals(2, sut.fetchFrom(tableId, 0).size());
+    }
+
+    @Test
+    public void testUnknownAggregateHasAnEmptyStream() {
+        UUID tableId = UUID.randomUUID();
+        assertTrue(sut.fetchAll(tableId).isEmpty());
+        assertTrue(sut.fetchFrom(tableId, 0).isEmpty());
+    }
+
+}
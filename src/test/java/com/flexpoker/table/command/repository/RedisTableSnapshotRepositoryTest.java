@@ -0,0 +1,67 @@
+package com.flexpoker.table.command.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flexpoker.table.command.aggregate.TableSnapshot;
+import com.flexpoker.test.util.InMemoryRedisConnection;
+
+public class RedisTableSnapshotRepositoryTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private RedisTableSnapshotRepository sut;
+
+    @Before
+    public void setup() {
+        InMemoryRedisConnection connection = new InMemoryRedisConnection().onEval("cjson",
+                (redis, keys, args) -> {
+                    byte[] current = redis.getValue(keys[0]);
+                    int version = Integer.parseInt(new String(args[0], StandardCharsets.UTF_8));
+                    if (current != null && storedVersion(current) >= version) {
+                        return 0L;
+                    }
+                    redis.setValue(keys[0], args[1]);
+                    return 1L;
+                });
+        sut = new RedisTableSnapshotRepository(connection.createTemplate());
+    }
+
+    @Test
+    public void testOlderSnapshotDoesNotReplaceNewerOne() {
+        UUID tableId = UUID.randomUUID();
+        UUID gameId = UUID.randomUUID();
+        assertNull(sut.fetchLatest(tableId));
+
+        sut.save(createSnapshot(tableId, gameId, 12));
+        sut.save(createSnapshot(tableId, gameId, 7));
+        assertEquals(12, sut.fetchLatest(tableId).getVersion());
+
+        sut.save(createSnapshot(tableId, gameId, 20));
+        assertEquals(20, sut.fetchLatest(tableId).getVersion());
+    }
+
+    private int storedVersion(byte[] rawSnapshot) {
+        try {
+            return objectMapper.readTree(rawSnapshot).get("version").asInt();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static TableSnapshot createSnapshot(UUID tableId, UUID gameId, int version) {
+        return new TableSnapshot(tableId, version, gameId, Collections.emptyMap(),
+                Collections.emptyMap(), 0, 0, 0, false);
+    }
+
+}
@@ -0,0 +1,210 @@
+package com.flexpoker.table.command.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.flexpoker.framework.event.codec.BinaryEventSerializer;
+import com.flexpoker.framework.event.codec.EventStorageFormat;
+import com.flexpoker.framework.event.codec.EventTypeRegistry;
+import com.flexpoker.framework.event.codec.MixedFormatEventSerializer;
+import com.flexpoker.table.command.aggregate.HandDealerState;
+import com.flexpoker.table.command.aggregate.Table;
+import com.flexpoker.table.command.aggregate.testhelpers.TableTestUtils;
+import com.flexpoker.table.command.events.ActionOnChangedEvent;
+import com.flexpoker.table.command.events.AutoMoveHandForwardEvent;
+import com.flexpoker.table.command.events.CardsShuffledEvent;
+import com.flexpoker.table.command.events.FlopCardsDealtEvent;
+import com.flexpoker.table.command.events.HandCompletedEvent;
+import com.flexpoker.table.command.events.HandDealtEvent;
+import com.flexpoker.table.command.events.LastToActChangedEvent;
+import com.flexpoker.table.command.events.PlayerAddedEvent;
+import com.flexpoker.table.command.events.PlayerBustedTableEvent;
+import com.flexpoker.table.command.events.PlayerCalledEvent;
+import com.flexpoker.table.command.events.PlayerCheckedEvent;
+import com.flexpoker.table.command.events.PlayerFoldedEvent;
+import com.flexpoker.table.command.events.PlayerForceCheckedEvent;
+import com.flexpoker.table.command.events.PlayerForceFoldedEvent;
+import com.flexpoker.table.command.events.PlayerRaisedEvent;
+import com.flexpoker.table.command.events.PlayerRemovedEvent;
+import com.flexpoker.table.command.events.PotAmountIncreasedEvent;
+import com.flexpoker.table.command.events.PotClosedEvent;
+import com.flexpoker.table.command.events.PotCreatedEvent;
+import com.flexpoker.table.command.events.RiverCardDealtEvent;
+import com.flexpoker.table.command.events.RoundCompletedEvent;
+import com.flexpoker.table.command.events.TablePausedEvent;
+import com.flexpoker.table.command.events.TableResumedEvent;
+import com.flexpoker.table.command.events.TurnCardDealtEvent;
+import com.flexpoker.table.command.events.WinnersDeterminedEvent;
+import com.flexpoker.table.command.framework.TableEvent;
+import com.flexpoker.table.command.service.DefaultCardService;
+
+public class TableEventCodecsTest {
+
+    private ObjectMapper objectMapper;
+
+    private BinaryEventSerializer<TableEvent> binarySerializer;
+
+    private Jackson2JsonRedisSerializer<TableEvent> jsonSerializer;
+
+    @Before
+    public void setup() {
+        objectMapper = new ObjectMapper();
+        objectMapper.findAndRegisterModules();
+        binarySerializer = new BinaryEventSerializer<>(TableEventCodecs.createRegistry());
+        jsonSerializer = new Jackson2JsonRedisSerializer<>(TableEvent.class);
+        jsonSerializer.setObjectMapper(objectMapper);
+    }
+
+    @Test
+    public void testEveryJsonSubTypeIsRegistered() {
+        EventTypeRegistry<TableEvent> registry = TableEventCodecs.createRegistry();
+        JsonSubTypes subTypes = TableEvent.class.getAnnotation(JsonSubTypes.class);
+        for (JsonSubTypes.Type type : subTypes.value()) {
+            assertTrue(type.value().getSimpleName(), registry.isRegistered(type.value()));
+        }
+    }
+
+    @Test
+    public void testEveryEventTypeIsCovered() {
+        JsonSubTypes subTypes = TableEvent.class.getAnnotation(JsonSubTypes.class);
+        Set<Class<?>> coveredTypes = new HashSet<>();
+        createOneOfEachEvent().forEach(x -> coveredTypes.add(x.getClass()));
+        assertEquals(subTypes.value().length, coveredTypes.size());
+    }
+
+    @Test
+    public void testBinaryRoundTrip() {
+        for (TableEvent event : createOneOfEachEvent()) {
+            TableEvent readBack = binarySerializer.deserialize(binarySerializer.serialize(event));
+            assertEquals(event.getClass(), readBack.getClass());
+            assertEquals(event.getTime(), readBack.getTime());
+            assertEquals(toJsonTree(event), toJsonTree(readBack));
+        }
+    }
+
+    @Test
+    public void testJsonRoundTrip() {
+        for (TableEvent event : createOneOfEachEvent()) {
+            TableEvent readBack = jsonSerializer.deserialize(jsonSerializer.serialize(event));
+            assertEquals(event.getClass(), readBack.getClass());
+            assertEquals(withoutTime(toJsonTree(event)), withoutTime(toJsonTree(readBack)));
+        }
+    }
+
+    @Test
+    public void testMixedFormatReadsBothFormats() {
+        MixedFormatEventSerializer<TableEvent> sut = new MixedFormatEventSerializer<>(
+                EventStorageFormat.BINARY, binarySerializer, jsonSerializer);
+        UUID tableId = UUID.randomUUID();
+        TableEvent event = new TablePausedEvent(tableId, 1, UUID.randomUUID());
+
+        byte[] json = jsonSerializer.serialize(event);
+        byte[] binary = sut.serialize(event);
+
+        assertFalse(sut.isInWriteFormat(json));
+        assertTrue(sut.isInWriteFormat(binary));
+        assertEquals(toJsonTree(event), toJsonTree(sut.deserialize(binary)));
+        assertEquals(withoutTime(toJsonTree(event)), withoutTime(toJsonTree(sut.deserialize(json))));
+    }
+
+    @Test
+    public void testBinaryIsMuchSmallerThanJson() {
+        int binarySize = 0;
+        int jsonSize = 0;
+        for (TableEvent event : createOneOfEachEvent()) {
+            binarySize += binarySerializer.serialize(event).length;
+            jsonSize += jsonSerializer.serialize(event).length;
+        }
+        assertTrue(binarySize + " vs " + jsonSize, binarySize * 3 < jsonSize);
+    }
+
+    @Test
+    public void testCanonicalCardsTakeOneByteEach() {
+        UUID tableId = UUID.randomUUID();
+        UUID gameId = UUID.randomUUID();
+        int emptyDeckSize = binarySerializer.serialize(new CardsShuffledEvent(tableId, 1, gameId,
+                Collections.emptyList())).length;
+        int fullDeckSize = binarySerializer.serialize(new CardsShuffledEvent(tableId, 1, gameId,
+                new DefaultCardService().createShuffledDeck())).length;
+        assertEquals(52, fullDeckSize - emptyDeckSize);
+    }
+
+    private List<TableEvent> createOneOfEachEvent() {
+        UUID tableId = UUID.randomUUID();
+        UUID player1 = UUID.randomUUID();
+        UUID player2 = UUID.randomUUID();
+
+        Table table = TableTestUtils.createBasicTableAndStartHand(tableId, player1, player2);
+        List<TableEvent> events = new ArrayList<>(table.fetchNewEvents());
+        int version = events.size();
+
+        HandDealtEvent handDealtEvent = (HandDealtEvent) events.stream()
+                .filter(x -> x instanceof HandDealtEvent).findFirst().get();
+        UUID gameId = handDealtEvent.getGameId();
+        UUID handId = handDealtEvent.getHandId();
+        UUID potId = UUID.randomUUID();
+
+        Map<UUID, Integer> chips = new HashMap<>();
+        chips.put(player1, 1480);
+        chips.put(player2, 1520);
+
+        events.add(new CardsShuffledEvent(tableId, ++version, gameId,
+                new DefaultCardService().createShuffledDeck()));
+        events.add(new ActionOnChangedEvent(tableId, ++version, gameId, handId, player1));
+        events.add(new LastToActChangedEvent(tableId, ++version, gameId, handId, player2));
+        events.add(new PlayerCalledEvent(tableId, ++version, gameId, handId, player1));
+        events.add(new PlayerCheckedEvent(tableId, ++version, gameId, handId, player2));
+        events.add(new PlayerRaisedEvent(tableId, ++version, gameId, handId, player1, 60));
+        events.add(new PlayerFoldedEvent(tableId, ++version, gameId, handId, player2));
+        events.add(new PlayerForceCheckedEvent(tableId, ++version, gameId, handId, player1));
+        events.add(new PlayerForceFoldedEvent(tableId, ++version, gameId, handId, player2));
+        events.add(new PotCreatedEvent(tableId, ++version, gameId, handId, potId,
+                new HashSet<>(Arrays.asList(player1, player2))));
+        events.add(new PotAmountIncreasedEvent(tableId, ++version, gameId, handId, potId, 40));
+        events.add(new PotClosedEvent(tableId, ++version, gameId, handId, potId));
+        events.add(new RoundCompletedEvent(tableId, ++version, gameId, handId,
+                HandDealerState.FLOP_DEALT));
+        events.add(new FlopCardsDealtEvent(tableId, ++version, gameId, handId));
+        events.add(new TurnCardDealtEvent(tableId, ++version, gameId, handId));
+        events.add(new RiverCardDealtEvent(tableId, ++version, gameId, handId));
+        events.add(new AutoMoveHandForwardEvent(tableId, ++version, gameId, handId));
+        events.add(new WinnersDeterminedEvent(tableId, ++version, gameId, handId,
+                new HashSet<>(Arrays.asList(player1)), Collections.singletonMap(player1, 40)));
+        events.add(new HandCompletedEvent(tableId, ++version, gameId, handId, chips));
+        events.add(new PlayerBustedTableEvent(tableId, ++version, gameId, player2));
+        events.add(new PlayerRemovedEvent(tableId, ++version, gameId, player2));
+        events.add(new PlayerAddedEvent(tableId, ++version, gameId, player2, 1500, 3));
+        events.add(new TablePausedEvent(tableId, ++version, gameId));
+        events.add(new TableResumedEvent(tableId, ++version, gameId));
+        return events;
+    }
+
+    private JsonNode toJsonTree(TableEvent event) {
+        return objectMapper.valueToTree(event);
+    }
+
+    private JsonNode withoutTime(JsonNode jsonNode) {
+        ((ObjectNode) jsonNode).remove("time");
+        return jsonNode;
+    }
+
+}
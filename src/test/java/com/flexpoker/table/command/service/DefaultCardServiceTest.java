@@ -3,6 +3,7 @@ package com.flexpoker.table.command.service;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.Test;
@@ -49,4 +50,20 @@ public class DefaultCardServiceTest {
         assertEquals(fullDeckOfCards.get(11), cardsUsedInHand.getRiverCard().getCard());
     }
 
+    @Test
+    public void testCreateShuffledDeckForHandOnlyDealsWhatIsUsed() {
+        DefaultCardService service = new DefaultCardService(FisherYatesShuffler.withSeed(1L));
+        for (int numberOfPlayers = 2; numberOfPlayers <= 10; numberOfPlayers++) {
+            List<Card> shuffledDeck = service.createShuffledDeckForHand(numberOfPlayers);
+            assertEquals(numberOfPlayers * 2 + 8, shuffledDeck.size());
+            assertEquals(shuffledDeck.size(), new HashSet<>(shuffledDeck).size());
+
+            CardsUsedInHand cardsUsedInHand = service.createCardsUsedInHand(shuffledDeck,
+                    numberOfPlayers);
+            assertEquals(numberOfPlayers, cardsUsedInHand.getPocketCards().size());
+            assertEquals(shuffledDeck.get(shuffledDeck.size() - 1),
+                    cardsUsedInHand.getRiverCard().getCard());
+        }
+    }
+
 }
@@ -0,0 +1,153 @@
+package com.flexpoker.table.command.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.flexpoker.model.card.Card;
+import com.flexpoker.model.card.CardRank;
+import com.flexpoker.model.card.CardSuit;
+import com.flexpoker.model.card.PocketCards;
+
+public class DefaultEquityCalculatorServiceTest {
+
+    private final EquityCalculatorService exhaustiveService = new DefaultEquityCalculatorService(
+            Long.MAX_VALUE, 60_000, 0);
+
+    private final EquityCalculatorService samplingService = new DefaultEquityCalculatorService(
+            0, 10_000, 200_000);
+
+    @Test
+    public void testRiverIsAllOrNothing() {
+        PocketCards aces = pocketCards(CardRank.ACE, CardSuit.HEARTS, CardRank.ACE, CardSuit.SPADES);
+        PocketCards kings = pocketCards(CardRank.KING, CardSuit.HEARTS, CardRank.KING, CardSuit.SPADES);
+        List<Card> board = Arrays.asList(card(CardRank.TWO, CardSuit.CLUBS),
+                card(CardRank.SEVEN, CardSuit.DIAMONDS), card(CardRank.NINE, CardSuit.CLUBS),
+                card(CardRank.JACK, CardSuit.HEARTS), card(CardRank.FOUR, CardSuit.SPADES));
+
+        Map<PocketCards, Double> equity = exhaustiveService.calculateEquity(
+                Arrays.asList(aces, kings), board);
+
+        assertEquals(1.0, equity.get(aces), 0);
+        assertEquals(0.0, equity.get(kings), 0);
+    }
+
+    @Test
+    public void testBoardThatPlaysSplitsThePot() {
+        PocketCards player1 = pocketCards(CardRank.TWO, CardSuit.HEARTS, CardRank.THREE, CardSuit.SPADES);
+        PocketCards player2 = pocketCards(CardRank.TWO, CardSuit.DIAMONDS, CardRank.THREE, CardSuit.CLUBS);
+        List<Card> board = Arrays.asList(card(CardRank.TEN, CardSuit.CLUBS),
+                card(CardRank.JACK, CardSuit.DIAMONDS), card(CardRank.QUEEN, CardSuit.CLUBS),
+                card(CardRank.KING, CardSuit.HEARTS), card(CardRank.ACE, CardSuit.SPADES));
+
+        Map<PocketCards, Double> equity = exhaustiveService.calculateEquity(
+                Arrays.asList(player1, player2), board);
+
+        assertEquals(0.5, equity.get(player1), 0);
+        assertEquals(0.5, equity.get(player2), 0);
+    }
+
+    @Test
+    public void testTurnEnumeratesEveryRiver() {
+        // kings need one of the two kings left in 44 unseen cards
+        PocketCards aces = pocketCards(CardRank.ACE, CardSuit.HEARTS, CardRank.ACE, CardSuit.SPADES);
+        PocketCards kings = pocketCards(CardRank.KING, CardSuit.HEARTS, CardRank.KING, CardSuit.SPADES);
+        List<Card> board = Arrays.asList(card(CardRank.TWO, CardSuit.CLUBS),
+                card(CardRank.SEVEN, CardSuit.DIAMONDS), card(CardRank.NINE, CardSuit.CLUBS),
+                card(CardRank.FOUR, CardSuit.HEARTS));
+
+        Map<PocketCards, Double> equity = exhaustiveService.calculateEquity(
+                Arrays.asList(aces, kings), board);
+
+        assertEquals(42.0 / 44, equity.get(aces), 1e-12);
+        assertEquals(2.0 / 44, equity.get(kings), 1e-12);
+    }
+
+    @Test
+    public void testSamplingIsCloseToEnumeration() {
+        PocketCards aces = pocketCards(CardRank.ACE, CardSuit.HEARTS, CardRank.ACE, CardSuit.SPADES);
+        PocketCards suitedConnectors = pocketCards(CardRank.SEVEN, CardSuit.CLUBS,
+                CardRank.EIGHT, CardSuit.CLUBS);
+        List<PocketCards> pocketCards = Arrays.asList(aces, suitedConnectors);
+
+        Map<PocketCards, Double> enumerated = exhaustiveService.calculateEquity(pocketCards,
+                Collections.emptyList());
+        Map<PocketCards, Double> sampled = samplingService.calculateEquity(pocketCards,
+                Collections.emptyList());
+
+        assertEquals(enumerated.get(aces), sampled.get(aces), 0.01);
+        assertEquals(1.0, sampled.get(aces) + sampled.get(suitedConnectors), 1e-9);
+    }
+
+    @Test
+    public void testSamplingStopsAtTheTimeBudget() {
+        EquityCalculatorService service = new DefaultEquityCalculatorService(
+                0, 50, Long.MAX_VALUE);
+        List<PocketCards> pocketCards = Arrays.asList(
+                pocketCards(CardRank.ACE, CardSuit.HEARTS, CardRank.ACE, CardSuit.SPADES),
+                pocketCards(CardRank.KING, CardSuit.HEARTS, CardRank.KING, CardSuit.SPADES),
+                pocketCards(CardRank.QUEEN, CardSuit.HEARTS, CardRank.QUEEN, CardSuit.SPADES));
+
+        long start = System.nanoTime();
+        Map<PocketCards, Double> equity = service.calculateEquity(pocketCards,
+                Collections.emptyList());
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue("took " + elapsedMillis + "ms", elapsedMillis < 2_000);
+        assertEquals(1.0, equity.values().stream().mapToDouble(x -> x).sum(), 1e-9);
+    }
+
+    @Test
+    public void testEnumerationStopsAtTheTimeBudget() {
+        EquityCalculatorService service = new DefaultEquityCalculatorService(
+                Long.MAX_VALUE, 1, 0);
+        PocketCards aces = pocketCards(CardRank.ACE, CardSuit.HEARTS, CardRank.ACE, CardSuit.SPADES);
+        PocketCards sevenTwo = pocketCards(CardRank.SEVEN, CardSuit.CLUBS,
+                CardRank.TWO, CardSuit.DIAMONDS);
+        PocketCards eightThree = pocketCards(CardRank.EIGHT, CardSuit.CLUBS,
+                CardRank.THREE, CardSuit.DIAMONDS);
+
+        long start = System.nanoTime();
+        Map<PocketCards, Double> equity = service.calculateEquity(
+                Arrays.asList(aces, sevenTwo, eightThree), Collections.emptyList());
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue("took " + elapsedMillis + "ms", elapsedMillis < 2_000);
+        assertEquals(1.0, equity.values().stream().mapToDouble(x -> x).sum(), 1e-9);
+        // whatever was evaluated is spread over the deck, not just the first
+        // boards in order, so the aces still come out well ahead
+        assertTrue(equity.get(aces) > 0.6);
+    }
+
+    @Test
+    public void testNumberOfRunouts() {
+        assertEquals(1, DefaultEquityCalculatorService.numberOfRunouts(44, 0));
+        assertEquals(44, DefaultEquityCalculatorService.numberOfRunouts(44, 1));
+        assertEquals(990, DefaultEquityCalculatorService.numberOfRunouts(45, 2));
+        assertEquals(1_712_304, DefaultEquityCalculatorService.numberOfRunouts(48, 5));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSameCardDealtTwice() {
+        exhaustiveService.calculateEquity(Arrays.asList(
+                pocketCards(CardRank.ACE, CardSuit.HEARTS, CardRank.ACE, CardSuit.SPADES),
+                pocketCards(CardRank.ACE, CardSuit.HEARTS, CardRank.KING, CardSuit.SPADES)),
+                Collections.emptyList());
+    }
+
+    private static PocketCards pocketCards(CardRank rank1, CardSuit suit1, CardRank rank2,
+            CardSuit suit2) {
+        return new PocketCards(card(rank1, suit1), card(rank2, suit2));
+    }
+
+    private static Card card(CardRank cardRank, CardSuit cardSuit) {
+        return Card.valueOf(cardRank, cardSuit);
+    }
+
+}
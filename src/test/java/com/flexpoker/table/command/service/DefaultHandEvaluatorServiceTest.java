@@ -1,11 +1,16 @@
 package com.flexpoker.table.command.service;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.Test;
 
@@ -43,6 +48,38 @@ public class DefaultHandEvaluatorServiceTest {
         testDeterminePossibleHandsScenario5();
     }
 
+    @Test
+    public void testCachedPossibleHandsMatchForEverySuitRelabelling() {
+        DefaultHandEvaluatorService service = new DefaultHandEvaluatorService();
+        Random random = new Random(19L);
+        int[][] suitPermutations = { { 0, 1, 2, 3 }, { 3, 2, 1, 0 }, { 1, 0, 3, 2 },
+                { 2, 3, 0, 1 }, { 1, 2, 3, 0 } };
+
+        for (int i = 0; i < 2000; i++) {
+            List<Integer> deck = IntStream.range(0, 52).boxed()
+                    .collect(Collectors.toList());
+            Collections.shuffle(deck, random);
+
+            for (int[] suitPermutation : suitPermutations) {
+                Card[] board = new Card[5];
+                for (int j = 0; j < board.length; j++) {
+                    Card card = Card.valueOf(deck.get(j));
+                    board[j] = Card.valueOf(card.getCardRank(),
+                            CardSuit.values()[suitPermutation[card.getCardSuit().ordinal()]]);
+                }
+                FlopCards flopCards = new FlopCards(board[0], board[1], board[2]);
+                TurnCard turnCard = new TurnCard(board[3]);
+                RiverCard riverCard = new RiverCard(board[4]);
+
+                assertEquals(service.determinePossibleHandsUncached(flopCards, turnCard,
+                        riverCard), service.determinePossibleHands(flopCards, turnCard,
+                        riverCard));
+            }
+        }
+
+        assertTrue(service.getPossibleHandsCacheHitCount() >= 2000 * 4);
+    }
+
     @Test
     public void testDetermineHandEvaluation() {
         testDetermineHandEvaluationScenario1();
@@ -0,0 +1,131 @@
+package com.flexpoker.table.command.service;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.flexpoker.table.command.service.FisherYatesShuffler.RandomSource;
+
+/**
+ * Chi-square checks that shuffles are uniform. The seeded tests are
+ * repeatable, and the unseeded ones use a threshold that a uniform shuffle
+ * exceeds far less than once in a million runs.
+ */
+public class FisherYatesShufflerTest {
+
+    @Test
+    public void testShuffleKeepsEveryCard() {
+        byte[] deck = newDeck(52);
+        FisherYatesShuffler.withSeed(1L).shuffle(deck, 52);
+
+        byte[] sorted = deck.clone();
+        Arrays.sort(sorted);
+        assertArrayEquals(newDeck(52), sorted);
+    }
+
+    @Test
+    public void testSeededShufflesAreRepeatable() {
+        byte[] deck1 = newDeck(52);
+        byte[] deck2 = newDeck(52);
+        FisherYatesShuffler.withSeed(7L).shuffle(deck1, 52);
+        FisherYatesShuffler.withSeed(7L).shuffle(deck2, 52);
+        assertArrayEquals(deck1, deck2);
+    }
+
+    @Test
+    public void testEveryPermutationOfASmallDeckIsEquallyLikely() {
+        assertPermutationsUniform(FisherYatesShuffler.withSeed(20170101L), 5.0);
+    }
+
+    @Test
+    public void testEveryCardIsEquallyLikelyInEveryDealtPosition() {
+        assertPositionsUniform(FisherYatesShuffler.withSeed(42L), 52, 5.0);
+    }
+
+    @Test
+    public void testPartialShufflesAreUniformWhenTheDeckIsReused() {
+        assertPositionsUniform(FisherYatesShuffler.withSeed(43L), 12, 5.0);
+    }
+
+    @Test
+    public void testSplittableRandomShufflesAreUniform() {
+        assertPermutationsUniform(FisherYatesShuffler.using(RandomSource.SPLITTABLE_RANDOM),
+                6.0);
+        assertPositionsUniform(FisherYatesShuffler.using(RandomSource.SPLITTABLE_RANDOM),
+                20, 6.0);
+    }
+
+    @Test
+    public void testSecureRandomShufflesAreUniform() {
+        assertPermutationsUniform(FisherYatesShuffler.using(RandomSource.SECURE_RANDOM), 6.0);
+        assertPositionsUniform(FisherYatesShuffler.using(RandomSource.SECURE_RANDOM), 20, 6.0);
+    }
+
+    /**
+     * Shuffles a four-card deck, which has 24 orderings, and checks how often
+     * each ordering comes up.
+     */
+    private static void assertPermutationsUniform(Shuffler shuffler,
+            double standardDeviations) {
+        int shuffles = 24 * 5000;
+        long[] observed = new long[256];
+        byte[] deck = newDeck(4);
+
+        for (int i = 0; i < shuffles; i++) {
+            shuffler.shuffle(deck, 4);
+            observed[deck[0] << 6 | deck[1] << 4 | deck[2] << 2 | deck[3]]++;
+        }
+
+        long[] permutations = Arrays.stream(observed).filter(x -> x > 0).toArray();
+        assertEquals(24, permutations.length);
+        assertChiSquareBelow(permutations, shuffles / 24.0, 23, standardDeviations);
+    }
+
+    /**
+     * Deals the top {@code dealt} cards of a reused 52-card deck over and
+     * over, and checks how often each card lands in each of those positions.
+     */
+    private static void assertPositionsUniform(Shuffler shuffler, int dealt,
+            double standardDeviations) {
+        int shuffles = 52 * 2000;
+        long[] observed = new long[dealt * 52];
+        byte[] deck = newDeck(52);
+
+        for (int i = 0; i < shuffles; i++) {
+            shuffler.shuffle(deck, dealt);
+            for (int position = 0; position < dealt; position++) {
+                observed[position * 52 + deck[position]]++;
+            }
+        }
+
+        assertChiSquareBelow(observed, shuffles / 52.0, dealt * 51, standardDeviations);
+    }
+
+    /**
+     * Uses the normal approximation of the chi-square distribution, which is
+     * close enough at these degrees of freedom.
+     */
+    private static void assertChiSquareBelow(long[] observed, double expected,
+            int degreesOfFreedom, double standardDeviations) {
+        double chiSquare = 0;
+        for (long count : observed) {
+            chiSquare += (count - expected) * (count - expected) / expected;
+        }
+        double limit = degreesOfFreedom + standardDeviations
+                * Math.sqrt(2.0 * degreesOfFreedom);
+        assertTrue("chi-square " + chiSquare + " is over " + limit, chiSquare < limit);
+    }
+
+    private static byte[] newDeck(int size) {
+        byte[] deck = new byte[size];
+        for (int i = 0; i < size; i++) {
+            deck[i] = (byte) i;
+        }
+        return deck;
+    }
+
+}
@@ -0,0 +1,237 @@
+package com.flexpoker.table.command.service;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import com.flexpoker.model.HandRanking;
+import com.flexpoker.model.card.Card;
+import com.flexpoker.model.card.CardRank;
+import com.flexpoker.model.card.CardSuit;
+import com.flexpoker.model.card.FlopCards;
+import com.flexpoker.model.card.PocketCards;
+import com.flexpoker.model.card.RiverCard;
+import com.flexpoker.model.card.TurnCard;
+import com.flexpoker.table.command.aggregate.HandEvaluation;
+
+public class LookupTableHandEvaluatorServiceTest {
+
+    /**
+     * Set this system property to true to compare every 7-card combination
+     * instead of a sample. It takes several minutes.
+     */
+    private static final String EXHAUSTIVE_PROPERTY = "flexpoker.test.exhaustive-hand-evaluation";
+
+    private static final Card[] DECK = createDeck();
+
+    private final DefaultHandEvaluatorService defaultService = new DefaultHandEvaluatorService();
+
+    private final LookupTableHandEvaluatorService lookupTableService = new LookupTableHandEvaluatorService();
+
+    @Test
+    public void testMatchesDefaultServiceOnRandomHands() {
+        Random random = new Random(20170101L);
+        int[] handRankingCounts = new int[HandRanking.values().length];
+
+        for (int i = 0; i < 20000; i++) {
+            List<Card> cards = new ArrayList<>(Arrays.asList(DECK));
+            for (int j = 0; j < 7; j++) {
+                int swapWith = j + random.nextInt(cards.size() - j);
+                Card card = cards.get(swapWith);
+                cards.set(swapWith, cards.get(j));
+                cards.set(j, card);
+            }
+            List<PocketCards> pocketCardsList = Arrays.asList(new PocketCards(cards.get(5),
+                    cards.get(6)));
+            HandEvaluation handEvaluation = assertSameEvaluations(cards.get(0), cards.get(1),
+                    cards.get(2), cards.get(3), cards.get(4), pocketCardsList)
+                    .get(pocketCardsList.get(0));
+            handRankingCounts[handEvaluation.getHandRanking().ordinal()]++;
+        }
+
+        for (int count : handRankingCounts) {
+            assertTrue(count > 0);
+        }
+    }
+
+    @Test
+    public void testMatchesDefaultServiceOnEdgeCases() {
+        // wheel, six-high straight flush over a wheel, two trips, three pairs,
+        // quads with a pair and a flush that also holds a straight
+        assertSameEvaluation("AH 2S 3D 4C 5H", "KH KD");
+        assertSameEvaluation("AH 2H 3H 4H 5H", "6H KD");
+        assertSameEvaluation("9H 9S 9D 4C 4H", "4D KD");
+        assertSameEvaluation("9H 9S 4D 4C 2H", "2D KD");
+        assertSameEvaluation("9H 9S 9D 9C 2H", "2D KD");
+        assertSameEvaluation("9H TH JH QH 2H", "8S KD");
+    }
+
+    @Test
+    public void testPackedEvaluationsOrderLikeHandEvaluations() {
+        Random random = new Random(42L);
+        for (int i = 0; i < 20000; i++) {
+            long first = randomHand(random);
+            long second = randomHand(random);
+            int packedFirst = LookupTableHandEvaluatorService.evaluate(first);
+            int packedSecond = LookupTableHandEvaluatorService.evaluate(second);
+            assertEquals(
+                    Integer.signum(LookupTableHandEvaluatorService.toHandEvaluation(packedFirst)
+                            .compareTo(LookupTableHandEvaluatorService
+                                    .toHandEvaluation(packedSecond))),
+                    Integer.signum(Integer.compare(packedFirst, packedSecond)));
+        }
+    }
+
+    @Test
+    public void testBatchMatchesDefaultServiceIncludingConflicts() {
+        Random random = new Random(16L);
+        long[] boards = new long[50];
+        for (int i = 0; i < boards.length; i++) {
+            boards[i] = randomCards(random, 5);
+        }
+        long[] pocketCards = new long[20];
+        for (int i = 0; i < pocketCards.length; i++) {
+            pocketCards[i] = randomCards(random, 2);
+        }
+
+        int[] expected = defaultService.evaluateBatch(boards, pocketCards);
+        int[] actual = lookupTableService.evaluateBatch(boards, pocketCards);
+
+        assertArrayEquals(expected, actual);
+        assertTrue(Arrays.stream(actual)
+                .anyMatch(x -> x == HandEvaluatorService.CONFLICTING_CARDS));
+    }
+
+    @Test
+    public void testParallelBatchKeepsBoardMajorOrder() {
+        Random random = new Random(17L);
+        long[] boards = new long[300];
+        for (int i = 0; i < boards.length; i++) {
+            boards[i] = randomCards(random, 5);
+        }
+        long[] pocketCards = new long[45];
+        for (int i = 0; i < pocketCards.length; i++) {
+            pocketCards[i] = randomCards(random, 2);
+        }
+
+        int[] strengths = lookupTableService.evaluateBatch(boards, pocketCards);
+
+        assertEquals(boards.length * pocketCards.length, strengths.length);
+        for (int b = 0; b < boards.length; b++) {
+            for (int p = 0; p < pocketCards.length; p++) {
+                int expected = (boards[b] & pocketCards[p]) == 0
+                        ? LookupTableHandEvaluatorService.evaluate(boards[b] | pocketCards[p])
+                        : HandEvaluatorService.CONFLICTING_CARDS;
+                assertEquals(expected, strengths[b * pocketCards.length + p]);
+            }
+        }
+    }
+
+    @Test
+    public void testMatchesDefaultServiceOnEverySevenCardHand() {
+        Assume.assumeTrue(Boolean.getBoolean(EXHAUSTIVE_PROPERTY));
+
+        // each 7-card set is checked once, with its two highest cards as the
+        // pocket cards, so each board only has to be evaluated once
+        IntStream.range(0, 46).parallel().forEach(b1 -> {
+            for (int b2 = b1 + 1; b2 < 47; b2++) {
+                for (int b3 = b2 + 1; b3 < 48; b3++) {
+                    for (int b4 = b3 + 1; b4 < 49; b4++) {
+                        for (int b5 = b4 + 1; b5 < 50; b5++) {
+                            List<PocketCards> pocketCardsList = new ArrayList<>();
+                            for (int p1 = b5 + 1; p1 < 52; p1++) {
+                                for (int p2 = p1 + 1; p2 < 52; p2++) {
+                                    pocketCardsList.add(new PocketCards(DECK[p1], DECK[p2]));
+                                }
+                            }
+                            assertSameEvaluations(DECK[b1], DECK[b2], DECK[b3], DECK[b4],
+                                    DECK[b5], pocketCardsList);
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    private void assertSameEvaluation(String board, String pocket) {
+        Card[] boardCards = Arrays.stream(board.split(" ")).map(this::card)
+                .toArray(Card[]::new);
+        String[] pocketCards = pocket.split(" ");
+        assertSameEvaluations(boardCards[0], boardCards[1], boardCards[2], boardCards[3],
+                boardCards[4], Arrays.asList(new PocketCards(card(pocketCards[0]),
+                        card(pocketCards[1]))));
+    }
+
+    private Map<PocketCards, HandEvaluation> assertSameEvaluations(Card flop1, Card flop2,
+            Card flop3, Card turn, Card river, List<PocketCards> pocketCardsList) {
+        FlopCards flopCards = new FlopCards(flop1, flop2, flop3);
+        TurnCard turnCard = new TurnCard(turn);
+        RiverCard riverCard = new RiverCard(river);
+
+        List<HandRanking> expectedPossibleHands = defaultService.determinePossibleHands(
+                flopCards, turnCard, riverCard);
+        List<HandRanking> actualPossibleHands = lookupTableService.determinePossibleHands(
+                flopCards, turnCard, riverCard);
+        assertEquals(expectedPossibleHands, actualPossibleHands);
+
+        Map<PocketCards, HandEvaluation> expected = defaultService.determineHandEvaluation(
+                flopCards, turnCard, riverCard, pocketCardsList,
+                new ArrayList<>(expectedPossibleHands));
+        Map<PocketCards, HandEvaluation> actual = lookupTableService.determineHandEvaluation(
+                flopCards, turnCard, riverCard, pocketCardsList,
+                new ArrayList<>(actualPossibleHands));
+
+        for (PocketCards pocketCards : pocketCardsList) {
+            assertSameFields(expected.get(pocketCards), actual.get(pocketCards));
+        }
+        return actual;
+    }
+
+    private static void assertSameFields(HandEvaluation expected, HandEvaluation actual) {
+        assertEquals(expected.getHandRanking(), actual.getHandRanking());
+        assertEquals(expected.getPrimaryCardRank(), actual.getPrimaryCardRank());
+        assertEquals(expected.getSecondaryCardRank(), actual.getSecondaryCardRank());
+        assertEquals(expected.getFirstKicker(), actual.getFirstKicker());
+        assertEquals(expected.getSecondKicker(), actual.getSecondKicker());
+        assertEquals(expected.getThirdKicker(), actual.getThirdKicker());
+        assertEquals(expected.getFourthKicker(), actual.getFourthKicker());
+    }
+
+    private static long randomHand(Random random) {
+        return randomCards(random, 7);
+    }
+
+    private static long randomCards(Random random, int numberOfCards) {
+        long cards = 0;
+        while (Long.bitCount(cards) < numberOfCards) {
+            cards |= Card.maskOf(DECK[random.nextInt(52)]);
+        }
+        return cards;
+    }
+
+    private Card card(String shortName) {
+        CardRank cardRank = CardRank.values()["23456789TJQKA".indexOf(shortName.charAt(0))];
+        CardSuit cardSuit = Arrays.stream(CardSuit.values())
+                .filter(x -> x.name().charAt(0) == shortName.charAt(1)).findFirst().get();
+        return Card.valueOf(cardRank, cardSuit);
+    }
+
+    private static Card[] createDeck() {
+        Card[] deck = new Card[Card.NUMBER_OF_CARDS];
+        for (int id = 0; id < Card.NUMBER_OF_CARDS; id++) {
+            deck[id] = Card.valueOf(id);
+        }
+        return deck;
+    }
+
+}
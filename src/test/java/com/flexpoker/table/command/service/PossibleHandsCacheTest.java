@@ -0,0 +1,81 @@
+package com.flexpoker.table.command.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.flexpoker.model.card.Card;
+import com.flexpoker.model.card.CardRank;
+import com.flexpoker.model.card.CardSuit;
+
+public class PossibleHandsCacheTest {
+
+    @Test
+    public void testEveryBoardMapsToOneOfTheIsomorphicBoards() {
+        Set<Long> keys = new HashSet<>();
+        for (int c1 = 0; c1 < 48; c1++) {
+            for (int c2 = c1 + 1; c2 < 49; c2++) {
+                for (int c3 = c2 + 1; c3 < 50; c3++) {
+                    for (int c4 = c3 + 1; c4 < 51; c4++) {
+                        for (int c5 = c4 + 1; c5 < 52; c5++) {
+                            keys.add(PossibleHandsCache.canonicalKey(Card.valueOf(c1),
+                                    Card.valueOf(c2), Card.valueOf(c3), Card.valueOf(c4),
+                                    Card.valueOf(c5)));
+                        }
+                    }
+                }
+            }
+        }
+        assertEquals(134_459, keys.size());
+    }
+
+    @Test
+    public void testSuitsCanBeRelabelled() {
+        long key = PossibleHandsCache.canonicalKey(
+                Card.valueOf(CardRank.ACE, CardSuit.HEARTS),
+                Card.valueOf(CardRank.KING, CardSuit.HEARTS),
+                Card.valueOf(CardRank.TWO, CardSuit.SPADES),
+                Card.valueOf(CardRank.TWO, CardSuit.CLUBS),
+                Card.valueOf(CardRank.NINE, CardSuit.DIAMONDS));
+        long relabelledKey = PossibleHandsCache.canonicalKey(
+                Card.valueOf(CardRank.ACE, CardSuit.CLUBS),
+                Card.valueOf(CardRank.KING, CardSuit.CLUBS),
+                Card.valueOf(CardRank.TWO, CardSuit.DIAMONDS),
+                Card.valueOf(CardRank.TWO, CardSuit.HEARTS),
+                Card.valueOf(CardRank.NINE, CardSuit.SPADES));
+        long differentKey = PossibleHandsCache.canonicalKey(
+                Card.valueOf(CardRank.ACE, CardSuit.HEARTS),
+                Card.valueOf(CardRank.KING, CardSuit.SPADES),
+                Card.valueOf(CardRank.TWO, CardSuit.SPADES),
+                Card.valueOf(CardRank.TWO, CardSuit.CLUBS),
+                Card.valueOf(CardRank.NINE, CardSuit.DIAMONDS));
+
+        assertEquals(key, relabelledKey);
+        assertNotEquals(key, differentKey);
+    }
+
+    @Test
+    public void testGetAndPutCountHitsAndMisses() {
+        PossibleHandsCache cache = new PossibleHandsCache();
+        long key = PossibleHandsCache.canonicalKey(Card.valueOf(0), Card.valueOf(1),
+                Card.valueOf(2), Card.valueOf(3), Card.valueOf(4));
+
+        assertEquals(-1, cache.get(key));
+        cache.put(key, 0b100000001);
+        cache.put(key, 0b100000001);
+        assertEquals(0b100000001, cache.get(key));
+
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(-1, cache.get(key));
+    }
+
+}
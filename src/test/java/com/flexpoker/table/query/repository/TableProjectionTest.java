@@ -0,0 +1,217 @@
+package com.flexpoker.table.query.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.flexpoker.model.card.Card;
+import com.flexpoker.web.dto.outgoing.PotDTO;
+import com.flexpoker.web.dto.outgoing.SeatDTO;
+import com.flexpoker.web.dto.outgoing.TableDTO;
+
+public class TableProjectionTest {
+
+    private final UUID player1 = UUID.randomUUID();
+
+    private final UUID player2 = UUID.randomUUID();
+
+    private final UUID player3 = UUID.randomUUID();
+
+    private TableProjection table;
+
+    @Before
+    public void setup() {
+        table = new TableProjection(UUID.randomUUID(), 1, 6);
+        table.startNewHand(30, 20);
+        table.dealIn(1, player1, "player1", 1490, 10, 40, 10, true, true, false);
+        table.dealIn(2, player2, "player2", 1480, 20, 40, 0, false, false, true);
+        table.dealIn(4, player3, "player3", 1500, 0, 40, 20, false, false, false);
+    }
+
+    @Test
+    public void testSeatsAreInPositionOrder() {
+        TableDTO tableDTO = table.toTableDTO();
+
+        assertEquals(3, tableDTO.getSeats().size());
+        assertEquals(1, tableDTO.getSeats().get(0).getPosition());
+        assertEquals(2, tableDTO.getSeats().get(1).getPosition());
+        assertEquals(4, tableDTO.getSeats().get(2).getPosition());
+        assertEquals("player3", tableDTO.getSeats().get(2).getName());
+        assertEquals(30, tableDTO.getTotalPot());
+        assertEquals(20, tableDTO.getCurrentHandMinRaiseToAmount());
+    }
+
+    @Test
+    public void testCall() {
+        table.call(player3);
+
+        SeatDTO seat = table.toTableDTO().getSeats().get(2);
+        assertEquals(1480, seat.getChipsInBack());
+        assertEquals(20, seat.getChipsInFront());
+        assertEquals(0, seat.getCallAmount());
+        assertEquals(0, seat.getRaiseTo());
+        assertEquals(50, table.toTableDTO().getTotalPot());
+    }
+
+    @Test
+    public void testRaise() {
+        table.raise(player1, 60);
+
+        TableDTO tableDTO = table.toTableDTO();
+        SeatDTO raiser = tableDTO.getSeats().get(0);
+        assertEquals(1440, raiser.getChipsInBack());
+        assertEquals(60, raiser.getChipsInFront());
+        assertEquals(0, raiser.getCallAmount());
+        SeatDTO bigBlind = tableDTO.getSeats().get(1);
+        assertEquals(40, bigBlind.getCallAmount());
+        assertEquals(120, bigBlind.getRaiseTo());
+        assertEquals(80, tableDTO.getTotalPot());
+    }
+
+    @Test
+    public void testFoldLeavesThePots() {
+        table.createPot(new HashSet<>(Arrays.asList(player1, player2, player3)));
+        table.fold(player2);
+
+        TableDTO tableDTO = table.toTableDTO();
+        assertFalse(tableDTO.getSeats().get(1).isStillInHand());
+        PotDTO pot = tableDTO.getPots().iterator().next();
+        assertEquals(new HashSet<>(Arrays.asList("player1", "player3")), pot.getSeats());
+    }
+
+    @Test
+    public void testPotAmountsOnlyGoToOpenPots() {
+        table.createPot(new HashSet<>(Arrays.asList(player1, player2)));
+        table.increaseOpenPots(20);
+        table.closeOpenPots();
+        table.createPot(new HashSet<>(Arrays.asList(player1, player3)));
+        table.increaseOpenPots(30);
+
+        assertEquals(new HashSet<>(Arrays.asList(20, 30)), table.toTableDTO().getPots()
+                .stream().map(PotDTO::getAmount).collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void testActionOnMovesBetweenSeats() {
+        table.changeActionOn(player1);
+        table.changeActionOn(player3);
+
+        TableDTO tableDTO = table.toTableDTO();
+        assertFalse(tableDTO.getSeats().get(0).isActionOn());
+        assertTrue(tableDTO.getSeats().get(2).isActionOn());
+    }
+
+    @Test
+    public void testCompleteRound() {
+        table.completeRound();
+        table.addVisibleCommonCard(Card.valueOf(0));
+
+        SeatDTO seat = table.toTableDTO().getSeats().get(0);
+        assertEquals(0, seat.getChipsInFront());
+        assertEquals(20, seat.getRaiseTo());
+        assertEquals(0, table.toTableDTO().getVisibleCommonCards().get(0).getId());
+    }
+
+    @Test
+    public void testAllInOnceNobodyCanBet() {
+        assertFalse(table.isAllIn());
+
+        table.fold(player3);
+        table.raise(player1, 1500);
+        assertFalse(table.isAllIn());
+
+        table.call(player2);
+        assertTrue(table.isAllIn());
+
+        table.setEquity(player1, 0.25);
+        assertEquals(Double.valueOf(0.25), table.toTableDTO().getSeats().get(0).getEquity());
+        assertNull(table.toTableDTO().getSeats().get(2).getEquity());
+    }
+
+    @Test
+    public void testSnapshotIsOnlyRebuiltAfterAChange() {
+        TableDTO snapshot = table.toTableDTO();
+        assertSame(snapshot, table.toTableDTO());
+
+        table.check(player2);
+
+        assertNotSame(snapshot, table.toTableDTO());
+        assertEquals(40, snapshot.getSeats().get(1).getRaiseTo());
+    }
+
+    @Test
+    public void testPlayersWithTheSameNameKeepTheirOwnSeats() {
+        UUID otherPlayer = UUID.randomUUID();
+        table.startNewHand(30, 20);
+        table.dealIn(1, player1, "player1", 1490, 10, 40, 10, true, true, false);
+        table.dealIn(2, player2, "player2", 1480, 20, 40, 0, false, false, true);
+        table.dealIn(5, otherPlayer, "player1", 1500, 0, 40, 20, false, false, false);
+
+        table.changeActionOn(otherPlayer);
+        table.call(otherPlayer);
+        table.fold(player1);
+
+        TableDTO tableDTO = table.toTableDTO();
+        SeatDTO seat = tableDTO.getSeats().get(0);
+        SeatDTO otherSeat = tableDTO.getSeats().get(2);
+        assertEquals("player1", seat.getName());
+        assertEquals("player1", otherSeat.getName());
+        assertFalse(seat.isStillInHand());
+        assertEquals(1490, seat.getChipsInBack());
+        assertTrue(otherSeat.isStillInHand());
+        assertEquals(1480, otherSeat.getChipsInBack());
+        assertEquals(20, otherSeat.getChipsInFront());
+        assertEquals(Arrays.asList(player2, otherPlayer), table.getPlayersStillInHand());
+    }
+
+    @Test
+    public void testEquityForPlayersWithTheSameName() {
+        UUID otherPlayer = UUID.randomUUID();
+        table.startNewHand(0, 20);
+        table.dealIn(1, player1, "player1", 0, 0, 0, 0, true, true, false);
+        table.dealIn(2, otherPlayer, "player1", 0, 0, 0, 0, false, false, true);
+
+        table.setEquity(player1, 0.75);
+        table.setEquity(otherPlayer, 0.25);
+
+        TableDTO tableDTO = table.toTableDTO();
+        assertEquals(Double.valueOf(0.75), tableDTO.getSeats().get(0).getEquity());
+        assertEquals(Double.valueOf(0.25), tableDTO.getSeats().get(1).getEquity());
+    }
+
+    @Test
+    public void testPlayerDealtIntoANewSeatLeavesTheOldOne() {
+        table.dealIn(3, player1, "player1", 1490, 0, 40, 20, false, false, false);
+
+        TableDTO tableDTO = table.toTableDTO();
+        assertEquals(3, tableDTO.getSeats().size());
+        assertEquals(2, tableDTO.getSeats().get(0).getPosition());
+        assertEquals(3, tableDTO.getSeats().get(1).getPosition());
+
+        table.call(player1);
+        assertEquals(20, table.toTableDTO().getSeats().get(1).getChipsInFront());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReplacedPlayerIsNoLongerAtTable() {
+        table.dealIn(4, UUID.randomUUID(), "player4", 1500, 0, 40, 20, false, false, false);
+        table.call(player3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPlayerNotAtTable() {
+        table.call(UUID.randomUUID());
+    }
+
+}
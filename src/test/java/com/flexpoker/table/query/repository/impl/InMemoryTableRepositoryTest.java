@@ -2,7 +2,15 @@ package com.flexpoker.table.query.repository.impl;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 import java.util.List;
 import java.util.Set;
@@ -13,6 +21,7 @@ import java.util.stream.IntStream;
 
 import org.junit.Test;
 
+import com.flexpoker.table.query.repository.TableProjection;
 import com.flexpoker.web.dto.outgoing.TableDTO;
 
 public class InMemoryTableRepositoryTest {
@@ -28,7 +37,7 @@ public class InMemoryTableRepositoryTest {
         InMemoryTableRepository inMemoryTableRepository = new InMemoryTableRepository();
         UUID tableId = UUID.randomUUID();
         inMemoryTableRepository
-                .save(new TableDTO(tableId, 1, null, 0, null, null, 0));
+                .save(createTable(tableId, 1, 0));
         assertNotNull(inMemoryTableRepository.fetchById(tableId));
     }
 
@@ -37,9 +46,9 @@ public class InMemoryTableRepositoryTest {
         InMemoryTableRepository inMemoryTableRepository = new InMemoryTableRepository();
         UUID tableId = UUID.randomUUID();
         inMemoryTableRepository
-                .save(new TableDTO(tableId, 1, null, 0, null, null, 0));
+                .save(createTable(tableId, 1, 0));
         inMemoryTableRepository
-                .save(new TableDTO(tableId, 2, null, 0, null, null, 0));
+                .save(createTable(tableId, 2, 0));
         assertEquals(2,
                 inMemoryTableRepository.fetchById(tableId).getVersion());
     }
@@ -49,9 +58,9 @@ public class InMemoryTableRepositoryTest {
         InMemoryTableRepository inMemoryTableRepository = new InMemoryTableRepository();
         UUID tableId = UUID.randomUUID();
         inMemoryTableRepository
-                .save(new TableDTO(tableId, 2, null, 0, null, null, 0));
+                .save(createTable(tableId, 2, 0));
         inMemoryTableRepository
-                .save(new TableDTO(tableId, 1, null, 0, null, null, 0));
+                .save(createTable(tableId, 1, 0));
         assertEquals(2,
                 inMemoryTableRepository.fetchById(tableId).getVersion());
     }
@@ -61,9 +70,9 @@ public class InMemoryTableRepositoryTest {
         InMemoryTableRepository inMemoryTableRepository = new InMemoryTableRepository();
         UUID tableId = UUID.randomUUID();
         inMemoryTableRepository
-                .save(new TableDTO(tableId, 2, null, 10, null, null, 0));
+                .save(createTable(tableId, 2, 10));
         inMemoryTableRepository
-                .save(new TableDTO(tableId, 2, null, 20, null, null, 0));
+                .save(createTable(tableId, 2, 20));
         assertEquals(10,
                 inMemoryTableRepository.fetchById(tableId).getTotalPot());
     }
@@ -78,7 +87,7 @@ public class InMemoryTableRepositoryTest {
         // the odds of the max version thread running during the disorderly
         // begin time less likely
         Set<Thread> saveThreads = IntStream.rangeClosed(1, 5).boxed()
-                .map(x -> new TableDTO(tableId, x, null, 0, null, null, 0))
+                .map(x -> createTable(tableId, x, 0))
                 .map(x -> new Thread(() -> inMemoryTableRepository.save(x)))
                 .collect(Collectors.toSet());
 
@@ -96,7 +105,7 @@ public class InMemoryTableRepositoryTest {
     public void testFetchMultithreaded() throws InterruptedException {
         InMemoryTableRepository inMemoryTableRepository = new InMemoryTableRepository();
         UUID tableId = UUID.randomUUID();
-        inMemoryTableRepository.save(new TableDTO(tableId, 1, null, 0, null, null, 0));
+        inMemoryTableRepository.save(createTable(tableId, 1, 0));
 
         List<Boolean> testAssertsPassed1 = new CopyOnWriteArrayList<>();
         Set<Thread> readThreads1 = IntStream.rangeClosed(1, 5).boxed()
@@ -118,7 +127,8 @@ public class InMemoryTableRepositoryTest {
 
         assertArrayEquals(new Boolean[]{true, true, true, true, true}, testAssertsPassed1.toArray());
 
-        Thread save2Thread = new Thread(() -> inMemoryTableRepository.save(new TableDTO(tableId, 2, null, 0, null, null, 0)));
+        TableProjection table2 = createTable(tableId, 2, 0);
+        Thread save2Thread = new Thread(() -> inMemoryTableRepository.save(table2));
         save2Thread.start();
 
         List<Boolean> testAssertsPassed2 = new CopyOnWriteArrayList<>();
@@ -145,4 +155,85 @@ public class InMemoryTableRepositoryTest {
         assertArrayEquals(new Boolean[]{true, true, true, true, true}, testAssertsPassed2.toArray());
     }
 
+    @Test
+    public void testUpdateChangesTableInPlace() {
+        InMemoryTableRepository inMemoryTableRepository = new InMemoryTableRepository();
+        UUID tableId = UUID.randomUUID();
+        inMemoryTableRepository.save(createTable(tableId, 1, 10));
+        TableDTO firstSnapshot = inMemoryTableRepository.fetchById(tableId);
+
+        inMemoryTableRepository.update(tableId, 2, x -> x.startNewHand(20, 0));
+
+        TableDTO secondSnapshot = inMemoryTableRepository.fetchById(tableId);
+        assertEquals(1, firstSnapshot.getVersion());
+        assertEquals(10, firstSnapshot.getTotalPot());
+        assertEquals(2, secondSnapshot.getVersion());
+        assertEquals(20, secondSnapshot.getTotalPot());
+        assertSame(secondSnapshot, inMemoryTableRepository.fetchById(tableId));
+    }
+
+    @Test
+    public void testUpdateOlderVersionsAreIgnored() {
+        InMemoryTableRepository inMemoryTableRepository = new InMemoryTableRepository();
+        UUID tableId = UUID.randomUUID();
+        inMemoryTableRepository.save(createTable(tableId, 2, 10));
+
+        inMemoryTableRepository.update(tableId, 2, x -> x.startNewHand(20, 0));
+        inMemoryTableRepository.update(tableId, 1, x -> x.startNewHand(30, 0));
+
+        assertEquals(2, inMemoryTableRepository.fetchById(tableId).getVersion());
+        assertEquals(10, inMemoryTableRepository.fetchById(tableId).getTotalPot());
+    }
+
+    @Test
+    public void testUpdateAtVersionKeepsTheVersion() {
+        InMemoryTableRepository inMemoryTableRepository = new InMemoryTableRepository();
+        UUID tableId = UUID.randomUUID();
+        inMemoryTableRepository.save(createTable(tableId, 2, 10));
+        TableDTO firstSnapshot = inMemoryTableRepository.fetchById(tableId);
+
+        assertTrue(inMemoryTableRepository.updateAtVersion(tableId, 2,
+                x -> x.startNewHand(20, 0)));
+
+        TableDTO secondSnapshot = inMemoryTableRepository.fetchById(tableId);
+        assertNotSame(firstSnapshot, secondSnapshot);
+        assertEquals(2, secondSnapshot.getVersion());
+        assertEquals(20, secondSnapshot.getTotalPot());
+    }
+
+    @Test
+    public void testUpdateAtVersionIsDroppedOnceTheTableMovesOn() {
+        InMemoryTableRepository inMemoryTableRepository = new InMemoryTableRepository();
+        UUID tableId = UUID.randomUUID();
+        inMemoryTableRepository.save(createTable(tableId, 2, 10));
+        inMemoryTableRepository.update(tableId, 3, x -> { });
+
+        assertFalse(inMemoryTableRepository.updateAtVersion(tableId, 2,
+                x -> x.startNewHand(20, 0)));
+        assertEquals(10, inMemoryTableRepository.fetchById(tableId).getTotalPot());
+    }
+
+    @Test
+    public void testFetchDoesNotTouchTheProjection() {
+        InMemoryTableRepository inMemoryTableRepository = new InMemoryTableRepository();
+        UUID tableId = UUID.randomUUID();
+        TableProjection tableProjection = spy(createTable(tableId, 1, 10));
+        inMemoryTableRepository.save(tableProjection);
+        inMemoryTableRepository.update(tableId, 2, x -> x.startNewHand(20, 0));
+        reset(tableProjection);
+
+        TableDTO tableDTO = inMemoryTableRepository.fetchById(tableId);
+        inMemoryTableRepository.fetchById(tableId);
+
+        assertEquals(2, tableDTO.getVersion());
+        assertEquals(20, tableDTO.getTotalPot());
+        verify(tableProjection, never()).toTableDTO();
+    }
+
+    private static TableProjection createTable(UUID tableId, int version, int totalPot) {
+        TableProjection tableProjection = new TableProjection(tableId, version, 0);
+        tableProjection.startNewHand(totalPot, 0);
+        return tableProjection;
+    }
+
 }
@@ -0,0 +1,147 @@
+package com.flexpoker.table.query.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.flexpoker.framework.pushnotifier.PushNotification;
+import com.flexpoker.model.card.Card;
+import com.flexpoker.model.card.CardRank;
+import com.flexpoker.model.card.CardSuit;
+import com.flexpoker.model.card.PocketCards;
+import com.flexpoker.table.query.repository.TableProjection;
+import com.flexpoker.table.query.repository.impl.InMemoryCardsUsedInHandRepository;
+import com.flexpoker.table.query.repository.impl.InMemoryTableRepository;
+import com.flexpoker.web.dto.outgoing.TableDTO;
+
+public class AllInEquityServiceTest {
+
+    private final UUID gameId = UUID.randomUUID();
+
+    private final UUID tableId = UUID.randomUUID();
+
+    private final UUID handId = UUID.randomUUID();
+
+    private final UUID player1 = UUID.randomUUID();
+
+    private final UUID player2 = UUID.randomUUID();
+
+    private final PocketCards aces = new PocketCards(
+            Card.valueOf(CardRank.ACE, CardSuit.HEARTS),
+            Card.valueOf(CardRank.ACE, CardSuit.SPADES));
+
+    private final PocketCards kings = new PocketCards(
+            Card.valueOf(CardRank.KING, CardSuit.HEARTS),
+            Card.valueOf(CardRank.KING, CardSuit.SPADES));
+
+    private final EquityCalculator equityCalculator =
+            (pocketCards, visibleCommonCards) -> {
+                Map<PocketCards, Double> equity = new HashMap<>();
+                equity.put(aces, 0.8);
+                equity.put(kings, 0.2);
+                return equity;
+            };
+
+    private InMemoryTableRepository tableRepository;
+
+    private InMemoryCardsUsedInHandRepository cardsUsedInHandRepository;
+
+    private List<Runnable> submittedTasks;
+
+    private List<PushNotification> pushNotifications;
+
+    @Before
+    public void setup() {
+        tableRepository = new InMemoryTableRepository();
+        TableProjection table = new TableProjection(tableId, 1, 6);
+        table.startNewHand(30, 20);
+        table.dealIn(1, player1, "player1", 1490, 10, 40, 10, true, true, false);
+        table.dealIn(2, player2, "player2", 1480, 20, 40, 0, false, false, true);
+        tableRepository.save(table);
+
+        cardsUsedInHandRepository = new InMemoryCardsUsedInHandRepository();
+        Map<UUID, PocketCards> pocketCards = new HashMap<>();
+        pocketCards.put(player1, aces);
+        pocketCards.put(player2, kings);
+        cardsUsedInHandRepository.savePocketCards(handId, pocketCards);
+
+        submittedTasks = new ArrayList<>();
+        pushNotifications = new ArrayList<>();
+    }
+
+    @Test
+    public void testEquityIsAddedOutsideTheUpdateAtTheSameVersion() {
+        AllInEquityService allInEquityService = createService(submittedTasks::add);
+
+        goAllIn(allInEquityService, 2);
+        assertEquals(1, submittedTasks.size());
+        assertNull(tableRepository.fetchById(tableId).getSeats().get(0).getEquity());
+
+        submittedTasks.forEach(Runnable::run);
+
+        TableDTO tableDTO = tableRepository.fetchById(tableId);
+        assertEquals(2, tableDTO.getVersion());
+        assertEquals(Double.valueOf(0.8), tableDTO.getSeats().get(0).getEquity());
+        assertEquals(Double.valueOf(0.2), tableDTO.getSeats().get(1).getEquity());
+        assertEquals(1, pushNotifications.size());
+    }
+
+    @Test
+    public void testEquityForATableThatHasMovedOnIsDropped() {
+        AllInEquityService allInEquityService = createService(submittedTasks::add);
+
+        goAllIn(allInEquityService, 2);
+        tableRepository.update(tableId, 3, TableProjection::completeRound);
+        submittedTasks.forEach(Runnable::run);
+
+        assertNull(tableRepository.fetchById(tableId).getSeats().get(0).getEquity());
+        assertTrue(pushNotifications.isEmpty());
+    }
+
+    @Test
+    public void testNothingIsWorkedOutBeforeEveryoneIsAllIn() {
+        AllInEquityService allInEquityService = createService(submittedTasks::add);
+
+        tableRepository.update(tableId, 2, table -> allInEquityService.addEquityIfAllIn(
+                gameId, handId, 2, table));
+
+        assertTrue(submittedTasks.isEmpty());
+    }
+
+    @Test
+    public void testBusyStageGoesWithoutEquity() {
+        AllInEquityService allInEquityService = createService(task -> {
+            throw new RejectedExecutionException();
+        });
+
+        goAllIn(allInEquityService, 2);
+
+        assertEquals(2, tableRepository.fetchById(tableId).getVersion());
+        assertNull(tableRepository.fetchById(tableId).getSeats().get(0).getEquity());
+    }
+
+    private void goAllIn(AllInEquityService allInEquityService, int version) {
+        tableRepository.update(tableId, version, table -> {
+            table.raise(player1, 1500);
+            table.call(player2);
+            allInEquityService.addEquityIfAllIn(gameId, handId, version, table);
+        });
+    }
+
+    private AllInEquityService createService(Executor equityExecutor) {
+        return new AllInEquityService(equityCalculator, cardsUsedInHandRepository,
+                tableRepository, pushNotifications::add, equityExecutor);
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.flexpoker.test.util;
+
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * Just enough of a Redis connection, backed by maps, to run the Redis
+ * repositories that work through {@link RedisTemplate#execute(RedisCallback)}.
+ * Lua scripts can't run here, so a test stands in for each script it needs
+ * with {@link #onEval(String, Script)}.
+ */
+public class InMemoryRedisConnection implements InvocationHandler {
+
+    public interface Script {
+        Object eval(InMemoryRedisConnection connection, String[] keys, byte[][] args);
+    }
+
+    private final Map<String, List<byte[]>> lists = new HashMap<>();
+
+    private final Map<String, byte[]> values = new HashMap<>();
+
+    private final Map<String, Script> scripts = new LinkedHashMap<>();
+
+    private final List<Integer> pushSizes = new ArrayList<>();
+
+    private final RedisConnection connection = (RedisConnection) Proxy.newProxyInstance(
+            getClass().getClassLoader(), new Class<?>[] { RedisConnection.class }, this);
+
+    /**
+     * Any script whose source contains {@code marker} is run by
+     * {@code script}.
+     */
+    public InMemoryRedisConnection onEval(String marker, Script script) {
+        scripts.put(marker, script);
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> RedisTemplate<String, V> createTemplate() {
+        RedisTemplate<String, V> redisTemplate = mock(RedisTemplate.class);
+        when(redisTemplate.execute(any(RedisCallback.class))).thenAnswer(
+                invocation -> ((RedisCallback<?>) invocation.getArguments()[0])
+                        .doInRedis(connection));
+        return redisTemplate;
+    }
+
+    public List<byte[]> getList(String key) {
+        return lists.get(key);
+    }
+
+    public Map<String, List<byte[]>> getLists() {
+        return lists;
+    }
+
+    public byte[] getValue(String key) {
+        return values.get(key);
+    }
+
+    public void setValue(String key, byte[] value) {
+        values.put(key, value);
+    }
+
+    public void rightPushAll(String key, List<byte[]> rawValues) {
+        lists.computeIfAbsent(key, x -> new ArrayList<>()).addAll(rawValues);
+    }
+
+    public void rename(String oldKey, String newKey) {
+        if (lists.containsKey(oldKey)) {
+            lists.put(newKey, lists.remove(oldKey));
+        } else {
+            values.put(newKey, values.remove(oldKey));
+        }
+    }
+
+    public void delete(String key) {
+        lists.remove(key);
+        values.remove(key);
+    }
+
+    /**
+     * The number of values passed to each RPUSH, in order.
+     */
+    public List<Integer> getPushSizes() {
+        return pushSizes;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+        case "lRange":
+            List<byte[]> list = lists.getOrDefault(key(args[0]), new ArrayList<>());
+            int start = (int) Math.min((long) args[1], list.size());
+            long end = (long) args[2];
+            int endExclusive = end < 0 ? list.size() + (int) end + 1
+                    : (int) Math.min(end + 1, list.size());
+            return new ArrayList<>(list.subList(start, Math.max(start, endExclusive)));
+        case "rPush":
+            byte[][] rawValues = (byte[][]) args[1];
+            pushSizes.add(rawValues.length);
+            rightPushAll(key(args[0]), Arrays.asList(rawValues));
+            return (long) lists.get(key(args[0])).size();
+        case "get":
+            return values.get(key(args[0]));
+        case "expire":
+            return Boolean.TRUE;
+        case "eval":
+            return eval((byte[]) args[0], (int) args[2], (byte[][]) args[3]);
+        case "close":
+            return null;
+        default:
+            throw new UnsupportedOperationException(method.getName());
+        }
+    }
+
+    private Object eval(byte[] script, int numKeys, byte[][] keysAndArgs) {
+        String source = new String(script, StandardCharsets.UTF_8);
+        String[] keys = new String[numKeys];
+        for (int i = 0; i < numKeys; i++) {
+            keys[i] = key(keysAndArgs[i]);
+        }
+        byte[][] args = Arrays.copyOfRange(keysAndArgs, numKeys, keysAndArgs.length);
+        return scripts.entrySet().stream()
+                .filter(x -> source.contains(x.getKey()))
+                .findFirst()
+                .orElseThrow(() -> new UnsupportedOperationException(source))
+                .getValue().eval(this, keys, args);
+    }
+
+    private static String key(Object rawKey) {
+        return new String((byte[]) rawKey, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,146 @@
+package com.flexpoker.web.dto.outgoing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class TablePatchDTOTest {
+
+    private final UUID tableId = UUID.randomUUID();
+
+    @Test
+    public void testOnlyChangedSeatsAreSent() {
+        TableDTO previous = createTable(1, 30, Arrays.asList(seat(0, 1490, false),
+                seat(1, 1480, true), seat(2, 1500, false)), cards(), pots(30));
+        TableDTO current = createTable(2, 30, Arrays.asList(seat(0, 1490, false),
+                seat(1, 1480, false), seat(2, 1500, true)), cards(), pots(30));
+
+        TablePatchDTO patch = TablePatchDTO.createFromVersions(previous, current);
+
+        assertEquals(1, patch.getFromVersion());
+        assertEquals(2, patch.getVersion());
+        assertEquals(2, patch.getSeats().size());
+        assertEquals(1, patch.getSeats().get(0).getPosition());
+        assertEquals(2, patch.getSeats().get(1).getPosition());
+        assertTrue(patch.getRemovedSeats().isEmpty());
+        assertNull(patch.getTotalPot());
+        assertNull(patch.getPots());
+        assertNull(patch.getCurrentHandMinRaiseToAmount());
+    }
+
+    @Test
+    public void testRemovedSeats() {
+        TableDTO previous = createTable(1, 0, Arrays.asList(seat(0, 1500, false),
+                seat(3, 1500, false)), cards(), pots());
+        TableDTO current = createTable(2, 0, Arrays.asList(seat(0, 1500, false)),
+                cards(), pots());
+
+        TablePatchDTO patch = TablePatchDTO.createFromVersions(previous, current);
+
+        assertTrue(patch.getSeats().isEmpty());
+        assertEquals(Arrays.asList(3), patch.getRemovedSeats());
+    }
+
+    @Test
+    public void testPotsAreSentWhenTheyChange() {
+        TableDTO previous = createTable(1, 30, Collections.emptyList(), cards(), pots(30));
+        TableDTO current = createTable(2, 50, Collections.emptyList(), cards(), pots(50));
+
+        TablePatchDTO patch = TablePatchDTO.createFromVersions(previous, current);
+
+        assertEquals(Integer.valueOf(50), patch.getTotalPot());
+        assertEquals(50, patch.getPots().iterator().next().getAmount());
+    }
+
+    @Test
+    public void testOnlyNewCardsAreSent() {
+        TableDTO previous = createTable(1, 0, Collections.emptyList(), cards(4, 17, 30), pots());
+        TableDTO current = createTable(2, 0, Collections.emptyList(), cards(4, 17, 30, 43), pots());
+
+        TablePatchDTO patch = TablePatchDTO.createFromVersions(previous, current);
+
+        assertEquals(1, patch.getNewVisibleCommonCards().size());
+        assertEquals(43, patch.getNewVisibleCommonCards().get(0).getId());
+        assertNull(patch.getVisibleCommonCards());
+    }
+
+    @Test
+    public void testAllCardsAreSentWhenTheyAreReset() {
+        TableDTO previous = createTable(1, 0, Collections.emptyList(), cards(4, 17, 30), pots());
+        TableDTO current = createTable(2, 0, Collections.emptyList(), cards(), pots());
+
+        TablePatchDTO patch = TablePatchDTO.createFromVersions(previous, current);
+
+        assertTrue(patch.getNewVisibleCommonCards() == null
+                || patch.getNewVisibleCommonCards().isEmpty());
+        assertTrue(patch.getVisibleCommonCards().isEmpty());
+    }
+
+    @Test
+    public void testUnchangedPartsAreLeftOutOfTheJson() {
+        TableDTO previous = createTable(1, 30, Arrays.asList(seat(0, 1490, true)),
+                cards(4), pots(30));
+        TableDTO current = createTable(2, 30, Arrays.asList(seat(0, 1490, false)),
+                cards(4), pots(30));
+
+        JsonNode json = new ObjectMapper().valueToTree(
+                TablePatchDTO.createFromVersions(previous, current));
+
+        assertEquals(new HashSet<>(Arrays.asList("id", "fromVersion", "version", "seats")),
+                fieldNames(json));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDifferentTables() {
+        TableDTO previous = createTable(1, 0, Collections.emptyList(), cards(), pots());
+        TableDTO current = new TableDTO(UUID.randomUUID(), 2, Collections.emptyList(), 0,
+                pots(), cards(), 20);
+        TablePatchDTO.createFromVersions(previous, current);
+    }
+
+    private TableDTO createTable(int version, int totalPot, List<SeatDTO> seats,
+            List<CardDTO> visibleCommonCards, Set<PotDTO> pots) {
+        return new TableDTO(tableId, version, seats, totalPot, pots, visibleCommonCards, 20);
+    }
+
+    private SeatDTO seat(int position, int chipsInBack, boolean actionOn) {
+        return new SeatDTO(position, "player" + position, chipsInBack, 0, true, 40, 20,
+                false, false, false, actionOn);
+    }
+
+    private List<CardDTO> cards(int... cardIds) {
+        CardDTO[] cardDTOs = new CardDTO[cardIds.length];
+        for (int i = 0; i < cardIds.length; i++) {
+            cardDTOs[i] = new CardDTO(cardIds[i]);
+        }
+        return Arrays.asList(cardDTOs);
+    }
+
+    private Set<PotDTO> pots(int... amounts) {
+        Set<PotDTO> pots = new HashSet<>();
+        for (int amount : amounts) {
+            pots.add(new PotDTO(new HashSet<>(Arrays.asList("player0", "player1")),
+                    amount, true, Collections.emptySet()));
+        }
+        return pots;
+    }
+
+    private Set<String> fieldNames(JsonNode json) {
+        Set<String> fieldNames = new HashSet<>();
+        json.fieldNames().forEachRemaining(fieldNames::add);
+        return fieldNames;
+    }
+
+}